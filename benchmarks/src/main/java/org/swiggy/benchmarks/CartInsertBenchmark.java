@@ -0,0 +1,143 @@
+package org.swiggy.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.swiggy.database.connection.DataBaseConnection;
+import org.swiggy.database.transaction.TransactionTemplate;
+import org.swiggy.user.internal.dao.CartDAO;
+import org.swiggy.user.internal.dao.impl.CartDAOImpl;
+import org.swiggy.user.model.Cart;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Compares adding a food to the cart with the single conditional insert of the cart DAO against the two count
+ * queries followed by the insert in one transaction, as the DAO did before.
+ * </p>
+ *
+ * <p>
+ * Each operation adds a food to a cart already holding one food of the same restaurant and removes it again, so
+ * both the rule check and the insert run every time. The embedded database has no network round trip, so the gap
+ * measured here is the lower bound of the gap against a PostgreSQL server.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CartInsertBenchmark {
+
+    private static final String RESTAURANT_ENTRY_COUNT_QUERY = """
+            select count(*) from cart where user_id = ? and restaurant_id = ? and status = 1""";
+    private static final String ENTRY_COUNT_QUERY = "select count(*) from cart where user_id = ? and status = 1";
+    private static final String DELETE_QUERY = "delete from cart where id = ?";
+    private CartDAO cartDAO;
+    private TransactionTemplate transactionTemplate;
+    private Cart cart;
+
+    @Setup
+    public void setUp() throws SQLException {
+        EmbeddedDatabase.start("carts");
+        cartDAO = CartDAOImpl.getInstance();
+        transactionTemplate = TransactionTemplate.getInstance();
+        final String query = """
+                insert into cart (user_id, restaurant_id, food_id, quantity, total_amount) values (1, 1, 1, 1, 50)""";
+
+        try (final Connection connection = DataBaseConnection.getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+            preparedStatement.executeUpdate();
+        }
+        cart = new Cart();
+        cart.setUserId(1);
+        cart.setRestaurantId(1);
+        cart.setFoodId(2);
+        cart.setQuantity(2);
+        cart.setAmount(100);
+    }
+
+    @TearDown
+    public void tearDown() {
+        EmbeddedDatabase.stop();
+    }
+
+    @Benchmark
+    public boolean addFoodSingleStatement() throws SQLException {
+        final boolean added = cartDAO.addFoodToCart(cart);
+
+        removeFood();
+
+        return added;
+    }
+
+    @Benchmark
+    public boolean addFoodWithCountChecks() throws SQLException {
+        final boolean added = transactionTemplate.execute(connection -> {
+            if (0 == count(connection, RESTAURANT_ENTRY_COUNT_QUERY, cart.getUserId(), cart.getRestaurantId())
+                    && 0 < count(connection, ENTRY_COUNT_QUERY, cart.getUserId())) {
+                return false;
+            }
+
+            try (final PreparedStatement preparedStatement = connection.prepareStatement("""
+                    insert into cart (user_id, restaurant_id, food_id, quantity, total_amount) values
+                    (?, ?, ?, ?, ?)""", new String[] {"id"})) {
+                preparedStatement.setLong(1, cart.getUserId());
+                preparedStatement.setLong(2, cart.getRestaurantId());
+                preparedStatement.setLong(3, cart.getFoodId());
+                preparedStatement.setInt(4, cart.getQuantity());
+                preparedStatement.setFloat(5, cart.getAmount());
+                preparedStatement.executeUpdate();
+                final ResultSet resultSet = preparedStatement.getGeneratedKeys();
+
+                resultSet.next();
+                cart.setId(resultSet.getLong(1));
+
+                return true;
+            }
+        });
+
+        removeFood();
+
+        return added;
+    }
+
+    private void removeFood() throws SQLException {
+        try (final Connection connection = DataBaseConnection.getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(DELETE_QUERY)) {
+            preparedStatement.setLong(1, cart.getId());
+            preparedStatement.executeUpdate();
+        }
+    }
+
+    private int count(final Connection connection, final String query, final long... ids) throws SQLException {
+        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+            for (int index = 0; index < ids.length; index++) {
+                preparedStatement.setLong(index + 1, ids[index]);
+            }
+            final ResultSet resultSet = preparedStatement.executeQuery();
+
+            resultSet.next();
+
+            return resultSet.getInt(1);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.swiggy.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.swiggy.restaurant.internal.dao.RestaurantDAO;
+import org.swiggy.restaurant.internal.dao.impl.RestaurantDAOImpl;
+import org.swiggy.restaurant.model.Food;
+import org.swiggy.restaurant.model.MenuCardType;
+import org.swiggy.user.internal.dao.OrderDAO;
+import org.swiggy.user.internal.dao.impl.OrderDAOImpl;
+import org.swiggy.user.model.Order;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Measures the queries and the row mapping of the read paths of the DAOs against the embedded database. The
+ * caches in front of the DAOs are not involved.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DaoBenchmark {
+
+    private RestaurantDAO restaurantDAO;
+    private OrderDAO orderDAO;
+    private int nextRestaurantId;
+    private int nextUserId;
+
+    @Setup
+    public void setUp() throws SQLException {
+        EmbeddedDatabase.start("dao");
+        restaurantDAO = RestaurantDAOImpl.getInstance();
+        orderDAO = OrderDAOImpl.getInstance();
+    }
+
+    @TearDown
+    public void tearDown() {
+        EmbeddedDatabase.stop();
+    }
+
+    @Benchmark
+    public List<Food> getMenuCard() {
+        nextRestaurantId = nextRestaurantId % EmbeddedDatabase.RESTAURANT_COUNT + 1;
+
+        return restaurantDAO.getMenuCard(nextRestaurantId, MenuCardType.getId(MenuCardType.BOTH));
+    }
+
+    @Benchmark
+    public List<Order> getOrders() {
+        nextUserId = nextUserId % EmbeddedDatabase.USER_COUNT + 1;
+
+        return orderDAO.getOrders(nextUserId);
+    }
+}
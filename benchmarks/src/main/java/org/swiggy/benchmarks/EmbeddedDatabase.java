@@ -0,0 +1,228 @@
+package org.swiggy.benchmarks;
+
+import org.swiggy.common.hashgenerator.PasswordHashGenerator;
+import org.swiggy.database.connection.DataBaseConnection;
+import org.swiggy.database.pool.ConnectionPool;
+import org.swiggy.database.pool.PoolConfiguration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+
+/**
+ * <p>
+ * Creates an in-memory H2 database in PostgreSQL mode with the tables of the application and installs it as the
+ * database of the DAOs.
+ * </p>
+ *
+ * <p>
+ * The seed data has {@link #RESTAURANT_COUNT} restaurants with {@link #FOODS_PER_RESTAURANT} foods each, and
+ * {@link #USER_COUNT} users with {@link #ORDERS_PER_USER} placed orders each. The ids of all the rows start at 1.
+ * The users log in with their phone number or email id and the {@link #PASSWORD}.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class EmbeddedDatabase {
+
+    public static final int RESTAURANT_COUNT = 20;
+    public static final int FOODS_PER_RESTAURANT = 40;
+    public static final int USER_COUNT = 10;
+    public static final int ORDERS_PER_USER = 50;
+    public static final String PASSWORD = "Welcome@123";
+    private static final String SCHEMA = """
+            create table users (id bigint generated by default as identity primary key, name varchar(50),
+                phone_number varchar(15), email_id varchar(50), password varchar(50));
+            create sequence restaurant_id_seq;
+            create sequence food_id_seq;
+            create sequence cart_id_seq;
+            create alias pg_get_serial_sequence for 'org.swiggy.benchmarks.EmbeddedDatabase.getSerialSequence';
+            create table restaurant (id bigint default nextval('restaurant_id_seq') primary key, name varchar(50),
+                phone_number varchar(15), email_id varchar(50), password varchar(50),
+                is_deleted boolean not null default false, is_catalog boolean not null default false);
+            create table food (id bigint default nextval('food_id_seq') primary key, name varchar(50), rate real,
+                food_type int, food_quantity int, is_deleted boolean not null default false);
+            create table restaurant_food (food_id bigint references food (id) on delete cascade,
+                restaurant_id bigint references restaurant (id) on delete cascade);
+            create table address (id bigint generated by default as identity primary key, user_id bigint,
+                house_number varchar(10), street_name varchar(50), area_name varchar(50), city_name varchar(50),
+                pincode varchar(10), address_type int);
+            create table cart (id bigint default nextval('cart_id_seq') primary key, user_id bigint,
+                restaurant_id bigint, food_id bigint, quantity int, total_amount real, status int default 1);
+            create table orders (id bigint generated by default as identity primary key, user_id bigint,
+                cart_id bigint, address_id bigint);
+            create index restaurant_food_restaurant on restaurant_food (restaurant_id);
+            create index cart_user on cart (user_id);
+            create index orders_user on orders (user_id, id);
+            create index users_phone_number on users (phone_number);
+            create index users_email_id on users (email_id);
+            create index restaurant_phone_number on restaurant (phone_number);
+            create index restaurant_email_id on restaurant (email_id);
+            """;
+
+    private EmbeddedDatabase() {
+    }
+
+    /**
+     * <p>
+     * Creates the database with the given name, loads the seed data and points the DAOs at it.
+     * </p>
+     *
+     * @param name Represents the name of the in-memory database
+     * @throws SQLException if the database can't be created
+     */
+    public static void start(final String name) throws SQLException {
+        start(name, new Properties());
+    }
+
+    /**
+     * <p>
+     * Creates the database with the given name and the given database properties on top of the embedded ones,
+     * loads the seed data and points the DAOs at it.
+     * </p>
+     *
+     * @param name Represents the name of the in-memory database
+     * @param settings Represents the database properties to set, such as the pool or statement settings
+     * @throws SQLException if the database can't be created
+     */
+    public static void start(final String name, final Properties settings) throws SQLException {
+        final Properties properties = new Properties();
+
+        properties.setProperty("url", String.join("", "jdbc:h2:mem:", name,
+                ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1"));
+        properties.setProperty("user", "sa");
+        properties.setProperty("password", "");
+        properties.setProperty("driver", "org.h2.Driver");
+        properties.setProperty("pool.minimumSize", "1");
+        properties.setProperty("pool.maximumSize", "4");
+        properties.putAll(settings);
+        DataBaseConnection.setConnectionPool(new ConnectionPool(PoolConfiguration.fromProperties(properties)));
+
+        try (final Connection connection = DataBaseConnection.getConnection()) {
+            try (final Statement statement = connection.createStatement()) {
+                for (final String table : new String[] {"orders", "cart", "address", "restaurant_food", "food",
+                        "restaurant", "users"}) {
+                    statement.execute(String.join("", "drop table if exists ", table));
+                }
+
+                for (final String sequence : new String[] {"restaurant_id_seq", "food_id_seq", "cart_id_seq"}) {
+                    statement.execute(String.join("", "drop sequence if exists ", sequence));
+                }
+                statement.execute("drop alias if exists pg_get_serial_sequence");
+
+                for (final String query : SCHEMA.split(";")) {
+                    if (!query.isBlank()) {
+                        statement.execute(query);
+                    }
+                }
+            }
+            seed(connection);
+        }
+    }
+
+    /**
+     * <p>
+     * Loads the restaurants, foods, users, addresses, carts and orders.
+     * </p>
+     *
+     * @param connection Represents the connection to the database
+     * @throws SQLException if the rows can't be inserted
+     */
+    private static void seed(final Connection connection) throws SQLException {
+        try (final PreparedStatement restaurant = connection.prepareStatement(
+                "insert into restaurant (name, is_catalog) values (?, true)");
+             final PreparedStatement food = connection.prepareStatement(
+                     "insert into food (name, rate, food_type, food_quantity) values (?, ?, ?, ?)");
+             final PreparedStatement restaurantFood = connection.prepareStatement(
+                     "insert into restaurant_food (food_id, restaurant_id) values (?, ?)")) {
+            long foodId = 0;
+
+            for (int restaurantId = 1; restaurantId <= RESTAURANT_COUNT; restaurantId++) {
+                restaurant.setString(1, String.join("", "Restaurant ", String.valueOf(restaurantId)));
+                restaurant.addBatch();
+
+                for (int index = 0; index < FOODS_PER_RESTAURANT; index++) {
+                    food.setString(1, String.join("", "Food ", String.valueOf(index)));
+                    food.setFloat(2, 50 + index);
+                    food.setInt(3, 1 + index % 2);
+                    food.setInt(4, 1_000_000);
+                    food.addBatch();
+                    restaurantFood.setLong(1, ++foodId);
+                    restaurantFood.setLong(2, restaurantId);
+                    restaurantFood.addBatch();
+                }
+            }
+            restaurant.executeBatch();
+            food.executeBatch();
+            restaurantFood.executeBatch();
+        }
+
+        try (final PreparedStatement user = connection.prepareStatement(
+                "insert into users (name, phone_number, email_id, password) values (?, ?, ?, ?)");
+             final PreparedStatement address = connection.prepareStatement("""
+                     insert into address (user_id, house_number, street_name, area_name, city_name, pincode,
+                     address_type) values (?, '12', 'Main street', 'Anna nagar', 'Chennai', '600040', 1)""");
+             final PreparedStatement cart = connection.prepareStatement("""
+                     insert into cart (user_id, restaurant_id, food_id, quantity, total_amount, status) values
+                     (?, ?, ?, 2, 100, 2)""");
+             final PreparedStatement order = connection.prepareStatement(
+                     "insert into orders (user_id, cart_id, address_id) values (?, ?, ?)")) {
+            final String passwordHash = PasswordHashGenerator.getInstance().hashPassword(PASSWORD);
+            long cartId = 0;
+
+            for (int userId = 1; userId <= USER_COUNT; userId++) {
+                user.setString(1, String.join("", "User ", String.valueOf(userId)));
+                user.setString(2, String.valueOf(9_000_000_000L + userId));
+                user.setString(3, String.join("", "user", String.valueOf(userId), "@gmail.com"));
+                user.setString(4, passwordHash);
+                user.addBatch();
+                address.setLong(1, userId);
+                address.addBatch();
+
+                for (int index = 0; index < ORDERS_PER_USER; index++) {
+                    cart.setLong(1, userId);
+                    cart.setLong(2, 1 + index % RESTAURANT_COUNT);
+                    cart.setLong(3, (long) (index % RESTAURANT_COUNT) * FOODS_PER_RESTAURANT + 1 + index
+                            % FOODS_PER_RESTAURANT);
+                    cart.addBatch();
+                    order.setLong(1, userId);
+                    order.setLong(2, ++cartId);
+                    order.setLong(3, userId);
+                    order.addBatch();
+                }
+            }
+            user.executeBatch();
+            address.executeBatch();
+            cart.executeBatch();
+            order.executeBatch();
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the name of the sequence of the id column, named as PostgreSQL names the sequence of a serial column.
+     * The embedded database calls it as pg_get_serial_sequence, so the ids reserved from the sequences of the
+     * restaurant, food and cart tables work as they do against PostgreSQL.
+     * </p>
+     *
+     * @param table Represents the name of the table
+     * @param column Represents the name of the id column
+     * @return The name of the sequence
+     */
+    public static String getSerialSequence(final String table, final String column) {
+        return String.join("_", table, column, "seq");
+    }
+
+    /**
+     * <p>
+     * Closes the connections to the database. The in-memory database itself lives until the JVM exits, and is
+     * recreated by the next {@link #start}.
+     * </p>
+     */
+    public static void stop() {
+        DataBaseConnection.shutdown();
+    }
+}
@@ -0,0 +1,116 @@
+package org.swiggy.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.swiggy.common.json.JacksonFactory;
+import org.swiggy.restaurant.model.Food;
+import org.swiggy.restaurant.model.FoodType;
+import org.swiggy.user.model.Order;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Compares the json node tree path of the rest controllers with the streaming path for the food and order lists.
+ * </p>
+ *
+ * <p>
+ * Run with the gc profiler (-prof gc) to compare the allocation per response as well as the latency.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"10", "100"})
+    private int size;
+    private JacksonFactory jacksonFactory;
+    private List<Food> foods;
+    private List<Order> orders;
+    private ByteArrayOutputStream outputStream;
+
+    @Setup
+    public void setUp() {
+        jacksonFactory = JacksonFactory.getInstance();
+        foods = new ArrayList<>(size);
+        orders = new ArrayList<>(size);
+        outputStream = new ByteArrayOutputStream(64 * 1024);
+
+        for (int index = 0; index < size; index++) {
+            final Food food = new Food(String.join("", "Food ", String.valueOf(index)), 50 + index,
+                    0 == index % 2 ? FoodType.VEG : FoodType.NONVEG, 100);
+            final Order order = new Order();
+
+            food.setId(index + 1);
+            foods.add(food);
+            order.setId(index + 1);
+            order.setUserId(1);
+            order.setCartId(index + 1);
+            order.setFoodId(index + 1);
+            order.setFoodName(food.getName());
+            order.setRestaurantId(1);
+            order.setRestaurantName("Restaurant");
+            order.setQuantity(2);
+            order.setAmount(2 * food.getRate());
+            order.setAddressId(1);
+            orders.add(order);
+        }
+    }
+
+    @Benchmark
+    public byte[] foodsThroughTree() {
+        return jacksonFactory.createArrayNode().build(foods).asBytes();
+    }
+
+    @Benchmark
+    public byte[] foodsStreamed() {
+        return jacksonFactory.createStream(foods, Food.class).asBytes();
+    }
+
+    @Benchmark
+    public int foodsStreamedToOutput() throws IOException {
+        outputStream.reset();
+        jacksonFactory.createStream(foods, Food.class).write(outputStream);
+
+        return outputStream.size();
+    }
+
+    @Benchmark
+    public byte[] ordersThroughTree() {
+        return jacksonFactory.createArrayNode().build(orders).asBytes();
+    }
+
+    @Benchmark
+    public byte[] ordersStreamed() {
+        return jacksonFactory.createStream(orders, Order.class).asBytes();
+    }
+
+    @Benchmark
+    public int ordersStreamedToOutput() throws IOException {
+        outputStream.reset();
+        jacksonFactory.createStream(orders, Order.class).write(outputStream);
+
+        return outputStream.size();
+    }
+}
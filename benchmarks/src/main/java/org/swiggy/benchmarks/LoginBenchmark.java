@@ -0,0 +1,103 @@
+package org.swiggy.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.swiggy.common.auth.Credential;
+import org.swiggy.common.hashgenerator.PasswordHashGenerator;
+import org.swiggy.user.internal.dao.UserDAO;
+import org.swiggy.user.internal.dao.impl.UserDAOImpl;
+import org.swiggy.user.internal.service.UserService;
+import org.swiggy.user.internal.service.impl.UserServiceImpl;
+import org.swiggy.user.model.User;
+import org.swiggy.user.model.UserData;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Compares the logins of the user service, served by the credential cache, with hashing the password and reading
+ * the user by the phone number on every login, both for the known users and for an unknown phone number.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoginBenchmark {
+
+    private static final String UNKNOWN_PHONE_NUMBER = "8000000000";
+    private UserDAO userDAO;
+    private UserService userService;
+    private PasswordHashGenerator passwordHashGenerator;
+    private String[] phoneNumbers;
+    private int nextUser;
+
+    @Setup
+    public void setUp() throws SQLException {
+        EmbeddedDatabase.start("login");
+        userDAO = UserDAOImpl.getInstance();
+        userService = UserServiceImpl.getInstance();
+        passwordHashGenerator = PasswordHashGenerator.getInstance();
+        phoneNumbers = new String[EmbeddedDatabase.USER_COUNT];
+
+        for (int index = 0; index < phoneNumbers.length; index++) {
+            phoneNumbers[index] = String.valueOf(9_000_000_000L + index + 1);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        EmbeddedDatabase.stop();
+    }
+
+    @Benchmark
+    public User loginByQuery() {
+        nextUser = (nextUser + 1) % phoneNumbers.length;
+
+        return loginByQuery(phoneNumbers[nextUser]);
+    }
+
+    @Benchmark
+    public User login() {
+        nextUser = (nextUser + 1) % phoneNumbers.length;
+
+        return userService.getUser(UserData.PHONE_NUMBER, phoneNumbers[nextUser], EmbeddedDatabase.PASSWORD);
+    }
+
+    @Benchmark
+    public User loginUnknownByQuery() {
+        return loginByQuery(UNKNOWN_PHONE_NUMBER);
+    }
+
+    @Benchmark
+    public User loginUnknown() {
+        return userService.getUser(UserData.PHONE_NUMBER, UNKNOWN_PHONE_NUMBER, EmbeddedDatabase.PASSWORD);
+    }
+
+    private User loginByQuery(final String phoneNumber) {
+        final Credential<User> credential = userDAO.getCredential(UserData.PHONE_NUMBER, phoneNumber);
+
+        if (null != credential && passwordHashGenerator.matches(EmbeddedDatabase.PASSWORD,
+                credential.getAccount().getPassword())) {
+            return credential.getAccount();
+        }
+
+        return null;
+    }
+}
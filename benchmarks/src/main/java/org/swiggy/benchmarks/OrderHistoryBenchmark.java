@@ -0,0 +1,104 @@
+package org.swiggy.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.swiggy.database.connection.DataBaseConnection;
+import org.swiggy.user.internal.dao.OrderDAO;
+import org.swiggy.user.internal.dao.impl.OrderDAOImpl;
+import org.swiggy.user.model.Order;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Compares reading the whole order history of a user with reading the last page of it by keyset, for a short
+ * and a long history.
+ * </p>
+ *
+ * <p>
+ * The page seeks past the id of the order before it, so its cost is expected to stay the same whatever the length
+ * of the history, while the whole history grows with it.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderHistoryBenchmark {
+
+    private static final long USER_ID = 1000;
+    private static final int PAGE_SIZE = 20;
+    @Param({"50", "5000"})
+    private int historySize;
+    private OrderDAO orderDAO;
+    private long lastPageAfter;
+
+    @Setup
+    public void setUp() throws SQLException {
+        EmbeddedDatabase.start("history");
+        orderDAO = OrderDAOImpl.getInstance();
+
+        try (final Connection connection = DataBaseConnection.getConnection();
+             final PreparedStatement insertCart = connection.prepareStatement("""
+                     insert into cart (user_id, restaurant_id, food_id, quantity, total_amount, status) values
+                     (?, 1, 1, 1, 50, 2)""", Statement.RETURN_GENERATED_KEYS);
+             final PreparedStatement insertOrder = connection.prepareStatement(
+                     "insert into orders (user_id, cart_id, address_id) values (?, ?, 1)",
+                     Statement.RETURN_GENERATED_KEYS)) {
+            for (int index = 0; index < historySize; index++) {
+                insertCart.setLong(1, USER_ID);
+                insertCart.executeUpdate();
+                final ResultSet cartKeys = insertCart.getGeneratedKeys();
+
+                cartKeys.next();
+                insertOrder.setLong(1, USER_ID);
+                insertOrder.setLong(2, cartKeys.getLong(1));
+                insertOrder.executeUpdate();
+                final ResultSet orderKeys = insertOrder.getGeneratedKeys();
+
+                orderKeys.next();
+
+                if (index == historySize - PAGE_SIZE - 1) {
+                    lastPageAfter = orderKeys.getLong(1);
+                }
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        EmbeddedDatabase.stop();
+    }
+
+    @Benchmark
+    public List<Order> getWholeHistory() {
+        return orderDAO.getOrders(USER_ID);
+    }
+
+    @Benchmark
+    public List<Order> getLastPage() {
+        return orderDAO.getOrders(USER_ID, lastPageAfter, PAGE_SIZE);
+    }
+}
@@ -0,0 +1,128 @@
+package org.swiggy.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.swiggy.database.connection.DataBaseConnection;
+import org.swiggy.database.transaction.TransactionTemplate;
+import org.swiggy.user.internal.dao.OrderDAO;
+import org.swiggy.user.internal.dao.impl.OrderDAOImpl;
+import org.swiggy.user.model.Order;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Compares the batched order placement of the order DAO with placing the same order one statement per cart item,
+ * as the DAO did before the statements were batched.
+ * </p>
+ *
+ * <p>
+ * The embedded database has no network round trip, so the gap measured here is the lower bound of the gap
+ * against a PostgreSQL server.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderPlacementBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int itemCount;
+    private OrderDAO orderDAO;
+    private TransactionTemplate transactionTemplate;
+    private List<Order> orderList;
+
+    @Setup
+    public void setUp() throws SQLException {
+        EmbeddedDatabase.start("orders");
+        orderDAO = OrderDAOImpl.getInstance();
+        transactionTemplate = TransactionTemplate.getInstance();
+        orderList = new ArrayList<>(itemCount);
+        final String query = """
+                insert into cart (user_id, restaurant_id, food_id, quantity, total_amount) values (1, 1, ?, 1, 50)""";
+
+        try (final Connection connection = DataBaseConnection.getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(query,
+                     Statement.RETURN_GENERATED_KEYS)) {
+            for (int index = 0; index < itemCount; index++) {
+                preparedStatement.setLong(1, 1 + index % EmbeddedDatabase.FOODS_PER_RESTAURANT);
+                preparedStatement.executeUpdate();
+                final ResultSet resultSet = preparedStatement.getGeneratedKeys();
+                final Order order = new Order();
+
+                resultSet.next();
+                order.setUserId(1);
+                order.setCartId(resultSet.getLong(1));
+                order.setFoodId(1 + index % EmbeddedDatabase.FOODS_PER_RESTAURANT);
+                order.setQuantity(1);
+                order.setAddressId(1);
+                orderList.add(order);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        EmbeddedDatabase.stop();
+    }
+
+    @Benchmark
+    public boolean placeOrderBatched() {
+        return orderDAO.placeOrder(orderList);
+    }
+
+    @Benchmark
+    public boolean placeOrderPerStatement() throws SQLException {
+        return transactionTemplate.execute(connection -> {
+            try (final PreparedStatement insertOrder = connection.prepareStatement(
+                    "insert into orders (user_id, cart_id, address_id) values(?, ?, ?)");
+                 final PreparedStatement updateCart = connection.prepareStatement(
+                         "update cart set status = 2 where id = ?");
+                 final PreparedStatement updateFood = connection.prepareStatement(
+                         "update food set food_quantity = food_quantity - ? where id = ?")) {
+                for (final Order order : orderList) {
+                    insertOrder.setLong(1, order.getUserId());
+                    insertOrder.setLong(2, order.getCartId());
+                    insertOrder.setLong(3, order.getAddressId());
+                    insertOrder.executeUpdate();
+                }
+
+                for (final Order order : orderList) {
+                    updateCart.setLong(1, order.getCartId());
+
+                    if (0 < updateCart.executeUpdate()) {
+                        updateFood.setInt(1, order.getQuantity());
+                        updateFood.setLong(2, order.getFoodId());
+                        updateFood.executeUpdate();
+                    }
+                }
+            }
+
+            return true;
+        });
+    }
+}
@@ -0,0 +1,101 @@
+package org.swiggy.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.swiggy.common.hashgenerator.PasswordHashGenerator;
+import org.swiggy.common.hashgenerator.Pbkdf2PasswordHasher;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Measures the password hashes done on every signup and login, in hashes per second on one thread.
+ * </p>
+ *
+ * <p>
+ * The formatHash benchmark is the former hashing, with a new digest per call and a formatter per byte, kept as the
+ * baseline of the pooled sha256 hashing. The pbkdf2 benchmarks show the cost of each work factor.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(1)
+@Fork(1)
+public class PasswordHashBenchmark {
+
+    private static final String PASSWORD = "Welcome@123";
+    private PasswordHashGenerator passwordHashGenerator;
+    private String storedHash;
+
+    @Setup
+    public void setUp() {
+        passwordHashGenerator = PasswordHashGenerator.getInstance();
+        storedHash = passwordHashGenerator.hashPassword(PASSWORD);
+    }
+
+    @Benchmark
+    public String formatHash() throws NoSuchAlgorithmException {
+        final MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+        final byte[] encodedHash = messageDigest.digest(PASSWORD.getBytes(StandardCharsets.UTF_8));
+        final StringBuilder hashString = new StringBuilder();
+
+        for (final byte hashByte : encodedHash) {
+            hashString.append(String.format("%02x", hashByte));
+        }
+
+        return hashString.substring(0, 25);
+    }
+
+    @Benchmark
+    public String hashPassword() {
+        return passwordHashGenerator.hashPassword(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordHashGenerator.matches(PASSWORD, storedHash);
+    }
+
+    @Benchmark
+    public String pbkdf2Hash(final Pbkdf2State pbkdf2State) {
+        return pbkdf2State.pbkdf2PasswordHasher.hash(PASSWORD);
+    }
+
+    /**
+     * <p>
+     * Holds a pbkdf2 hasher of each work factor.
+     * </p>
+     */
+    @State(Scope.Benchmark)
+    public static class Pbkdf2State {
+
+        @Param({"10000", "100000", "600000"})
+        private int iterations;
+        private Pbkdf2PasswordHasher pbkdf2PasswordHasher;
+
+        @Setup
+        public void setUp() {
+            pbkdf2PasswordHasher = new Pbkdf2PasswordHasher(iterations);
+        }
+    }
+}
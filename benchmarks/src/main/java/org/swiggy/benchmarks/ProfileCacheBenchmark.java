@@ -0,0 +1,94 @@
+package org.swiggy.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.swiggy.user.internal.dao.OrderDAO;
+import org.swiggy.user.internal.dao.UserDAO;
+import org.swiggy.user.internal.dao.impl.OrderDAOImpl;
+import org.swiggy.user.internal.dao.impl.UserDAOImpl;
+import org.swiggy.user.internal.service.OrderService;
+import org.swiggy.user.internal.service.UserService;
+import org.swiggy.user.internal.service.impl.OrderServiceImpl;
+import org.swiggy.user.internal.service.impl.UserServiceImpl;
+import org.swiggy.user.model.Address;
+import org.swiggy.user.model.User;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Compares the reads of the user profiles and address lists through the profile caches of the services with
+ * reading them from the database every time, as the checkout and the views do for the same user.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProfileCacheBenchmark {
+
+    private UserDAO userDAO;
+    private OrderDAO orderDAO;
+    private UserService userService;
+    private OrderService orderService;
+    private long nextUserId;
+
+    @Setup
+    public void setUp() throws SQLException {
+        EmbeddedDatabase.start("profile");
+        userDAO = UserDAOImpl.getInstance();
+        orderDAO = OrderDAOImpl.getInstance();
+        userService = UserServiceImpl.getInstance();
+        orderService = OrderServiceImpl.getInstance();
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.out.println(userService.getProfileStatistics());
+        System.out.println(orderService.getAddressStatistics());
+        EmbeddedDatabase.stop();
+    }
+
+    @Benchmark
+    public User getUserByIdByQuery() {
+        return userDAO.getUserById(nextUserId());
+    }
+
+    @Benchmark
+    public User getUserById() {
+        return userService.getUserById(nextUserId());
+    }
+
+    @Benchmark
+    public List<Address> getAddressByQuery() {
+        return orderDAO.getAddress(nextUserId());
+    }
+
+    @Benchmark
+    public List<Address> getAddress() {
+        return orderService.getAddress(nextUserId());
+    }
+
+    private long nextUserId() {
+        nextUserId = nextUserId % EmbeddedDatabase.USER_COUNT + 1;
+
+        return nextUserId;
+    }
+}
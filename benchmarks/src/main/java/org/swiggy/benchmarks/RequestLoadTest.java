@@ -0,0 +1,266 @@
+package org.swiggy.benchmarks;
+
+import org.apache.cxf.BusFactory;
+import org.apache.cxf.endpoint.Server;
+import org.apache.cxf.jaxrs.JAXRSServerFactoryBean;
+
+import org.swiggy.common.auth.SessionTokenFilter;
+import org.swiggy.common.auth.SessionTokenSigner;
+import org.swiggy.common.execution.ExecutionMode;
+import org.swiggy.common.execution.ExecutorFactory;
+import org.swiggy.common.json.JacksonFactory;
+import org.swiggy.common.metrics.LatencyHistogram;
+import org.swiggy.restaurant.internal.restcontroller.RestaurantController;
+import org.swiggy.user.internal.restcontroller.CartController;
+import org.swiggy.user.internal.restcontroller.OrderController;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Drives the rest endpoints with a few thousand concurrent clients to compare the request execution modes of the
+ * jax-rs server.
+ * </p>
+ *
+ * <p>
+ * The server runs on the embedded jetty transport of cxf against the embedded database. Every client sends its
+ * requests one after another without think time, so the number of clients is the number of requests in flight.
+ * The clients are asynchronous and hold no thread of their own. Run one mode per jvm so the threads and the heap
+ * of one run don't show up in the next:
+ * </p>
+ *
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar org.swiggy.benchmarks.RequestLoadTest virtual
+ * </pre>
+ *
+ * <p>
+ * The clients, requestsPerClient and platformThreads system properties change the load and the size of the
+ * platform pool.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class RequestLoadTest {
+
+    private static final int CLIENTS = Integer.getInteger("clients", 2000);
+    private static final int REQUESTS_PER_CLIENT = Integer.getInteger("requestsPerClient", 10);
+    private static final int PLATFORM_THREADS = Integer.getInteger("platformThreads", 64);
+    private static final int WARM_UP_REQUESTS_PER_CLIENT = 2;
+
+    private RequestLoadTest() {
+    }
+
+    public static void main(final String[] arguments) throws Exception {
+        final ExecutionMode mode = ExecutionMode.getModeByName(0 < arguments.length ? arguments[0] : null);
+        final boolean virtualFallback = ExecutionMode.VIRTUAL == mode
+                && !ExecutorFactory.getInstance().isVirtualThreadSupported();
+        final ExecutorService requestExecutor = ExecutorFactory.getInstance().createExecutor(mode,
+                PLATFORM_THREADS, "load-request");
+
+        EmbeddedDatabase.start("load");
+        final int port = getFreePort();
+        final Server server = startServer(port, requestExecutor);
+        final ExecutorService clientExecutor = Executors.newFixedThreadPool(2);
+        final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30)).executor(clientExecutor).build();
+        final HttpRequest[] requests = new HttpRequest[EmbeddedDatabase.USER_COUNT];
+
+        for (int index = 0; index < requests.length; index++) {
+            requests[index] = HttpRequest.newBuilder(URI.create(String.format(
+                    "http://127.0.0.1:%d/swiggy/v1/order/%d", port, index + 1))).timeout(Duration.ofMinutes(2))
+                    .header("Authorization", String.join(" ", "Bearer",
+                            SessionTokenSigner.getInstance().sign(index + 1))).GET().build();
+        }
+
+        try {
+            sendRequests(client, requests, WARM_UP_REQUESTS_PER_CLIENT, new LatencyHistogram(), new LongAdder(),
+                    new LongAdder());
+            System.gc();
+            resetPeaks();
+            final LatencyHistogram latencyHistogram = new LatencyHistogram();
+            final LongAdder errorCount = new LongAdder();
+            final LongAdder unavailableCount = new LongAdder();
+            final long startTime = System.nanoTime();
+
+            sendRequests(client, requests, REQUESTS_PER_CLIENT, latencyHistogram, errorCount, unavailableCount);
+            final double seconds = (System.nanoTime() - startTime) / 1e9;
+            final long requestCount = (long) CLIENTS * REQUESTS_PER_CLIENT;
+
+            System.out.printf("mode=%s%s clients=%d requests=%d java=%s%n", mode,
+                    virtualFallback ? " (no virtual threads, ran on the platform pool)" : "", CLIENTS, requestCount,
+                    System.getProperty("java.version"));
+            System.out.printf("throughput=%.0f req/s elapsed=%.2f s errors=%d unavailable=%d%n",
+                    requestCount / seconds, seconds, errorCount.sum(), unavailableCount.sum());
+            System.out.printf("latency p50=%.1f ms p99=%.1f ms p999=%.1f ms max=%.1f ms%n",
+                    latencyHistogram.getValueAtPercentile(50) / 1000.0,
+                    latencyHistogram.getValueAtPercentile(99) / 1000.0,
+                    latencyHistogram.getValueAtPercentile(99.9) / 1000.0,
+                    latencyHistogram.getMaximumMicros() / 1000.0);
+            System.out.printf("peakThreads=%d peakHeap=%.1f MB peakRss=%s%n",
+                    ManagementFactory.getThreadMXBean().getPeakThreadCount(), getPeakHeapBytes() / 1048576.0,
+                    getPeakResidentSetSize());
+        } finally {
+            server.destroy();
+            clientExecutor.shutdownNow();
+
+            if (null != requestExecutor) {
+                requestExecutor.shutdownNow();
+            }
+            BusFactory.getDefaultBus().shutdown(true);
+            EmbeddedDatabase.stop();
+        }
+    }
+
+    /**
+     * <p>
+     * Starts the jax-rs server with the rest controllers on the given port.
+     * </p>
+     *
+     * @param port Represents the port of the server
+     * @param requestExecutor Represents the executor of the resource methods, or null for the transport threads
+     * @return The server
+     */
+    private static Server startServer(final int port, final ExecutorService requestExecutor) {
+        final JAXRSServerFactoryBean bean = new JAXRSServerFactoryBean();
+
+        bean.setAddress(String.format("http://127.0.0.1:%d/swiggy/v1", port));
+        bean.setProviders(List.of(JacksonFactory.getInstance().getJsonProvider(), new SessionTokenFilter("userId")));
+        bean.setServiceBeans(List.of(RestaurantController.getInstance(), CartController.getInstance(),
+                OrderController.getInstance()));
+        final Server server = bean.create();
+
+        if (null != requestExecutor) {
+            server.getEndpoint().setExecutor(requestExecutor);
+        }
+
+        return server;
+    }
+
+    /**
+     * <p>
+     * Runs all the clients until each has sent the given number of requests.
+     * </p>
+     *
+     * @param client Represents the http client
+     * @param requests Represents the requests the clients cycle through
+     * @param requestsPerClient Represents the number of requests of each client
+     * @param latencyHistogram Records the latency of the requests
+     * @param errorCount Counts the failed requests
+     * @param unavailableCount Counts the failed requests answered with a 503 response
+     */
+    private static void sendRequests(final HttpClient client, final HttpRequest[] requests,
+                                     final int requestsPerClient, final LatencyHistogram latencyHistogram,
+                                     final LongAdder errorCount, final LongAdder unavailableCount)
+            throws InterruptedException {
+        final CountDownLatch finishedClients = new CountDownLatch(CLIENTS);
+
+        for (int index = 0; index < CLIENTS; index++) {
+            sendRequest(client, requests[index % requests.length], requestsPerClient, latencyHistogram,
+                    errorCount, unavailableCount, finishedClients);
+        }
+
+        if (!finishedClients.await(30, TimeUnit.MINUTES)) {
+            throw new IllegalStateException("The clients didn't finish in time");
+        }
+    }
+
+    /**
+     * <p>
+     * Sends a request and the remaining requests of the client after it completes.
+     * </p>
+     */
+    private static void sendRequest(final HttpClient client, final HttpRequest request, final int remaining,
+                                    final LatencyHistogram latencyHistogram, final LongAdder errorCount,
+                                    final LongAdder unavailableCount, final CountDownLatch finishedClients) {
+        final long startTime = System.nanoTime();
+
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, failure) -> {
+            latencyHistogram.record(System.nanoTime() - startTime);
+
+            if (null != failure || 200 != response.statusCode()) {
+                errorCount.increment();
+
+                if (null == failure && 503 == response.statusCode()) {
+                    unavailableCount.increment();
+                }
+            }
+
+            if (1 < remaining) {
+                sendRequest(client, request, remaining - 1, latencyHistogram, errorCount, unavailableCount,
+                        finishedClients);
+            } else {
+                finishedClients.countDown();
+            }
+        });
+    }
+
+    private static void resetPeaks() {
+        final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+        threadMXBean.resetPeakThreadCount();
+
+        for (final MemoryPoolMXBean memoryPool : ManagementFactory.getMemoryPoolMXBeans()) {
+            memoryPool.resetPeakUsage();
+        }
+    }
+
+    private static long getPeakHeapBytes() {
+        long peakHeapBytes = 0;
+
+        for (final MemoryPoolMXBean memoryPool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (MemoryType.HEAP == memoryPool.getType()) {
+                peakHeapBytes += memoryPool.getPeakUsage().getUsed();
+            }
+        }
+
+        return peakHeapBytes;
+    }
+
+    /**
+     * <p>
+     * Gets the peak resident set size of the process, which includes the thread stacks the heap figures miss.
+     * </p>
+     *
+     * @return The peak resident set size, or n/a outside linux
+     */
+    private static String getPeakResidentSetSize() throws IOException {
+        final Path status = Path.of("/proc/self/status");
+
+        if (!Files.exists(status)) {
+            return "n/a";
+        }
+
+        for (final String line : Files.readAllLines(status)) {
+            if (line.startsWith("VmHWM:")) {
+                return line.substring("VmHWM:".length()).trim();
+            }
+        }
+
+        return "n/a";
+    }
+
+    private static int getFreePort() throws IOException {
+        try (final ServerSocket serverSocket = new ServerSocket(0)) {
+            return serverSocket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.swiggy.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.swiggy.common.auth.SessionTokenSigner;
+import org.swiggy.user.internal.dao.UserDAO;
+import org.swiggy.user.internal.dao.impl.UserDAOImpl;
+import org.swiggy.user.model.User;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Compares checking the session token of a request with reading the user of the request by its id.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SessionTokenBenchmark {
+
+    private SessionTokenSigner sessionTokenSigner;
+    private UserDAO userDAO;
+    private String[] tokens;
+    private int nextUser;
+
+    @Setup
+    public void setUp() throws SQLException {
+        EmbeddedDatabase.start("session");
+        sessionTokenSigner = SessionTokenSigner.getInstance();
+        userDAO = UserDAOImpl.getInstance();
+        tokens = new String[EmbeddedDatabase.USER_COUNT];
+
+        for (int index = 0; index < tokens.length; index++) {
+            tokens[index] = sessionTokenSigner.sign(index + 1);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        EmbeddedDatabase.stop();
+    }
+
+    @Benchmark
+    public long verifyToken() {
+        nextUser = (nextUser + 1) % tokens.length;
+
+        return sessionTokenSigner.verify(tokens[nextUser]);
+    }
+
+    @Benchmark
+    public User getUserById() {
+        nextUser = (nextUser + 1) % tokens.length;
+
+        return userDAO.getUserById(nextUser + 1);
+    }
+}
@@ -0,0 +1,100 @@
+package org.swiggy.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.swiggy.user.internal.dao.UserDAO;
+import org.swiggy.user.internal.dao.impl.UserDAOImpl;
+import org.swiggy.user.internal.service.UserService;
+import org.swiggy.user.internal.service.impl.UserServiceImpl;
+import org.swiggy.user.model.UserData;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Compares the uniqueness checks of the signups through the warmed signup filter of the user service with querying
+ * the users on every check, for new phone numbers and for the phone numbers of the seeded users.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SignupCheckBenchmark {
+
+    private static final int NEW_PHONE_NUMBER_COUNT = 1024;
+    private UserDAO userDAO;
+    private UserService userService;
+    private String[] newPhoneNumbers;
+    private String[] takenPhoneNumbers;
+    private int nextNew;
+    private int nextTaken;
+
+    @Setup
+    public void setUp() throws SQLException {
+        EmbeddedDatabase.start("signup");
+        userDAO = UserDAOImpl.getInstance();
+        userService = UserServiceImpl.getInstance();
+        userService.warmSignupFilter();
+        newPhoneNumbers = new String[NEW_PHONE_NUMBER_COUNT];
+        takenPhoneNumbers = new String[EmbeddedDatabase.USER_COUNT];
+
+        for (int index = 0; index < newPhoneNumbers.length; index++) {
+            newPhoneNumbers[index] = String.valueOf(8_000_000_000L + index);
+        }
+
+        for (int index = 0; index < takenPhoneNumbers.length; index++) {
+            takenPhoneNumbers[index] = String.valueOf(9_000_000_000L + index + 1);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.out.println(userService.getSignupStatistics());
+        EmbeddedDatabase.stop();
+    }
+
+    @Benchmark
+    public boolean checkNewByQuery() {
+        nextNew = (nextNew + 1) % newPhoneNumbers.length;
+
+        return userDAO.isUserDataTaken(UserData.PHONE_NUMBER, newPhoneNumbers[nextNew]);
+    }
+
+    @Benchmark
+    public boolean checkNew() {
+        nextNew = (nextNew + 1) % newPhoneNumbers.length;
+
+        return userService.isUserDataTaken(UserData.PHONE_NUMBER, newPhoneNumbers[nextNew]);
+    }
+
+    @Benchmark
+    public boolean checkTakenByQuery() {
+        nextTaken = (nextTaken + 1) % takenPhoneNumbers.length;
+
+        return userDAO.isUserDataTaken(UserData.PHONE_NUMBER, takenPhoneNumbers[nextTaken]);
+    }
+
+    @Benchmark
+    public boolean checkTaken() {
+        nextTaken = (nextTaken + 1) % takenPhoneNumbers.length;
+
+        return userService.isUserDataTaken(UserData.PHONE_NUMBER, takenPhoneNumbers[nextTaken]);
+    }
+}
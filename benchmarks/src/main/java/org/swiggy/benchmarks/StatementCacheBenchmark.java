@@ -0,0 +1,87 @@
+package org.swiggy.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.swiggy.restaurant.internal.dao.RestaurantDAO;
+import org.swiggy.restaurant.internal.dao.impl.RestaurantDAOImpl;
+import org.swiggy.restaurant.model.Food;
+import org.swiggy.restaurant.model.MenuCardType;
+import org.swiggy.user.internal.dao.UserDAO;
+import org.swiggy.user.internal.dao.impl.UserDAOImpl;
+import org.swiggy.user.model.User;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Compares the menu card and user lookups of the DAOs with the statement cache of the pooled connections disabled
+ * and enabled.
+ * </p>
+ *
+ * <p>
+ * The embedded database has no server side planning to save, so the gap measured here is the cost of creating and
+ * closing the statements in the drivers. Against PostgreSQL the reused statements also become server side prepared
+ * statements once they pass the prepare threshold.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatementCacheBenchmark {
+
+    @Param({"0", "64"})
+    private int statementCacheSize;
+    private RestaurantDAO restaurantDAO;
+    private UserDAO userDAO;
+    private int nextRestaurantId;
+    private int nextUserId;
+
+    @Setup
+    public void setUp() throws SQLException {
+        final Properties settings = new Properties();
+
+        settings.setProperty("statement.cacheSize", String.valueOf(statementCacheSize));
+        EmbeddedDatabase.start("statements", settings);
+        restaurantDAO = RestaurantDAOImpl.getInstance();
+        userDAO = UserDAOImpl.getInstance();
+    }
+
+    @TearDown
+    public void tearDown() {
+        EmbeddedDatabase.stop();
+    }
+
+    @Benchmark
+    public List<Food> getMenuCard() {
+        nextRestaurantId = nextRestaurantId % EmbeddedDatabase.RESTAURANT_COUNT + 1;
+
+        return restaurantDAO.getMenuCard(nextRestaurantId, MenuCardType.getId(MenuCardType.BOTH));
+    }
+
+    @Benchmark
+    public User getUserById() {
+        nextUserId = nextUserId % EmbeddedDatabase.USER_COUNT + 1;
+
+        return userDAO.getUserById(nextUserId);
+    }
+}
@@ -0,0 +1,98 @@
+package org.swiggy.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.swiggy.common.json.JsonArray;
+import org.swiggy.restaurant.model.Food;
+import org.swiggy.restaurant.model.FoodType;
+import org.swiggy.user.model.User;
+import org.swiggy.validator.hibernatevalidator.ValidatorFactory;
+import org.swiggy.validator.regexvalidator.DataValidator;
+import org.swiggy.validator.validatorgroup.food.PostFoodValidator;
+import org.swiggy.validator.validatorgroup.user.PostUserValidator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Measures the bean validation of the request bodies and the regex checks of the data validator.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private DataValidator dataValidator;
+    private User validUser;
+    private User invalidUser;
+    private Food food;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = ValidatorFactory.getInstance();
+        dataValidator = DataValidator.getInstance();
+        validUser = new User();
+        validUser.setName("Muthu");
+        validUser.setPhoneNumber("9876543210");
+        validUser.setEmailId("muthu@gmail.com");
+        validUser.setPassword("Welcome@123");
+        invalidUser = new User();
+        invalidUser.setName("1Muthu");
+        invalidUser.setPhoneNumber("12345");
+        invalidUser.setEmailId("muthu");
+        invalidUser.setPassword("welcome");
+        food = new Food("Parotta", 30, FoodType.VEG, 50);
+    }
+
+    @Benchmark
+    public JsonArray validUserViolations() {
+        return validatorFactory.getViolations(validUser, PostUserValidator.class);
+    }
+
+    @Benchmark
+    public JsonArray invalidUserViolations() {
+        return validatorFactory.getViolations(invalidUser, PostUserValidator.class);
+    }
+
+    @Benchmark
+    public JsonArray foodViolations() {
+        return validatorFactory.getViolations(food, PostFoodValidator.class);
+    }
+
+    @Benchmark
+    public boolean validateUserName() {
+        return dataValidator.validateUserName("Muthu kumar");
+    }
+
+    @Benchmark
+    public boolean validatePhoneNumber() {
+        return dataValidator.validatePhoneNumber("9876543210");
+    }
+
+    @Benchmark
+    public boolean validateEmailId() {
+        return dataValidator.validateEmailId("muthu@gmail.com");
+    }
+
+    @Benchmark
+    public boolean validatePassword() {
+        return dataValidator.validatePassword("Welcome@123");
+    }
+}
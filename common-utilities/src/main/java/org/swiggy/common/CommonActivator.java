@@ -2,17 +2,27 @@ package org.swiggy.common;
 
 import org.osgi.framework.BundleActivator;
 import org.osgi.framework.BundleContext;
+import org.swiggy.common.hashgenerator.PasswordHashGenerator;
+import org.swiggy.common.hashgenerator.Pbkdf2PasswordHasher;
 
 /**
  * <p>
  *  Customizes the starting and stopping of a bundle.
  * </p>
  *
+ * <p>
+ * The new passwords are hashed by the swiggy.passwordHash framework property, sha256 or pbkdf2, with
+ * swiggy.passwordIterations iterations of pbkdf2.
+ * </p>
+ *
  * @author Muthu kumar V
  * @version 1.0
  */
 public class CommonActivator implements BundleActivator {
 
+    private static final String PASSWORD_HASH = "swiggy.passwordHash";
+    private static final String PASSWORD_ITERATIONS = "swiggy.passwordIterations";
+
     /**
      * <p>
      * Invoked when the bundle is started.
@@ -22,6 +32,10 @@ public class CommonActivator implements BundleActivator {
      */
     @Override
     public void start(final BundleContext context) {
+        final String passwordIterations = context.getProperty(PASSWORD_ITERATIONS);
+
+        PasswordHashGenerator.getInstance().configure(context.getProperty(PASSWORD_HASH), null == passwordIterations
+                ? Pbkdf2PasswordHasher.DEFAULT_ITERATIONS : Integer.parseInt(passwordIterations.trim()));
         System.out.println("Shared Bundle Is Started");
     }
 
@@ -0,0 +1,105 @@
+package org.swiggy.common.async;
+
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.swiggy.common.json.JacksonFactory;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * Resumes the suspended requests of the rest controllers with the result of the asynchronous services.
+ * </p>
+ *
+ * <p>
+ * The request thread returns as soon as the service call is submitted, and the response is written once the
+ * future completes. A request that isn't answered within its timeout gets a 503 response and its future is
+ * cancelled, so the database work that hasn't started yet is skipped. A future that failed because the database
+ * executor was full gets a 503 response as well, any other failure is mapped by the exception mappers of the
+ * server.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class AsyncResponder {
+
+    private static AsyncResponder asyncResponder;
+    private final Logger logger;
+    private final JacksonFactory jacksonFactory;
+
+    private AsyncResponder() {
+        logger = LogManager.getLogger(AsyncResponder.class);
+        jacksonFactory = JacksonFactory.getInstance();
+    }
+
+    /**
+     * <p>
+     * Gets the object of the async responder class.
+     * </p>
+     *
+     * @return The async responder object
+     */
+    public static synchronized AsyncResponder getInstance() {
+        if (null == asyncResponder) {
+            asyncResponder = new AsyncResponder();
+        }
+
+        return asyncResponder;
+    }
+
+    /**
+     * <p>
+     * Resumes the suspended request with the entity built from the result of the service, or with a 503 response
+     * after the timeout.
+     * </p>
+     *
+     * @param asyncResponse Represents the suspended request
+     * @param result Represents the future result of the service
+     * @param entityBuilder Builds the entity of the response from the result
+     * @param timeoutMillis Represents the time the request may wait for the response
+     * @param <T> Represents the type of the result
+     */
+    public <T> void resume(final AsyncResponse asyncResponse, final CompletableFuture<T> result,
+                           final Function<T, ?> entityBuilder, final long timeoutMillis) {
+        asyncResponse.setTimeoutHandler(timedOutResponse -> {
+            result.cancel(false);
+            timedOutResponse.resume(createUnavailableResponse("request timed out"));
+        });
+        asyncResponse.setTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
+        result.thenApply(entityBuilder).whenComplete((entity, failure) -> {
+            if (null == failure) {
+                asyncResponse.resume(entity);
+            } else {
+                final Throwable cause = failure instanceof CompletionException && null != failure.getCause()
+                        ? failure.getCause() : failure;
+
+                if (cause instanceof CancellationException) {
+                    return;
+                }
+
+                if (cause instanceof RejectedExecutionException) {
+                    logger.warn(String.join(" ", "Database executor is full:", cause.getMessage()));
+                    asyncResponse.resume(createUnavailableResponse("server is busy try again later"));
+                } else {
+                    asyncResponse.resume(cause);
+                }
+            }
+        });
+    }
+
+    private Response createUnavailableResponse(final String status) {
+        return Response.status(Response.Status.SERVICE_UNAVAILABLE).type(MediaType.APPLICATION_JSON_TYPE)
+                .entity(jacksonFactory.createObjectNode().put("status", status).asBytes()).build();
+    }
+}
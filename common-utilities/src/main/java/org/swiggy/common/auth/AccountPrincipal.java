@@ -0,0 +1,46 @@
+package org.swiggy.common.auth;
+
+import java.security.Principal;
+
+import javax.ws.rs.core.SecurityContext;
+
+/**
+ * <p>
+ * Represents the account a request is authenticated as, taken from its session token.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class AccountPrincipal implements Principal {
+
+    private final long accountId;
+
+    public AccountPrincipal(final long accountId) {
+        this.accountId = accountId;
+    }
+
+    /**
+     * <p>
+     * Gets the id of the account the request is authenticated as.
+     * </p>
+     *
+     * @param securityContext Represents the security context of the request
+     * @return The id of the account, or {@link SessionTokenSigner#INVALID_ACCOUNT} if the request isn't authenticated
+     */
+    public static long getAccountId(final SecurityContext securityContext) {
+        final Principal principal = null == securityContext ? null : securityContext.getUserPrincipal();
+
+        return principal instanceof AccountPrincipal accountPrincipal ? accountPrincipal.getAccountId()
+                : SessionTokenSigner.INVALID_ACCOUNT;
+    }
+
+    public long getAccountId() {
+        return accountId;
+    }
+
+    @Override
+    public String getName() {
+        return String.valueOf(accountId);
+    }
+}
@@ -0,0 +1,83 @@
+package org.swiggy.common.auth;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.annotation.Priority;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import org.swiggy.common.json.JacksonFactory;
+
+/**
+ * <p>
+ * Lets only the administrator accounts use the {@link Administered} resources.
+ * </p>
+ *
+ * <p>
+ * It runs after the {@link SessionTokenFilter} has set the account of the request, and answers the requests of
+ * any other account with a 403 response. With no administrator accounts, the resources are closed to everyone.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+@Administered
+@Priority(Priorities.AUTHORIZATION)
+public class AdminFilter implements ContainerRequestFilter {
+
+    private final Set<Long> adminAccounts;
+    private final JacksonFactory jacksonFactory;
+
+    /**
+     * <p>
+     * Creates the filter for the given administrator accounts.
+     * </p>
+     *
+     * @param adminAccounts Represents the ids of the administrator accounts
+     */
+    public AdminFilter(final Set<Long> adminAccounts) {
+        this.adminAccounts = Set.copyOf(adminAccounts);
+        jacksonFactory = JacksonFactory.getInstance();
+    }
+
+    /**
+     * <p>
+     * Reads the administrator accounts from a comma separated list of account ids.
+     * </p>
+     *
+     * @param accountIds Represents the comma separated account ids, or null for none
+     * @return The filter for the given administrator accounts
+     */
+    public static AdminFilter fromList(final String accountIds) {
+        final Set<Long> adminAccounts = new HashSet<>();
+
+        if (null != accountIds) {
+            for (final String accountId : accountIds.split(",")) {
+                if (!accountId.isBlank()) {
+                    adminAccounts.add(Long.parseLong(accountId.trim()));
+                }
+            }
+        }
+
+        return new AdminFilter(adminAccounts);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param requestContext Represents the context of the request
+     */
+    @Override
+    public void filter(final ContainerRequestContext requestContext) {
+        if (!adminAccounts.contains(AccountPrincipal.getAccountId(requestContext.getSecurityContext()))) {
+            requestContext.abortWith(Response.status(Response.Status.FORBIDDEN)
+                    .entity(jacksonFactory.createObjectNode().put("error", "administrator account required")
+                            .asBytes())
+                    .type(MediaType.APPLICATION_JSON_TYPE).build());
+        }
+    }
+}
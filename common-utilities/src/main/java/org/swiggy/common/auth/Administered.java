@@ -0,0 +1,23 @@
+package org.swiggy.common.auth;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import javax.ws.rs.NameBinding;
+
+/**
+ * <p>
+ * Marks the resources and resource methods only the administrator accounts may use, checked by the
+ * {@link AdminFilter} after the {@link SessionTokenFilter}, so they have to be {@link Authenticated} as well.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+@NameBinding
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Administered {
+}
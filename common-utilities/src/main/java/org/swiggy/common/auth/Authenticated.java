@@ -0,0 +1,22 @@
+package org.swiggy.common.auth;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import javax.ws.rs.NameBinding;
+
+/**
+ * <p>
+ * Marks the resources and resource methods that need a session token, checked by the {@link SessionTokenFilter}.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+@NameBinding
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Authenticated {
+}
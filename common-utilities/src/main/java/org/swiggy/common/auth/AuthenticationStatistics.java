@@ -0,0 +1,73 @@
+package org.swiggy.common.auth;
+
+/**
+ * <p>
+ * Represents a point in time snapshot of the logins served by a credential cache.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class AuthenticationStatistics {
+
+    private final int sessionCount;
+    private final int unknownCount;
+    private final long sessionHitCount;
+    private final long unknownHitCount;
+    private final long loadCount;
+    private final long failureCount;
+    private final long evictionCount;
+
+    public AuthenticationStatistics(final int sessionCount, final int unknownCount, final long sessionHitCount,
+                                    final long unknownHitCount, final long loadCount, final long failureCount,
+                                    final long evictionCount) {
+        this.sessionCount = sessionCount;
+        this.unknownCount = unknownCount;
+        this.sessionHitCount = sessionHitCount;
+        this.unknownHitCount = unknownHitCount;
+        this.loadCount = loadCount;
+        this.failureCount = failureCount;
+        this.evictionCount = evictionCount;
+    }
+
+    public int getSessionCount() {
+        return sessionCount;
+    }
+
+    public int getUnknownCount() {
+        return unknownCount;
+    }
+
+    public long getSessionHitCount() {
+        return sessionHitCount;
+    }
+
+    public long getUnknownHitCount() {
+        return unknownHitCount;
+    }
+
+    public long getLoadCount() {
+        return loadCount;
+    }
+
+    public long getFailureCount() {
+        return failureCount;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public double getHitRatio() {
+        final long requestCount = sessionHitCount + unknownHitCount + loadCount;
+
+        return 0 == requestCount ? 0 : (double) (sessionHitCount + unknownHitCount) / requestCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("sessions=%d unknown=%d sessionHits=%d unknownHits=%d loads=%d failures=%d "
+                        + "hitRatio=%.3f evictions=%d", sessionCount, unknownCount, sessionHitCount, unknownHitCount,
+                loadCount, failureCount, getHitRatio(), evictionCount);
+    }
+}
@@ -0,0 +1,35 @@
+package org.swiggy.common.auth;
+
+/**
+ * <p>
+ * Holds an account read by its login identifier with the stored hash of its password.
+ * </p>
+ *
+ * @param <T> Represents the type of the account
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class Credential<T> {
+
+    private final long accountId;
+    private final T account;
+    private final String passwordHash;
+
+    public Credential(final long accountId, final T account, final String passwordHash) {
+        this.accountId = accountId;
+        this.account = account;
+        this.passwordHash = passwordHash;
+    }
+
+    public long getAccountId() {
+        return accountId;
+    }
+
+    public T getAccount() {
+        return account;
+    }
+
+    String getPasswordHash() {
+        return passwordHash;
+    }
+}
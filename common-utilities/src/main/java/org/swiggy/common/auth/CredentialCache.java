@@ -0,0 +1,150 @@
+package org.swiggy.common.auth;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.swiggy.common.cache.CacheStatistics;
+import org.swiggy.common.cache.ExpiringCache;
+import org.swiggy.common.hashgenerator.PasswordHashGenerator;
+
+/**
+ * <p>
+ * Checks the logins of the accounts against the credentials read by their login identifier, keeping the
+ * credentials of the identifiers seen recently so repeated logins don't read the account again.
+ * </p>
+ *
+ * <p>
+ * The credential of a known identifier is kept for the session time and the identifiers with no account for the
+ * unknown time, each in a bounded {@link ExpiringCache}. The password is checked in memory against the stored
+ * hash by the {@link PasswordHashGenerator}, so a wrong password costs no query either. Every write that changes
+ * the identifiers or the password of an account, or adds an account, must invalidate the cache. A load that
+ * overlaps an invalidation is used for its login but not kept.
+ * </p>
+ *
+ * @param <T> Represents the type of the account
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class CredentialCache<T> {
+
+    private final ExpiringCache<String, Credential<T>> sessions;
+    private final ExpiringCache<String, Boolean> unknownIdentifiers;
+    private final LongAdder failureCount;
+    private final PasswordHashGenerator passwordHashGenerator;
+
+    /**
+     * <p>
+     * Creates the credential cache.
+     * </p>
+     *
+     * @param maximumSessions Represents the maximum number of credentials kept
+     * @param sessionMillis Represents the time a credential is kept in milliseconds
+     * @param maximumUnknown Represents the maximum number of unknown identifiers kept
+     * @param unknownMillis Represents the time an unknown identifier is kept in milliseconds
+     */
+    public CredentialCache(final int maximumSessions, final long sessionMillis, final int maximumUnknown,
+                           final long unknownMillis) {
+        sessions = new ExpiringCache<>(maximumSessions, sessionMillis);
+        unknownIdentifiers = new ExpiringCache<>(maximumUnknown, unknownMillis);
+        failureCount = new LongAdder();
+        passwordHashGenerator = PasswordHashGenerator.getInstance();
+    }
+
+    /**
+     * <p>
+     * Gets the account of the identifier if the password matches, reading its credential only when the
+     * identifier isn't in the cache.
+     * </p>
+     *
+     * <p>
+     * A missing credential is looked up in the unknown identifiers, whose loader reads the credential and keeps the
+     * identifier only when there is no account. So each cache keeps its part of a load only if no invalidation
+     * overlaps it.
+     * </p>
+     *
+     * @param identifier Represents the login identifier, unique across the types of identifier
+     * @param password Represents the given password
+     * @param loader Reads the credential of the identifier, giving null when there is no such account
+     * @return The account, or null if the identifier is unknown or the password doesn't match
+     */
+    public T authenticate(final String identifier, final String password, final Supplier<Credential<T>> loader) {
+        final Credential<T> credential = sessions.get(identifier, () -> {
+            final AtomicReference<Credential<T>> loadedCredential = new AtomicReference<>();
+
+            unknownIdentifiers.get(identifier, () -> {
+                loadedCredential.set(loader.get());
+
+                return null == loadedCredential.get() ? Boolean.TRUE : null;
+            });
+
+            return loadedCredential.get();
+        });
+
+        if (null == credential) {
+            failureCount.increment();
+
+            return null;
+        }
+
+        return verify(credential, password);
+    }
+
+    /**
+     * <p>
+     * Removes the identifier from the cache, when an account takes it or gives it up.
+     * </p>
+     *
+     * @param identifier Represents the login identifier
+     */
+    public void invalidate(final String identifier) {
+        sessions.invalidate(identifier);
+        unknownIdentifiers.invalidate(identifier);
+    }
+
+    /**
+     * <p>
+     * Removes the credentials of the account from the cache, when its identifiers or password change.
+     * </p>
+     *
+     * @param accountId Represents the id of the account
+     */
+    public void invalidateAccount(final long accountId) {
+        sessions.invalidateValues(credential -> accountId == credential.getAccountId());
+    }
+
+    /**
+     * <p>
+     * Gets a snapshot of the cache metrics. The loads are the misses of the unknown identifiers, as only those
+     * read the credential.
+     * </p>
+     *
+     * @return The authentication statistics
+     */
+    public AuthenticationStatistics getStatistics() {
+        final CacheStatistics sessionStatistics = sessions.getStatistics();
+        final CacheStatistics unknownStatistics = unknownIdentifiers.getStatistics();
+
+        return new AuthenticationStatistics(sessionStatistics.getSize(), unknownStatistics.getSize(),
+                sessionStatistics.getHitCount(), unknownStatistics.getHitCount(), unknownStatistics.getMissCount(),
+                failureCount.sum(), sessionStatistics.getEvictionCount() + unknownStatistics.getEvictionCount());
+    }
+
+    /**
+     * <p>
+     * Checks the given password against the stored hash, outside the lock as it may be slow on purpose.
+     * </p>
+     *
+     * @param credential Represents the credential of the account
+     * @param password Represents the given password
+     * @return The account if the password matches, null otherwise
+     */
+    private T verify(final Credential<T> credential, final String password) {
+        if (passwordHashGenerator.matches(password, credential.getPasswordHash())) {
+            return credential.getAccount();
+        }
+        failureCount.increment();
+
+        return null;
+    }
+}
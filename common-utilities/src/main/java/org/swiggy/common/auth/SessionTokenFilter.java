@@ -0,0 +1,111 @@
+package org.swiggy.common.auth;
+
+import java.security.Principal;
+
+import javax.annotation.Priority;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.SecurityContext;
+
+import org.swiggy.common.json.JacksonFactory;
+
+/**
+ * <p>
+ * Authenticates the requests to the {@link Authenticated} resources by the bearer session token, without reading
+ * the account.
+ * </p>
+ *
+ * <p>
+ * A request with no valid token is answered with a 401 response. A request whose account path parameter names
+ * another account is answered with a 403 response. Otherwise the account is set as the principal of the security
+ * context of the request, read by the resources through {@link AccountPrincipal#getAccountId(SecurityContext)}.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+@Authenticated
+@Priority(Priorities.AUTHENTICATION)
+public class SessionTokenFilter implements ContainerRequestFilter {
+
+    private static final String BEARER = "Bearer ";
+    private final String accountParameter;
+    private final SessionTokenSigner sessionTokenSigner;
+    private final JacksonFactory jacksonFactory;
+
+    /**
+     * <p>
+     * Creates the filter for the accounts named by the given path parameter.
+     * </p>
+     *
+     * @param accountParameter Represents the name of the path parameter holding the account id
+     */
+    public SessionTokenFilter(final String accountParameter) {
+        this.accountParameter = accountParameter;
+        sessionTokenSigner = SessionTokenSigner.getInstance();
+        jacksonFactory = JacksonFactory.getInstance();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param requestContext Represents the context of the request
+     */
+    @Override
+    public void filter(final ContainerRequestContext requestContext) {
+        final String authorization = requestContext.getHeaderString(HttpHeaders.AUTHORIZATION);
+        final long accountId = null != authorization && authorization.regionMatches(true, 0, BEARER, 0,
+                BEARER.length()) ? sessionTokenSigner.verify(authorization.substring(BEARER.length()).trim())
+                : SessionTokenSigner.INVALID_ACCOUNT;
+
+        if (SessionTokenSigner.INVALID_ACCOUNT == accountId) {
+            requestContext.abortWith(Response.status(Response.Status.UNAUTHORIZED)
+                    .header(HttpHeaders.WWW_AUTHENTICATE, "Bearer")
+                    .entity(getError("login to get a valid session token"))
+                    .type(MediaType.APPLICATION_JSON_TYPE).build());
+
+            return;
+        }
+        final String pathAccount = requestContext.getUriInfo().getPathParameters().getFirst(accountParameter);
+
+        if (null != pathAccount && !pathAccount.equals(String.valueOf(accountId))) {
+            requestContext.abortWith(Response.status(Response.Status.FORBIDDEN)
+                    .entity(getError("session token belongs to another account"))
+                    .type(MediaType.APPLICATION_JSON_TYPE).build());
+
+            return;
+        }
+        final boolean isSecure = requestContext.getSecurityContext().isSecure();
+        final AccountPrincipal principal = new AccountPrincipal(accountId);
+
+        requestContext.setSecurityContext(new SecurityContext() {
+            @Override
+            public Principal getUserPrincipal() {
+                return principal;
+            }
+
+            @Override
+            public boolean isUserInRole(final String role) {
+                return false;
+            }
+
+            @Override
+            public boolean isSecure() {
+                return isSecure;
+            }
+
+            @Override
+            public String getAuthenticationScheme() {
+                return "Bearer";
+            }
+        });
+    }
+
+    private byte[] getError(final String error) {
+        return jacksonFactory.createObjectNode().put("error", error).asBytes();
+    }
+}
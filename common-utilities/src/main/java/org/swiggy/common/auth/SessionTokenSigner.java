@@ -0,0 +1,167 @@
+package org.swiggy.common.auth;
+
+import org.swiggy.common.exception.SessionKeyException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * <p>
+ * Issues and verifies the session tokens given to the accounts at login, so a request can be tied to its account
+ * without reading the account again.
+ * </p>
+ *
+ * <p>
+ * A token carries the account id and the expiry time, signed with HMAC-SHA256, as the base64url payload and
+ * signature joined by a dot. Nothing is stored on the server, so a token stays valid until it expires even if the
+ * password changes. The key comes from the configured secret, or is random when none is set, which ends all the
+ * sessions on a restart and only suits a single node.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class SessionTokenSigner {
+
+    public static final long INVALID_ACCOUNT = -1;
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int KEY_LENGTH = 32;
+    private static final int PAYLOAD_LENGTH = 2 * Long.BYTES;
+    private static final long DEFAULT_VALIDITY_MILLIS = TimeUnit.HOURS.toMillis(1);
+    private static SessionTokenSigner sessionTokenSigner;
+    private final SecretKeySpec key;
+    private final long validityMillis;
+    private final ThreadLocal<Mac> macs;
+
+    private SessionTokenSigner(final byte[] key, final long validityMillis) {
+        this.key = new SecretKeySpec(key, ALGORITHM);
+        this.validityMillis = validityMillis;
+        macs = ThreadLocal.withInitial(this::createMac);
+        createMac();
+    }
+
+    /**
+     * <p>
+     * Gets the session token signer, with a random key and tokens valid for an hour unless it is configured.
+     * </p>
+     *
+     * @return The session token signer
+     */
+    public static synchronized SessionTokenSigner getInstance() {
+        if (null == sessionTokenSigner) {
+            final byte[] key = new byte[KEY_LENGTH];
+
+            new SecureRandom().nextBytes(key);
+            sessionTokenSigner = new SessionTokenSigner(key, DEFAULT_VALIDITY_MILLIS);
+        }
+
+        return sessionTokenSigner;
+    }
+
+    /**
+     * <p>
+     * Replaces the session token signer with one using the given secret and validity. The tokens issued before
+     * with another key are no longer valid.
+     * </p>
+     *
+     * @param secret Represents the shared secret of the nodes, or null for a random key
+     * @param validityMillis Represents the time a token is valid in milliseconds
+     * @return The session token signer
+     */
+    public static synchronized SessionTokenSigner configure(final String secret, final long validityMillis) {
+        final byte[] key;
+
+        if (null == secret || secret.isBlank()) {
+            key = new byte[KEY_LENGTH];
+            new SecureRandom().nextBytes(key);
+        } else {
+            key = secret.trim().getBytes(StandardCharsets.UTF_8);
+        }
+        sessionTokenSigner = new SessionTokenSigner(key, validityMillis);
+
+        return sessionTokenSigner;
+    }
+
+    /**
+     * <p>
+     * Issues a token for the account that expires after the validity time.
+     * </p>
+     *
+     * @param accountId Represents the id of the account
+     * @return The session token
+     */
+    public String sign(final long accountId) {
+        final byte[] payload = ByteBuffer.allocate(PAYLOAD_LENGTH).putLong(accountId)
+                .putLong(System.currentTimeMillis() + validityMillis).array();
+        final Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+
+        return String.join(".", encoder.encodeToString(payload), encoder.encodeToString(macs.get().doFinal(payload)));
+    }
+
+    /**
+     * <p>
+     * Gets the account of the token if the signature matches and the token hasn't expired.
+     * </p>
+     *
+     * @param token Represents the session token
+     * @return The id of the account, or {@link #INVALID_ACCOUNT} if the token isn't valid
+     */
+    public long verify(final String token) {
+        final int separator = null == token ? -1 : token.indexOf('.');
+
+        if (0 >= separator) {
+            return INVALID_ACCOUNT;
+        }
+        final byte[] payload;
+        final byte[] signature;
+
+        try {
+            final Base64.Decoder decoder = Base64.getUrlDecoder();
+
+            payload = decoder.decode(token.substring(0, separator));
+            signature = decoder.decode(token.substring(separator + 1));
+        } catch (IllegalArgumentException exception) {
+            return INVALID_ACCOUNT;
+        }
+
+        if (PAYLOAD_LENGTH != payload.length || !MessageDigest.isEqual(macs.get().doFinal(payload), signature)) {
+            return INVALID_ACCOUNT;
+        }
+        final ByteBuffer buffer = ByteBuffer.wrap(payload);
+        final long accountId = buffer.getLong();
+
+        return System.currentTimeMillis() < buffer.getLong() ? accountId : INVALID_ACCOUNT;
+    }
+
+    /**
+     * <p>
+     * Gets the time a token is valid in milliseconds.
+     * </p>
+     *
+     * @return The validity of the tokens
+     */
+    public long getValidityMillis() {
+        return validityMillis;
+    }
+
+    private Mac createMac() {
+        try {
+            final Mac mac = Mac.getInstance(ALGORITHM);
+
+            mac.init(key);
+
+            return mac;
+        } catch (NoSuchAlgorithmException | InvalidKeyException message) {
+            throw new SessionKeyException(message.getMessage());
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package org.swiggy.common.bloomfilter;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Tells whether a string may have been added, with no false negatives and a bounded rate of false positives.
+ * </p>
+ *
+ * <p>
+ * The bits are sized for the expected number of strings and false positive probability, and each string sets the
+ * bits picked by two 64 bit hashes combined as h1 + i * h2. The strings can't be removed, and the false positive
+ * rate rises past the expected one once more strings are added than the filter was sized for. Adding and checking
+ * are safe from any number of threads and take no lock.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class BloomFilter {
+
+    private static final double LN_2 = Math.log(2);
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final LongAdder insertionCount;
+
+    /**
+     * <p>
+     * Creates the bloom filter.
+     * </p>
+     *
+     * @param expectedInsertions Represents the number of strings the filter is sized for
+     * @param falsePositiveProbability Represents the false positive probability at the expected number of strings
+     */
+    public BloomFilter(final long expectedInsertions, final double falsePositiveProbability) {
+        if (0 >= expectedInsertions || 0 >= falsePositiveProbability || 1 <= falsePositiveProbability) {
+            throw new IllegalArgumentException("The expected insertions and false positive probability are invalid");
+        }
+        final long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability)
+                / (LN_2 * LN_2));
+        final int wordCount = (int) Math.min(Integer.MAX_VALUE, (optimalBits + Long.SIZE - 1) / Long.SIZE);
+
+        bits = new AtomicLongArray(wordCount);
+        bitCount = (long) wordCount * Long.SIZE;
+        hashCount = (int) Math.max(1, Math.round((double) bitCount / expectedInsertions * LN_2));
+        insertionCount = new LongAdder();
+    }
+
+    /**
+     * <p>
+     * Adds the string to the filter.
+     * </p>
+     *
+     * @param value Represents the string to add
+     */
+    public void put(final String value) {
+        final long hash = hash(value);
+        final long secondHash = mix(hash) | 1;
+
+        for (int index = 0; index < hashCount; index++) {
+            final long bit = Long.remainderUnsigned(hash + index * secondHash, bitCount);
+            final int word = (int) (bit >>> 6);
+            final long mask = 1L << bit;
+            long current = bits.get(word);
+
+            while (0 == (current & mask) && !bits.weakCompareAndSetVolatile(word, current, current | mask)) {
+                current = bits.get(word);
+            }
+        }
+        insertionCount.increment();
+    }
+
+    /**
+     * <p>
+     * Checks whether the string may have been added.
+     * </p>
+     *
+     * @param value Represents the string to check
+     * @return False if the string was surely never added, true if it may have been
+     */
+    public boolean mightContain(final String value) {
+        final long hash = hash(value);
+        final long secondHash = mix(hash) | 1;
+
+        for (int index = 0; index < hashCount; index++) {
+            final long bit = Long.remainderUnsigned(hash + index * secondHash, bitCount);
+
+            if (0 == (bits.get((int) (bit >>> 6)) & 1L << bit)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Gets the false positive probability expected for the strings added so far.
+     * </p>
+     *
+     * @return The expected false positive probability
+     */
+    public double getExpectedFalsePositiveProbability() {
+        return Math.pow(1 - Math.exp(-hashCount * (double) insertionCount.sum() / bitCount), hashCount);
+    }
+
+    public long getBitCount() {
+        return bitCount;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    public long getInsertionCount() {
+        return insertionCount.sum();
+    }
+
+    /**
+     * <p>
+     * Hashes the characters of the string with 64 bit fnv-1a and spreads the result.
+     * </p>
+     */
+    private static long hash(final String value) {
+        long hash = 0xcbf29ce484222325L;
+
+        for (int index = 0; index < value.length(); index++) {
+            hash = (hash ^ value.charAt(index)) * 0x100000001b3L;
+        }
+
+        return mix(hash);
+    }
+
+    /**
+     * <p>
+     * Mixes the bits of the hash with the finalizer of murmur3.
+     * </p>
+     */
+    private static long mix(long hash) {
+        hash = (hash ^ hash >>> 33) * 0xff51afd7ed558ccdL;
+        hash = (hash ^ hash >>> 33) * 0xc4ceb9fe1a85ec53L;
+
+        return hash ^ hash >>> 33;
+    }
+}
@@ -0,0 +1,119 @@
+package org.swiggy.common.bloomfilter;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * <p>
+ * Checks whether the unique values of the accounts, such as their phone numbers and email ids, are already taken,
+ * reading the database only when the value may be taken.
+ * </p>
+ *
+ * <p>
+ * The values of the stored accounts are added to a {@link BloomFilter} when it is warmed, and each new value when
+ * it is stored. Once warmed, a value the filter has never seen is free without a query, and any other value is
+ * checked by the exact lookup, as the filter may give false positives. Until the warm up completes, every value is
+ * checked by the exact lookup. The values stored by another node are only seen by the exact lookup, so the unique
+ * constraints of the database stay the final check.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class UniquenessFilter {
+
+    private final BloomFilter bloomFilter;
+    private final LongAdder checkCount;
+    private final LongAdder skippedLookupCount;
+    private final LongAdder falsePositiveCount;
+    private final LongAdder takenCount;
+    private volatile boolean isWarmed;
+
+    /**
+     * <p>
+     * Creates the uniqueness filter.
+     * </p>
+     *
+     * @param expectedValues Represents the number of values the filter is sized for
+     * @param falsePositiveProbability Represents the false positive probability at the expected number of values
+     */
+    public UniquenessFilter(final long expectedValues, final double falsePositiveProbability) {
+        bloomFilter = new BloomFilter(expectedValues, falsePositiveProbability);
+        checkCount = new LongAdder();
+        skippedLookupCount = new LongAdder();
+        falsePositiveCount = new LongAdder();
+        takenCount = new LongAdder();
+    }
+
+    /**
+     * <p>
+     * Adds all the stored values read by the reader, after which the values the filter has never seen are known to
+     * be free.
+     * </p>
+     *
+     * @param reader Reads the stored values and passes each of them to the given consumer
+     */
+    public void warm(final Consumer<Consumer<String>> reader) {
+        reader.accept(bloomFilter::put);
+        isWarmed = true;
+    }
+
+    /**
+     * <p>
+     * Adds the value of a stored account.
+     * </p>
+     *
+     * @param value Represents the stored value
+     */
+    public void add(final String value) {
+        if (null != value) {
+            bloomFilter.put(value);
+        }
+    }
+
+    /**
+     * <p>
+     * Checks whether the value is taken, using the exact lookup only when the filter may contain it.
+     * </p>
+     *
+     * @param value Represents the value to check
+     * @param lookup Checks exactly whether the value is stored
+     * @return True if the value is taken, false otherwise
+     */
+    public boolean isTaken(final String value, final Predicate<String> lookup) {
+        checkCount.increment();
+
+        if (isWarmed && !bloomFilter.mightContain(value)) {
+            skippedLookupCount.increment();
+
+            return false;
+        }
+        final boolean isTaken = lookup.test(value);
+
+        if (isTaken) {
+            takenCount.increment();
+        } else if (isWarmed) {
+            falsePositiveCount.increment();
+        }
+
+        return isTaken;
+    }
+
+    public boolean isWarmed() {
+        return isWarmed;
+    }
+
+    /**
+     * <p>
+     * Gets a snapshot of the filter metrics.
+     * </p>
+     *
+     * @return The uniqueness statistics
+     */
+    public UniquenessStatistics getStatistics() {
+        return new UniquenessStatistics(isWarmed, bloomFilter.getInsertionCount(), bloomFilter.getBitCount(),
+                bloomFilter.getHashCount(), bloomFilter.getExpectedFalsePositiveProbability(), checkCount.sum(),
+                skippedLookupCount.sum(), falsePositiveCount.sum(), takenCount.sum());
+    }
+}
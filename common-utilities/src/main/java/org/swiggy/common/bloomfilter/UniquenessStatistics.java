@@ -0,0 +1,80 @@
+package org.swiggy.common.bloomfilter;
+
+/**
+ * <p>
+ * Represents a point in time snapshot of the checks served by a uniqueness filter.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class UniquenessStatistics {
+
+    private final boolean isWarmed;
+    private final long valueCount;
+    private final long bitCount;
+    private final int hashCount;
+    private final double expectedFalsePositiveProbability;
+    private final long checkCount;
+    private final long skippedLookupCount;
+    private final long falsePositiveCount;
+    private final long takenCount;
+
+    public UniquenessStatistics(final boolean isWarmed, final long valueCount, final long bitCount,
+                                final int hashCount, final double expectedFalsePositiveProbability,
+                                final long checkCount, final long skippedLookupCount,
+                                final long falsePositiveCount, final long takenCount) {
+        this.isWarmed = isWarmed;
+        this.valueCount = valueCount;
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+        this.expectedFalsePositiveProbability = expectedFalsePositiveProbability;
+        this.checkCount = checkCount;
+        this.skippedLookupCount = skippedLookupCount;
+        this.falsePositiveCount = falsePositiveCount;
+        this.takenCount = takenCount;
+    }
+
+    public boolean isWarmed() {
+        return isWarmed;
+    }
+
+    public long getValueCount() {
+        return valueCount;
+    }
+
+    public long getBitCount() {
+        return bitCount;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    public double getExpectedFalsePositiveProbability() {
+        return expectedFalsePositiveProbability;
+    }
+
+    public long getCheckCount() {
+        return checkCount;
+    }
+
+    public long getSkippedLookupCount() {
+        return skippedLookupCount;
+    }
+
+    public long getFalsePositiveCount() {
+        return falsePositiveCount;
+    }
+
+    public long getTakenCount() {
+        return takenCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("warmed=%b values=%d bits=%d hashes=%d expectedFpp=%.4f checks=%d skippedLookups=%d "
+                        + "falsePositives=%d taken=%d", isWarmed, valueCount, bitCount, hashCount,
+                expectedFalsePositiveProbability, checkCount, skippedLookupCount, falsePositiveCount, takenCount);
+    }
+}
@@ -0,0 +1,76 @@
+package org.swiggy.common.cache;
+
+/**
+ * <p>
+ * Represents a point in time snapshot of the usage and load metrics of a cache.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class CacheStatistics {
+
+    private final int size;
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long invalidationCount;
+    private final long totalLoadNanos;
+    private final long maximumLoadNanos;
+
+    public CacheStatistics(final int size, final long hitCount, final long missCount, final long evictionCount,
+                           final long invalidationCount, final long totalLoadNanos, final long maximumLoadNanos) {
+        this.size = size;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.invalidationCount = invalidationCount;
+        this.totalLoadNanos = totalLoadNanos;
+        this.maximumLoadNanos = maximumLoadNanos;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public double getHitRatio() {
+        final long requestCount = hitCount + missCount;
+
+        return 0 == requestCount ? 0 : (double) hitCount / requestCount;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public long getInvalidationCount() {
+        return invalidationCount;
+    }
+
+    public long getTotalLoadNanos() {
+        return totalLoadNanos;
+    }
+
+    public long getMaximumLoadNanos() {
+        return maximumLoadNanos;
+    }
+
+    public double getAverageLoadNanos() {
+        return 0 == missCount ? 0 : (double) totalLoadNanos / missCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("size=%d hits=%d misses=%d hitRatio=%.3f evictions=%d invalidations=%d "
+                        + "avgLoadMicros=%.1f maxLoadMicros=%d", size, hitCount, missCount, getHitRatio(),
+                evictionCount, invalidationCount, getAverageLoadNanos() / 1000, maximumLoadNanos / 1000);
+    }
+}
@@ -0,0 +1,205 @@
+package org.swiggy.common.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * <p>
+ * Caches the values loaded from the database by their key, such as the profile of a user or the credential of a
+ * login identifier.
+ * </p>
+ *
+ * <p>
+ * A value is kept for the time to live and the cache holds a bounded number of values, dropping the least recently
+ * used one when full. The writes go through the cache: once the database accepts a change, the cached value is
+ * either replaced by the changed copy, so the next read sees the write without loading it again, or invalidated.
+ * A load that overlaps a write is returned to its caller but not kept. The cached values are shared by the readers
+ * and are never changed in place, so the callers must not change them either. The expired values are counted as
+ * evictions.
+ * </p>
+ *
+ * @param <K> Represents the type of the key
+ * @param <V> Represents the type of the cached value
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class ExpiringCache<K, V> {
+
+    private final long timeToLiveNanos;
+    private final Map<K, CacheEntry<V>> entries;
+    private final LongAdder hitCount;
+    private final LongAdder missCount;
+    private final LongAdder evictionCount;
+    private final LongAdder invalidationCount;
+    private final LongAdder totalLoadNanos;
+    private final AtomicLong maximumLoadNanos;
+    private long version;
+
+    /**
+     * <p>
+     * Creates the expiring cache.
+     * </p>
+     *
+     * @param maximumSize Represents the maximum number of values kept
+     * @param timeToLiveMillis Represents the time a value is kept in milliseconds
+     */
+    public ExpiringCache(final int maximumSize, final long timeToLiveMillis) {
+        timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(timeToLiveMillis);
+        hitCount = new LongAdder();
+        missCount = new LongAdder();
+        evictionCount = new LongAdder();
+        invalidationCount = new LongAdder();
+        totalLoadNanos = new LongAdder();
+        maximumLoadNanos = new AtomicLong();
+        entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, CacheEntry<V>> eldest) {
+                final boolean isFull = maximumSize < size();
+
+                if (isFull) {
+                    evictionCount.increment();
+                }
+
+                return isFull;
+            }
+        };
+    }
+
+    /**
+     * <p>
+     * Gets the value of the key from the cache, loading and keeping it on a miss.
+     * </p>
+     *
+     * @param key Represents the key of the value
+     * @param loader Loads the value from the database, giving null when there is no value to keep
+     * @return The value of the key, or null if there is no such value
+     */
+    public V get(final K key, final Supplier<V> loader) {
+        final long loadVersion;
+
+        synchronized (this) {
+            final CacheEntry<V> entry = entries.get(key);
+
+            if (null != entry) {
+                if (0 > System.nanoTime() - entry.getExpiresAt()) {
+                    hitCount.increment();
+
+                    return entry.getValue();
+                }
+                entries.remove(key);
+                evictionCount.increment();
+            }
+            loadVersion = version;
+        }
+        missCount.increment();
+        final long startTime = System.nanoTime();
+        final V value = loader.get();
+        final long loadNanos = System.nanoTime() - startTime;
+
+        totalLoadNanos.add(loadNanos);
+        maximumLoadNanos.accumulateAndGet(loadNanos, Math::max);
+
+        if (null != value) {
+            synchronized (this) {
+                if (loadVersion == version) {
+                    entries.put(key, new CacheEntry<>(value, System.nanoTime() + timeToLiveNanos));
+                }
+            }
+        }
+
+        return value;
+    }
+
+    /**
+     * <p>
+     * Replaces the cached value of the key by the changed copy, after the change is written to the database.
+     * </p>
+     *
+     * @param key Represents the key of the value
+     * @param writer Gives the changed copy of the cached value without changing it
+     */
+    public synchronized void write(final K key, final UnaryOperator<V> writer) {
+        version++;
+        invalidationCount.increment();
+        final CacheEntry<V> entry = entries.get(key);
+
+        if (null != entry) {
+            entries.put(key, new CacheEntry<>(writer.apply(entry.getValue()), entry.getExpiresAt()));
+        }
+    }
+
+    /**
+     * <p>
+     * Removes the value of the key from the cache.
+     * </p>
+     *
+     * @param key Represents the key of the value
+     */
+    public synchronized void invalidate(final K key) {
+        version++;
+        invalidationCount.increment();
+        entries.remove(key);
+    }
+
+    /**
+     * <p>
+     * Removes the cached values matching the filter, when a change isn't known by its key.
+     * </p>
+     *
+     * @param filter Matches the values to remove
+     */
+    public synchronized void invalidateValues(final Predicate<V> filter) {
+        version++;
+        invalidationCount.increment();
+        final Iterator<CacheEntry<V>> iterator = entries.values().iterator();
+
+        while (iterator.hasNext()) {
+            if (filter.test(iterator.next().getValue())) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Gets a snapshot of the cache metrics, counting the writes with the invalidations.
+     * </p>
+     *
+     * @return The cache statistics
+     */
+    public synchronized CacheStatistics getStatistics() {
+        return new CacheStatistics(entries.size(), hitCount.sum(), missCount.sum(), evictionCount.sum(),
+                invalidationCount.sum(), totalLoadNanos.sum(), maximumLoadNanos.get());
+    }
+
+    /**
+     * <p>
+     * Holds a cached value and the time it expires.
+     * </p>
+     */
+    private static class CacheEntry<V> {
+
+        private final V value;
+        private final long expiresAt;
+
+        private CacheEntry(final V value, final long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private V getValue() {
+            return value;
+        }
+
+        private long getExpiresAt() {
+            return expiresAt;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package org.swiggy.common.exception;
+
+import org.swiggy.exception.customexception.UserException;
+
+/**
+ * <p>
+ * Handles the exception of the session token key that can't be used for signing.
+ * </p>
+ */
+public class SessionKeyException extends UserException {
+    public SessionKeyException(final String message) {
+        super(message);
+    }
+}
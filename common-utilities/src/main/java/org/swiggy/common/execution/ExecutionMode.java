@@ -0,0 +1,42 @@
+package org.swiggy.common.execution;
+
+/**
+ * <p>
+ * Defines the threads the rest resource methods are invoked on.
+ * </p>
+ *
+ * <p>
+ * TRANSPORT invokes them on the thread of the http transport. PLATFORM hands them to a bounded pool of platform
+ * threads and VIRTUAL starts a virtual thread per request, falling back to PLATFORM on a runtime without
+ * virtual threads.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public enum ExecutionMode {
+    TRANSPORT,
+    PLATFORM,
+    VIRTUAL;
+
+    /**
+     * <p>
+     * Gets the execution mode of the given name, ignoring the case.
+     * </p>
+     *
+     * @param name Represents the name of the execution mode
+     * @return The execution mode, or TRANSPORT when the name is missing or unknown
+     */
+    public static ExecutionMode getModeByName(final String name) {
+        if (null != name) {
+            for (final ExecutionMode mode : values()) {
+
+                if (mode.name().equalsIgnoreCase(name.trim())) {
+                    return mode;
+                }
+            }
+        }
+
+        return TRANSPORT;
+    }
+}
@@ -0,0 +1,178 @@
+package org.swiggy.common.execution;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>
+ * Creates the executors of the {@link ExecutionMode}s.
+ * </p>
+ *
+ * <p>
+ * The bundles are compiled for java 17, so the virtual thread executor is looked up reflectively and is only
+ * available when the container runs on java 21 or later. The platform pool queues a bounded number of tasks and
+ * runs the task on the submitting thread when the queue is full, which slows the callers down instead of
+ * rejecting their requests.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class ExecutorFactory {
+
+    private static final int QUEUE_CAPACITY_PER_THREAD = 16;
+    private static final long KEEP_ALIVE_SECONDS = 60;
+    private static ExecutorFactory executorFactory;
+    private final Logger logger;
+
+    private ExecutorFactory() {
+        logger = LogManager.getLogger(ExecutorFactory.class);
+    }
+
+    /**
+     * <p>
+     * Gets the object of the executor factory class.
+     * </p>
+     *
+     * @return The executor factory object
+     */
+    public static synchronized ExecutorFactory getInstance() {
+        if (null == executorFactory) {
+            executorFactory = new ExecutorFactory();
+        }
+
+        return executorFactory;
+    }
+
+    /**
+     * <p>
+     * Creates the executor of the given execution mode.
+     * </p>
+     *
+     * @param mode Represents the execution mode
+     * @param platformThreads Represents the size of the platform pool
+     * @param name Represents the prefix of the thread names
+     * @return The executor, or null for the TRANSPORT mode
+     */
+    public ExecutorService createExecutor(final ExecutionMode mode, final int platformThreads, final String name) {
+        switch (mode) {
+            case VIRTUAL:
+                final ExecutorService virtualExecutor = createVirtualExecutor();
+
+                if (null != virtualExecutor) {
+                    return virtualExecutor;
+                }
+                logger.warn("Virtual threads are not supported by this runtime, using the platform thread pool");
+
+                return createPlatformExecutor(platformThreads, name);
+            case PLATFORM:
+                return createPlatformExecutor(platformThreads, name);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * <p>
+     * Checks whether the runtime supports virtual threads.
+     * </p>
+     *
+     * @return True if virtual threads are supported, false otherwise
+     */
+    public boolean isVirtualThreadSupported() {
+        final ExecutorService virtualExecutor = createVirtualExecutor();
+
+        if (null == virtualExecutor) {
+            return false;
+        }
+        virtualExecutor.shutdown();
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Creates a bounded pool of platform threads that runs the task on the submitting thread when its queue is full.
+     * </p>
+     *
+     * @param platformThreads Represents the number of threads
+     * @param name Represents the prefix of the thread names
+     * @return The executor
+     */
+    public ExecutorService createPlatformExecutor(final int platformThreads, final String name) {
+        final int threads = Math.max(1, platformThreads);
+
+        return createPool(threads, threads * QUEUE_CAPACITY_PER_THREAD, name,
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * <p>
+     * Creates a bounded pool of platform threads that rejects the task when its queue is full, for callers that
+     * must never run the task themselves.
+     * </p>
+     *
+     * @param threads Represents the number of threads
+     * @param queueCapacity Represents the number of tasks waiting for a thread
+     * @param name Represents the prefix of the thread names
+     * @return The executor
+     */
+    public ExecutorService createBoundedExecutor(final int threads, final int queueCapacity, final String name) {
+        return createPool(Math.max(1, threads), Math.max(1, queueCapacity), name,
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * <p>
+     * Creates a fixed pool of daemon threads with a bounded queue.
+     * </p>
+     *
+     * @param threads Represents the number of threads
+     * @param queueCapacity Represents the number of tasks waiting for a thread
+     * @param name Represents the prefix of the thread names
+     * @param rejectionHandler Handles the tasks submitted while the queue is full
+     * @return The executor
+     */
+    private ExecutorService createPool(final int threads, final int queueCapacity, final String name,
+                                       final RejectedExecutionHandler rejectionHandler) {
+        final AtomicInteger threadCount = new AtomicInteger();
+        final ThreadFactory threadFactory = runnable -> {
+            final Thread thread = new Thread(runnable, String.join("-", name,
+                    String.valueOf(threadCount.incrementAndGet())));
+
+            thread.setDaemon(true);
+
+            return thread;
+        };
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity), threadFactory, rejectionHandler);
+
+        executor.allowCoreThreadTimeOut(true);
+
+        return executor;
+    }
+
+    /**
+     * <p>
+     * Creates an executor that starts a virtual thread per task.
+     * </p>
+     *
+     * @return The executor, or null when the runtime has no virtual threads
+     */
+    private ExecutorService createVirtualExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException message) {
+            return null;
+        }
+    }
+}
@@ -1,24 +1,31 @@
 package org.swiggy.common.hashgenerator;
 
-import org.swiggy.common.exception.HashAlgorithmNotFoundException;
-
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-
 /**
  * <p>
  * Provides hashed password for security purposes.
  * </p>
  *
+ * <p>
+ * The new passwords are hashed by the configured {@link PasswordHasher}, the unsalted SHA-256 of the passwords
+ * stored so far unless PBKDF2 is configured. A given password is checked by the hasher that made the stored hash,
+ * so the old hashes keep working after the hasher is changed.
+ * </p>
+ *
  * @author Muthu kumar V
  * @version 1.0
  */
 public class PasswordHashGenerator {
 
+    public static final String SHA_256 = "sha256";
+    public static final String PBKDF2 = "pbkdf2";
     private static PasswordHashGenerator passwordHashGenerator;
+    private final Sha256PasswordHasher sha256PasswordHasher;
+    private volatile PasswordHasher passwordHasher;
+    private volatile Pbkdf2PasswordHasher pbkdf2PasswordHasher;
 
     private PasswordHashGenerator() {
+        sha256PasswordHasher = new Sha256PasswordHasher();
+        passwordHasher = sha256PasswordHasher;
     }
 
     /**
@@ -28,7 +35,7 @@ public class PasswordHashGenerator {
      *
      * @return The password generator object
      */
-    public static PasswordHashGenerator getInstance() {
+    public static synchronized PasswordHashGenerator getInstance() {
         if (null == passwordHashGenerator) {
             passwordHashGenerator = new PasswordHashGenerator();
         }
@@ -36,6 +43,25 @@ public class PasswordHashGenerator {
         return passwordHashGenerator;
     }
 
+    /**
+     * <p>
+     * Sets the hasher of the new passwords by its name.
+     * </p>
+     *
+     * @param name Represents the name of the hasher, sha256 or pbkdf2, or null for sha256
+     * @param iterations Represents the number of iterations of pbkdf2
+     */
+    public synchronized void configure(final String name, final int iterations) {
+        if (null == name || name.isBlank() || SHA_256.equalsIgnoreCase(name.trim())) {
+            passwordHasher = sha256PasswordHasher;
+        } else if (PBKDF2.equalsIgnoreCase(name.trim())) {
+            pbkdf2PasswordHasher = new Pbkdf2PasswordHasher(iterations);
+            passwordHasher = pbkdf2PasswordHasher;
+        } else {
+            throw new IllegalArgumentException(String.join(" ", "Unknown password hasher", name));
+        }
+    }
+
     /**
      * <p>
      * Hashes and returns the password.
@@ -45,19 +71,42 @@ public class PasswordHashGenerator {
      * @return The hashed password
      */
     public String hashPassword(final String password) {
-        try {
-            final MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
-            final byte[] encodedHash = messageDigest.digest(password.getBytes(StandardCharsets.UTF_8));
+        return passwordHasher.hash(password);
+    }
 
-            final StringBuilder hashString = new StringBuilder();
+    /**
+     * <p>
+     * Checks the password against the stored hash with the hasher that made it.
+     * </p>
+     *
+     * @param password Represents the given password
+     * @param storedHash Represents the stored hash of the password
+     * @return True if the password matches, false otherwise
+     */
+    public boolean matches(final String password, final String storedHash) {
+        if (null == password || null == storedHash) {
+            return false;
+        }
 
-            for (final byte hashByte : encodedHash) {
-                hashString.append(String.format("%02x", hashByte));
-            }
+        if (sha256PasswordHasher.isHashOf(storedHash)) {
+            return sha256PasswordHasher.matches(password, storedHash);
+        }
+
+        return getPbkdf2PasswordHasher().matches(password, storedHash);
+    }
 
-            return hashString.substring(0, 25);
-        } catch (NoSuchAlgorithmException message) {
-            throw new HashAlgorithmNotFoundException(message.getMessage());
+    private Pbkdf2PasswordHasher getPbkdf2PasswordHasher() {
+        Pbkdf2PasswordHasher hasher = pbkdf2PasswordHasher;
+
+        if (null == hasher) {
+            synchronized (this) {
+                if (null == pbkdf2PasswordHasher) {
+                    pbkdf2PasswordHasher = new Pbkdf2PasswordHasher(Pbkdf2PasswordHasher.DEFAULT_ITERATIONS);
+                }
+                hasher = pbkdf2PasswordHasher;
+            }
         }
+
+        return hasher;
     }
-}
\ No newline at end of file
+}
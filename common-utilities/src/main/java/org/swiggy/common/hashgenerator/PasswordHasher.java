@@ -0,0 +1,43 @@
+package org.swiggy.common.hashgenerator;
+
+/**
+ * <p>
+ * Hashes the passwords to be stored and checks the given passwords against the stored hashes.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public interface PasswordHasher {
+
+    /**
+     * <p>
+     * Hashes the password into the form that is stored.
+     * </p>
+     *
+     * @param password Represents the password
+     * @return The stored form of the hash
+     */
+    String hash(final String password);
+
+    /**
+     * <p>
+     * Checks the password against the stored hash, in a time that doesn't depend on where they differ.
+     * </p>
+     *
+     * @param password Represents the given password
+     * @param storedHash Represents the stored form of the hash
+     * @return True if the password matches, false otherwise
+     */
+    boolean matches(final String password, final String storedHash);
+
+    /**
+     * <p>
+     * Tells whether the stored hash was made by this hasher.
+     * </p>
+     *
+     * @param storedHash Represents the stored form of the hash
+     * @return True if this hasher can check the hash, false otherwise
+     */
+    boolean isHashOf(final String storedHash);
+}
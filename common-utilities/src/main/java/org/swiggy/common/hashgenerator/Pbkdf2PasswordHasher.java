@@ -0,0 +1,134 @@
+package org.swiggy.common.hashgenerator;
+
+import org.swiggy.common.exception.HashAlgorithmNotFoundException;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.security.spec.InvalidKeySpecException;
+import java.util.Base64;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+/**
+ * <p>
+ * Hashes the passwords with PBKDF2-HMAC-SHA256, a random salt per password and a tunable number of iterations.
+ * </p>
+ *
+ * <p>
+ * The hash is stored as pbkdf2-sha256$iterations$salt$key with the salt and key in base64, 87 characters for the
+ * default sizes. A stored hash is checked with the iterations it was made with, so raising the work factor only
+ * applies to the passwords hashed afterwards.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class Pbkdf2PasswordHasher implements PasswordHasher {
+
+    public static final int DEFAULT_ITERATIONS = 600000;
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final String NAME = "pbkdf2-sha256";
+    private static final String PREFIX = NAME + "$";
+    private static final int SALT_LENGTH = 16;
+    private static final int KEY_LENGTH = 32;
+    private final int iterations;
+    private final SecureRandom secureRandom;
+    private final SecretKeyFactory secretKeyFactory;
+
+    /**
+     * <p>
+     * Creates the hasher with the given work factor.
+     * </p>
+     *
+     * @param iterations Represents the number of iterations of the new hashes
+     */
+    public Pbkdf2PasswordHasher(final int iterations) {
+        if (0 >= iterations) {
+            throw new IllegalArgumentException("The iterations must be positive");
+        }
+        this.iterations = iterations;
+        secureRandom = new SecureRandom();
+
+        try {
+            secretKeyFactory = SecretKeyFactory.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException message) {
+            throw new HashAlgorithmNotFoundException(message.getMessage());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param password Represents the password
+     * @return The iterations, salt and key of the hash
+     */
+    @Override
+    public String hash(final String password) {
+        final byte[] salt = new byte[SALT_LENGTH];
+
+        secureRandom.nextBytes(salt);
+        final Base64.Encoder encoder = Base64.getEncoder().withoutPadding();
+
+        return String.join("$", NAME, String.valueOf(iterations),
+                encoder.encodeToString(salt), encoder.encodeToString(derive(password, salt, iterations)));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param password Represents the given password
+     * @param storedHash Represents the stored form of the hash
+     * @return True if the password matches, false otherwise
+     */
+    @Override
+    public boolean matches(final String password, final String storedHash) {
+        if (!isHashOf(storedHash)) {
+            return false;
+        }
+        final String[] parts = storedHash.substring(PREFIX.length()).split("\\$");
+
+        if (3 != parts.length) {
+            return false;
+        }
+
+        try {
+            final int storedIterations = Integer.parseInt(parts[0]);
+            final Base64.Decoder decoder = Base64.getDecoder();
+            final byte[] key = decoder.decode(parts[2]);
+
+            return 0 < storedIterations && MessageDigest.isEqual(key,
+                    derive(password, decoder.decode(parts[1]), storedIterations));
+        } catch (IllegalArgumentException exception) {
+            return false;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param storedHash Represents the stored form of the hash
+     * @return True if the hash has the pbkdf2 prefix, false otherwise
+     */
+    @Override
+    public boolean isHashOf(final String storedHash) {
+        return null != storedHash && storedHash.startsWith(PREFIX);
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    private byte[] derive(final String password, final byte[] salt, final int keyIterations) {
+        final PBEKeySpec keySpec = new PBEKeySpec(password.toCharArray(), salt, keyIterations, KEY_LENGTH * 8);
+
+        try {
+            return secretKeyFactory.generateSecret(keySpec).getEncoded();
+        } catch (InvalidKeySpecException message) {
+            throw new HashAlgorithmNotFoundException(message.getMessage());
+        } finally {
+            keySpec.clearPassword();
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package org.swiggy.common.hashgenerator;
+
+import org.swiggy.common.exception.HashAlgorithmNotFoundException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <p>
+ * Hashes the passwords with an unsalted SHA-256, kept as the first 25 hex digits. This is the form of all the
+ * passwords stored so far.
+ * </p>
+ *
+ * <p>
+ * The digests and buffers are pooled in a few slots picked by the thread id rather than held per thread, since the
+ * requests may run on virtual threads that each live for one request. A call that finds its slot taken creates a
+ * new buffer, and only the returned string is allocated in the common case of an ascii password.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class Sha256PasswordHasher implements PasswordHasher {
+
+    private static final String ALGORITHM = "SHA-256";
+    private static final int HASH_LENGTH = 25;
+    private static final int DIGEST_LENGTH = 32;
+    private static final int INPUT_LENGTH = 64;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private final AtomicReferenceArray<HashBuffer> hashBuffers;
+    private final int slotMask;
+
+    public Sha256PasswordHasher() {
+        final int slotCount = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors()) * 4);
+
+        hashBuffers = new AtomicReferenceArray<>(slotCount);
+        slotMask = slotCount - 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param password Represents the password
+     * @return The first 25 hex digits of the SHA-256 of the password
+     */
+    @Override
+    public String hash(final String password) {
+        final HashBuffer hashBuffer = takeBuffer();
+
+        try {
+            digest(hashBuffer, password);
+
+            return new String(hashBuffer.hex);
+        } finally {
+            giveBack(hashBuffer);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param password Represents the given password
+     * @param storedHash Represents the stored form of the hash
+     * @return True if the password matches, false otherwise
+     */
+    @Override
+    public boolean matches(final String password, final String storedHash) {
+        if (null == storedHash || HASH_LENGTH != storedHash.length()) {
+            return false;
+        }
+        final HashBuffer hashBuffer = takeBuffer();
+
+        try {
+            digest(hashBuffer, password);
+            int difference = 0;
+
+            for (int index = 0; index < HASH_LENGTH; index++) {
+                difference |= hashBuffer.hex[index] ^ storedHash.charAt(index);
+            }
+
+            return 0 == difference;
+        } finally {
+            giveBack(hashBuffer);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param storedHash Represents the stored form of the hash
+     * @return True if the hash is 25 lower case hex digits, false otherwise
+     */
+    @Override
+    public boolean isHashOf(final String storedHash) {
+        if (null == storedHash || HASH_LENGTH != storedHash.length()) {
+            return false;
+        }
+
+        for (int index = 0; index < HASH_LENGTH; index++) {
+            final char digit = storedHash.charAt(index);
+
+            if ((digit < '0' || digit > '9') && (digit < 'a' || digit > 'f')) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Digests the password into the hex digits of the buffer. The ascii passwords are copied into the input of the
+     * buffer, any other password is encoded as utf-8.
+     * </p>
+     *
+     * @param hashBuffer Represents the buffer to use
+     * @param password Represents the password
+     */
+    private void digest(final HashBuffer hashBuffer, final String password) {
+        final MessageDigest messageDigest = hashBuffer.messageDigest;
+        final int length = password.length();
+        boolean isAscii = INPUT_LENGTH >= length;
+
+        for (int index = 0; isAscii && index < length; index++) {
+            final char character = password.charAt(index);
+
+            isAscii = 0x80 > character;
+            hashBuffer.input[index] = (byte) character;
+        }
+
+        if (isAscii) {
+            messageDigest.update(hashBuffer.input, 0, length);
+        } else {
+            messageDigest.update(password.getBytes(StandardCharsets.UTF_8));
+        }
+
+        try {
+            messageDigest.digest(hashBuffer.digest, 0, DIGEST_LENGTH);
+        } catch (DigestException message) {
+            throw new HashAlgorithmNotFoundException(message.getMessage());
+        }
+
+        for (int index = 0; index < HASH_LENGTH; index++) {
+            final int hashByte = hashBuffer.digest[index >> 1];
+
+            hashBuffer.hex[index] = HEX_DIGITS[0 == (index & 1) ? (hashByte >> 4) & 0xF : hashByte & 0xF];
+        }
+    }
+
+    private HashBuffer takeBuffer() {
+        final HashBuffer hashBuffer = hashBuffers.getAndSet(getSlot(), null);
+
+        return null == hashBuffer ? new HashBuffer() : hashBuffer;
+    }
+
+    private void giveBack(final HashBuffer hashBuffer) {
+        hashBuffer.messageDigest.reset();
+        hashBuffers.compareAndSet(getSlot(), null, hashBuffer);
+    }
+
+    private int getSlot() {
+        final long threadId = Thread.currentThread().getId();
+
+        return (int) (threadId ^ threadId >>> 16) & slotMask;
+    }
+
+    /**
+     * <p>
+     * Holds a digest with the buffers of one hashing.
+     * </p>
+     */
+    private static class HashBuffer {
+
+        private final MessageDigest messageDigest;
+        private final byte[] input;
+        private final byte[] digest;
+        private final char[] hex;
+
+        private HashBuffer() {
+            try {
+                messageDigest = MessageDigest.getInstance(ALGORITHM);
+            } catch (NoSuchAlgorithmException message) {
+                throw new HashAlgorithmNotFoundException(message.getMessage());
+            }
+            input = new byte[INPUT_LENGTH];
+            digest = new byte[DIGEST_LENGTH];
+            hex = new char[HASH_LENGTH];
+        }
+    }
+}
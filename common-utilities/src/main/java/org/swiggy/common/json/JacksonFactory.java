@@ -1,13 +1,20 @@
 package org.swiggy.common.json;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 import com.fasterxml.jackson.jaxrs.json.JacksonJsonProvider;
 import org.swiggy.common.exception.JacksonDataConversionException;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * <p>
  * Wraps the jackson library and the methods of jackson can be used from this class.
@@ -20,6 +27,7 @@ public class JacksonFactory {
 
     private static JacksonFactory jacksonFactory;
     private static ObjectMapper objectMapper = getObjectMapper();
+    private static final Map<JavaType, ObjectWriter> OBJECT_WRITERS = new ConcurrentHashMap<>();
 
     private JacksonFactory() {
     }
@@ -118,6 +126,62 @@ public class JacksonFactory {
         return new JsonArray(objectMapper.createArrayNode());
     }
 
+    /**
+     * <p>
+     * Creates the json stream that writes the object straight to the output stream.
+     * </p>
+     *
+     * @param object The object to be written as json
+     * @return The json stream
+     */
+    public JsonStream createStream(final Object object) {
+        if (null == object) {
+            return new JsonStream(getObjectWriter(objectMapper.constructType(Object.class)), null);
+        }
+
+        return new JsonStream(getObjectWriter(objectMapper.constructType(object.getClass())), object);
+    }
+
+    /**
+     * <p>
+     * Creates the json stream that writes the list straight to the output stream as a json array.
+     * </p>
+     *
+     * @param objects The list to be written as json
+     * @param type The type of the elements of the list
+     * @param <T> Represents the type of the elements of the list
+     * @return The json stream
+     */
+    public <T> JsonStream createStream(final List<T> objects, final Class<T> type) {
+        return new JsonStream(getObjectWriter(objectMapper.getTypeFactory().constructCollectionType(List.class,
+                type)), objects);
+    }
+
+    /**
+     * <p>
+     * Gets the shared writer of the type, for the streams writing the objects one by one as they are read.
+     * </p>
+     *
+     * @param type The type to be written
+     * @return The object writer of the type
+     */
+    public ObjectWriter getObjectWriter(final Class<?> type) {
+        return getObjectWriter(objectMapper.constructType(type));
+    }
+
+    /**
+     * <p>
+     * Gets the writer of the type, creating it once and sharing it afterwards.
+     * </p>
+     *
+     * @param type The type to be written
+     * @return The object writer of the type
+     */
+    private ObjectWriter getObjectWriter(final JavaType type) {
+        return OBJECT_WRITERS.computeIfAbsent(type, javaType -> objectMapper.writerFor(javaType)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET));
+    }
+
     public JacksonJsonProvider getJsonProvider() {
         return new JacksonJsonProvider();
     }
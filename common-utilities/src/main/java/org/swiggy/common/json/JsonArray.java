@@ -55,6 +55,17 @@ public class JsonArray {
         return JACKSON_WRAPPER.asByteArray(arrayNode);
     }
 
+    /**
+     * <p>
+     * Gets the array node as a json stream.
+     * </p>
+     *
+     * @return The json stream of array node
+     */
+    public JsonStream asStream() {
+        return JACKSON_WRAPPER.createStream(arrayNode);
+    }
+
     /**
      * <p>
      * Adds the json object to the array node.
@@ -70,6 +70,17 @@ public class JsonObject {
         return JACKSON_WRAPPER.asByteArray(objectNode);
     }
 
+    /**
+     * <p>
+     * Gets the object node as a json stream.
+     * </p>
+     *
+     * @return The json stream of object node
+     */
+    public JsonStream asStream() {
+        return JACKSON_WRAPPER.createStream(objectNode);
+    }
+
     /**
      * <p>
      * Gets the object node as text.
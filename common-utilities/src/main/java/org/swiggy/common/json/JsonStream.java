@@ -0,0 +1,63 @@
+package org.swiggy.common.json;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import javax.ws.rs.core.StreamingOutput;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.swiggy.common.exception.JacksonDataConversionException;
+
+/**
+ * <p>
+ * Writes an object as json straight to the output stream, without building a json node tree first.
+ * </p>
+ *
+ * <p>
+ * Rest controllers can return it directly, and the response is serialized while it is sent. The writer is
+ * shared by all the objects of the same type, see {@link JacksonFactory#createStream(Object)}.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class JsonStream implements StreamingOutput {
+
+    private final ObjectWriter objectWriter;
+    private final Object value;
+
+    JsonStream(final ObjectWriter objectWriter, final Object value) {
+        this.objectWriter = objectWriter;
+        this.value = value;
+    }
+
+    /**
+     * <p>
+     * Writes the object as json to the output stream, leaving the stream open.
+     * </p>
+     *
+     * @param outputStream Represents the output stream of the response
+     * @throws IOException if the json can't be written
+     */
+    @Override
+    public void write(final OutputStream outputStream) throws IOException {
+        objectWriter.writeValue(outputStream, value);
+    }
+
+    /**
+     * <p>
+     * Converts the object into the byte array of json.
+     * </p>
+     *
+     * @return The byte array of json
+     */
+    public byte[] asBytes() {
+        try {
+            return objectWriter.writeValueAsBytes(value);
+        } catch (JsonProcessingException exception) {
+            throw new JacksonDataConversionException(exception.getMessage());
+        }
+    }
+}
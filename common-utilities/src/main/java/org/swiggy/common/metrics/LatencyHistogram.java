@@ -0,0 +1,140 @@
+package org.swiggy.common.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Records latencies into a fixed set of log linear buckets in the way of an HDR histogram, so the percentiles
+ * are read with a bounded relative error while recording stays a single atomic increment without allocation.
+ * </p>
+ *
+ * <p>
+ * Latencies are recorded in microseconds. Values below 128 microseconds get a bucket each and every power of two
+ * above is split into 64 buckets, which keeps the relative error of a percentile under 1.6 percent up to the
+ * highest trackable value of a little over an hour. Larger values are recorded as the highest trackable value.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_COUNT = 128;
+    private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT / 2;
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int HIGHEST_TRACKABLE_BITS = 32;
+    private static final long HIGHEST_TRACKABLE_VALUE = (1L << HIGHEST_TRACKABLE_BITS) - 1;
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT
+            + (HIGHEST_TRACKABLE_BITS - SUB_BUCKET_BITS - 1) * SUB_BUCKET_HALF_COUNT;
+    private final AtomicLongArray counts;
+    private final LongAdder totalCount;
+    private final LongAdder totalMicros;
+    private final AtomicLong maximumMicros;
+
+    public LatencyHistogram() {
+        counts = new AtomicLongArray(BUCKET_COUNT);
+        totalCount = new LongAdder();
+        totalMicros = new LongAdder();
+        maximumMicros = new AtomicLong();
+    }
+
+    /**
+     * <p>
+     * Records the given latency.
+     * </p>
+     *
+     * @param nanos Represents the latency in nanoseconds
+     */
+    public void record(final long nanos) {
+        final long micros = Math.min(Math.max(nanos / 1000, 0), HIGHEST_TRACKABLE_VALUE);
+
+        counts.incrementAndGet(getBucketIndex(micros));
+        totalCount.increment();
+        totalMicros.add(micros);
+        maximumMicros.accumulateAndGet(micros, Math::max);
+    }
+
+    /**
+     * <p>
+     * Gets the latency below which the given percentage of the recorded latencies fall.
+     * </p>
+     *
+     * @param percentile Represents the percentile between 0 and 100
+     * @return The latency in microseconds, or 0 when nothing is recorded
+     */
+    public long getValueAtPercentile(final double percentile) {
+        final long[] snapshot = new long[BUCKET_COUNT];
+        long count = 0;
+
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            snapshot[index] = counts.get(index);
+            count += snapshot[index];
+        }
+
+        if (0 == count) {
+            return 0;
+        }
+        final long targetCount = Math.max(1, (long) Math.ceil(Math.min(percentile, 100) / 100 * count));
+        long cumulativeCount = 0;
+
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            cumulativeCount += snapshot[index];
+
+            if (cumulativeCount >= targetCount) {
+                return Math.min(getHighestEquivalentValue(index), maximumMicros.get());
+            }
+        }
+
+        return maximumMicros.get();
+    }
+
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    public long getTotalMicros() {
+        return totalMicros.sum();
+    }
+
+    public long getMaximumMicros() {
+        return maximumMicros.get();
+    }
+
+    /**
+     * <p>
+     * Gets the index of the bucket the given value is counted in.
+     * </p>
+     *
+     * @param micros Represents the latency in microseconds
+     * @return The index of the bucket
+     */
+    private int getBucketIndex(final long micros) {
+        if (micros < SUB_BUCKET_COUNT) {
+            return (int) micros;
+        }
+        final int shift = 63 - Long.numberOfLeadingZeros(micros) - SUB_BUCKET_BITS;
+
+        return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF_COUNT
+                + (int) (micros >> shift) - SUB_BUCKET_HALF_COUNT;
+    }
+
+    /**
+     * <p>
+     * Gets the highest value counted in the given bucket.
+     * </p>
+     *
+     * @param index Represents the index of the bucket
+     * @return The highest value of the bucket in microseconds
+     */
+    private long getHighestEquivalentValue(final int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        final int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF_COUNT + 1;
+        final long subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_HALF_COUNT + SUB_BUCKET_HALF_COUNT;
+
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,54 @@
+package org.swiggy.common.metrics;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <p>
+ * Exposes the collected metrics for scraping by prometheus.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+@Path("/metrics")
+public class MetricsController {
+
+    private static MetricsController metricsController;
+    private final MetricsRegistry metricsRegistry;
+
+    private MetricsController() {
+        metricsRegistry = MetricsRegistry.getInstance();
+    }
+
+    /**
+     * <p>
+     * Gets the metrics controller object.
+     * </p>
+     *
+     * @return The metrics controller object
+     */
+    public static synchronized MetricsController getInstance() {
+        if (null == metricsController) {
+            metricsController = new MetricsController();
+        }
+
+        return metricsController;
+    }
+
+    /**
+     * <p>
+     * Gets the request and DAO metrics in the prometheus text format.
+     * </p>
+     *
+     * @return byte array of the metrics text
+     */
+    @GET
+    @Produces("text/plain; version=0.0.4; charset=utf-8")
+    public byte[] getMetrics() {
+        return metricsRegistry.scrape().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,128 @@
+package org.swiggy.common.metrics;
+
+import org.apache.cxf.jaxrs.model.OperationResourceInfo;
+import org.apache.cxf.jaxrs.model.URITemplate;
+import org.apache.cxf.message.Exchange;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.message.MessageUtils;
+import org.apache.cxf.phase.AbstractPhaseInterceptor;
+import org.apache.cxf.phase.Phase;
+
+/**
+ * <p>
+ * Measures every request handled by the jax-rs server and records it in the {@link MetricsRegistry} under the
+ * http method and path template of the matched resource method, so the path parameters do not create a new
+ * endpoint per id.
+ * </p>
+ *
+ * <p>
+ * The interceptor returned by {@link #getInInterceptor()} notes the start time when the request is received and
+ * the one returned by {@link #getOutInterceptor()} records the request after the response has been written. The
+ * out interceptor is added to both the out and the out fault chains, and a request counts as failed when it ends
+ * in a fault or with an error status.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class MetricsInterceptor extends AbstractPhaseInterceptor<Message> {
+
+    private static final String START_TIME = MetricsInterceptor.class.getName() + ".startTime";
+    private static final String UNMATCHED_ENDPOINT = "unmatched";
+    private static MetricsInterceptor inInterceptor;
+    private static MetricsInterceptor outInterceptor;
+    private final MetricsRegistry metricsRegistry;
+
+    private MetricsInterceptor(final String phase) {
+        super(phase);
+        metricsRegistry = MetricsRegistry.getInstance();
+    }
+
+    /**
+     * <p>
+     * Gets the interceptor that notes the start time of the request.
+     * </p>
+     *
+     * @return The in interceptor
+     */
+    public static synchronized MetricsInterceptor getInInterceptor() {
+        if (null == inInterceptor) {
+            inInterceptor = new MetricsInterceptor(Phase.RECEIVE);
+        }
+
+        return inInterceptor;
+    }
+
+    /**
+     * <p>
+     * Gets the interceptor that records the request once the response is written.
+     * </p>
+     *
+     * @return The out interceptor
+     */
+    public static synchronized MetricsInterceptor getOutInterceptor() {
+        if (null == outInterceptor) {
+            outInterceptor = new MetricsInterceptor(Phase.SETUP_ENDING);
+        }
+
+        return outInterceptor;
+    }
+
+    /**
+     * <p>
+     * Notes the start time of an inbound message and records the request of an outbound message.
+     * </p>
+     *
+     * @param message Represents the message being processed
+     */
+    @Override
+    public void handleMessage(final Message message) {
+        final Exchange exchange = message.getExchange();
+
+        if (!MessageUtils.isOutbound(message)) {
+            exchange.put(START_TIME, System.nanoTime());
+
+            return;
+        }
+        final Long startTime = (Long) exchange.remove(START_TIME);
+
+        if (null != startTime) {
+            final Integer responseCode = (Integer) message.get(Message.RESPONSE_CODE);
+            final boolean failed = message == exchange.getOutFaultMessage()
+                    || (null != responseCode && responseCode >= 400);
+
+            metricsRegistry.recordRequest(getEndpoint(exchange), System.nanoTime() - startTime, failed);
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the http method and path template of the resource method that handled the request.
+     * </p>
+     *
+     * @param exchange Represents the exchange of the request
+     * @return The endpoint name
+     */
+    private String getEndpoint(final Exchange exchange) {
+        final OperationResourceInfo operationResourceInfo = exchange.get(OperationResourceInfo.class);
+
+        if (null == operationResourceInfo) {
+            return UNMATCHED_ENDPOINT;
+        }
+        final URITemplate classTemplate = operationResourceInfo.getClassResourceInfo().getURITemplate();
+        final URITemplate methodTemplate = operationResourceInfo.getURITemplate();
+        final StringBuilder endpoint = new StringBuilder(64);
+
+        endpoint.append(operationResourceInfo.getHttpMethod()).append(' ');
+
+        if (null != classTemplate) {
+            endpoint.append(classTemplate.getValue());
+        }
+
+        if (null != methodTemplate && !"/".equals(methodTemplate.getValue())) {
+            endpoint.append(methodTemplate.getValue());
+        }
+
+        return endpoint.toString();
+    }
+}
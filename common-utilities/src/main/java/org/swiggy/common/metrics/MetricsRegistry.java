@@ -0,0 +1,256 @@
+package org.swiggy.common.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ * Collects the request metrics of the rest endpoints and the call metrics of the DAO methods and writes them in
+ * the prometheus text format.
+ * </p>
+ *
+ * <p>
+ * The endpoints are recorded by the {@link MetricsInterceptor} and the DAO methods by the proxies created through
+ * {@link #timed(Class, Object)}. The percentiles are computed over everything recorded since the bundle started.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class MetricsRegistry {
+
+    private static final double[] QUANTILES = {0.5, 0.99, 0.999};
+    private static MetricsRegistry metricsRegistry;
+    private final Map<String, OperationMetrics> endpointMetrics;
+    private final Map<String, OperationMetrics> daoMetrics;
+
+    private MetricsRegistry() {
+        endpointMetrics = new ConcurrentHashMap<>();
+        daoMetrics = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * <p>
+     * Gets the object of the metrics registry class.
+     * </p>
+     *
+     * @return The metrics registry object
+     */
+    public static synchronized MetricsRegistry getInstance() {
+        if (null == metricsRegistry) {
+            metricsRegistry = new MetricsRegistry();
+        }
+
+        return metricsRegistry;
+    }
+
+    /**
+     * <p>
+     * Records a request handled by the given endpoint.
+     * </p>
+     *
+     * @param endpoint Represents the http method and path template of the endpoint
+     * @param nanos Represents the time taken by the request in nanoseconds
+     * @param failed Represents whether the request ended with a fault or an error status
+     */
+    public void recordRequest(final String endpoint, final long nanos, final boolean failed) {
+        endpointMetrics.computeIfAbsent(endpoint, OperationMetrics::new).record(nanos, failed);
+    }
+
+    /**
+     * <p>
+     * Gets the metrics of the given DAO method, creating them on first use.
+     * </p>
+     *
+     * @param operation Represents the DAO interface and method name
+     * @return The metrics of the DAO method
+     */
+    public OperationMetrics getDaoMetrics(final String operation) {
+        return daoMetrics.computeIfAbsent(operation, OperationMetrics::new);
+    }
+
+    /**
+     * <p>
+     * Wraps the given DAO in a proxy that times every method declared by the DAO interface.
+     * </p>
+     *
+     * @param type Represents the DAO interface
+     * @param target Represents the DAO implementation
+     * @return The timed DAO
+     * @param <T> Represents the type of the DAO interface
+     */
+    public <T> T timed(final Class<T> type, final T target) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+                new TimingHandler(type.getSimpleName(), target)));
+    }
+
+    /**
+     * <p>
+     * Writes all the metrics in the prometheus text exposition format.
+     * </p>
+     *
+     * @return The metrics text
+     */
+    public String scrape() {
+        final StringBuilder builder = new StringBuilder(4096);
+
+        writeMetrics(builder, "swiggy_http_request", "endpoint", "requests handled per endpoint",
+                endpointMetrics);
+        writeMetrics(builder, "swiggy_dao_call", "operation", "calls per DAO method", daoMetrics);
+
+        return builder.toString();
+    }
+
+    /**
+     * <p>
+     * Writes the count, error count and latency summary of the given metrics family.
+     * </p>
+     *
+     * @param builder Represents the metrics text being written
+     * @param name Represents the singular prefix of the metric names
+     * @param label Represents the name of the label holding the operation name
+     * @param help Represents the description of the counted unit
+     * @param metrics Represents the metrics of the family
+     */
+    private void writeMetrics(final StringBuilder builder, final String name, final String label,
+                              final String help, final Map<String, OperationMetrics> metrics) {
+        final Map<String, OperationMetrics> sortedMetrics = new TreeMap<>(metrics);
+        final String countName = String.join("", name, "s_total");
+        final String errorName = String.join("", name, "_errors_total");
+        final String durationName = String.join("", name, "_duration_seconds");
+
+        builder.append("# HELP ").append(countName).append(" Total number of ").append(help).append('\n');
+        builder.append("# TYPE ").append(countName).append(" counter\n");
+
+        for (final OperationMetrics operationMetrics : sortedMetrics.values()) {
+            appendSample(builder, countName, "", label, operationMetrics.getName(), null,
+                    String.valueOf(operationMetrics.getCallCount()));
+        }
+        builder.append("# HELP ").append(errorName).append(" Total number of failed ").append(help).append('\n');
+        builder.append("# TYPE ").append(errorName).append(" counter\n");
+
+        for (final OperationMetrics operationMetrics : sortedMetrics.values()) {
+            appendSample(builder, errorName, "", label, operationMetrics.getName(), null,
+                    String.valueOf(operationMetrics.getErrorCount()));
+        }
+        builder.append("# HELP ").append(durationName).append(" Latency of the ").append(help).append('\n');
+        builder.append("# TYPE ").append(durationName).append(" summary\n");
+
+        for (final OperationMetrics operationMetrics : sortedMetrics.values()) {
+            final LatencyHistogram latencyHistogram = operationMetrics.getLatencyHistogram();
+
+            for (final double quantile : QUANTILES) {
+                appendSample(builder, durationName, "", label, operationMetrics.getName(), String.valueOf(quantile),
+                        toSeconds(latencyHistogram.getValueAtPercentile(quantile * 100)));
+            }
+            appendSample(builder, durationName, "_sum", label, operationMetrics.getName(), null,
+                    toSeconds(latencyHistogram.getTotalMicros()));
+            appendSample(builder, durationName, "_count", label, operationMetrics.getName(), null,
+                    String.valueOf(latencyHistogram.getCount()));
+        }
+    }
+
+    /**
+     * <p>
+     * Writes a single sample line.
+     * </p>
+     *
+     * @param builder Represents the metrics text being written
+     * @param name Represents the name of the metric
+     * @param suffix Represents the suffix of the metric name
+     * @param label Represents the name of the label holding the operation name
+     * @param labelValue Represents the operation name
+     * @param quantile Represents the quantile of a summary sample, or null
+     * @param value Represents the value of the sample
+     */
+    private void appendSample(final StringBuilder builder, final String name, final String suffix,
+                              final String label, final String labelValue, final String quantile,
+                              final String value) {
+        builder.append(name).append(suffix).append('{').append(label).append("=\"");
+        escapeLabelValue(builder, labelValue);
+        builder.append('"');
+
+        if (null != quantile) {
+            builder.append(",quantile=\"").append(quantile).append('"');
+        }
+        builder.append("} ").append(value).append('\n');
+    }
+
+    /**
+     * <p>
+     * Escapes the backslash, double quote and line feed characters of a label value.
+     * </p>
+     *
+     * @param builder Represents the metrics text being written
+     * @param labelValue Represents the label value
+     */
+    private void escapeLabelValue(final StringBuilder builder, final String labelValue) {
+        for (int index = 0; index < labelValue.length(); index++) {
+            final char character = labelValue.charAt(index);
+
+            switch (character) {
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                default:
+                    builder.append(character);
+            }
+        }
+    }
+
+    private String toSeconds(final long micros) {
+        return String.valueOf(micros / 1_000_000.0);
+    }
+
+    /**
+     * <p>
+     * Times the calls made through a DAO proxy and records them under the DAO interface and method name.
+     * </p>
+     */
+    private class TimingHandler implements InvocationHandler {
+
+        private final String typeName;
+        private final Object target;
+        private final Map<Method, OperationMetrics> methodMetrics;
+
+        private TimingHandler(final String typeName, final Object target) {
+            this.typeName = typeName;
+            this.target = target;
+            methodMetrics = new ConcurrentHashMap<>();
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] arguments) throws Throwable {
+            if (Object.class == method.getDeclaringClass()) {
+                return method.invoke(target, arguments);
+            }
+            final OperationMetrics operationMetrics = methodMetrics.computeIfAbsent(method,
+                    key -> getDaoMetrics(String.join(".", typeName, key.getName())));
+            final long startTime = System.nanoTime();
+            boolean failed = true;
+
+            try {
+                final Object result = method.invoke(target, arguments);
+
+                failed = false;
+
+                return result;
+            } catch (InvocationTargetException message) {
+                throw message.getCause();
+            } finally {
+                operationMetrics.record(System.nanoTime() - startTime, failed);
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package org.swiggy.common.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Holds the call count, error count and latency histogram of a single endpoint or DAO method.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class OperationMetrics {
+
+    private final String name;
+    private final LongAdder callCount;
+    private final LongAdder errorCount;
+    private final LatencyHistogram latencyHistogram;
+
+    public OperationMetrics(final String name) {
+        this.name = name;
+        callCount = new LongAdder();
+        errorCount = new LongAdder();
+        latencyHistogram = new LatencyHistogram();
+    }
+
+    /**
+     * <p>
+     * Records a completed call.
+     * </p>
+     *
+     * @param nanos Represents the time taken by the call in nanoseconds
+     * @param failed Represents whether the call failed
+     */
+    public void record(final long nanos, final boolean failed) {
+        callCount.increment();
+        latencyHistogram.record(nanos);
+
+        if (failed) {
+            errorCount.increment();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCallCount() {
+        return callCount.sum();
+    }
+
+    public long getErrorCount() {
+        return errorCount.sum();
+    }
+
+    public LatencyHistogram getLatencyHistogram() {
+        return latencyHistogram;
+    }
+}
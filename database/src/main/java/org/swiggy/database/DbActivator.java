@@ -3,6 +3,9 @@ package org.swiggy.database;
 import org.osgi.framework.BundleActivator;
 import org.osgi.framework.BundleContext;
 
+import org.swiggy.database.connection.DataBaseConnection;
+import org.swiggy.database.executor.DatabaseExecutor;
+
 /**
  * <p>
  *  Customizes the starting and stopping of a bundle.
@@ -34,6 +37,8 @@ public class DbActivator implements BundleActivator {
      */
     @Override
     public void stop(final BundleContext context) {
+        DatabaseExecutor.getInstance().shutdown();
+        DataBaseConnection.shutdown();
         System.out.println("Database Bundle Is Stopped");
     }
 }
@@ -0,0 +1,249 @@
+package org.swiggy.database.bulk;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>
+ * Loads large sets of rows with the PostgreSQL COPY protocol, falling back to multi-row insert batches when the
+ * connection does not support COPY.
+ * </p>
+ *
+ * <p>
+ * COPY does not return generated keys, so callers reserve the ids of the new rows from the sequence of the
+ * table first with {@link #reserveIds} and load the rows with explicit ids.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class BulkLoader {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static BulkLoader bulkLoader;
+    private final Logger logger;
+
+    private BulkLoader() {
+        logger = LogManager.getLogger(BulkLoader.class);
+    }
+
+    /**
+     * <p>
+     * Gets the object of the bulk loader class.
+     * </p>
+     *
+     * @return The bulk loader object
+     */
+    public static BulkLoader getInstance() {
+        if (null == bulkLoader) {
+            bulkLoader = new BulkLoader();
+        }
+
+        return bulkLoader;
+    }
+
+    /**
+     * <p>
+     * Reserves the given number of ids from the sequence of the id column in one round trip.
+     * </p>
+     *
+     * @param connection Represents the connection of the current transaction
+     * @param table Represents the name of the table
+     * @param column Represents the name of the generated id column
+     * @param count Represents the number of ids to be reserved
+     * @return The reserved ids
+     * @throws SQLException if the ids can't be reserved
+     */
+    public long[] reserveIds(final Connection connection, final String table, final String column,
+                             final int count) throws SQLException {
+        final long[] ids = new long[count];
+
+        if (0 == count) {
+            return ids;
+        }
+        final String query = "select nextval(pg_get_serial_sequence(?, ?)) from generate_series(1, ?)";
+
+        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+            preparedStatement.setString(1, table);
+            preparedStatement.setString(2, column);
+            preparedStatement.setInt(3, count);
+            final ResultSet resultSet = preparedStatement.executeQuery();
+            int index = 0;
+
+            while (resultSet.next()) {
+                ids[index++] = resultSet.getLong(1);
+            }
+        }
+
+        return ids;
+    }
+
+    /**
+     * <p>
+     * Loads the rows into the table.
+     * </p>
+     *
+     * @param connection Represents the connection of the current transaction
+     * @param table Represents the name of the table
+     * @param columns Represents the columns of the rows in order
+     * @param rows Represents the values of the rows
+     * @return The number of rows loaded
+     * @throws SQLException if the rows can't be loaded
+     */
+    public long load(final Connection connection, final String table, final List<String> columns,
+                     final List<Object[]> rows) throws SQLException {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        if (connection.isWrapperFor(PGConnection.class)) {
+            return copy(connection.unwrap(PGConnection.class), table, columns, rows);
+        }
+        logger.warn(String.join("", "COPY is not available, loading ", table, " with insert batches"));
+
+        return insertBatches(connection, table, columns, rows);
+    }
+
+    /**
+     * <p>
+     * Streams the rows into the table with COPY in text format.
+     * </p>
+     *
+     * @param connection Represents the PostgreSQL connection
+     * @param table Represents the name of the table
+     * @param columns Represents the columns of the rows in order
+     * @param rows Represents the values of the rows
+     * @return The number of rows loaded
+     * @throws SQLException if the rows can't be copied
+     */
+    private long copy(final PGConnection connection, final String table, final List<String> columns,
+                      final List<Object[]> rows) throws SQLException {
+        final String query = String.join("", "copy ", table, " (", String.join(", ", columns), ") from stdin");
+        final CopyIn copyIn = connection.getCopyAPI().copyIn(query);
+        final StringBuilder buffer = new StringBuilder(COPY_BUFFER_SIZE);
+
+        try {
+            for (final Object[] row : rows) {
+                appendRow(buffer, row);
+
+                if (COPY_BUFFER_SIZE <= buffer.length()) {
+                    write(copyIn, buffer);
+                }
+            }
+            write(copyIn, buffer);
+
+            return copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Appends the row in the COPY text format.
+     * </p>
+     *
+     * @param buffer Represents the buffer of the pending rows
+     * @param row Represents the values of the row
+     */
+    private void appendRow(final StringBuilder buffer, final Object[] row) {
+        for (int index = 0; index < row.length; index++) {
+            if (0 < index) {
+                buffer.append('\t');
+            }
+            final Object value = row[index];
+
+            if (null == value) {
+                buffer.append("\\N");
+                continue;
+            }
+            final String text = value.toString();
+
+            for (int position = 0; position < text.length(); position++) {
+                final char character = text.charAt(position);
+
+                switch (character) {
+                    case '\\' -> buffer.append("\\\\");
+                    case '\t' -> buffer.append("\\t");
+                    case '\n' -> buffer.append("\\n");
+                    case '\r' -> buffer.append("\\r");
+                    default -> buffer.append(character);
+                }
+            }
+        }
+        buffer.append('\n');
+    }
+
+    /**
+     * <p>
+     * Sends the pending rows to the server.
+     * </p>
+     *
+     * @param copyIn Represents the active COPY operation
+     * @param buffer Represents the buffer of the pending rows
+     * @throws SQLException if the rows can't be sent
+     */
+    private void write(final CopyIn copyIn, final StringBuilder buffer) throws SQLException {
+        if (0 == buffer.length()) {
+            return;
+        }
+        final byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    /**
+     * <p>
+     * Inserts the rows with insert batches of a bounded size.
+     * </p>
+     *
+     * @param connection Represents the connection of the current transaction
+     * @param table Represents the name of the table
+     * @param columns Represents the columns of the rows in order
+     * @param rows Represents the values of the rows
+     * @return The number of rows loaded
+     * @throws SQLException if the rows can't be inserted
+     */
+    private long insertBatches(final Connection connection, final String table, final List<String> columns,
+                               final List<Object[]> rows) throws SQLException {
+        final String query = String.join("", "insert into ", table, " (", String.join(", ", columns),
+                ") values (", String.join(", ", Collections.nCopies(columns.size(), "?")), ")");
+
+        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+            int pending = 0;
+
+            for (final Object[] row : rows) {
+                for (int index = 0; index < row.length; index++) {
+                    preparedStatement.setObject(index + 1, row[index]);
+                }
+                preparedStatement.addBatch();
+
+                if (BATCH_SIZE == ++pending) {
+                    preparedStatement.executeBatch();
+                    pending = 0;
+                }
+            }
+
+            if (0 < pending) {
+                preparedStatement.executeBatch();
+            }
+        }
+
+        return rows.size();
+    }
+}
@@ -1,14 +1,15 @@
 package org.swiggy.database.connection;
 
 import org.swiggy.database.exception.DatabaseConnectionFailureException;
+import org.swiggy.database.pool.ConnectionPool;
+import org.swiggy.database.pool.PoolConfiguration;
+import org.swiggy.database.transaction.TransactionTemplate;
 
 import org.apache.logging.log4j.LogManager;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.sql.Connection;
-import java.sql.DriverManager;
-import java.sql.SQLException;
 import java.util.Properties;
 
 /**
@@ -16,44 +17,111 @@ import java.util.Properties;
  * Connects with database to store information.
  * </p>
  *
+ * <p>
+ * Connections are borrowed from a bounded pool, so every caller must close the connection once the operation
+ * is done to return it to the pool. Inside an active {@link TransactionTemplate} unit of work the connection of
+ * the unit of work is handed out instead, and closing it leaves the transaction open.
+ * </p>
+ *
  * @author Muthu kumar V
  * @version 1.0
  */
 public class DataBaseConnection {
 
-    private static Connection connection;
+    private static volatile ConnectionPool connectionPool;
 
     private DataBaseConnection() {
     }
 
     /**
      * <p>
-     * Gets the database connection.
+     * Borrows a database connection from the pool, or joins the active unit of work.
      * </p>
      *
      * @return The database connection
      */
     public static Connection getConnection() {
+        if (TransactionTemplate.isActive()) {
+            return TransactionTemplate.getBoundConnection();
+        }
 
-        if (null == connection) {
-            final ClassLoader classLoader = DataBaseConnection.class.getClassLoader();
+        return getConnectionPool().borrow();
+    }
 
-            try (final InputStream inputStream = classLoader.getResourceAsStream("Database.properties")) {
-                final Properties properties = new Properties();
+    /**
+     * <p>
+     * Gets the connection pool, creating it from the database properties on first use.
+     * </p>
+     *
+     * @return The connection pool
+     */
+    public static ConnectionPool getConnectionPool() {
+        ConnectionPool pool = connectionPool;
 
-                properties.load(inputStream);
-                final String url = properties.get("url").toString();
-                final String user = properties.get("user").toString();
-                final String password = properties.get("password").toString();
+        if (null == pool) {
+            synchronized (DataBaseConnection.class) {
+                pool = connectionPool;
 
-                Class.forName("org.postgresql.Driver");
-                connection = DriverManager.getConnection(url, user, password);
-            } catch (SQLException | IOException | ClassNotFoundException message) {
-                LogManager.getLogger(DataBaseConnection.class).warn(message.getMessage());
-                throw new DatabaseConnectionFailureException(message.getMessage());
+                if (null == pool) {
+                    pool = new ConnectionPool(PoolConfiguration.fromProperties(loadProperties()));
+                    connectionPool = pool;
+                }
+            }
+        }
+
+        return pool;
+    }
+
+    /**
+     * <p>
+     * Replaces the connection pool, shutting down the current one. Used to run the DAOs against a database other
+     * than the one in the database properties, such as an embedded one.
+     * </p>
+     *
+     * @param pool Represents the connection pool to be used
+     */
+    public static void setConnectionPool(final ConnectionPool pool) {
+        synchronized (DataBaseConnection.class) {
+            if (null != connectionPool) {
+                connectionPool.shutdown();
             }
+            connectionPool = pool;
         }
+    }
+
+    /**
+     * <p>
+     * Loads the database properties.
+     * </p>
+     *
+     * @return The database properties
+     */
+    private static Properties loadProperties() {
+        final ClassLoader classLoader = DataBaseConnection.class.getClassLoader();
+
+        try (final InputStream inputStream = classLoader.getResourceAsStream("Database.properties")) {
+            final Properties properties = new Properties();
+
+            properties.load(inputStream);
 
-        return connection;
+            return properties;
+        } catch (IOException | NullPointerException message) {
+            LogManager.getLogger(DataBaseConnection.class).warn(message.getMessage());
+            throw new DatabaseConnectionFailureException(message.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Closes all the pooled connections.
+     * </p>
+     */
+    public static void shutdown() {
+        synchronized (DataBaseConnection.class) {
+            if (null != connectionPool) {
+                connectionPool.shutdown();
+                connectionPool = null;
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,14 @@
+package org.swiggy.database.exception;
+
+import org.swiggy.exception.customexception.DataBaseConnectionException;
+
+/**
+ * <p>
+ * Handles the exception when no pooled connection became available within the borrow timeout.
+ * </p>
+ */
+public class ConnectionPoolExhaustedException extends DataBaseConnectionException {
+    public ConnectionPoolExhaustedException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package org.swiggy.database.exception;
+
+import org.swiggy.exception.customexception.DataBaseConnectionException;
+
+/**
+ * <p>
+ * Handles the exception when the rows of a streamed query can't be read or written.
+ * </p>
+ */
+public class RowStreamFailureException extends DataBaseConnectionException {
+    public RowStreamFailureException(final String message) {
+        super(message);
+    }
+}
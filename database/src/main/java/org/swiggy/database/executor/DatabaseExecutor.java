@@ -0,0 +1,122 @@
+package org.swiggy.database.executor;
+
+import org.swiggy.common.execution.ExecutorFactory;
+import org.swiggy.database.connection.DataBaseConnection;
+import org.swiggy.database.pool.PoolConfiguration;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Runs the blocking database work of the asynchronous services off the http threads.
+ * </p>
+ *
+ * <p>
+ * The executor has as many threads as the connection pool has connections by default, since more threads would
+ * only wait for a connection, and a bounded queue in front of them. A task submitted while the queue is full is
+ * rejected with a {@link RejectedExecutionException}, so an overloaded database turns into fast failures rather
+ * than an unbounded backlog. {@link #supply} and {@link #run} hand that rejection back as a failed future instead
+ * of throwing it at the caller, so it reaches the same handling as any other failure of the work.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class DatabaseExecutor implements Executor {
+
+    private static DatabaseExecutor databaseExecutor;
+    private ExecutorService executorService;
+
+    private DatabaseExecutor() {
+    }
+
+    /**
+     * <p>
+     * Gets the object of the database executor class.
+     * </p>
+     *
+     * @return The database executor object
+     */
+    public static synchronized DatabaseExecutor getInstance() {
+        if (null == databaseExecutor) {
+            databaseExecutor = new DatabaseExecutor();
+        }
+
+        return databaseExecutor;
+    }
+
+    /**
+     * <p>
+     * Runs the given task on a thread of the executor, creating the threads on first use.
+     * </p>
+     *
+     * @param task Represents the database work
+     * @throws RejectedExecutionException if the queue of the executor is full
+     */
+    @Override
+    public void execute(final Runnable task) {
+        getExecutorService().execute(task);
+    }
+
+    /**
+     * <p>
+     * Runs the given supplier on a thread of the executor.
+     * </p>
+     *
+     * @param task Represents the database work
+     * @param <T> Represents the type of the result
+     * @return The future result, failed with a {@link RejectedExecutionException} if the queue of the executor is
+     *         full
+     */
+    public <T> CompletableFuture<T> supply(final Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, this);
+        } catch (RejectedExecutionException message) {
+            return CompletableFuture.failedFuture(message);
+        }
+    }
+
+    /**
+     * <p>
+     * Runs the given task on a thread of the executor.
+     * </p>
+     *
+     * @param task Represents the database work
+     * @return The future completed once the task is done, failed with a {@link RejectedExecutionException} if the
+     *         queue of the executor is full
+     */
+    public CompletableFuture<Void> run(final Runnable task) {
+        try {
+            return CompletableFuture.runAsync(task, this);
+        } catch (RejectedExecutionException message) {
+            return CompletableFuture.failedFuture(message);
+        }
+    }
+
+    private synchronized ExecutorService getExecutorService() {
+        if (null == executorService) {
+            final PoolConfiguration configuration = DataBaseConnection.getConnectionPool().getConfiguration();
+
+            executorService = ExecutorFactory.getInstance().createBoundedExecutor(
+                    configuration.getExecutorThreads(), configuration.getExecutorQueueCapacity(), "swiggy-database");
+        }
+
+        return executorService;
+    }
+
+    /**
+     * <p>
+     * Stops the threads of the executor once the queued tasks are done.
+     * </p>
+     */
+    public synchronized void shutdown() {
+        if (null != executorService) {
+            executorService.shutdown();
+            executorService = null;
+        }
+    }
+}
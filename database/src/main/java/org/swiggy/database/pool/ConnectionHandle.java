@@ -0,0 +1,103 @@
+package org.swiggy.database.pool;
+
+import org.swiggy.database.statement.StatementCache;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * <p>
+ * Intercepts the calls on a borrowed connection so that closing it returns the connection to the pool, and
+ * hands out the statements created on it through the statement profiler of the pool. The prepared statements
+ * are taken from the statement cache of the connection when it holds one for the sql.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+class ConnectionHandle implements InvocationHandler {
+
+    private final PooledConnection pooledConnection;
+    private final ConnectionPool connectionPool;
+    private final AtomicBoolean closed;
+
+    ConnectionHandle(final PooledConnection pooledConnection, final ConnectionPool connectionPool) {
+        this.pooledConnection = pooledConnection;
+        this.connectionPool = connectionPool;
+        closed = new AtomicBoolean();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param proxy Represents the connection handle
+     * @param method Represents the invoked connection method
+     * @param arguments Represents the arguments of the method
+     * @return The result of the method on the physical connection
+     */
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] arguments) throws Throwable {
+        switch (method.getName()) {
+            case "close" -> {
+                if (closed.compareAndSet(false, true)) {
+                    connectionPool.release(pooledConnection);
+                }
+
+                return null;
+            }
+            case "isClosed" -> {
+                return closed.get() || pooledConnection.getPhysicalConnection().isClosed();
+            }
+            case "equals" -> {
+                return proxy == arguments[0];
+            }
+            case "hashCode" -> {
+                return System.identityHashCode(proxy);
+            }
+            case "toString" -> {
+                return String.join("", "PooledConnection[", pooledConnection.getPhysicalConnection().toString(), "]");
+            }
+        }
+
+        if (closed.get()) {
+            throw new SQLException("Connection is already returned to the pool");
+        }
+
+        final StatementCache statementCache = pooledConnection.getStatementCache();
+        final Object result;
+
+        if (null != statementCache && "prepareStatement".equals(method.getName())) {
+            final String key = StatementCache.getKey(arguments);
+            final PreparedStatement cachedStatement = statementCache.take(key);
+
+            result = statementCache.lend(key, null == cachedStatement ? (PreparedStatement) invokeConnection(method,
+                    arguments) : cachedStatement, (Connection) proxy);
+        } else {
+            result = invokeConnection(method, arguments);
+        }
+
+        if (result instanceof Statement statement) {
+            final String sql = null != arguments && 0 < arguments.length && arguments[0] instanceof String query
+                    ? query : null;
+
+            return connectionPool.getStatementProfiler().wrap(statement, method.getReturnType(), (Connection) proxy,
+                    sql);
+        }
+
+        return result;
+    }
+
+    private Object invokeConnection(final Method method, final Object[] arguments) throws Throwable {
+        try {
+            return method.invoke(pooledConnection.getPhysicalConnection(), arguments);
+        } catch (InvocationTargetException exception) {
+            throw exception.getCause();
+        }
+    }
+}
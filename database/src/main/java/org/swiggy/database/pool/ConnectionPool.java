@@ -0,0 +1,412 @@
+package org.swiggy.database.pool;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.swiggy.database.exception.ConnectionPoolExhaustedException;
+import org.swiggy.database.exception.DatabaseConnectionFailureException;
+import org.swiggy.database.statement.StatementCache;
+import org.swiggy.database.statement.StatementCacheCounter;
+import org.swiggy.database.statement.StatementCacheStatistics;
+import org.swiggy.database.statement.StatementProfiler;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Bounded pool of physical database connections shared by all the DAOs.
+ * </p>
+ *
+ * <p>
+ * A connection is validated on borrow when it has been idle longer than the validation interval, and it is
+ * reset to auto commit mode when returned so one caller's transaction settings never leak into another.
+ * A housekeeping task evicts connections idle longer than the idle timeout, refills the pool up to the minimum
+ * size and reports connections held longer than the leak detection threshold. Each connection keeps its prepared
+ * statements open in its own statement cache across borrows, and they are closed with the connection.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class ConnectionPool {
+
+    private final Logger logger;
+    private final PoolConfiguration configuration;
+    private final LinkedBlockingDeque<PooledConnection> idleConnections;
+    private final Set<PooledConnection> borrowedConnections;
+    private final Semaphore borrowPermits;
+    private final ScheduledExecutorService housekeeper;
+    private final StatementProfiler statementProfiler;
+    private final StatementCacheCounter statementCacheCounter;
+    private final LongAdder borrowCount;
+    private final LongAdder borrowTimeoutCount;
+    private final LongAdder totalBorrowWaitNanos;
+    private final AtomicLong maximumBorrowWaitNanos;
+    private final LongAdder validationFailureCount;
+    private final LongAdder evictionCount;
+    private final LongAdder leakCount;
+    private volatile boolean shutdown;
+
+    public ConnectionPool(final PoolConfiguration configuration) {
+        logger = LogManager.getLogger(ConnectionPool.class);
+        this.configuration = configuration;
+        idleConnections = new LinkedBlockingDeque<>();
+        borrowedConnections = ConcurrentHashMap.newKeySet();
+        borrowPermits = new Semaphore(configuration.getMaximumSize(), true);
+        borrowCount = new LongAdder();
+        borrowTimeoutCount = new LongAdder();
+        totalBorrowWaitNanos = new LongAdder();
+        maximumBorrowWaitNanos = new AtomicLong();
+        validationFailureCount = new LongAdder();
+        evictionCount = new LongAdder();
+        leakCount = new LongAdder();
+        statementProfiler = new StatementProfiler(configuration);
+        statementCacheCounter = new StatementCacheCounter();
+        housekeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "connection-pool-housekeeper");
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        try {
+            Class.forName(configuration.getDriver());
+        } catch (ClassNotFoundException message) {
+            logger.error(message.getMessage());
+            throw new DatabaseConnectionFailureException(message.getMessage());
+        }
+        fillToMinimum();
+        housekeeper.scheduleWithFixedDelay(this::houseKeep, configuration.getHousekeepingInterval(),
+                configuration.getHousekeepingInterval(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * <p>
+     * Borrows a connection from the pool, waiting up to the borrow timeout when every connection is in use.
+     * </p>
+     *
+     * @return The connection whose close returns it to the pool
+     */
+    public Connection borrow() {
+        if (shutdown) {
+            throw new DatabaseConnectionFailureException("Connection pool is shut down");
+        }
+        final long startTime = System.nanoTime();
+
+        try {
+            if (!borrowPermits.tryAcquire(configuration.getBorrowTimeout(), TimeUnit.MILLISECONDS)) {
+                borrowTimeoutCount.increment();
+                final String message = String.format("No connection available within %d ms (%s)",
+                        configuration.getBorrowTimeout(), getStatistics());
+
+                logger.warn(message);
+                throw new ConnectionPoolExhaustedException(message);
+            }
+        } catch (InterruptedException message) {
+            Thread.currentThread().interrupt();
+            throw new ConnectionPoolExhaustedException(message.getMessage());
+        }
+
+        try {
+            final PooledConnection pooledConnection = takeIdleOrCreate();
+
+            borrowedConnections.add(pooledConnection);
+            recordBorrowWait(System.nanoTime() - startTime);
+
+            return pooledConnection.borrow(this, 0 < configuration.getLeakDetectionThreshold());
+        } catch (RuntimeException exception) {
+            borrowPermits.release();
+            throw exception;
+        }
+    }
+
+    /**
+     * <p>
+     * Takes the most recently used valid idle connection, or opens a new one when none is idle.
+     * </p>
+     *
+     * @return The pooled connection
+     */
+    private PooledConnection takeIdleOrCreate() {
+        PooledConnection pooledConnection;
+
+        while (null != (pooledConnection = idleConnections.pollFirst())) {
+            if (isValid(pooledConnection)) {
+                return pooledConnection;
+            }
+            validationFailureCount.increment();
+            discard(pooledConnection);
+        }
+
+        return createConnection();
+    }
+
+    /**
+     * <p>
+     * Checks the connection is still usable, skipping the round trip for recently used connections.
+     * </p>
+     *
+     * @param pooledConnection Represents the idle connection
+     * @return True if the connection is usable, false otherwise
+     */
+    private boolean isValid(final PooledConnection pooledConnection) {
+        final Connection connection = pooledConnection.getPhysicalConnection();
+
+        try {
+            if (connection.isClosed()) {
+                return false;
+            }
+
+            if (System.currentTimeMillis() - pooledConnection.getLastUsedAt()
+                    < configuration.getValidationInterval()) {
+                return true;
+            }
+
+            return connection.isValid(configuration.getValidationTimeoutSeconds());
+        } catch (SQLException message) {
+            logger.warn(message.getMessage());
+
+            return false;
+        }
+    }
+
+    /**
+     * <p>
+     * Opens a new physical connection with the connection properties of the configuration and its own statement
+     * cache.
+     * </p>
+     *
+     * @return The pooled connection
+     */
+    private PooledConnection createConnection() {
+        final Properties properties = configuration.getConnectionProperties();
+
+        properties.setProperty("user", configuration.getUser());
+        properties.setProperty("password", configuration.getPassword());
+
+        try {
+            return new PooledConnection(DriverManager.getConnection(configuration.getUrl(), properties),
+                    0 < configuration.getStatementCacheSize() ? new StatementCache(
+                            configuration.getStatementCacheSize(), statementCacheCounter) : null);
+        } catch (SQLException message) {
+            logger.error(message.getMessage());
+            throw new DatabaseConnectionFailureException(message.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Returns the borrowed connection to the pool after resetting its transaction state.
+     * </p>
+     *
+     * @param pooledConnection Represents the borrowed connection
+     */
+    void release(final PooledConnection pooledConnection) {
+        if (!borrowedConnections.remove(pooledConnection)) {
+            return;
+        }
+        final Connection connection = pooledConnection.getPhysicalConnection();
+
+        try {
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+            connection.clearWarnings();
+            pooledConnection.markReturned();
+
+            if (shutdown) {
+                discard(pooledConnection);
+            } else {
+                idleConnections.offerFirst(pooledConnection);
+            }
+        } catch (SQLException message) {
+            logger.warn(message.getMessage());
+            discard(pooledConnection);
+        } finally {
+            borrowPermits.release();
+        }
+    }
+
+    /**
+     * <p>
+     * Closes the physical connection without returning it to the pool.
+     * </p>
+     *
+     * @param pooledConnection Represents the connection to be discarded
+     */
+    private void discard(final PooledConnection pooledConnection) {
+        if (null != pooledConnection.getStatementCache()) {
+            pooledConnection.getStatementCache().clear();
+        }
+
+        try {
+            pooledConnection.getPhysicalConnection().close();
+        } catch (SQLException message) {
+            logger.warn(message.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Records the time spent by a caller waiting for a connection.
+     * </p>
+     *
+     * @param waitNanos Represents the wait time in nanoseconds
+     */
+    private void recordBorrowWait(final long waitNanos) {
+        borrowCount.increment();
+        totalBorrowWaitNanos.add(waitNanos);
+        maximumBorrowWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    /**
+     * <p>
+     * Evicts the idle connections, refills the pool and reports the leaked connections.
+     * </p>
+     */
+    private void houseKeep() {
+        try {
+            evictIdleConnections();
+            fillToMinimum();
+            detectLeaks();
+        } catch (RuntimeException exception) {
+            logger.warn(exception.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Closes the connections idle longer than the idle timeout while the pool is above the minimum size.
+     * </p>
+     */
+    private void evictIdleConnections() {
+        final long now = System.currentTimeMillis();
+        final Iterator<PooledConnection> iterator = idleConnections.descendingIterator();
+
+        while (iterator.hasNext()
+                && idleConnections.size() + borrowedConnections.size() > configuration.getMinimumSize()) {
+            final PooledConnection pooledConnection = iterator.next();
+
+            if (now - pooledConnection.getLastUsedAt() > configuration.getIdleTimeout()
+                    && idleConnections.remove(pooledConnection)) {
+                evictionCount.increment();
+                discard(pooledConnection);
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Opens connections until the pool holds the minimum number of connections.
+     * </p>
+     */
+    private void fillToMinimum() {
+        while (!shutdown && idleConnections.size() + borrowedConnections.size() < configuration.getMinimumSize()) {
+            if (!borrowPermits.tryAcquire()) {
+                return;
+            }
+
+            try {
+                idleConnections.offerLast(createConnection());
+            } catch (DatabaseConnectionFailureException exception) {
+                return;
+            } finally {
+                borrowPermits.release();
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Reports the connections borrowed for longer than the leak detection threshold.
+     * </p>
+     */
+    private void detectLeaks() {
+        final long threshold = configuration.getLeakDetectionThreshold();
+
+        if (0 >= threshold) {
+            return;
+        }
+        final long now = System.currentTimeMillis();
+
+        for (final PooledConnection pooledConnection : borrowedConnections) {
+            final long borrowedAt = pooledConnection.getBorrowedAt();
+
+            if (0 < borrowedAt && now - borrowedAt > threshold && !pooledConnection.isLeakReported()) {
+                pooledConnection.setLeakReported(true);
+                leakCount.increment();
+                logger.warn(String.format("Connection held for %d ms, possible leak", now - borrowedAt),
+                        pooledConnection.getBorrowSite());
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the current usage and borrow wait metrics of the pool.
+     * </p>
+     *
+     * @return The pool statistics
+     */
+    public PoolStatistics getStatistics() {
+        return new PoolStatistics(borrowedConnections.size(), idleConnections.size(), borrowCount.sum(),
+                borrowTimeoutCount.sum(), totalBorrowWaitNanos.sum(), maximumBorrowWaitNanos.get(),
+                validationFailureCount.sum(), evictionCount.sum(), leakCount.sum());
+    }
+
+    public PoolConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * <p>
+     * Gets the profiler recording the statements run on the connections of the pool.
+     * </p>
+     *
+     * @return The statement profiler
+     */
+    public StatementProfiler getStatementProfiler() {
+        return statementProfiler;
+    }
+
+    /**
+     * <p>
+     * Gets the reuses, prepares and evictions of the prepared statement caches of the pooled connections.
+     * </p>
+     *
+     * @return The statement cache statistics
+     */
+    public StatementCacheStatistics getStatementCacheStatistics() {
+        return statementCacheCounter.getStatistics();
+    }
+
+    /**
+     * <p>
+     * Closes the idle connections and stops the housekeeping. Borrowed connections are closed when returned.
+     * </p>
+     */
+    public void shutdown() {
+        shutdown = true;
+        housekeeper.shutdownNow();
+        PooledConnection pooledConnection;
+
+        while (null != (pooledConnection = idleConnections.pollFirst())) {
+            discard(pooledConnection);
+        }
+    }
+}
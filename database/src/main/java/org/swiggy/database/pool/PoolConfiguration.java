@@ -0,0 +1,183 @@
+package org.swiggy.database.pool;
+
+import java.util.Properties;
+
+/**
+ * <p>
+ * Holds the settings of the connection pool, the statements, the driver and the database executor loaded from the
+ * database properties.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class PoolConfiguration {
+
+    private static final String CONNECTION_PREFIX = "connection.";
+    private final String url;
+    private final String user;
+    private final String password;
+    private final String driver;
+    private final int minimumSize;
+    private final int maximumSize;
+    private final long borrowTimeout;
+    private final long idleTimeout;
+    private final int validationTimeoutSeconds;
+    private final long validationInterval;
+    private final long leakDetectionThreshold;
+    private final long housekeepingInterval;
+    private final boolean statementProfiling;
+    private final long slowQueryThreshold;
+    private final int slowQueryLogSize;
+    private final int fetchSize;
+    private final int statementCacheSize;
+    private final Properties connectionProperties;
+    private final int executorThreads;
+    private final int executorQueueCapacity;
+
+    private PoolConfiguration(final Properties properties) {
+        url = properties.getProperty("url");
+        user = properties.getProperty("user");
+        password = properties.getProperty("password");
+        driver = properties.getProperty("driver", "org.postgresql.Driver");
+        maximumSize = Math.max(1, getInt(properties, "pool.maximumSize", 10));
+        minimumSize = Math.min(maximumSize, Math.max(0, getInt(properties, "pool.minimumSize", 2)));
+        borrowTimeout = getLong(properties, "pool.borrowTimeout", 30000);
+        idleTimeout = getLong(properties, "pool.idleTimeout", 600000);
+        validationTimeoutSeconds = getInt(properties, "pool.validationTimeoutSeconds", 5);
+        validationInterval = getLong(properties, "pool.validationInterval", 500);
+        leakDetectionThreshold = getLong(properties, "pool.leakDetectionThreshold", 60000);
+        housekeepingInterval = getLong(properties, "pool.housekeepingInterval", 30000);
+        statementProfiling = Boolean.parseBoolean(properties.getProperty("statement.profiling", "true").trim());
+        slowQueryThreshold = getLong(properties, "statement.slowQueryThreshold", 100);
+        slowQueryLogSize = Math.max(1, getInt(properties, "statement.slowQueryLogSize", 256));
+        fetchSize = Math.max(1, getInt(properties, "statement.fetchSize", 256));
+        statementCacheSize = Math.max(0, getInt(properties, "statement.cacheSize", 64));
+        connectionProperties = new Properties();
+
+        for (final String key : properties.stringPropertyNames()) {
+            if (key.startsWith(CONNECTION_PREFIX)) {
+                connectionProperties.setProperty(key.substring(CONNECTION_PREFIX.length()),
+                        properties.getProperty(key).trim());
+            }
+        }
+        executorThreads = Math.max(1, getInt(properties, "executor.threads", maximumSize));
+        executorQueueCapacity = Math.max(1, getInt(properties, "executor.queueCapacity", 256));
+    }
+
+    /**
+     * <p>
+     * Creates the pool configuration from the given properties, using defaults for the missing pool settings.
+     * </p>
+     *
+     * @param properties Represents the database properties
+     * @return The pool configuration
+     */
+    public static PoolConfiguration fromProperties(final Properties properties) {
+        return new PoolConfiguration(properties);
+    }
+
+    private static int getInt(final Properties properties, final String key, final int defaultValue) {
+        final String value = properties.getProperty(key);
+
+        return null == value ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    private static long getLong(final Properties properties, final String key, final long defaultValue) {
+        final String value = properties.getProperty(key);
+
+        return null == value ? defaultValue : Long.parseLong(value.trim());
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getUser() {
+        return user;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public String getDriver() {
+        return driver;
+    }
+
+    public int getMinimumSize() {
+        return minimumSize;
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public long getBorrowTimeout() {
+        return borrowTimeout;
+    }
+
+    public long getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    public int getValidationTimeoutSeconds() {
+        return validationTimeoutSeconds;
+    }
+
+    public long getValidationInterval() {
+        return validationInterval;
+    }
+
+    public long getLeakDetectionThreshold() {
+        return leakDetectionThreshold;
+    }
+
+    public long getHousekeepingInterval() {
+        return housekeepingInterval;
+    }
+
+    public boolean isStatementProfiling() {
+        return statementProfiling;
+    }
+
+    public long getSlowQueryThreshold() {
+        return slowQueryThreshold;
+    }
+
+    public int getSlowQueryLogSize() {
+        return slowQueryLogSize;
+    }
+
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    public int getStatementCacheSize() {
+        return statementCacheSize;
+    }
+
+    /**
+     * <p>
+     * Gets the properties passed to the driver when a connection is opened, given in the database properties with
+     * the connection prefix, such as the prepare threshold of the PostgreSQL driver.
+     * </p>
+     *
+     * @return The connection properties without the user and password
+     */
+    public Properties getConnectionProperties() {
+        final Properties properties = new Properties();
+
+        properties.putAll(connectionProperties);
+
+        return properties;
+    }
+
+    public int getExecutorThreads() {
+        return executorThreads;
+    }
+
+    public int getExecutorQueueCapacity() {
+        return executorQueueCapacity;
+    }
+}
@@ -0,0 +1,89 @@
+package org.swiggy.database.pool;
+
+/**
+ * <p>
+ * Represents a point in time snapshot of the connection pool usage and borrow wait metrics.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class PoolStatistics {
+
+    private final int activeConnections;
+    private final int idleConnections;
+    private final long borrowCount;
+    private final long borrowTimeoutCount;
+    private final long totalBorrowWaitNanos;
+    private final long maximumBorrowWaitNanos;
+    private final long validationFailureCount;
+    private final long evictionCount;
+    private final long leakCount;
+
+    public PoolStatistics(final int activeConnections, final int idleConnections, final long borrowCount,
+                          final long borrowTimeoutCount, final long totalBorrowWaitNanos,
+                          final long maximumBorrowWaitNanos, final long validationFailureCount,
+                          final long evictionCount, final long leakCount) {
+        this.activeConnections = activeConnections;
+        this.idleConnections = idleConnections;
+        this.borrowCount = borrowCount;
+        this.borrowTimeoutCount = borrowTimeoutCount;
+        this.totalBorrowWaitNanos = totalBorrowWaitNanos;
+        this.maximumBorrowWaitNanos = maximumBorrowWaitNanos;
+        this.validationFailureCount = validationFailureCount;
+        this.evictionCount = evictionCount;
+        this.leakCount = leakCount;
+    }
+
+    public int getActiveConnections() {
+        return activeConnections;
+    }
+
+    public int getIdleConnections() {
+        return idleConnections;
+    }
+
+    public int getTotalConnections() {
+        return activeConnections + idleConnections;
+    }
+
+    public long getBorrowCount() {
+        return borrowCount;
+    }
+
+    public long getBorrowTimeoutCount() {
+        return borrowTimeoutCount;
+    }
+
+    public long getTotalBorrowWaitNanos() {
+        return totalBorrowWaitNanos;
+    }
+
+    public long getMaximumBorrowWaitNanos() {
+        return maximumBorrowWaitNanos;
+    }
+
+    public double getAverageBorrowWaitNanos() {
+        return 0 == borrowCount ? 0 : (double) totalBorrowWaitNanos / borrowCount;
+    }
+
+    public long getValidationFailureCount() {
+        return validationFailureCount;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public long getLeakCount() {
+        return leakCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("active=%d idle=%d borrows=%d timeouts=%d avgWaitMicros=%.1f maxWaitMicros=%d "
+                        + "validationFailures=%d evictions=%d leaks=%d", activeConnections, idleConnections,
+                borrowCount, borrowTimeoutCount, getAverageBorrowWaitNanos() / 1000,
+                maximumBorrowWaitNanos / 1000, validationFailureCount, evictionCount, leakCount);
+    }
+}
@@ -0,0 +1,101 @@
+package org.swiggy.database.pool;
+
+import org.swiggy.database.statement.StatementCache;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+
+/**
+ * <p>
+ * Tracks a physical connection owned by the pool along with its borrow and usage timestamps and the cache of its
+ * prepared statements.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+class PooledConnection {
+
+    private final Connection physicalConnection;
+    private final StatementCache statementCache;
+    private final long createdAt;
+    private volatile long lastUsedAt;
+    private volatile long borrowedAt;
+    private volatile Throwable borrowSite;
+    private volatile boolean leakReported;
+
+    PooledConnection(final Connection physicalConnection, final StatementCache statementCache) {
+        this.physicalConnection = physicalConnection;
+        this.statementCache = statementCache;
+        createdAt = System.currentTimeMillis();
+        lastUsedAt = createdAt;
+    }
+
+    /**
+     * <p>
+     * Marks the connection as borrowed and creates the handle given to the caller.
+     * </p>
+     *
+     * @param connectionPool Represents the pool the connection is returned to
+     * @param trackBorrowSite True if the stack of the borrowing caller is kept for leak reports
+     * @return The connection handle whose close returns the connection to the pool
+     */
+    Connection borrow(final ConnectionPool connectionPool, final boolean trackBorrowSite) {
+        borrowedAt = System.currentTimeMillis();
+        borrowSite = trackBorrowSite ? new Throwable("Connection borrowed here") : null;
+        leakReported = false;
+
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, new ConnectionHandle(this, connectionPool));
+    }
+
+    /**
+     * <p>
+     * Marks the connection as returned to the pool.
+     * </p>
+     */
+    void markReturned() {
+        lastUsedAt = System.currentTimeMillis();
+        borrowedAt = 0;
+        borrowSite = null;
+    }
+
+    Connection getPhysicalConnection() {
+        return physicalConnection;
+    }
+
+    /**
+     * <p>
+     * Gets the cache of the prepared statements of the connection.
+     * </p>
+     *
+     * @return The statement cache, or null when the statement cache is disabled
+     */
+    StatementCache getStatementCache() {
+        return statementCache;
+    }
+
+    long getCreatedAt() {
+        return createdAt;
+    }
+
+    long getLastUsedAt() {
+        return lastUsedAt;
+    }
+
+    long getBorrowedAt() {
+        return borrowedAt;
+    }
+
+    Throwable getBorrowSite() {
+        return borrowSite;
+    }
+
+    boolean isLeakReported() {
+        return leakReported;
+    }
+
+    void setLeakReported(final boolean leakReported) {
+        this.leakReported = leakReported;
+    }
+}
@@ -0,0 +1,102 @@
+package org.swiggy.database.restcontroller;
+
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+
+import org.swiggy.common.auth.Administered;
+import org.swiggy.common.auth.Authenticated;
+import org.swiggy.common.json.JacksonFactory;
+import org.swiggy.database.connection.DataBaseConnection;
+import org.swiggy.database.statement.SlowQuery;
+import org.swiggy.database.statement.StatementStatistics;
+
+/**
+ * <p>
+ * Exposes the statement profiling and the statement cache metrics of the connection pool for finding the
+ * expensive queries under load.
+ * </p>
+ *
+ * <p>
+ * The statements hold the raw sql and their timings, so only the administrator accounts may read them.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+@Path("/admin/database")
+@Authenticated
+@Administered
+public class StatementController {
+
+    private static StatementController statementController;
+    private final JacksonFactory jacksonFactory;
+
+    private StatementController() {
+        jacksonFactory = JacksonFactory.getInstance();
+    }
+
+    /**
+     * <p>
+     * Gets the statement controller object.
+     * </p>
+     *
+     * @return The statement controller object
+     */
+    public static synchronized StatementController getInstance() {
+        if (null == statementController) {
+            statementController = new StatementController();
+        }
+
+        return statementController;
+    }
+
+    /**
+     * <p>
+     * Gets the statements that took the most execution time in total.
+     * </p>
+     *
+     * @param limit Represents the maximum number of statements
+     * @return byte array of json array
+     */
+    @Path("/statements")
+    @GET
+    @Produces("application/json")
+    public byte[] getTopStatements(@QueryParam("limit") @DefaultValue("10") final int limit) {
+        return jacksonFactory.createStream(DataBaseConnection.getConnectionPool().getStatementProfiler()
+                .getTopStatements(limit), StatementStatistics.class).asBytes();
+    }
+
+    /**
+     * <p>
+     * Gets the slowest of the executions kept in the slow query log.
+     * </p>
+     *
+     * @param limit Represents the maximum number of executions
+     * @return byte array of json array
+     */
+    @Path("/slowqueries")
+    @GET
+    @Produces("application/json")
+    public byte[] getSlowQueries(@QueryParam("limit") @DefaultValue("10") final int limit) {
+        return jacksonFactory.createStream(DataBaseConnection.getConnectionPool().getStatementProfiler()
+                .getSlowQueries(limit), SlowQuery.class).asBytes();
+    }
+
+    /**
+     * <p>
+     * Gets the reuses, prepares and evictions of the prepared statement caches of the pooled connections.
+     * </p>
+     *
+     * @return byte array of json object
+     */
+    @Path("/statementcache")
+    @GET
+    @Produces("application/json")
+    public byte[] getStatementCacheStatistics() {
+        return jacksonFactory.createObjectNode().build(DataBaseConnection.getConnectionPool()
+                .getStatementCacheStatistics()).asBytes();
+    }
+}
@@ -0,0 +1,78 @@
+package org.swiggy.database.statement;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * <p>
+ * Intercepts the calls on a statement lent by the statement cache so that closing it puts the statement back to
+ * the cache. The caller can't use the statement once it is closed, even though the statement stays open.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+class CachedStatementHandle implements InvocationHandler {
+
+    private final StatementCache statementCache;
+    private final String key;
+    private final PreparedStatement statement;
+    private final Connection connection;
+    private boolean closed;
+
+    CachedStatementHandle(final StatementCache statementCache, final String key, final PreparedStatement statement,
+                          final Connection connection) {
+        this.statementCache = statementCache;
+        this.key = key;
+        this.statement = statement;
+        this.connection = connection;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param proxy Represents the statement handle
+     * @param method Represents the invoked statement method
+     * @param arguments Represents the arguments of the method
+     * @return The result of the method on the statement
+     */
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] arguments) throws Throwable {
+        switch (method.getName()) {
+            case "close" -> {
+                if (!closed) {
+                    closed = true;
+                    statementCache.giveBack(key, statement);
+                }
+
+                return null;
+            }
+            case "isClosed" -> {
+                return closed || statement.isClosed();
+            }
+            case "getConnection" -> {
+                return connection;
+            }
+            case "equals" -> {
+                return proxy == arguments[0];
+            }
+            case "hashCode" -> {
+                return System.identityHashCode(proxy);
+            }
+        }
+
+        if (closed) {
+            throw new SQLException("Statement is already returned to the statement cache");
+        }
+
+        try {
+            return method.invoke(statement, arguments);
+        } catch (InvocationTargetException exception) {
+            throw exception.getCause();
+        }
+    }
+}
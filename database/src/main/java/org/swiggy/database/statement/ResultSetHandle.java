@@ -0,0 +1,85 @@
+package org.swiggy.database.statement;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.ResultSet;
+
+/**
+ * <p>
+ * Intercepts the calls on the result set of a query to count the rows read and record the query once closed.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+class ResultSetHandle implements InvocationHandler {
+
+    private final StatementProfiler statementProfiler;
+    private final ResultSet resultSet;
+    private final String sql;
+    private final long executionNanos;
+    private long rows;
+    private boolean recorded;
+
+    ResultSetHandle(final StatementProfiler statementProfiler, final ResultSet resultSet, final String sql,
+                    final long executionNanos) {
+        this.statementProfiler = statementProfiler;
+        this.resultSet = resultSet;
+        this.sql = sql;
+        this.executionNanos = executionNanos;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param proxy Represents the result set handle
+     * @param method Represents the invoked result set method
+     * @param arguments Represents the arguments of the method
+     * @return The result of the method on the result set
+     */
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] arguments) throws Throwable {
+        switch (method.getName()) {
+            case "next" -> {
+                final boolean hasRow = resultSet.next();
+
+                if (hasRow) {
+                    rows++;
+                }
+
+                return hasRow;
+            }
+            case "close" -> {
+                finish();
+                resultSet.close();
+
+                return null;
+            }
+            case "equals" -> {
+                return proxy == arguments[0];
+            }
+            case "hashCode" -> {
+                return System.identityHashCode(proxy);
+            }
+        }
+
+        try {
+            return method.invoke(resultSet, arguments);
+        } catch (InvocationTargetException exception) {
+            throw exception.getCause();
+        }
+    }
+
+    /**
+     * <p>
+     * Records the query with the rows read so far, once.
+     * </p>
+     */
+    void finish() {
+        if (!recorded) {
+            recorded = true;
+            statementProfiler.record(sql, executionNanos, rows, false);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package org.swiggy.database.statement;
+
+/**
+ * <p>
+ * Represents a single statement execution slower than the slow query threshold.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class SlowQuery {
+
+    private final String fingerprint;
+    private final long durationMicros;
+    private final long rows;
+    private final boolean failed;
+    private final long executedAt;
+    private final String threadName;
+
+    public SlowQuery(final String fingerprint, final long durationMicros, final long rows, final boolean failed,
+                     final long executedAt, final String threadName) {
+        this.fingerprint = fingerprint;
+        this.durationMicros = durationMicros;
+        this.rows = rows;
+        this.failed = failed;
+        this.executedAt = executedAt;
+        this.threadName = threadName;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public long getDurationMicros() {
+        return durationMicros;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public boolean isFailed() {
+        return failed;
+    }
+
+    public long getExecutedAt() {
+        return executedAt;
+    }
+
+    public String getThreadName() {
+        return threadName;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("durationMicros=%d rows=%d failed=%b thread=%s %s", durationMicros, rows, failed,
+                threadName, fingerprint);
+    }
+}
@@ -0,0 +1,196 @@
+package org.swiggy.database.statement;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * Keeps the prepared statements of one pooled connection open after the caller closes them, keyed by their sql,
+ * so preparing the same sql again on the connection reuses the statement instead of creating a new one.
+ * </p>
+ *
+ * <p>
+ * A statement is taken out of the cache while it is in use and put back when the caller closes it, with its
+ * parameters and batch cleared, so two callers preparing the same sql never share a statement. The cache holds at
+ * most the given number of idle statements and closes the least recently used one when it is full. Reusing the
+ * statement lets the driver count its executions: the PostgreSQL driver switches a statement to a named server
+ * side prepared statement once it has run the prepare threshold of times, so the server stops parsing and
+ * planning it.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class StatementCache {
+
+    private final Logger logger;
+    private final int capacity;
+    private final StatementCacheCounter statementCacheCounter;
+    private final Map<String, PreparedStatement> idleStatements;
+
+    public StatementCache(final int capacity, final StatementCacheCounter statementCacheCounter) {
+        logger = LogManager.getLogger(StatementCache.class);
+        this.capacity = capacity;
+        this.statementCacheCounter = statementCacheCounter;
+        idleStatements = new LinkedHashMap<>();
+    }
+
+    /**
+     * <p>
+     * Gets the key of a statement from the arguments of the prepare statement call, which is the sql itself when
+     * no other argument is given.
+     * </p>
+     *
+     * @param arguments Represents the arguments of the prepare statement call
+     * @return The key of the statement
+     */
+    public static String getKey(final Object[] arguments) {
+        if (1 == arguments.length) {
+            return (String) arguments[0];
+        }
+        final StringBuilder builder = new StringBuilder((String) arguments[0]);
+
+        for (int index = 1; index < arguments.length; index++) {
+            builder.append('\u0000');
+
+            if (arguments[index] instanceof int[] values) {
+                builder.append(Arrays.toString(values));
+            } else if (arguments[index] instanceof Object[] values) {
+                builder.append(Arrays.toString(values));
+            } else {
+                builder.append(arguments[index]);
+            }
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * <p>
+     * Takes the idle statement of the key out of the cache.
+     * </p>
+     *
+     * @param key Represents the key of the statement
+     * @return The statement, or null when the key has no idle statement and a new one has to be prepared
+     */
+    public synchronized PreparedStatement take(final String key) {
+        final PreparedStatement statement = idleStatements.remove(key);
+
+        if (null == statement) {
+            statementCacheCounter.recordPrepare();
+        } else {
+            statementCacheCounter.addCachedStatements(-1);
+            statementCacheCounter.recordReuse();
+        }
+
+        return statement;
+    }
+
+    /**
+     * <p>
+     * Lends the statement to the caller, whose close puts it back to the cache instead of closing it.
+     * </p>
+     *
+     * @param key Represents the key of the statement
+     * @param statement Represents the statement prepared on the physical connection
+     * @param connection Represents the pooled connection handle of the caller
+     * @return The statement handle given to the caller
+     */
+    public PreparedStatement lend(final String key, final PreparedStatement statement,
+                                  final Connection connection) {
+        return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                new Class<?>[] {PreparedStatement.class}, new CachedStatementHandle(this, key, statement,
+                        connection));
+    }
+
+    /**
+     * <p>
+     * Puts the statement closed by the caller back to the cache, closing it instead when it can't be reset or
+     * another statement of the key was put back first, and evicts the least recently used statements over the
+     * capacity.
+     * </p>
+     *
+     * @param key Represents the key of the statement
+     * @param statement Represents the statement prepared on the physical connection
+     */
+    synchronized void giveBack(final String key, final PreparedStatement statement) {
+        if (!reset(statement) || idleStatements.containsKey(key)) {
+            close(statement);
+
+            return;
+        }
+        idleStatements.put(key, statement);
+        statementCacheCounter.addCachedStatements(1);
+        final Iterator<PreparedStatement> iterator = idleStatements.values().iterator();
+
+        while (capacity < idleStatements.size()) {
+            final PreparedStatement eldestStatement = iterator.next();
+
+            iterator.remove();
+            statementCacheCounter.addCachedStatements(-1);
+            statementCacheCounter.recordEviction();
+            close(eldestStatement);
+        }
+    }
+
+    /**
+     * <p>
+     * Closes all the idle statements, when the physical connection is closed.
+     * </p>
+     */
+    public synchronized void clear() {
+        for (final PreparedStatement statement : idleStatements.values()) {
+            close(statement);
+        }
+        statementCacheCounter.addCachedStatements(-idleStatements.size());
+        idleStatements.clear();
+    }
+
+    /**
+     * <p>
+     * Clears the state the caller left on the statement.
+     * </p>
+     *
+     * @param statement Represents the statement closed by the caller
+     * @return True if the statement can be reused, false otherwise
+     */
+    private boolean reset(final PreparedStatement statement) {
+        try {
+            if (statement.isClosed()) {
+                return false;
+            }
+            final ResultSet resultSet = statement.getResultSet();
+
+            if (null != resultSet) {
+                resultSet.close();
+            }
+            statement.clearParameters();
+            statement.clearBatch();
+            statement.clearWarnings();
+
+            return true;
+        } catch (SQLException message) {
+            logger.warn(message.getMessage());
+
+            return false;
+        }
+    }
+
+    private void close(final PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException message) {
+            logger.warn(message.getMessage());
+        }
+    }
+}
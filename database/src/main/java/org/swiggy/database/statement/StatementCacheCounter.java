@@ -0,0 +1,55 @@
+package org.swiggy.database.statement;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Accumulates the reuses, prepares and evictions of the prepared statement caches of all the pooled connections.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class StatementCacheCounter {
+
+    private final AtomicInteger cachedStatements;
+    private final LongAdder reuseCount;
+    private final LongAdder prepareCount;
+    private final LongAdder evictionCount;
+
+    public StatementCacheCounter() {
+        cachedStatements = new AtomicInteger();
+        reuseCount = new LongAdder();
+        prepareCount = new LongAdder();
+        evictionCount = new LongAdder();
+    }
+
+    void recordReuse() {
+        reuseCount.increment();
+    }
+
+    void recordPrepare() {
+        prepareCount.increment();
+    }
+
+    void recordEviction() {
+        evictionCount.increment();
+    }
+
+    void addCachedStatements(final int count) {
+        cachedStatements.addAndGet(count);
+    }
+
+    /**
+     * <p>
+     * Gets a snapshot of the counter.
+     * </p>
+     *
+     * @return The statement cache statistics
+     */
+    public StatementCacheStatistics getStatistics() {
+        return new StatementCacheStatistics(cachedStatements.get(), reuseCount.sum(), prepareCount.sum(),
+                evictionCount.sum());
+    }
+}
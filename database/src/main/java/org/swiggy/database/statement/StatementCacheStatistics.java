@@ -0,0 +1,53 @@
+package org.swiggy.database.statement;
+
+/**
+ * <p>
+ * Represents a point in time snapshot of the prepared statement caches of all the pooled connections.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class StatementCacheStatistics {
+
+    private final int cachedStatements;
+    private final long reuseCount;
+    private final long prepareCount;
+    private final long evictionCount;
+
+    public StatementCacheStatistics(final int cachedStatements, final long reuseCount, final long prepareCount,
+                                    final long evictionCount) {
+        this.cachedStatements = cachedStatements;
+        this.reuseCount = reuseCount;
+        this.prepareCount = prepareCount;
+        this.evictionCount = evictionCount;
+    }
+
+    public int getCachedStatements() {
+        return cachedStatements;
+    }
+
+    public long getReuseCount() {
+        return reuseCount;
+    }
+
+    public long getPrepareCount() {
+        return prepareCount;
+    }
+
+    public double getReuseRatio() {
+        final long requestCount = reuseCount + prepareCount;
+
+        return 0 == requestCount ? 0 : (double) reuseCount / requestCount;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("cached=%d reuses=%d prepares=%d reuseRatio=%.3f evictions=%d", cachedStatements,
+                reuseCount, prepareCount, getReuseRatio(), evictionCount);
+    }
+}
@@ -0,0 +1,63 @@
+package org.swiggy.database.statement;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Accumulates the executions of a single statement fingerprint.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+class StatementCounter {
+
+    private final LongAdder executionCount;
+    private final LongAdder errorCount;
+    private final LongAdder rowCount;
+    private final LongAdder totalNanos;
+    private final AtomicLong maximumNanos;
+
+    StatementCounter() {
+        executionCount = new LongAdder();
+        errorCount = new LongAdder();
+        rowCount = new LongAdder();
+        totalNanos = new LongAdder();
+        maximumNanos = new AtomicLong();
+    }
+
+    /**
+     * <p>
+     * Records a completed execution.
+     * </p>
+     *
+     * @param nanos Represents the execution time in nanoseconds
+     * @param rows Represents the rows returned or changed
+     * @param failed Represents whether the execution failed
+     */
+    void record(final long nanos, final long rows, final boolean failed) {
+        executionCount.increment();
+        rowCount.add(rows);
+        totalNanos.add(nanos);
+        maximumNanos.accumulateAndGet(nanos, Math::max);
+
+        if (failed) {
+            errorCount.increment();
+        }
+    }
+
+    /**
+     * <p>
+     * Gets a snapshot of the counter.
+     * </p>
+     *
+     * @param fingerprint Represents the fingerprint of the statement
+     * @return The statement statistics
+     */
+    StatementStatistics getStatistics(final String fingerprint) {
+        return new StatementStatistics(fingerprint, executionCount.sum(), errorCount.sum(), rowCount.sum(),
+                TimeUnit.NANOSECONDS.toMicros(totalNanos.sum()), TimeUnit.NANOSECONDS.toMicros(maximumNanos.get()));
+    }
+}
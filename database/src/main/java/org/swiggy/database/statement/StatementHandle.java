@@ -0,0 +1,196 @@
+package org.swiggy.database.statement;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * <p>
+ * Intercepts the calls on a statement to time its executions and count the rows they return or change.
+ * </p>
+ *
+ * <p>
+ * A query is recorded once its result set is closed, when the next execution starts or when the statement is
+ * closed, whichever comes first, so the rows read by the caller are known.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+class StatementHandle implements InvocationHandler {
+
+    private final StatementProfiler statementProfiler;
+    private final Statement statement;
+    private final Connection connection;
+    private final String sql;
+    private ResultSetHandle openResultSet;
+
+    StatementHandle(final StatementProfiler statementProfiler, final Statement statement,
+                    final Connection connection, final String sql) {
+        this.statementProfiler = statementProfiler;
+        this.statement = statement;
+        this.connection = connection;
+        this.sql = sql;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param proxy Represents the statement handle
+     * @param method Represents the invoked statement method
+     * @param arguments Represents the arguments of the method
+     * @return The result of the method on the statement
+     */
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] arguments) throws Throwable {
+        switch (method.getName()) {
+            case "executeQuery" -> {
+                return executeQuery(method, arguments);
+            }
+            case "execute", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch" -> {
+                return executeUpdate(method, arguments);
+            }
+            case "close" -> {
+                finishResultSet();
+
+                return invokeStatement(method, arguments);
+            }
+            case "getConnection" -> {
+                return connection;
+            }
+            case "equals" -> {
+                return proxy == arguments[0];
+            }
+            case "hashCode" -> {
+                return System.identityHashCode(proxy);
+            }
+            default -> {
+                return invokeStatement(method, arguments);
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Runs a query and wraps its result set to count the rows read.
+     * </p>
+     *
+     * @param method Represents the invoked query method
+     * @param arguments Represents the arguments of the method
+     * @return The result set handle
+     */
+    private Object executeQuery(final Method method, final Object[] arguments) throws Throwable {
+        finishResultSet();
+        final String executedSql = getSql(arguments);
+        final long startTime = System.nanoTime();
+        final ResultSet resultSet;
+
+        try {
+            resultSet = (ResultSet) invokeStatement(method, arguments);
+        } catch (Throwable exception) {
+            statementProfiler.record(executedSql, System.nanoTime() - startTime, 0, true);
+            throw exception;
+        }
+        openResultSet = new ResultSetHandle(statementProfiler, resultSet, executedSql,
+                System.nanoTime() - startTime);
+
+        return Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] {ResultSet.class},
+                openResultSet);
+    }
+
+    /**
+     * <p>
+     * Runs an update, a batch or a statement of unknown kind and records the rows it changed.
+     * </p>
+     *
+     * @param method Represents the invoked execute method
+     * @param arguments Represents the arguments of the method
+     * @return The result of the execution
+     */
+    private Object executeUpdate(final Method method, final Object[] arguments) throws Throwable {
+        finishResultSet();
+        final String executedSql = getSql(arguments);
+        final long startTime = System.nanoTime();
+        final Object result;
+
+        try {
+            result = invokeStatement(method, arguments);
+        } catch (Throwable exception) {
+            statementProfiler.record(executedSql, System.nanoTime() - startTime, 0, true);
+            throw exception;
+        }
+        statementProfiler.record(executedSql, System.nanoTime() - startTime, getRows(result), false);
+
+        return result;
+    }
+
+    /**
+     * <p>
+     * Gets the rows changed from the result of an execute method.
+     * </p>
+     *
+     * @param result Represents the result of the execution
+     * @return The rows changed
+     */
+    private long getRows(final Object result) throws Throwable {
+        long rows = 0;
+
+        if (result instanceof Integer count) {
+            rows = count;
+        } else if (result instanceof Long count) {
+            rows = count;
+        } else if (result instanceof int[] counts) {
+            for (final int count : counts) {
+                rows += Math.max(count, 0);
+            }
+        } else if (result instanceof long[] counts) {
+            for (final long count : counts) {
+                rows += Math.max(count, 0);
+            }
+        } else if (Boolean.FALSE.equals(result)) {
+            rows = statement.getUpdateCount();
+        }
+
+        return Math.max(rows, 0);
+    }
+
+    /**
+     * <p>
+     * Gets the sql of the execution, which is passed to the execute methods of a plain statement.
+     * </p>
+     *
+     * @param arguments Represents the arguments of the execute method
+     * @return The executed sql
+     */
+    private String getSql(final Object[] arguments) {
+        if (null != arguments && 0 < arguments.length && arguments[0] instanceof String executedSql) {
+            return executedSql;
+        }
+
+        return sql;
+    }
+
+    /**
+     * <p>
+     * Records the query whose result set is still open.
+     * </p>
+     */
+    private void finishResultSet() {
+        if (null != openResultSet) {
+            openResultSet.finish();
+            openResultSet = null;
+        }
+    }
+
+    private Object invokeStatement(final Method method, final Object[] arguments) throws Throwable {
+        try {
+            return method.invoke(statement, arguments);
+        } catch (InvocationTargetException exception) {
+            throw exception.getCause();
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package org.swiggy.database.statement;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.swiggy.database.pool.PoolConfiguration;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.regex.Pattern;
+
+/**
+ * <p>
+ * Records the execution time and row count of every statement run on the pooled connections, grouped by the
+ * fingerprint of the sql, and keeps the latest statements slower than the slow query threshold in a ring buffer.
+ * </p>
+ *
+ * <p>
+ * The fingerprint is the sql in lower case with the whitespace collapsed, the literals replaced by a parameter
+ * marker and the parameter lists reduced to a single marker, so the same query with other values or another
+ * number of values is counted as one statement. The time of a query is the time taken by the execute call, which
+ * includes the transfer of the rows as the driver reads the whole result unless a fetch size is set.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class StatementProfiler {
+
+    private static final int MAXIMUM_FINGERPRINTS = 1024;
+    private static final String OTHER_FINGERPRINT = "other";
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\( ?\\?(?: ?, ?\\?)+ ?\\)");
+    private static final Pattern ROW_LIST = Pattern.compile("\\(\\?\\)(?: ?, ?\\(\\?\\))+");
+    private final Logger logger;
+    private final boolean enabled;
+    private final long slowQueryThresholdNanos;
+    private final Map<String, String> fingerprints;
+    private final Map<String, StatementCounter> statementCounters;
+    private final AtomicReferenceArray<SlowQuery> slowQueries;
+    private final AtomicLong slowQuerySequence;
+
+    public StatementProfiler(final PoolConfiguration configuration) {
+        logger = LogManager.getLogger(StatementProfiler.class);
+        enabled = configuration.isStatementProfiling();
+        slowQueryThresholdNanos = TimeUnit.MILLISECONDS.toNanos(configuration.getSlowQueryThreshold());
+        fingerprints = new ConcurrentHashMap<>();
+        statementCounters = new ConcurrentHashMap<>();
+        slowQueries = new AtomicReferenceArray<>(configuration.getSlowQueryLogSize());
+        slowQuerySequence = new AtomicLong();
+    }
+
+    /**
+     * <p>
+     * Wraps the statement created on a pooled connection so its executions are recorded.
+     * </p>
+     *
+     * @param statement Represents the statement created by the physical connection
+     * @param type Represents the statement interface returned to the caller
+     * @param connection Represents the pooled connection handle the statement belongs to
+     * @param sql Represents the sql the statement was prepared with, or null for a plain statement
+     * @return The profiled statement, or the given statement when profiling is disabled
+     */
+    public Statement wrap(final Statement statement, final Class<?> type, final Connection connection,
+                          final String sql) {
+        if (!enabled || !Statement.class.isAssignableFrom(type)) {
+            return statement;
+        }
+
+        return (Statement) Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[] {type},
+                new StatementHandle(this, statement, connection, sql));
+    }
+
+    /**
+     * <p>
+     * Records a completed statement execution.
+     * </p>
+     *
+     * @param sql Represents the executed sql
+     * @param nanos Represents the execution time in nanoseconds
+     * @param rows Represents the rows returned by a query or changed by an update
+     * @param failed Represents whether the execution failed
+     */
+    void record(final String sql, final long nanos, final long rows, final boolean failed) {
+        final String fingerprint = getFingerprint(sql);
+
+        getCounter(fingerprint).record(nanos, rows, failed);
+
+        if (nanos >= slowQueryThresholdNanos) {
+            final SlowQuery slowQuery = new SlowQuery(fingerprint, TimeUnit.NANOSECONDS.toMicros(nanos), rows,
+                    failed, System.currentTimeMillis(), Thread.currentThread().getName());
+
+            slowQueries.set((int) (slowQuerySequence.getAndIncrement() % slowQueries.length()), slowQuery);
+            logger.warn(String.format("Slow statement took %d ms and returned %d rows: %s",
+                    TimeUnit.NANOSECONDS.toMillis(nanos), rows, fingerprint));
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the statements that took the most execution time in total.
+     * </p>
+     *
+     * @param limit Represents the maximum number of statements
+     * @return The statement statistics ordered by the total execution time
+     */
+    public List<StatementStatistics> getTopStatements(final int limit) {
+        final List<StatementStatistics> statistics = new ArrayList<>(statementCounters.size());
+
+        for (final Map.Entry<String, StatementCounter> entry : statementCounters.entrySet()) {
+            statistics.add(entry.getValue().getStatistics(entry.getKey()));
+        }
+        statistics.sort(Comparator.comparingLong(StatementStatistics::getTotalMicros).reversed());
+
+        return statistics.subList(0, Math.min(Math.max(limit, 0), statistics.size()));
+    }
+
+    /**
+     * <p>
+     * Gets the slowest of the executions kept in the slow query log.
+     * </p>
+     *
+     * @param limit Represents the maximum number of executions
+     * @return The slow queries ordered by the execution time
+     */
+    public List<SlowQuery> getSlowQueries(final int limit) {
+        final List<SlowQuery> queries = new ArrayList<>(slowQueries.length());
+
+        for (int index = 0; index < slowQueries.length(); index++) {
+            final SlowQuery slowQuery = slowQueries.get(index);
+
+            if (null != slowQuery) {
+                queries.add(slowQuery);
+            }
+        }
+        queries.sort(Comparator.comparingLong(SlowQuery::getDurationMicros).reversed());
+
+        return queries.subList(0, Math.min(Math.max(limit, 0), queries.size()));
+    }
+
+    /**
+     * <p>
+     * Gets the counter of the given fingerprint, counting the statements beyond the fingerprint limit together.
+     * </p>
+     *
+     * @param fingerprint Represents the fingerprint of the statement
+     * @return The statement counter
+     */
+    private StatementCounter getCounter(final String fingerprint) {
+        final StatementCounter statementCounter = statementCounters.get(fingerprint);
+
+        if (null != statementCounter) {
+            return statementCounter;
+        }
+
+        if (statementCounters.size() >= MAXIMUM_FINGERPRINTS) {
+            return statementCounters.computeIfAbsent(OTHER_FINGERPRINT, key -> new StatementCounter());
+        }
+
+        return statementCounters.computeIfAbsent(fingerprint, key -> new StatementCounter());
+    }
+
+    /**
+     * <p>
+     * Gets the fingerprint of the given sql, remembering it since the DAOs run the same sql over and over.
+     * </p>
+     *
+     * @param sql Represents the sql
+     * @return The fingerprint of the sql
+     */
+    private String getFingerprint(final String sql) {
+        if (null == sql) {
+            return OTHER_FINGERPRINT;
+        }
+        final String fingerprint = fingerprints.get(sql);
+
+        if (null != fingerprint) {
+            return fingerprint;
+        }
+        final String newFingerprint = createFingerprint(sql);
+
+        if (fingerprints.size() < MAXIMUM_FINGERPRINTS) {
+            fingerprints.put(sql, newFingerprint);
+        }
+
+        return newFingerprint;
+    }
+
+    /**
+     * <p>
+     * Creates the fingerprint of the given sql.
+     * </p>
+     *
+     * @param sql Represents the sql
+     * @return The fingerprint of the sql
+     */
+    private String createFingerprint(final String sql) {
+        final StringBuilder builder = new StringBuilder(sql.length());
+        int index = 0;
+
+        while (index < sql.length()) {
+            final char character = sql.charAt(index);
+
+            if ('\'' == character) {
+                index++;
+
+                while (index < sql.length()) {
+                    if ('\'' == sql.charAt(index) && (index + 1 == sql.length() || '\'' != sql.charAt(index + 1))) {
+                        break;
+                    }
+                    index += '\'' == sql.charAt(index) ? 2 : 1;
+                }
+                builder.append('?');
+                index++;
+            } else if (Character.isWhitespace(character)) {
+                while (index < sql.length() && Character.isWhitespace(sql.charAt(index))) {
+                    index++;
+                }
+
+                if (0 < builder.length() && index < sql.length()) {
+                    builder.append(' ');
+                }
+            } else if (Character.isDigit(character) && (0 == builder.length()
+                    || !Character.isLetterOrDigit(builder.charAt(builder.length() - 1))
+                    && '_' != builder.charAt(builder.length() - 1))) {
+                while (index < sql.length() && (Character.isDigit(sql.charAt(index)) || '.' == sql.charAt(index))) {
+                    index++;
+                }
+                builder.append('?');
+            } else {
+                builder.append(Character.toLowerCase(character));
+                index++;
+            }
+        }
+        final String fingerprint = PARAMETER_LIST.matcher(builder).replaceAll("(?)");
+
+        return ROW_LIST.matcher(fingerprint).replaceAll("(?)");
+    }
+}
@@ -0,0 +1,68 @@
+package org.swiggy.database.statement;
+
+/**
+ * <p>
+ * Represents a point in time snapshot of the executions of a single statement fingerprint.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class StatementStatistics {
+
+    private final String fingerprint;
+    private final long executionCount;
+    private final long errorCount;
+    private final long rowCount;
+    private final long totalMicros;
+    private final long maximumMicros;
+
+    public StatementStatistics(final String fingerprint, final long executionCount, final long errorCount,
+                               final long rowCount, final long totalMicros, final long maximumMicros) {
+        this.fingerprint = fingerprint;
+        this.executionCount = executionCount;
+        this.errorCount = errorCount;
+        this.rowCount = rowCount;
+        this.totalMicros = totalMicros;
+        this.maximumMicros = maximumMicros;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public long getExecutionCount() {
+        return executionCount;
+    }
+
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public double getAverageRows() {
+        return 0 == executionCount ? 0 : (double) rowCount / executionCount;
+    }
+
+    public long getTotalMicros() {
+        return totalMicros;
+    }
+
+    public long getMaximumMicros() {
+        return maximumMicros;
+    }
+
+    public double getAverageMicros() {
+        return 0 == executionCount ? 0 : (double) totalMicros / executionCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("executions=%d errors=%d avgRows=%.1f avgMicros=%.1f maxMicros=%d totalMicros=%d %s",
+                executionCount, errorCount, getAverageRows(), getAverageMicros(), maximumMicros, totalMicros,
+                fingerprint);
+    }
+}
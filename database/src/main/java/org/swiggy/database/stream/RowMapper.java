@@ -0,0 +1,28 @@
+package org.swiggy.database.stream;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * <p>
+ * Maps the current row of the result set to an object.
+ * </p>
+ *
+ * @param <T> Represents the type of the mapped object
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface RowMapper<T> {
+
+    /**
+     * <p>
+     * Maps the current row without moving the result set.
+     * </p>
+     *
+     * @param resultSet Represents the result set positioned on the row
+     * @return The mapped object
+     * @throws SQLException if a column can't be read
+     */
+    T mapRow(final ResultSet resultSet) throws SQLException;
+}
@@ -0,0 +1,153 @@
+package org.swiggy.database.stream;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.swiggy.common.json.JacksonFactory;
+import org.swiggy.database.connection.DataBaseConnection;
+import org.swiggy.database.exception.RowStreamFailureException;
+
+import javax.ws.rs.core.StreamingOutput;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * <p>
+ * Writes the rows of a query as a json array straight to the output stream, mapping and writing one row at a
+ * time, so the memory used stays the same whatever the number of rows.
+ * </p>
+ *
+ * <p>
+ * The query runs when the stream is written, not when it is created. The rows are read inside a transaction with
+ * the fetch size of the database properties, so the driver fetches them through a cursor a batch at a time
+ * instead of loading the whole result; returning the connection to the pool rolls the transaction back. The
+ * connection is held until the last row is written, so rest controllers return the stream as the entity and the
+ * container writes it while sending the response.
+ * </p>
+ *
+ * <p>
+ * Each row is written with the same writer as a list of the mapped type, so the json is the same as writing the
+ * list. When the query gives no rows an empty array is written, or the response given by
+ * {@link #whenEmpty(byte[])}.
+ * </p>
+ *
+ * @param <T> Represents the type of the mapped rows
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class RowStream<T> implements StreamingOutput {
+
+    private static final byte[] EMPTY_ARRAY = {'[', ']'};
+    private final Logger logger;
+    private final String query;
+    private final StatementBinder statementBinder;
+    private final RowMapper<T> rowMapper;
+    private final ObjectWriter objectWriter;
+    private final byte[] emptyResponse;
+
+    /**
+     * <p>
+     * Creates the stream of the rows of the query, written as an empty array when there are no rows.
+     * </p>
+     *
+     * @param query Represents the select query
+     * @param statementBinder Sets the parameters of the query
+     * @param rowMapper Maps each row to an object
+     * @param type Represents the type of the mapped rows
+     */
+    public RowStream(final String query, final StatementBinder statementBinder, final RowMapper<T> rowMapper,
+                     final Class<T> type) {
+        this(query, statementBinder, rowMapper, JacksonFactory.getInstance().getObjectWriter(type), EMPTY_ARRAY);
+    }
+
+    private RowStream(final String query, final StatementBinder statementBinder, final RowMapper<T> rowMapper,
+                      final ObjectWriter objectWriter, final byte[] emptyResponse) {
+        logger = LogManager.getLogger(RowStream.class);
+        this.query = query;
+        this.statementBinder = statementBinder;
+        this.rowMapper = rowMapper;
+        this.objectWriter = objectWriter;
+        this.emptyResponse = emptyResponse;
+    }
+
+    /**
+     * <p>
+     * Gets the stream of the same rows that writes the given json instead when there are no rows.
+     * </p>
+     *
+     * @param response Represents the json written when there are no rows
+     * @return The row stream
+     */
+    public RowStream<T> whenEmpty(final byte[] response) {
+        return new RowStream<>(query, statementBinder, rowMapper, objectWriter, response);
+    }
+
+    /**
+     * <p>
+     * Runs the query and writes its rows to the output stream, leaving the stream open.
+     * </p>
+     *
+     * @param outputStream Represents the output stream of the response
+     * @throws IOException if the json can't be written
+     */
+    @Override
+    public void write(final OutputStream outputStream) throws IOException {
+        try (final Connection connection = DataBaseConnection.getConnection()) {
+            if (connection.getAutoCommit()) {
+                connection.setAutoCommit(false);
+            }
+
+            try (final PreparedStatement preparedStatement = connection.prepareStatement(query,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                preparedStatement.setFetchSize(DataBaseConnection.getConnectionPool().getConfiguration()
+                        .getFetchSize());
+                statementBinder.bind(preparedStatement);
+                final ResultSet resultSet = preparedStatement.executeQuery();
+
+                if (!resultSet.next()) {
+                    outputStream.write(emptyResponse);
+
+                    return;
+                }
+
+                try (final SequenceWriter sequenceWriter = objectWriter.writeValuesAsArray(outputStream)) {
+                    do {
+                        sequenceWriter.write(rowMapper.mapRow(resultSet));
+                    } while (resultSet.next());
+                }
+            }
+        } catch (SQLException message) {
+            logger.error(message.getMessage());
+            throw new RowStreamFailureException(message.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Runs the query and converts its rows into the byte array of json, for the responses kept in a cache.
+     * </p>
+     *
+     * @return The byte array of json
+     */
+    public byte[] asBytes() {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        try {
+            write(outputStream);
+        } catch (IOException message) {
+            logger.error(message.getMessage());
+            throw new RowStreamFailureException(message.getMessage());
+        }
+
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,26 @@
+package org.swiggy.database.stream;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * <p>
+ * Sets the parameters of the prepared statement of a streamed query.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface StatementBinder {
+
+    /**
+     * <p>
+     * Sets the parameters of the statement before it is executed.
+     * </p>
+     *
+     * @param preparedStatement Represents the statement of the query
+     * @throws SQLException if a parameter can't be set
+     */
+    void bind(final PreparedStatement preparedStatement) throws SQLException;
+}
@@ -0,0 +1,28 @@
+package org.swiggy.database.transaction;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * <p>
+ * Represents the work done inside a unit of work on the connection bound to it.
+ * </p>
+ *
+ * @param <T> Represents the type of the result of the work
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface TransactionCallback<T> {
+
+    /**
+     * <p>
+     * Runs the work on the connection of the current transaction.
+     * </p>
+     *
+     * @param connection Represents the connection bound to the transaction
+     * @return The result of the work
+     * @throws SQLException if the work fails, which rolls back the transaction
+     */
+    T doInTransaction(final Connection connection) throws SQLException;
+}
@@ -0,0 +1,205 @@
+package org.swiggy.database.transaction;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.swiggy.database.connection.DataBaseConnection;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * <p>
+ * Runs the work of the DAOs as one unit of work on a single pooled connection.
+ * </p>
+ *
+ * <p>
+ * The outermost call borrows a connection, binds it to the current thread and commits or rolls back once when
+ * the work ends. Calls made while a unit of work is active join it and share its connection, and a failure in a
+ * joined call marks the whole unit of work for rollback.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class TransactionTemplate {
+
+    private static final ThreadLocal<TransactionContext> CURRENT_TRANSACTION = new ThreadLocal<>();
+    private static TransactionTemplate transactionTemplate;
+    private final Logger logger;
+
+    private TransactionTemplate() {
+        logger = LogManager.getLogger(TransactionTemplate.class);
+    }
+
+    /**
+     * <p>
+     * Gets the object of the transaction template class.
+     * </p>
+     *
+     * @return The transaction template object
+     */
+    public static TransactionTemplate getInstance() {
+        if (null == transactionTemplate) {
+            transactionTemplate = new TransactionTemplate();
+        }
+
+        return transactionTemplate;
+    }
+
+    /**
+     * <p>
+     * Runs the work inside the current unit of work, starting a new one if none is active.
+     * </p>
+     *
+     * @param callback Represents the work to be done
+     * @param <T> Represents the type of the result of the work
+     * @return The result of the work
+     * @throws SQLException if the work fails or the transaction can't be committed
+     */
+    public <T> T execute(final TransactionCallback<T> callback) throws SQLException {
+        final TransactionContext activeTransaction = CURRENT_TRANSACTION.get();
+
+        if (null != activeTransaction) {
+            return join(activeTransaction, callback);
+        }
+
+        try (final Connection connection = DataBaseConnection.getConnectionPool().borrow()) {
+            final TransactionContext transaction = new TransactionContext(connection);
+
+            connection.setAutoCommit(false);
+            CURRENT_TRANSACTION.set(transaction);
+
+            try {
+                final T result = callback.doInTransaction(connection);
+
+                if (transaction.isRollbackOnly()) {
+                    connection.rollback();
+                    throw new SQLException("Transaction rolled back because a joined call failed");
+                }
+                connection.commit();
+
+                return result;
+            } catch (SQLException | RuntimeException exception) {
+                rollback(connection, exception);
+                throw exception;
+            } finally {
+                CURRENT_TRANSACTION.remove();
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Runs the work on the connection of the active unit of work.
+     * </p>
+     *
+     * @param transaction Represents the active unit of work
+     * @param callback Represents the work to be done
+     * @param <T> Represents the type of the result of the work
+     * @return The result of the work
+     * @throws SQLException if the work fails
+     */
+    private <T> T join(final TransactionContext transaction, final TransactionCallback<T> callback)
+            throws SQLException {
+        try {
+            return callback.doInTransaction(transaction.getConnection());
+        } catch (SQLException | RuntimeException exception) {
+            transaction.setRollbackOnly();
+            throw exception;
+        }
+    }
+
+    /**
+     * <p>
+     * Rolls back the transaction, keeping the failure of the rollback along with the original failure.
+     * </p>
+     *
+     * @param connection Represents the connection of the transaction
+     * @param cause Represents the failure that ended the transaction
+     */
+    private void rollback(final Connection connection, final Exception cause) {
+        try {
+            connection.rollback();
+        } catch (SQLException message) {
+            logger.error(message.getMessage());
+            cause.addSuppressed(message);
+        }
+    }
+
+    /**
+     * <p>
+     * Checks whether a unit of work is active on the current thread.
+     * </p>
+     *
+     * @return True if a unit of work is active, false otherwise
+     */
+    public static boolean isActive() {
+        return null != CURRENT_TRANSACTION.get();
+    }
+
+    /**
+     * <p>
+     * Gets a view of the connection of the active unit of work whose close leaves the connection open, so code
+     * that borrows and closes its own connection takes part in the unit of work.
+     * </p>
+     *
+     * @return The connection of the active unit of work
+     */
+    public static Connection getBoundConnection() {
+        final TransactionContext transaction = CURRENT_TRANSACTION.get();
+
+        if (null == transaction) {
+            return null;
+        }
+        final Connection connection = transaction.getConnection();
+
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, (proxy, method, arguments) -> {
+                    switch (method.getName()) {
+                        case "close" -> {
+                            return null;
+                        }
+                        case "commit", "rollback", "setAutoCommit" -> {
+                            throw new SQLException(String.join("", method.getName(),
+                                    " is managed by the active transaction"));
+                        }
+                    }
+
+                    try {
+                        return method.invoke(connection, arguments);
+                    } catch (InvocationTargetException exception) {
+                        throw exception.getCause();
+                    }
+                });
+    }
+
+    /**
+     * <p>
+     * Holds the connection and the state of the unit of work bound to a thread.
+     * </p>
+     */
+    private static class TransactionContext {
+
+        private final Connection connection;
+        private boolean rollbackOnly;
+
+        private TransactionContext(final Connection connection) {
+            this.connection = connection;
+        }
+
+        private Connection getConnection() {
+            return connection;
+        }
+
+        private boolean isRollbackOnly() {
+            return rollbackOnly;
+        }
+
+        private void setRollbackOnly() {
+            rollbackOnly = true;
+        }
+    }
+}
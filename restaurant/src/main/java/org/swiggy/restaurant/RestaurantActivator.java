@@ -3,11 +3,21 @@ package org.swiggy.restaurant;
 import org.osgi.framework.BundleActivator;
 import org.osgi.framework.BundleContext;
 
+import org.swiggy.database.executor.DatabaseExecutor;
+import org.swiggy.restaurant.internal.service.impl.RestaurantServiceImpl;
+import org.swiggy.restaurant.inventory.InventoryManager;
+
+
 /**
  * <p>
  *  Customizes the starting and stopping of a bundle.
  * </p>
  *
+ * <p>
+ * The phone numbers and email ids of the restaurants are loaded into the signup filter on the database executor
+ * once the bundle starts. Until then the signups check them by querying the restaurants.
+ * </p>
+ *
  * @author Muthu kumar V
  * @version 1.0
  */
@@ -22,6 +32,7 @@ public class RestaurantActivator implements BundleActivator {
      */
     @Override
     public void start(final BundleContext context) {
+        DatabaseExecutor.getInstance().run(RestaurantServiceImpl.getInstance()::warmSignupFilter);
         System.out.println("Restaurant Bundle Is Started");
     }
 
@@ -34,6 +45,7 @@ public class RestaurantActivator implements BundleActivator {
      */
     @Override
     public void stop(final BundleContext context) {
+        InventoryManager.shutdownInstance();
         System.out.println("Restaurant Bundle Is Stopped");
     }
 }
@@ -0,0 +1,118 @@
+package org.swiggy.restaurant.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * Tracks the version of the catalog as a whole and of each restaurant in it.
+ * </p>
+ *
+ * <p>
+ * Every write that changes what the catalog reads return bumps a version, and cached data stamped with an older
+ * version is stale. The list of restaurants is tracked under {@link #RESTAURANT_LIST}, which is never the id of
+ * a restaurant.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class CatalogVersion {
+
+    public static final long RESTAURANT_LIST = 0;
+    private static CatalogVersion catalogVersion;
+    private final AtomicLong version;
+    private final Map<Long, Long> restaurantVersions;
+
+    private CatalogVersion() {
+        version = new AtomicLong();
+        restaurantVersions = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * <p>
+     * Gets the object of the catalog version class.
+     * </p>
+     *
+     * @return The catalog version object
+     */
+    public static synchronized CatalogVersion getInstance() {
+        if (null == catalogVersion) {
+            catalogVersion = new CatalogVersion();
+        }
+
+        return catalogVersion;
+    }
+
+    /**
+     * <p>
+     * Gets the version stamp of the restaurant, which changes whenever the restaurant or the whole catalog changes.
+     * </p>
+     *
+     * @param restaurantId Represents the id of the restaurant or {@link #RESTAURANT_LIST}
+     * @return The version stamp of the restaurant
+     */
+    public VersionStamp getStamp(final long restaurantId) {
+        return new VersionStamp(version.get(), restaurantVersions.getOrDefault(restaurantId, 0L));
+    }
+
+    /**
+     * <p>
+     * Marks the data of the restaurant as changed.
+     * </p>
+     *
+     * @param restaurantId Represents the id of the restaurant or {@link #RESTAURANT_LIST}
+     */
+    public void incrementRestaurantVersion(final long restaurantId) {
+        restaurantVersions.merge(restaurantId, 1L, Long::sum);
+    }
+
+    /**
+     * <p>
+     * Marks the whole catalog as changed.
+     * </p>
+     */
+    public void incrementVersion() {
+        version.incrementAndGet();
+    }
+
+    /**
+     * <p>
+     * Represents the catalog version and the restaurant version at one point in time.
+     * </p>
+     */
+    public static class VersionStamp {
+
+        private final long version;
+        private final long restaurantVersion;
+
+        private VersionStamp(final long version, final long restaurantVersion) {
+            this.version = version;
+            this.restaurantVersion = restaurantVersion;
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            if (this == object) {
+                return true;
+            }
+
+            if (!(object instanceof VersionStamp stamp)) {
+                return false;
+            }
+
+            return version == stamp.version && restaurantVersion == stamp.restaurantVersion;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Long.hashCode(version) + Long.hashCode(restaurantVersion);
+        }
+
+        @Override
+        public String toString() {
+            return String.join("", String.valueOf(version), ".", String.valueOf(restaurantVersion));
+        }
+    }
+}
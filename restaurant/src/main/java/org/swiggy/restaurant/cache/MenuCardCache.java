@@ -0,0 +1,288 @@
+package org.swiggy.restaurant.cache;
+
+import org.swiggy.common.cache.CacheStatistics;
+import org.swiggy.restaurant.cache.CatalogVersion.VersionStamp;
+import org.swiggy.restaurant.model.Food;
+import org.swiggy.restaurant.model.MenuCardType;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Caches the menu card of each restaurant by the restaurant and the {@link MenuCardType}.
+ * </p>
+ *
+ * <p>
+ * The cache holds a bounded number of menu cards and evicts the least recently used one when it is full. Any write
+ * that changes the foods of a restaurant must invalidate it, which also moves the {@link CatalogVersion} of the
+ * restaurant. A load that overlaps an invalidation of the same restaurant is returned to its caller but not
+ * stored, so a menu card read before the write can't be cached after it.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class MenuCardCache {
+
+    private static final int MAXIMUM_SIZE = 1024;
+    private static MenuCardCache menuCardCache;
+    private final Map<MenuCardKey, CacheEntry> entries;
+    private final Map<Long, Long> foodRestaurants;
+    private final CatalogVersion catalogVersion;
+    private final LongAdder hitCount;
+    private final LongAdder missCount;
+    private final LongAdder evictionCount;
+    private final LongAdder invalidationCount;
+    private final LongAdder totalLoadNanos;
+    private final AtomicLong maximumLoadNanos;
+
+    private MenuCardCache() {
+        entries = new ConcurrentHashMap<>();
+        foodRestaurants = new ConcurrentHashMap<>();
+        catalogVersion = CatalogVersion.getInstance();
+        hitCount = new LongAdder();
+        missCount = new LongAdder();
+        evictionCount = new LongAdder();
+        invalidationCount = new LongAdder();
+        totalLoadNanos = new LongAdder();
+        maximumLoadNanos = new AtomicLong();
+    }
+
+    /**
+     * <p>
+     * Gets the object of the menu card cache class.
+     * </p>
+     *
+     * @return The menu card cache object
+     */
+    public static synchronized MenuCardCache getInstance() {
+        if (null == menuCardCache) {
+            menuCardCache = new MenuCardCache();
+        }
+
+        return menuCardCache;
+    }
+
+    /**
+     * <p>
+     * Gets the menu card from the cache, loading and storing it on a miss.
+     * </p>
+     *
+     * @param restaurantId Represents the id of the restaurant
+     * @param menuCardTypeId Represents the id of the {@link MenuCardType}
+     * @param loader Loads the menu card from the database
+     * @return The list of foods of the menu card, or null if the restaurant has no such foods
+     */
+    public List<Food> getMenuCard(final long restaurantId, final int menuCardTypeId,
+                                  final Supplier<List<Food>> loader) {
+        final MenuCardKey key = new MenuCardKey(restaurantId, menuCardTypeId);
+        final CacheEntry cachedEntry = entries.get(key);
+
+        if (null != cachedEntry) {
+            cachedEntry.touch();
+            hitCount.increment();
+
+            return cachedEntry.getFoods();
+        }
+        missCount.increment();
+        final VersionStamp stamp = catalogVersion.getStamp(restaurantId);
+        final long startTime = System.nanoTime();
+        final List<Food> menuCard = loader.get();
+        final long loadNanos = System.nanoTime() - startTime;
+        final List<Food> foods = null == menuCard ? null : Collections.unmodifiableList(menuCard);
+
+        totalLoadNanos.add(loadNanos);
+        maximumLoadNanos.accumulateAndGet(loadNanos, Math::max);
+
+        if (null != foods) {
+            for (final Food food : foods) {
+                foodRestaurants.put(food.getId(), restaurantId);
+            }
+        }
+
+        if (stamp.equals(catalogVersion.getStamp(restaurantId))) {
+            final CacheEntry entry = new CacheEntry(foods);
+
+            entries.put(key, entry);
+
+            if (stamp.equals(catalogVersion.getStamp(restaurantId))) {
+                evictIfFull();
+            } else {
+                entries.remove(key, entry);
+            }
+        }
+
+        return foods;
+    }
+
+    /**
+     * <p>
+     * Removes the cached menu cards of the restaurant.
+     * </p>
+     *
+     * @param restaurantId Represents the id of the restaurant
+     */
+    public void invalidateRestaurant(final long restaurantId) {
+        catalogVersion.incrementRestaurantVersion(restaurantId);
+        invalidationCount.increment();
+
+        for (final MenuCardType type : MenuCardType.values()) {
+            entries.remove(new MenuCardKey(restaurantId, MenuCardType.getId(type)));
+        }
+    }
+
+    /**
+     * <p>
+     * Removes the cached menu cards of the restaurants serving the given foods.
+     * </p>
+     *
+     * @param foodIds Represents the ids of the changed foods
+     */
+    public void invalidateFoods(final Collection<Long> foodIds) {
+        for (final Long foodId : foodIds) {
+            final Long restaurantId = foodRestaurants.get(foodId);
+
+            if (null == restaurantId) {
+
+                // The food is not in any stored menu card, but a load in progress may read it.
+                catalogVersion.incrementVersion();
+                invalidationCount.increment();
+            } else {
+                invalidateRestaurant(restaurantId);
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Removes the cached menu cards of the restaurant serving the removed food.
+     * </p>
+     *
+     * @param foodId Represents the id of the removed food
+     */
+    public void invalidateRemovedFood(final long foodId) {
+        invalidateFoods(List.of(foodId));
+        foodRestaurants.remove(foodId);
+    }
+
+    /**
+     * <p>
+     * Removes all the cached menu cards.
+     * </p>
+     */
+    public void invalidateAll() {
+        catalogVersion.incrementVersion();
+        invalidationCount.increment();
+        entries.clear();
+        foodRestaurants.clear();
+    }
+
+    /**
+     * <p>
+     * Evicts the least recently used menu cards until the cache is within its size.
+     * </p>
+     */
+    private synchronized void evictIfFull() {
+        while (MAXIMUM_SIZE < entries.size()) {
+            MenuCardKey leastRecentlyUsed = null;
+            long oldestAccess = Long.MAX_VALUE;
+
+            for (final Map.Entry<MenuCardKey, CacheEntry> entry : entries.entrySet()) {
+                if (entry.getValue().getLastAccess() < oldestAccess) {
+                    oldestAccess = entry.getValue().getLastAccess();
+                    leastRecentlyUsed = entry.getKey();
+                }
+            }
+
+            if (null == leastRecentlyUsed) {
+                return;
+            }
+            entries.remove(leastRecentlyUsed);
+            evictionCount.increment();
+        }
+    }
+
+    /**
+     * <p>
+     * Gets a snapshot of the cache metrics.
+     * </p>
+     *
+     * @return The cache statistics
+     */
+    public CacheStatistics getStatistics() {
+        return new CacheStatistics(entries.size(), hitCount.sum(), missCount.sum(), evictionCount.sum(),
+                invalidationCount.sum(), totalLoadNanos.sum(), maximumLoadNanos.get());
+    }
+
+    /**
+     * <p>
+     * Identifies a menu card by the restaurant and the menu card type. Unknown type ids are served as
+     * {@link MenuCardType#BOTH}, the same as the database query does.
+     * </p>
+     */
+    private static class MenuCardKey {
+
+        private final long restaurantId;
+        private final MenuCardType menuCardType;
+
+        private MenuCardKey(final long restaurantId, final int menuCardTypeId) {
+            final MenuCardType type = MenuCardType.getTypeById(menuCardTypeId);
+
+            this.restaurantId = restaurantId;
+            this.menuCardType = null == type ? MenuCardType.BOTH : type;
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            if (this == object) {
+                return true;
+            }
+
+            if (!(object instanceof MenuCardKey key)) {
+                return false;
+            }
+
+            return restaurantId == key.restaurantId && menuCardType == key.menuCardType;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Long.hashCode(restaurantId) + menuCardType.hashCode();
+        }
+    }
+
+    /**
+     * <p>
+     * Holds a cached menu card and the time it was last read.
+     * </p>
+     */
+    private static class CacheEntry {
+
+        private final List<Food> foods;
+        private volatile long lastAccess;
+
+        private CacheEntry(final List<Food> foods) {
+            this.foods = foods;
+            this.lastAccess = System.nanoTime();
+        }
+
+        private List<Food> getFoods() {
+            return foods;
+        }
+
+        private long getLastAccess() {
+            return lastAccess;
+        }
+
+        private void touch() {
+            lastAccess = System.nanoTime();
+        }
+    }
+}
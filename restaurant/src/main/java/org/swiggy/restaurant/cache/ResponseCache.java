@@ -0,0 +1,241 @@
+package org.swiggy.restaurant.cache;
+
+import org.swiggy.common.cache.CacheStatistics;
+import org.swiggy.database.executor.DatabaseExecutor;
+import org.swiggy.restaurant.cache.CatalogVersion.VersionStamp;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Caches the serialized bytes of the catalog responses, so a hit costs no tree building or serialization.
+ * </p>
+ *
+ * <p>
+ * Each response is stored with the {@link CatalogVersion} stamp of the restaurant it was built for, taken before
+ * the data was read. A response whose stamp no longer matches is rebuilt, so the writes that move the catalog
+ * version invalidate the responses without touching this cache. The cache holds a bounded number of responses
+ * and evicts the least recently used one when it is full.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class ResponseCache {
+
+    private static final int MAXIMUM_SIZE = 2048;
+    private static ResponseCache responseCache;
+    private final Map<String, CacheEntry> entries;
+    private final CatalogVersion catalogVersion;
+    private final LongAdder hitCount;
+    private final LongAdder missCount;
+    private final LongAdder evictionCount;
+    private final LongAdder staleCount;
+    private final LongAdder totalBuildNanos;
+    private final AtomicLong maximumBuildNanos;
+
+    private ResponseCache() {
+        entries = new ConcurrentHashMap<>();
+        catalogVersion = CatalogVersion.getInstance();
+        hitCount = new LongAdder();
+        missCount = new LongAdder();
+        evictionCount = new LongAdder();
+        staleCount = new LongAdder();
+        totalBuildNanos = new LongAdder();
+        maximumBuildNanos = new AtomicLong();
+    }
+
+    /**
+     * <p>
+     * Gets the object of the response cache class.
+     * </p>
+     *
+     * @return The response cache object
+     */
+    public static synchronized ResponseCache getInstance() {
+        if (null == responseCache) {
+            responseCache = new ResponseCache();
+        }
+
+        return responseCache;
+    }
+
+    /**
+     * <p>
+     * Gets the response bytes from the cache, building and storing them when missing or stale.
+     * </p>
+     *
+     * @param key Represents the key of the response
+     * @param restaurantId Represents the id of the restaurant the response is built from, or
+     *                     {@link CatalogVersion#RESTAURANT_LIST}
+     * @param builder Builds the response bytes, giving null when the response must not be stored
+     * @return The response bytes, or null if the builder gave null
+     */
+    public byte[] getResponse(final String key, final long restaurantId, final Supplier<byte[]> builder) {
+        final VersionStamp stamp = catalogVersion.getStamp(restaurantId);
+        final byte[] cachedResponse = getCachedResponse(key, stamp);
+
+        if (null != cachedResponse) {
+            return cachedResponse;
+        }
+
+        return buildResponse(key, stamp, builder);
+    }
+
+    /**
+     * <p>
+     * Gets the response bytes from the cache, building and storing them on the given executor when missing or
+     * stale. A hit completes right away on the calling thread.
+     * </p>
+     *
+     * @param key Represents the key of the response
+     * @param restaurantId Represents the id of the restaurant the response is built from, or
+     *                     {@link CatalogVersion#RESTAURANT_LIST}
+     * @param builder Builds the response bytes, giving null when the response must not be stored
+     * @param executor Runs the builder
+     * @return The future response bytes, null if the builder gave null, failed if the executor is full
+     */
+    public CompletableFuture<byte[]> getResponseAsync(final String key, final long restaurantId,
+                                                      final Supplier<byte[]> builder,
+                                                      final DatabaseExecutor executor) {
+        final VersionStamp stamp = catalogVersion.getStamp(restaurantId);
+        final byte[] cachedResponse = getCachedResponse(key, stamp);
+
+        if (null != cachedResponse) {
+            return CompletableFuture.completedFuture(cachedResponse);
+        }
+
+        return executor.supply(() -> buildResponse(key, stamp, builder));
+    }
+
+    /**
+     * <p>
+     * Gets the cached response bytes if they were built for the given stamp.
+     * </p>
+     *
+     * @param key Represents the key of the response
+     * @param stamp Represents the current version stamp of the restaurant
+     * @return The response bytes, or null when missing or stale
+     */
+    private byte[] getCachedResponse(final String key, final VersionStamp stamp) {
+        final CacheEntry cachedEntry = entries.get(key);
+
+        if (null != cachedEntry) {
+            if (stamp.equals(cachedEntry.getStamp())) {
+                cachedEntry.touch();
+                hitCount.increment();
+
+                return cachedEntry.getResponse();
+            }
+            staleCount.increment();
+        }
+        missCount.increment();
+
+        return null;
+    }
+
+    /**
+     * <p>
+     * Builds the response bytes and stores them with the stamp taken before the data was read. A builder giving
+     * null has nothing to cache, such as a restaurant that doesn't exist yet, whose id isn't versioned until it
+     * signs up.
+     * </p>
+     *
+     * @param key Represents the key of the response
+     * @param stamp Represents the version stamp taken before the build
+     * @param builder Builds the response bytes, giving null when the response must not be stored
+     * @return The response bytes, or null if the builder gave null
+     */
+    private byte[] buildResponse(final String key, final VersionStamp stamp, final Supplier<byte[]> builder) {
+        final long startTime = System.nanoTime();
+        final byte[] response = builder.get();
+        final long buildNanos = System.nanoTime() - startTime;
+
+        totalBuildNanos.add(buildNanos);
+        maximumBuildNanos.accumulateAndGet(buildNanos, Math::max);
+
+        if (null == response) {
+            return null;
+        }
+        entries.put(key, new CacheEntry(response, stamp));
+        evictIfFull();
+
+        return response;
+    }
+
+    /**
+     * <p>
+     * Evicts the least recently used responses until the cache is within its size.
+     * </p>
+     */
+    private synchronized void evictIfFull() {
+        while (MAXIMUM_SIZE < entries.size()) {
+            String leastRecentlyUsed = null;
+            long oldestAccess = Long.MAX_VALUE;
+
+            for (final Map.Entry<String, CacheEntry> entry : entries.entrySet()) {
+                if (entry.getValue().getLastAccess() < oldestAccess) {
+                    oldestAccess = entry.getValue().getLastAccess();
+                    leastRecentlyUsed = entry.getKey();
+                }
+            }
+
+            if (null == leastRecentlyUsed) {
+                return;
+            }
+            entries.remove(leastRecentlyUsed);
+            evictionCount.increment();
+        }
+    }
+
+    /**
+     * <p>
+     * Gets a snapshot of the cache metrics. Responses found stale are counted as invalidations.
+     * </p>
+     *
+     * @return The cache statistics
+     */
+    public CacheStatistics getStatistics() {
+        return new CacheStatistics(entries.size(), hitCount.sum(), missCount.sum(), evictionCount.sum(),
+                staleCount.sum(), totalBuildNanos.sum(), maximumBuildNanos.get());
+    }
+
+    /**
+     * <p>
+     * Holds the cached response bytes, the version stamp they were built for and the time they were last read.
+     * </p>
+     */
+    private static class CacheEntry {
+
+        private final byte[] response;
+        private final VersionStamp stamp;
+        private volatile long lastAccess;
+
+        private CacheEntry(final byte[] response, final VersionStamp stamp) {
+            this.response = response;
+            this.stamp = stamp;
+            this.lastAccess = System.nanoTime();
+        }
+
+        private byte[] getResponse() {
+            return response;
+        }
+
+        private VersionStamp getStamp() {
+            return stamp;
+        }
+
+        private long getLastAccess() {
+            return lastAccess;
+        }
+
+        private void touch() {
+            lastAccess = System.nanoTime();
+        }
+    }
+}
@@ -54,7 +54,11 @@ public class RestaurantInitializer {
 
     /**
      * <p>
-     * Loads the data of the restaurant.
+     * Loads the data of the restaurant, applying only the differences between the seed files and the database.
+     * </p>
+     *
+     * <p>
+     * The schema of the catalog tables is migrated first, outside the transaction of the catalog data.
      * </p>
      */
     public void loadRestaurantsData() {
@@ -71,10 +75,8 @@ public class RestaurantInitializer {
                 restaurant.setName(name);
                 restaurants.add(restaurant);
             }
-
-            if (restaurantController.loadRestaurantsData(restaurants)) {
-                loadMenuCardData(restaurants);
-            }
+            restaurantController.migrateCatalogSchema();
+            restaurantController.reconcileCatalog(loadMenuCardData(restaurants));
         } catch (IOException message) {
             logger.error(message.getMessage());
             throw new RestaurantFileAccessException(message.getMessage());
@@ -87,9 +89,10 @@ public class RestaurantInitializer {
      * </p>
      *
      * @param restaurants Represents all the restaurants
+     * @return The list of foods of each restaurant by the name of the restaurant
      */
-    private void loadMenuCardData(final List<Restaurant> restaurants) {
-        final Map<Food, Long> menuCard = new HashMap<>();
+    private Map<String, List<Food>> loadMenuCardData(final List<Restaurant> restaurants) {
+        final Map<String, List<Food>> menuCard = new HashMap<>();
 
         for (final Restaurant restaurant : restaurants) {
             final String restaurantDataPath = String.join("", restaurant.getName().toLowerCase(),
@@ -97,6 +100,7 @@ public class RestaurantInitializer {
 
             try (InputStream inputStream = ClassLoader.getSystemResourceAsStream(restaurantDataPath)) {
                 final Properties properties = new Properties();
+                final List<Food> foods = menuCard.computeIfAbsent(restaurant.getName(), name -> new ArrayList<>());
 
                 properties.load(inputStream);
 
@@ -109,9 +113,9 @@ public class RestaurantInitializer {
                     final int foodQuantity = Integer.parseInt(restaurantProperty[3]);
 
                     if (type.equalsIgnoreCase(FoodType.VEG.name())) {
-                        menuCard.put(new Food(name, rate, FoodType.VEG, foodQuantity), restaurant.getId());
+                        foods.add(new Food(name, rate, FoodType.VEG, foodQuantity));
                     } else {
-                        menuCard.put(new Food(name, rate, FoodType.NONVEG, foodQuantity), restaurant.getId());
+                        foods.add(new Food(name, rate, FoodType.NONVEG, foodQuantity));
                     }
                 }
             } catch (IOException message) {
@@ -119,6 +123,7 @@ public class RestaurantInitializer {
                 throw new FoodDataLoadFailureException(message.getMessage());
             }
         }
-        restaurantController.loadMenuCard(menuCard);
+
+        return menuCard;
     }
 }
\ No newline at end of file
@@ -92,24 +92,23 @@ public class RestaurantController {
 
     /**
      * <p>
-     * Loads all the restaurants data.
+     * Brings the stored catalog of restaurants and foods in line with the given catalog.
      * </p>
      *
-     * @param restaurants Represents list of restaurants
+     * @param catalog Contains the list of foods of each restaurant by the name of the restaurant
+     * @return The number of rows changed
      */
-    public boolean loadRestaurantsData(final List<Restaurant> restaurants) {
-        return restaurantService.loadRestaurantsData(restaurants);
+    public int reconcileCatalog(final Map<String, List<Food>> catalog) {
+        return restaurantService.reconcileCatalog(catalog);
     }
 
     /**
      * <p>
-     * Loads the menucard of the restaurant.
+     * Brings the schema of the catalog tables up to date.
      * </p>
-     *
-     * @param menuCard Contains the list of foods from the restaurant
      */
-    public void loadMenuCard(final Map<Food, Long> menuCard) {
-        restaurantService.loadMenuCardData(menuCard);
+    public void migrateCatalogSchema() {
+        restaurantService.migrateCatalogSchema();
     }
 
     /**
@@ -0,0 +1,43 @@
+package org.swiggy.restaurant.internal.dao;
+
+import org.swiggy.restaurant.model.Food;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * Provides data base service for the seed catalog of restaurants and foods.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public interface CatalogDAO {
+
+    /**
+     * <p>
+     * Adds the soft delete flags and the catalog flag to the restaurant and food tables when they are missing.
+     * </p>
+     *
+     * <p>
+     * It runs once when the catalog is loaded, before any reconcile, and changes nothing on an up to date schema.
+     * </p>
+     */
+    void migrateSchema();
+
+    /**
+     * <p>
+     * Brings the stored catalog in line with the given catalog, applying only the differences.
+     * </p>
+     *
+     * <p>
+     * Missing restaurants and foods are inserted, foods whose rate or type changed are updated, and catalog
+     * entries no longer present are soft deleted so existing carts and orders keep their references.
+     * </p>
+     *
+     * @param catalog Contains the list of foods of each restaurant by the name of the restaurant
+     * @return The number of rows changed
+     */
+    int reconcileCatalog(final Map<String, List<Food>> catalog);
+}
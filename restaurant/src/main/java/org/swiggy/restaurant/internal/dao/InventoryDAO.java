@@ -0,0 +1,52 @@
+package org.swiggy.restaurant.internal.dao;
+
+import java.sql.Connection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>
+ * Provides data base service for the stock of the foods.
+ * </p>
+ *
+ * <p>
+ * Every decrement is conditional on the stored quantity, so the stock of a food never goes below zero however many
+ * orders race for it.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public interface InventoryDAO {
+
+    /**
+     * <p>
+     * Takes the given quantities from the stock of the foods in one batch on the connection of the order.
+     * </p>
+     *
+     * @param connection Represents the connection of the current transaction
+     * @param foodQuantities Represents the quantity to take of each food, sorted by the id of the food
+     * @return The ids of the foods whose stock was lower than the quantity
+     */
+    Set<Long> takeQuantities(final Connection connection, final Map<Long, Integer> foodQuantities);
+
+    /**
+     * <p>
+     * Moves the given quantities out of the stored stock of the foods in one batch, for the stock counters held in
+     * memory.
+     * </p>
+     *
+     * @param foodQuantities Represents the quantity to lease of each food
+     * @return The ids of the foods whose quantity was leased
+     */
+    Set<Long> leaseQuantities(final Map<Long, Integer> foodQuantities);
+
+    /**
+     * <p>
+     * Adds the given quantities back to the stored stock of the foods in one batch.
+     * </p>
+     *
+     * @param foodQuantities Represents the quantity to return of each food
+     */
+    void returnQuantities(final Map<Long, Integer> foodQuantities);
+}
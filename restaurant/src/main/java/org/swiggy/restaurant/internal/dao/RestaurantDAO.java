@@ -1,11 +1,13 @@
 package org.swiggy.restaurant.internal.dao;
 
+import org.swiggy.common.auth.Credential;
+import org.swiggy.database.stream.RowStream;
 import org.swiggy.restaurant.model.Food;
 import org.swiggy.restaurant.model.Restaurant;
 import org.swiggy.restaurant.model.RestaurantData;
 
 import java.util.List;
-import java.util.Map;
+import java.util.function.BiConsumer;
 
 /**
  * <p>
@@ -29,16 +31,34 @@ public interface RestaurantDAO {
 
      /**
       * <p>
-      * Gets the restaurant if the phone_number and password matches.
+      * Gets the restaurant with its password hash by the phone number or email id the restaurant logs in with.
       * </p>
       *
       * @param restaurantDataType Represents the type of data of the restaurant
       * @param restaurantData Represents the data of the restaurant
-      * @param password Represents the password of the restaurant
-      * @return The restaurant object
+      * @return The credential of the restaurant, or null if there is no such restaurant
+      */
+     Credential<Restaurant> getCredential(final RestaurantData restaurantDataType, final String restaurantData);
+
+     /**
+      * <p>
+      * Checks whether a restaurant has the phone number or email id.
+      * </p>
+      *
+      * @param restaurantDataType Represents the type of data of the restaurant, phone number or email id
+      * @param restaurantData Represents the data of the restaurant
+      * @return True if the data is taken, false otherwise
+      */
+     boolean isRestaurantDataTaken(final RestaurantData restaurantDataType, final String restaurantData);
+
+     /**
+      * <p>
+      * Reads the phone number and email id of every restaurant, one row at a time.
+      * </p>
+      *
+      * @param consumer Receives the type and value of each phone number and email id
       */
-     Restaurant getRestaurant(final RestaurantData restaurantDataType, final String restaurantData,
-                              final String password);
+     void readSignupData(final BiConsumer<RestaurantData, String> consumer);
 
      /**
       * <p>
@@ -61,12 +81,12 @@ public interface RestaurantDAO {
 
      /**
       * <p>
-      * Loads all the restaurants data.
+      * Gets all the restaurants as a stream that reads and writes them one row at a time.
       * </p>
       *
-      * @param restaurants Represents list of restaurants
+      * @return The stream of all restaurants
       */
-     boolean loadRestaurantsData(final List<Restaurant> restaurants);
+     RowStream<Restaurant> streamRestaurants();
 
      /**
       * <p>
@@ -79,22 +99,13 @@ public interface RestaurantDAO {
       */
      boolean addFood(final Food food, final long restaurantId);
 
-     /**
-      * <p>
-      * Loads the menucard of the restaurant.
-      * </p>
-      *
-      * @param menuCard Contains the list of foods from the restaurant
-      */
-     void loadMenuCardData(final Map<Food, Long> menuCard);
-
      /**
       * <p>
       * Gets the available food quantity in the restaurant .
       * </p>
       *
       * @param foodId Represents the id of the food
-      * @return Available quantity of food from the restaurant
+      * @return Available quantity of food from the restaurant, zero if the food is removed
       */
      int getQuantity(final long foodId);
 
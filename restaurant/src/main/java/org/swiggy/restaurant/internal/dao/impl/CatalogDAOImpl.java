@@ -0,0 +1,413 @@
+package org.swiggy.restaurant.internal.dao.impl;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.swiggy.database.bulk.BulkLoader;
+import org.swiggy.database.transaction.TransactionTemplate;
+import org.swiggy.restaurant.internal.dao.CatalogDAO;
+import org.swiggy.restaurant.internal.exception.FoodDataLoadFailureException;
+import org.swiggy.restaurant.model.Food;
+import org.swiggy.restaurant.model.FoodType;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>
+ * Implements the data base service of the seed catalog.
+ * </p>
+ *
+ * <p>
+ * The catalog restaurants are the ones created from the seed files, marked by the is_catalog flag. Restaurants
+ * that signed up on their own are never touched. Foods are matched by the name of the restaurant and the name of the
+ * food. The quantity of a food is stock that changes with orders, so it is only written when the food is inserted.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class CatalogDAOImpl implements CatalogDAO {
+
+    private static CatalogDAO catalogDAO;
+    private final Logger logger;
+    private final TransactionTemplate transactionTemplate;
+    private final BulkLoader bulkLoader;
+
+    private CatalogDAOImpl() {
+        logger = LogManager.getLogger(CatalogDAOImpl.class);
+        transactionTemplate = TransactionTemplate.getInstance();
+        bulkLoader = BulkLoader.getInstance();
+    }
+
+    /**
+     * <p>
+     * Gets the object of the catalog database implementation class.
+     * </p>
+     *
+     * @return The catalog database service implementation object
+     */
+    public static CatalogDAO getInstance() {
+        if (null == catalogDAO) {
+            catalogDAO = new CatalogDAOImpl();
+        }
+
+        return catalogDAO;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void migrateSchema() {
+        try {
+            transactionTemplate.execute(connection -> {
+                final Set<String> columns = getColumns(connection);
+
+                for (final String table : List.of("restaurant", "food")) {
+                    if (!columns.contains(String.join(".", table, "is_deleted"))) {
+                        executeUpdate(connection, String.join("", "alter table ", table,
+                                " add column is_deleted boolean not null default false"));
+                    }
+                }
+
+                if (!columns.contains("restaurant.is_catalog")) {
+                    executeUpdate(connection,
+                            "alter table restaurant add column is_catalog boolean not null default false");
+
+                    // The seed files created restaurants with no login data before the flag existed.
+                    executeUpdate(connection, """
+                            update restaurant set is_catalog = true
+                            where phone_number is null and email_id is null and password is null""");
+                    logger.info("Added the catalog flag to the restaurants");
+                }
+
+                return null;
+            });
+        } catch (SQLException message) {
+            logger.error(message.getMessage());
+            throw new FoodDataLoadFailureException(message.getMessage());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param catalog Contains the list of foods of each restaurant by the name of the restaurant
+     * @return The number of rows changed
+     */
+    @Override
+    public int reconcileCatalog(final Map<String, List<Food>> catalog) {
+        final long startTime = System.nanoTime();
+
+        try {
+            final int changeCount = transactionTemplate.execute(connection -> {
+                final Map<String, CatalogRow> restaurants = getCatalogRestaurants(connection);
+                final Map<String, Map<String, CatalogRow>> foods = getCatalogFoods(connection);
+
+                return reconcileRestaurants(connection, catalog, restaurants)
+                        + reconcileFoods(connection, catalog, restaurants, foods);
+            });
+            final double seconds = (System.nanoTime() - startTime) / 1_000_000_000d;
+
+            logger.info(String.format("Reconciled the catalog with %d changed rows in %.3f s", changeCount,
+                    seconds));
+
+            return changeCount;
+        } catch (SQLException message) {
+            logger.error(message.getMessage());
+            throw new FoodDataLoadFailureException(message.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the columns of the restaurant and food tables as table.column names.
+     * </p>
+     *
+     * @param connection Represents the connection of the current transaction
+     * @return The columns of the restaurant and food tables
+     * @throws SQLException if the columns can't be read
+     */
+    private Set<String> getColumns(final Connection connection) throws SQLException {
+        final String query = """
+                select table_name, column_name from information_schema.columns
+                where table_schema = current_schema and table_name in ('restaurant', 'food')""";
+        final Set<String> columns = new HashSet<>();
+
+        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+            final ResultSet resultSet = preparedStatement.executeQuery();
+
+            while (resultSet.next()) {
+                columns.add(String.join(".", resultSet.getString(1), resultSet.getString(2)));
+            }
+        }
+
+        return columns;
+    }
+
+    private void executeUpdate(final Connection connection, final String query) throws SQLException {
+        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+            preparedStatement.executeUpdate();
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the stored catalog restaurants by their name.
+     * </p>
+     *
+     * @param connection Represents the connection of the current transaction
+     * @return The catalog restaurants by their name
+     * @throws SQLException if the restaurants can't be read
+     */
+    private Map<String, CatalogRow> getCatalogRestaurants(final Connection connection) throws SQLException {
+        final String query = "select id, name, is_deleted from restaurant where is_catalog";
+        final Map<String, CatalogRow> restaurants = new HashMap<>();
+
+        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+            final ResultSet resultSet = preparedStatement.executeQuery();
+
+            while (resultSet.next()) {
+                restaurants.put(resultSet.getString(2), new CatalogRow(resultSet.getLong(1), 0, 0,
+                        resultSet.getBoolean(3)));
+            }
+        }
+
+        return restaurants;
+    }
+
+    /**
+     * <p>
+     * Gets the stored foods of the catalog restaurants by the name of the restaurant and the name of the food.
+     * </p>
+     *
+     * @param connection Represents the connection of the current transaction
+     * @return The catalog foods by the name of the restaurant and the name of the food
+     * @throws SQLException if the foods can't be read
+     */
+    private Map<String, Map<String, CatalogRow>> getCatalogFoods(final Connection connection) throws SQLException {
+        final String query = """
+                select f.id, r.name, f.name, f.rate, f.food_type, f.is_deleted from food f
+                join restaurant_food rf on f.id = rf.food_id
+                join restaurant r on rf.restaurant_id = r.id where r.is_catalog""";
+        final Map<String, Map<String, CatalogRow>> foods = new HashMap<>();
+
+        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+            final ResultSet resultSet = preparedStatement.executeQuery();
+
+            while (resultSet.next()) {
+                foods.computeIfAbsent(resultSet.getString(2), name -> new HashMap<>()).put(resultSet.getString(3),
+                        new CatalogRow(resultSet.getLong(1), resultSet.getFloat(4), resultSet.getInt(5),
+                                resultSet.getBoolean(6)));
+            }
+        }
+
+        return foods;
+    }
+
+    /**
+     * <p>
+     * Inserts the new restaurants, restores the returning ones and soft deletes the removed ones.
+     * </p>
+     *
+     * @param connection Represents the connection of the current transaction
+     * @param catalog Contains the list of foods of each restaurant by the name of the restaurant
+     * @param restaurants Contains the stored catalog restaurants, updated with the inserted ones
+     * @return The number of rows changed
+     * @throws SQLException if the restaurants can't be changed
+     */
+    private int reconcileRestaurants(final Connection connection, final Map<String, List<Food>> catalog,
+                                     final Map<String, CatalogRow> restaurants) throws SQLException {
+        final List<String> newRestaurants = new ArrayList<>();
+        final List<Object[]> restoredRestaurants = new ArrayList<>();
+        final List<Object[]> removedRestaurants = new ArrayList<>();
+
+        for (final String name : catalog.keySet()) {
+            final CatalogRow restaurant = restaurants.get(name);
+
+            if (null == restaurant) {
+                newRestaurants.add(name);
+            } else if (restaurant.isDeleted()) {
+                restoredRestaurants.add(new Object[] {restaurant.getId()});
+            }
+        }
+
+        for (final Map.Entry<String, CatalogRow> restaurant : restaurants.entrySet()) {
+            if (!catalog.containsKey(restaurant.getKey()) && !restaurant.getValue().isDeleted()) {
+                removedRestaurants.add(new Object[] {restaurant.getValue().getId()});
+            }
+        }
+        final long[] restaurantIds = bulkLoader.reserveIds(connection, "restaurant", "id", newRestaurants.size());
+        final List<Object[]> restaurantRows = new ArrayList<>(newRestaurants.size());
+
+        for (int index = 0; index < newRestaurants.size(); index++) {
+            restaurants.put(newRestaurants.get(index), new CatalogRow(restaurantIds[index], 0, 0, false));
+            restaurantRows.add(new Object[] {restaurantIds[index], newRestaurants.get(index), Boolean.TRUE});
+        }
+        bulkLoader.load(connection, "restaurant", List.of("id", "name", "is_catalog"), restaurantRows);
+        executeBatch(connection, "update restaurant set is_deleted = false where id = ?", restoredRestaurants);
+        executeBatch(connection, "update restaurant set is_deleted = true where id = ?", removedRestaurants);
+
+        return restaurantRows.size() + restoredRestaurants.size() + removedRestaurants.size();
+    }
+
+    /**
+     * <p>
+     * Inserts the new foods, updates the changed ones and soft deletes the removed ones.
+     * </p>
+     *
+     * @param connection Represents the connection of the current transaction
+     * @param catalog Contains the list of foods of each restaurant by the name of the restaurant
+     * @param restaurants Contains the catalog restaurants by their name
+     * @param foods Contains the stored catalog foods by the name of the restaurant and the name of the food
+     * @return The number of rows changed
+     * @throws SQLException if the foods can't be changed
+     */
+    private int reconcileFoods(final Connection connection, final Map<String, List<Food>> catalog,
+                               final Map<String, CatalogRow> restaurants,
+                               final Map<String, Map<String, CatalogRow>> foods) throws SQLException {
+        final List<Food> newFoods = new ArrayList<>();
+        final List<Long> newFoodRestaurantIds = new ArrayList<>();
+        final List<Object[]> changedFoods = new ArrayList<>();
+        final List<Object[]> removedFoods = new ArrayList<>();
+        final Set<Long> catalogFoodIds = new HashSet<>();
+
+        for (final Map.Entry<String, List<Food>> restaurantFoods : catalog.entrySet()) {
+            final Map<String, CatalogRow> storedFoods = foods.getOrDefault(restaurantFoods.getKey(),
+                    Collections.emptyMap());
+
+            for (final Food food : restaurantFoods.getValue()) {
+                final CatalogRow storedFood = storedFoods.get(food.getName());
+                final int foodTypeId = FoodType.getId(food.getType());
+
+                if (null == storedFood) {
+                    newFoods.add(food);
+                    newFoodRestaurantIds.add(restaurants.get(restaurantFoods.getKey()).getId());
+                    continue;
+                }
+                food.setId(storedFood.getId());
+                catalogFoodIds.add(storedFood.getId());
+
+                if (storedFood.isDeleted() || 0 != Float.compare(storedFood.getRate(), food.getRate())
+                        || storedFood.getFoodType() != foodTypeId) {
+                    changedFoods.add(new Object[] {food.getRate(), foodTypeId, storedFood.getId()});
+                }
+            }
+        }
+
+        for (final Map<String, CatalogRow> storedFoods : foods.values()) {
+            for (final CatalogRow storedFood : storedFoods.values()) {
+                if (!storedFood.isDeleted() && !catalogFoodIds.contains(storedFood.getId())) {
+                    removedFoods.add(new Object[] {storedFood.getId()});
+                }
+            }
+        }
+        insertFoods(connection, newFoods, newFoodRestaurantIds);
+        executeBatch(connection, "update food set rate = ?, food_type = ?, is_deleted = false where id = ?",
+                changedFoods);
+        executeBatch(connection, "update food set is_deleted = true where id = ?", removedFoods);
+
+        return newFoods.size() + changedFoods.size() + removedFoods.size();
+    }
+
+    /**
+     * <p>
+     * Bulk loads the new foods and maps them with their restaurants.
+     * </p>
+     *
+     * @param connection Represents the connection of the current transaction
+     * @param newFoods Represents the foods to be inserted
+     * @param restaurantIds Represents the id of the restaurant of each food in order
+     * @throws SQLException if the foods can't be loaded
+     */
+    private void insertFoods(final Connection connection, final List<Food> newFoods,
+                             final List<Long> restaurantIds) throws SQLException {
+        final long[] foodIds = bulkLoader.reserveIds(connection, "food", "id", newFoods.size());
+        final List<Object[]> foodRows = new ArrayList<>(newFoods.size());
+        final List<Object[]> restaurantFoodRows = new ArrayList<>(newFoods.size());
+
+        for (int index = 0; index < newFoods.size(); index++) {
+            final Food food = newFoods.get(index);
+
+            food.setId(foodIds[index]);
+            foodRows.add(new Object[] {foodIds[index], food.getName(), food.getRate(),
+                    FoodType.getId(food.getType()), food.getQuantity()});
+            restaurantFoodRows.add(new Object[] {foodIds[index], restaurantIds.get(index)});
+        }
+        bulkLoader.load(connection, "food", List.of("id", "name", "rate", "food_type", "food_quantity"), foodRows);
+        bulkLoader.load(connection, "restaurant_food", List.of("food_id", "restaurant_id"), restaurantFoodRows);
+    }
+
+    /**
+     * <p>
+     * Runs the statement once for each set of parameters in a single batch.
+     * </p>
+     *
+     * @param connection Represents the connection of the current transaction
+     * @param query Represents the statement to be run
+     * @param parameters Represents the parameters of each run
+     * @throws SQLException if the batch fails
+     */
+    private void executeBatch(final Connection connection, final String query, final List<Object[]> parameters)
+            throws SQLException {
+        if (parameters.isEmpty()) {
+            return;
+        }
+
+        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+            for (final Object[] row : parameters) {
+                for (int index = 0; index < row.length; index++) {
+                    preparedStatement.setObject(index + 1, row[index]);
+                }
+                preparedStatement.addBatch();
+            }
+            preparedStatement.executeBatch();
+        }
+    }
+
+    /**
+     * <p>
+     * Holds the stored state of a catalog restaurant or food.
+     * </p>
+     */
+    private static class CatalogRow {
+
+        private final long id;
+        private final float rate;
+        private final int foodType;
+        private final boolean deleted;
+
+        private CatalogRow(final long id, final float rate, final int foodType, final boolean deleted) {
+            this.id = id;
+            this.rate = rate;
+            this.foodType = foodType;
+            this.deleted = deleted;
+        }
+
+        private long getId() {
+            return id;
+        }
+
+        private float getRate() {
+            return rate;
+        }
+
+        private int getFoodType() {
+            return foodType;
+        }
+
+        private boolean isDeleted() {
+            return deleted;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package org.swiggy.restaurant.internal.dao.impl;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.swiggy.database.connection.DataBaseConnection;
+import org.swiggy.database.transaction.TransactionTemplate;
+import org.swiggy.restaurant.internal.dao.InventoryDAO;
+import org.swiggy.restaurant.internal.exception.FoodCountAccessException;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>
+ * Implements the data base service for the stock of the foods.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class InventoryDAOImpl implements InventoryDAO {
+
+    private static final String TAKE_QUERY = """
+            update food set food_quantity = food_quantity - ? where id = ? and food_quantity >= ? and not is_deleted""";
+    private static InventoryDAO inventoryDAO;
+    private final Logger logger;
+    private final TransactionTemplate transactionTemplate;
+
+    private InventoryDAOImpl() {
+        logger = LogManager.getLogger(InventoryDAOImpl.class);
+        transactionTemplate = TransactionTemplate.getInstance();
+    }
+
+    /**
+     * <p>
+     * Gets the object of the inventory database implementation class.
+     * </p>
+     *
+     * @return The inventory database service implementation object
+     */
+    public static synchronized InventoryDAO getInstance() {
+        if (null == inventoryDAO) {
+            inventoryDAO = new InventoryDAOImpl();
+        }
+
+        return inventoryDAO;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The foods are updated in the order of their ids so concurrent orders lock the food rows in the same order.
+     * </p>
+     *
+     * @param connection Represents the connection of the current transaction
+     * @param foodQuantities Represents the quantity to take of each food, sorted by the id of the food
+     * @return The ids of the foods whose stock was lower than the quantity
+     */
+    @Override
+    public Set<Long> takeQuantities(final Connection connection, final Map<Long, Integer> foodQuantities) {
+        try (final PreparedStatement preparedStatement = connection.prepareStatement(TAKE_QUERY)) {
+            return executeTakeBatch(preparedStatement, foodQuantities, false);
+        } catch (SQLException message) {
+            logger.error(message.getMessage());
+            throw new FoodCountAccessException(message.getMessage());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param foodQuantities Represents the quantity to lease of each food
+     * @return The ids of the foods whose quantity was leased
+     */
+    @Override
+    public Set<Long> leaseQuantities(final Map<Long, Integer> foodQuantities) {
+        try (final Connection connection = DataBaseConnection.getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(TAKE_QUERY)) {
+            return executeTakeBatch(preparedStatement, foodQuantities, true);
+        } catch (SQLException message) {
+            logger.error(message.getMessage());
+            throw new FoodCountAccessException(message.getMessage());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The batch runs in one transaction, so a failed return adds nothing and can be tried again as a whole.
+     * </p>
+     *
+     * @param foodQuantities Represents the quantity to return of each food
+     */
+    @Override
+    public void returnQuantities(final Map<Long, Integer> foodQuantities) {
+        final String query = "update food set food_quantity = food_quantity + ? where id = ?";
+
+        try {
+            transactionTemplate.execute(connection -> {
+                try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+
+                    for (final Map.Entry<Long, Integer> foodQuantity : foodQuantities.entrySet()) {
+                        preparedStatement.setInt(1, foodQuantity.getValue());
+                        preparedStatement.setLong(2, foodQuantity.getKey());
+                        preparedStatement.addBatch();
+                    }
+
+                    return preparedStatement.executeBatch();
+                }
+            });
+        } catch (SQLException message) {
+            logger.error(message.getMessage());
+            throw new FoodCountAccessException(message.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Runs the conditional decrement of each food as one batch.
+     * </p>
+     *
+     * @param preparedStatement Represents the conditional decrement
+     * @param foodQuantities Represents the quantity to take of each food
+     * @param isUpdatedResult Selects whether the updated or the rejected food ids are returned
+     * @return The ids of the updated foods, or of the foods whose stock was too low
+     */
+    private Set<Long> executeTakeBatch(final PreparedStatement preparedStatement,
+                                       final Map<Long, Integer> foodQuantities, final boolean isUpdatedResult)
+            throws SQLException {
+        final Long[] foodIds = new Long[foodQuantities.size()];
+        int index = 0;
+
+        for (final Map.Entry<Long, Integer> foodQuantity : foodQuantities.entrySet()) {
+            preparedStatement.setInt(1, foodQuantity.getValue());
+            preparedStatement.setLong(2, foodQuantity.getKey());
+            preparedStatement.setInt(3, foodQuantity.getValue());
+            preparedStatement.addBatch();
+            foodIds[index++] = foodQuantity.getKey();
+        }
+        final int[] updateCounts = preparedStatement.executeBatch();
+        final Set<Long> result = new HashSet<>();
+
+        for (index = 0; index < updateCounts.length; index++) {
+            final boolean isUpdated = 0 < updateCounts[index] || Statement.SUCCESS_NO_INFO == updateCounts[index];
+
+            if (isUpdated == isUpdatedResult) {
+                result.add(foodIds[index]);
+            }
+        }
+
+        return result;
+    }
+}
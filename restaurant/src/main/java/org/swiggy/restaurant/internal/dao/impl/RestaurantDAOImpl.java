@@ -3,12 +3,15 @@ package org.swiggy.restaurant.internal.dao.impl;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import org.swiggy.common.auth.Credential;
 import org.swiggy.restaurant.internal.exception.FoodDataLoadFailureException;
 import org.swiggy.restaurant.internal.exception.MenuCardNotFoundException;
 import org.swiggy.restaurant.internal.exception.FoodCountAccessException;
 import org.swiggy.restaurant.internal.exception.RestaurantDataLoadFailureException;
 import org.swiggy.restaurant.internal.dao.RestaurantDAO;
 import org.swiggy.database.connection.DataBaseConnection;
+import org.swiggy.database.stream.RowStream;
+import org.swiggy.database.transaction.TransactionTemplate;
 import org.swiggy.restaurant.model.Food;
 import org.swiggy.restaurant.model.FoodType;
 import org.swiggy.restaurant.model.Restaurant;
@@ -20,7 +23,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.function.BiConsumer;
 
 /**
  * <p>
@@ -32,13 +35,15 @@ import java.util.Map;
  */
 public class RestaurantDAOImpl implements RestaurantDAO {
 
+    private static final String RESTAURANTS_QUERY = """
+            select id, name, phone_number, email_id, password from restaurant where not is_deleted""";
     private static RestaurantDAO restaurantDAO;
     private final Logger logger;
-    private final Connection connection;
+    private final TransactionTemplate transactionTemplate;
 
     private RestaurantDAOImpl() {
         logger = LogManager.getLogger(RestaurantDAOImpl.class);
-        connection = DataBaseConnection.getConnection();
+        transactionTemplate = TransactionTemplate.getInstance();
     }
 
     /**
@@ -67,7 +72,8 @@ public class RestaurantDAOImpl implements RestaurantDAO {
         final String query = """
                 insert into restaurant (name, phone_number, email_id, password) values (?, ?, ?, ?) returning id""";
 
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+        try (final Connection connection = DataBaseConnection.getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
             preparedStatement.setString(1, restaurant.getName());
             preparedStatement.setString(2, restaurant.getPhoneNumber());
             preparedStatement.setString(3, restaurant.getEmailId());
@@ -89,17 +95,27 @@ public class RestaurantDAOImpl implements RestaurantDAO {
      *
      * @param restaurantDataType Represents the type of data of the restaurant
      * @param restaurantData Represents the data of the restaurant
-     * @param password Represents the password of the restaurant
-     * @return The restaurant object
+     * @return The credential of the restaurant, or null if there is no such restaurant
      */
-    public Restaurant getRestaurant(final RestaurantData restaurantDataType, final String restaurantData, final String password) {
-        final String query = """
-                select id, name, phone_number, email_id, password from restaurant where phone_Number = ? and
-                password = ?""";
+    @Override
+    public Credential<Restaurant> getCredential(final RestaurantData restaurantDataType, final String restaurantData) {
+        final String query;
+
+        switch (restaurantDataType) {
+            case PHONE_NUMBER -> query = """
+                    select id, name, phone_number, email_id, password from restaurant where phone_number = ?
+                    order by id limit 1""";
+            case EMAIL_ID -> query = """
+                    select id, name, phone_number, email_id, password from restaurant where email_id = ?
+                    order by id limit 1""";
+            default -> {
+                return null;
+            }
+        }
 
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+        try (final Connection connection = DataBaseConnection.getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
             preparedStatement.setString(1, restaurantData);
-            preparedStatement.setString(2, password);
             final ResultSet resultSet = preparedStatement.executeQuery();
 
             if (resultSet.next()) {
@@ -111,7 +127,7 @@ public class RestaurantDAOImpl implements RestaurantDAO {
                 restaurant.setEmailId(resultSet.getString(4));
                 restaurant.setPassword(resultSet.getString(5));
 
-                return restaurant;
+                return new Credential<>(restaurant.getId(), restaurant, restaurant.getPassword());
             } else {
                 return null;
             }
@@ -124,31 +140,31 @@ public class RestaurantDAOImpl implements RestaurantDAO {
     /**
      * {@inheritDoc}
      *
-     * @param restaurantId Represents the id of the restaurant
-     * @return The restaurant object
+     * <p>
+     * The deleted restaurants keep their phone number and email id, so they are checked too.
+     * </p>
+     *
+     * @param restaurantDataType Represents the type of data of the restaurant, phone number or email id
+     * @param restaurantData Represents the data of the restaurant
+     * @return True if the data is taken, false otherwise
      */
     @Override
-    public Restaurant getRestaurantById(final long restaurantId) {
-        final String query = """
-                select id, name, phone_number, email_id, password from restaurant where id = ?""";
-
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-            preparedStatement.setLong(1, restaurantId);
-            final ResultSet resultSet = preparedStatement.executeQuery();
-
-            if (resultSet.next()) {
-                final Restaurant restaurant = new Restaurant();
+    public boolean isRestaurantDataTaken(final RestaurantData restaurantDataType, final String restaurantData) {
+        final String query;
+
+        switch (restaurantDataType) {
+            case PHONE_NUMBER -> query = "select 1 from restaurant where phone_number = ? limit 1";
+            case EMAIL_ID -> query = "select 1 from restaurant where email_id = ? limit 1";
+            default -> {
+                return false;
+            }
+        }
 
-                restaurant.setId(resultSet.getInt(1));
-                restaurant.setName(resultSet.getString(2));
-                restaurant.setPhoneNumber(resultSet.getString(3));
-                restaurant.setEmailId(resultSet.getString(4));
-                restaurant.setPassword(resultSet.getString(5));
+        try (final Connection connection = DataBaseConnection.getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+            preparedStatement.setString(1, restaurantData);
 
-                return restaurant;
-            } else {
-                return null;
-            }
+            return preparedStatement.executeQuery().next();
         } catch (SQLException message) {
             logger.error(message.getMessage());
             throw new RestaurantDataLoadFailureException(message.getMessage());
@@ -158,133 +174,74 @@ public class RestaurantDAOImpl implements RestaurantDAO {
     /**
      * {@inheritDoc}
      *
-     * @param food Represents the food added by the restaurant
-     * @param restaurantId Represents the id of the restaurant
-     * @return True if food is added, false otherwise
-     */
-    @Override
-    public boolean addFood(final Food food, final long restaurantId) {
-        try {
-            connection.setAutoCommit(false);
-            final String query = """
-                    insert into food (name, rate, food_type, food_quantity) values(?, ?, ?, ?) returning id""";
-
-            try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-                preparedStatement.setString(1, food.getName());
-                preparedStatement.setFloat(2, food.getRate());
-                preparedStatement.setInt(3, FoodType.getId(food.getType()));
-                preparedStatement.setInt(4, food.getQuantity());
-                final ResultSet resultSet = preparedStatement.executeQuery();
-
-                resultSet.next();
-
-                food.setId(resultSet.getInt(1));
-                loadMenuCardFoods(food.getId(), restaurantId);
-            }
-            connection.commit();
-
-            return true;
-        } catch (SQLException message) {
-            try {
-                connection.rollback();
-            } catch (SQLException exception) {
-                logger.error(message.getMessage());
-                throw new FoodDataLoadFailureException(exception.getMessage());
-            }
-        } finally {
-            try {
-                connection.setAutoCommit(true);
-            } catch (SQLException message) {
-                logger.error(message.getMessage());
-                throw new FoodDataLoadFailureException(message.getMessage());
-            }
-        }
-
-        return false;
-    }
-
-    /**
-     * {@inheritDoc}
+     * <p>
+     * The rows are fetched in batches of the configured fetch size, so the restaurants are never all in memory.
+     * </p>
      *
-     * @param restaurants Represents list of restaurants
+     * @param consumer Receives the type and value of each phone number and email id
      */
     @Override
-    public boolean loadRestaurantsData(final List<Restaurant> restaurants) {
-        try {
-            connection.setAutoCommit(false);
+    public void readSignupData(final BiConsumer<RestaurantData, String> consumer) {
+        final String query = "select phone_number, email_id from restaurant";
 
-            if (restaurants.size() != getRestaurantsCount()) {
-                clearRestaurants();
+        try (final Connection connection = DataBaseConnection.getConnection()) {
+            connection.setAutoCommit(false);
 
-                for (final Restaurant restaurant : restaurants) {
-                    final String query = "insert into restaurant (name) values (?) returning id";
-                    final String restaurantName = restaurant.getName();
+            try (final PreparedStatement preparedStatement = connection.prepareStatement(query,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                preparedStatement.setFetchSize(DataBaseConnection.getConnectionPool().getConfiguration()
+                        .getFetchSize());
+                final ResultSet resultSet = preparedStatement.executeQuery();
 
-                    try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-                        preparedStatement.setString(1, restaurantName);
-                        final ResultSet resultSet = preparedStatement.executeQuery();
+                while (resultSet.next()) {
+                    final String phoneNumber = resultSet.getString(1);
+                    final String emailId = resultSet.getString(2);
 
-                        resultSet.next();
-                        final int restaurantId = resultSet.getInt(1);
+                    if (null != phoneNumber) {
+                        consumer.accept(RestaurantData.PHONE_NUMBER, phoneNumber);
+                    }
 
-                        restaurant.setId(restaurantId);
+                    if (null != emailId) {
+                        consumer.accept(RestaurantData.EMAIL_ID, emailId);
                     }
                 }
-                connection.commit();
-
-                return true;
             }
         } catch (SQLException message) {
-            try {
-                connection.rollback();
-            } catch (SQLException exceptionMessage) {
-                logger.error(exceptionMessage.getMessage());
-                throw new RestaurantDataLoadFailureException(exceptionMessage.getMessage());
-            }
-        } finally {
-            try {
-                connection.setAutoCommit(true);
-            } catch (SQLException message) {
-                logger.error(message.getMessage());
-                throw new RestaurantDataLoadFailureException(message.getMessage());
-            }
+            logger.error(message.getMessage());
+            throw new RestaurantDataLoadFailureException(message.getMessage());
         }
-
-        return false;
     }
 
     /**
-     * <p>
-     * Checks whether the restaurant has an entry in database or not.
-     * </p>
+     * {@inheritDoc}
      *
-     * @return Count of the restaurant present in the database
+     * @param restaurantId Represents the id of the restaurant
+     * @return The restaurant object
      */
-    private int getRestaurantsCount() {
-        final String query = "select count(*) from restaurant";
+    @Override
+    public Restaurant getRestaurantById(final long restaurantId) {
+        final String query = """
+                select id, name, phone_number, email_id, password from restaurant
+                where id = ? and not is_deleted""";
 
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+        try (final Connection connection = DataBaseConnection.getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+            preparedStatement.setLong(1, restaurantId);
             final ResultSet resultSet = preparedStatement.executeQuery();
 
-            resultSet.next();
-
-            return resultSet.getInt(1);
-        } catch (SQLException message) {
-            logger.error(message.getMessage());
-            throw new RestaurantDataLoadFailureException(message.getMessage());
-        }
-    }
+            if (resultSet.next()) {
+                final Restaurant restaurant = new Restaurant();
 
-    /**
-     * <p>
-     * Clears all the restaurants.
-     * </p>
-     */
-    private void clearRestaurants() {
-        final String query = "truncate table restaurant cascade";
+                restaurant.setId(resultSet.getInt(1));
+                restaurant.setName(resultSet.getString(2));
+                restaurant.setPhoneNumber(resultSet.getString(3));
+                restaurant.setEmailId(resultSet.getString(4));
+                restaurant.setPassword(resultSet.getString(5));
 
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-            preparedStatement.executeUpdate();
+                return restaurant;
+            } else {
+                return null;
+            }
         } catch (SQLException message) {
             logger.error(message.getMessage());
             throw new RestaurantDataLoadFailureException(message.getMessage());
@@ -294,20 +251,17 @@ public class RestaurantDAOImpl implements RestaurantDAO {
     /**
      * {@inheritDoc}
      *
-     * @param menuCard Contains the list of foods from the restaurant
+     * @param food Represents the food added by the restaurant
+     * @param restaurantId Represents the id of the restaurant
+     * @return True if food is added, false otherwise
      */
     @Override
-    public void loadMenuCardData(final Map<Food, Long> menuCard) {
-        try {
-            connection.setAutoCommit(false);
-
-            for (final Map.Entry<Food, Long> restaurantFood : menuCard.entrySet()) {
-                final Food food = restaurantFood.getKey();
-                final Long restaurantId = restaurantFood.getValue();
-
-                final String query = """
-                insert into food(name, rate, food_type, food_quantity) values(?, ?, ?, ?) returning id""";
+    public boolean addFood(final Food food, final long restaurantId) {
+        final String query = """
+                insert into food (name, rate, food_type, food_quantity) values(?, ?, ?, ?) returning id""";
 
+        try {
+            return transactionTemplate.execute(connection -> {
                 try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
                     preparedStatement.setString(1, food.getName());
                     preparedStatement.setFloat(2, food.getRate());
@@ -316,27 +270,17 @@ public class RestaurantDAOImpl implements RestaurantDAO {
                     final ResultSet resultSet = preparedStatement.executeQuery();
 
                     resultSet.next();
-                    final int foodId = resultSet.getInt(1);
 
-                    food.setId(foodId);
-                    loadMenuCardFoods(food.getId(), restaurantId);
+                    food.setId(resultSet.getInt(1));
+                    loadMenuCardFoods(connection, food.getId(), restaurantId);
+
+                    return true;
                 }
-            }
-            connection.commit();
+            });
         } catch (SQLException message) {
-            try {
-                connection.rollback();
-            } catch (SQLException exception) {
-                logger.error(message.getMessage());
-                throw new FoodDataLoadFailureException(exception.getMessage());
-            }
-        } finally {
-            try {
-                connection.setAutoCommit(true);
-            } catch (SQLException message) {
-                logger.error(message.getMessage());
-                throw new FoodDataLoadFailureException(message.getMessage());
-            }
+            logger.error(message.getMessage());
+
+            return false;
         }
     }
 
@@ -345,10 +289,11 @@ public class RestaurantDAOImpl implements RestaurantDAO {
      * Maps the food with restaurant.
      * </p>
      *
+     * @param connection Represents the connection of the current transaction
      * @param foodId Represents the id of the food
      * @param restaurantId Represents the id of the restaurant
      */
-    private void loadMenuCardFoods(final long foodId, final long restaurantId) {
+    private void loadMenuCardFoods(final Connection connection, final long foodId, final long restaurantId) {
         final String query = "insert into restaurant_food (food_id, restaurant_id) values(?, ?)";
 
         try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
@@ -368,23 +313,15 @@ public class RestaurantDAOImpl implements RestaurantDAO {
      */
     @Override
     public List<Restaurant> getRestaurants() {
-        final String query = "select id, name, phone_number, email_id, password from restaurant";
-
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+        try (final Connection connection = DataBaseConnection.getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(RESTAURANTS_QUERY)) {
             final ResultSet resultSet = preparedStatement.executeQuery();
 
             if (resultSet.isBeforeFirst()) {
                 final List<Restaurant> restaurants = new ArrayList<>();
 
                 while (resultSet.next()) {
-                    final Restaurant restaurant = new Restaurant();
-
-                    restaurant.setId(resultSet.getInt(1));
-                    restaurant.setName(resultSet.getString(2));
-                    restaurant.setPhoneNumber(resultSet.getString(3));
-                    restaurant.setEmailId(resultSet.getString(4));
-                    restaurant.setPassword(resultSet.getString(5));
-                    restaurants.add(restaurant);
+                    restaurants.add(mapRestaurant(resultSet));
                 }
 
                 return restaurants;
@@ -397,6 +334,16 @@ public class RestaurantDAOImpl implements RestaurantDAO {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @return The stream of all restaurants
+     */
+    @Override
+    public RowStream<Restaurant> streamRestaurants() {
+        return new RowStream<>(RESTAURANTS_QUERY, preparedStatement -> { }, this::mapRestaurant, Restaurant.class);
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -404,15 +351,14 @@ public class RestaurantDAOImpl implements RestaurantDAO {
      * @return Available quantity of food from the restaurant
      */
     public int getQuantity(final long foodId) {
-        final String query = "select food_quantity from food where id = ?";
+        final String query = "select food_quantity from food where id = ? and not is_deleted";
 
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+        try (final Connection connection = DataBaseConnection.getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
             preparedStatement.setLong(1, foodId);
             final ResultSet resultSet = preparedStatement.executeQuery();
 
-            resultSet.next();
-
-            return resultSet.getInt(1);
+            return resultSet.next() ? resultSet.getInt(1) : 0;
         } catch (SQLException message) {
             logger.error(message.getMessage());
             throw new FoodCountAccessException(message.getMessage());
@@ -431,9 +377,11 @@ public class RestaurantDAOImpl implements RestaurantDAO {
         final String query = """
                 select f.id, f.name, f.rate, f.food_type, f.food_quantity from food f
                 join restaurant_food rf on f.id = rf.food_id
-                join restaurant r on rf.restaurant_id = r.id where r.id = ? and f.food_type in (?, ?)""";
+                join restaurant r on rf.restaurant_id = r.id where r.id = ? and f.food_type in (?, ?)
+                and not f.is_deleted and not r.is_deleted""";
 
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+        try (final Connection connection = DataBaseConnection.getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
             preparedStatement.setLong(1, restaurantId);
 
             if (1 == foodTypeId) {
@@ -483,7 +431,8 @@ public class RestaurantDAOImpl implements RestaurantDAO {
     public boolean removeFood(final long foodId) {
         final String query = "delete from food where id = ?";
 
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+        try (final Connection connection = DataBaseConnection.getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
             preparedStatement.setLong(1, foodId);
 
             return 0 < preparedStatement.executeUpdate();
@@ -505,7 +454,8 @@ public class RestaurantDAOImpl implements RestaurantDAO {
     public boolean updateRestaurantData(final long restaurantId, final String type, final String restaurantData) {
         final String query = String.join("", "update restaurant set ", type, " = ? where id = ?");
 
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+        try (final Connection connection = DataBaseConnection.getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
             preparedStatement.setString(1, restaurantData);
             preparedStatement.setLong(2, restaurantId);
 
@@ -515,4 +465,25 @@ public class RestaurantDAOImpl implements RestaurantDAO {
             throw new RestaurantDataLoadFailureException(message.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * <p>
+     * Maps the current row of the restaurants query to a restaurant.
+     * </p>
+     *
+     * @param resultSet Represents the result of the restaurants query
+     * @return The restaurant of the current row
+     * @throws SQLException if a column can't be read
+     */
+    private Restaurant mapRestaurant(final ResultSet resultSet) throws SQLException {
+        final Restaurant restaurant = new Restaurant();
+
+        restaurant.setId(resultSet.getInt(1));
+        restaurant.setName(resultSet.getString(2));
+        restaurant.setPhoneNumber(resultSet.getString(3));
+        restaurant.setEmailId(resultSet.getString(4));
+        restaurant.setPassword(resultSet.getString(5));
+
+        return restaurant;
+    }
+}
@@ -8,12 +8,22 @@ import javax.ws.rs.DELETE;
 import javax.ws.rs.Produces;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.PathParam;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 
 import java.util.List;
 
+import org.swiggy.common.async.AsyncResponder;
 import org.swiggy.common.json.JacksonFactory;
 import org.swiggy.common.json.JsonArray;
+import org.swiggy.restaurant.cache.CatalogVersion;
+import org.swiggy.restaurant.cache.MenuCardCache;
+import org.swiggy.restaurant.cache.ResponseCache;
+import org.swiggy.database.executor.DatabaseExecutor;
+import org.swiggy.restaurant.internal.service.AsyncRestaurantService;
 import org.swiggy.restaurant.internal.service.RestaurantService;
+import org.swiggy.restaurant.internal.service.impl.AsyncRestaurantServiceImpl;
 import org.swiggy.restaurant.internal.service.impl.RestaurantServiceImpl;
 import org.swiggy.common.json.JsonObject;
 import org.swiggy.restaurant.model.Restaurant;
@@ -33,21 +43,41 @@ import org.swiggy.validator.validatorgroup.food.GetFoodValidator;
  * Handles the restaurant related operation and responsible for receiving input through rest api and processing it.
  * </p>
  *
+ * <p>
+ * The requests are suspended while the restaurant service runs on the database executor and are answered with a
+ * 503 response when the service doesn't complete within the timeout of the endpoint. The catalog reads answered
+ * from the response cache complete on the request thread.
+ * </p>
+ *
+ * <p>
+ * The signup form checks whether a phone number or email id is available before the profile is posted.
+ * </p>
+ *
  * @author Muthu kumar V
  * @version 1.0
  */
 @Path("/restaurant")
 public class RestaurantController {
 
+    private static final long READ_TIMEOUT_MILLIS = 5000;
+    private static final long WRITE_TIMEOUT_MILLIS = 10000;
     private static RestaurantController restaurantController;
     private final RestaurantService restaurantService;
+    private final AsyncRestaurantService asyncRestaurantService;
+    private final AsyncResponder asyncResponder;
+    private final DatabaseExecutor databaseExecutor;
     private final JacksonFactory jacksonFactory;
     private final ValidatorFactory validatorFactory;
+    private final ResponseCache responseCache;
 
     private RestaurantController() {
         restaurantService = RestaurantServiceImpl.getInstance();
+        asyncRestaurantService = AsyncRestaurantServiceImpl.getInstance();
+        asyncResponder = AsyncResponder.getInstance();
+        databaseExecutor = DatabaseExecutor.getInstance();
         jacksonFactory = JacksonFactory.getInstance();
         validatorFactory = ValidatorFactory.getInstance();
+        responseCache = ResponseCache.getInstance();
     }
 
     /**
@@ -71,23 +101,28 @@ public class RestaurantController {
      * </p>
      *
      * @param restaurant represents the data of the restaurant
-     * @return byte array of json object
+     * @param asyncResponse Resumed with the byte array of json object
      */
     @POST
     @Consumes("application/json")
-    public byte[] createRestaurantProfile(final Restaurant restaurant) {
+    public void createRestaurantProfile(final Restaurant restaurant, @Suspended final AsyncResponse asyncResponse) {
         final JsonArray jsonViolations = validatorFactory.getViolations(restaurant, PostRestaurantValidator.class);
 
         if (!jsonViolations.isEmpty()) {
-            return jsonViolations.asBytes();
-        }
-        final JsonObject jsonObject = jacksonFactory.createObjectNode();
+            asyncResponse.resume(jsonViolations.asBytes());
 
-        if (restaurantService.createRestaurantProfile(restaurant)) {
-            return jsonObject.put("status", "successful restaurant profile was created").asBytes();
+            return;
         }
+        asyncResponder.resume(asyncResponse, asyncRestaurantService.createRestaurantProfile(restaurant),
+                isCreated -> {
+                    final JsonObject jsonObject = jacksonFactory.createObjectNode();
+
+                    if (isCreated) {
+                        return jsonObject.put("status", "successful restaurant profile was created").asBytes();
+                    }
 
-        return jsonObject.put("status", "unsuccessful restaurant profile creation failed").asBytes();
+                    return jsonObject.put("status", "unsuccessful restaurant profile creation failed").asBytes();
+                }, WRITE_TIMEOUT_MILLIS);
     }
 
     /**
@@ -96,28 +131,35 @@ public class RestaurantController {
      * </p>
      *
      * @param restaurantId Represents the id of the restaurant
-     * @return byte array of json object
+     * @param asyncResponse Resumed with the byte array of json object
      */
     @Path("/{restaurantId}")
     @GET
     @Produces("application/json")
-    public byte[] getRestaurantById(@PathParam("restaurantId") final long restaurantId) {
+    public void getRestaurantById(@PathParam("restaurantId") final long restaurantId,
+                                  @Suspended final AsyncResponse asyncResponse) {
         final Restaurant restaurantPojo = new Restaurant();
 
         restaurantPojo.setId(restaurantId);
         final JsonArray jsonViolations = validatorFactory.getViolations(restaurantPojo, GetRestaurantValidator.class);
 
         if (!jsonViolations.isEmpty()) {
-            return jsonViolations.asBytes();
-        }
-        final JsonObject jsonObject = jacksonFactory.createObjectNode();
-        final Restaurant restaurant = restaurantService.getRestaurantById(restaurantId);
+            asyncResponse.resume(jsonViolations.asBytes());
 
-        if (null == restaurant) {
-            return jsonObject.put("status", "enter a valid restaurant id").asBytes();
+            return;
         }
-
-        return jsonObject.build(restaurant).asBytes();
+        asyncResponder.resume(asyncResponse, responseCache.getResponseAsync(String.join("", "restaurant/",
+                String.valueOf(restaurantId)), restaurantId, () -> {
+                    final Restaurant restaurant = restaurantService.getRestaurantById(restaurantId);
+
+                    return null == restaurant ? null : jacksonFactory.createStream(restaurant).asBytes();
+                }, databaseExecutor), response -> {
+                    if (null == response) {
+                        return jacksonFactory.createObjectNode().put("status", "enter a valid restaurant id").asBytes();
+                    }
+
+                    return response;
+                }, READ_TIMEOUT_MILLIS);
     }
 
     /**
@@ -126,11 +168,11 @@ public class RestaurantController {
      * </p>
      *
      * @param restaurantData Represents the data of the restaurant
-     * @return byte array of json object
+     * @param asyncResponse Resumed with the byte array of json object
      */
     @Path("/login")
     @POST
-    public byte[] restaurantLogin(final String restaurantData) {
+    public void restaurantLogin(final String restaurantData, @Suspended final AsyncResponse asyncResponse) {
         final JsonArray jsonViolations = jacksonFactory.createArrayNode();
         final JsonObject jsonObject = jacksonFactory.createObjectNode().toJsonNode(restaurantData);
         final String loginType = jsonObject.get("type");
@@ -155,38 +197,40 @@ public class RestaurantController {
         jsonViolations.addArray(validatorFactory.getViolations(restaurant, LoginRestaurantValidation.class));
 
         if (!jsonViolations.isEmpty()) {
-            return jsonViolations.asBytes();
-        }
-        final Restaurant restaurantPojo = restaurantService.getRestaurant(type, value, password);
-
-        if (null != restaurantPojo) {
-            final String message = String.join("","restaurant login successful welcome ",
-                    restaurantPojo.getName());
+            asyncResponse.resume(jsonViolations.asBytes());
 
-            return jacksonFactory.createObjectNode().put("status", message).asBytes();
+            return;
         }
+        asyncResponder.resume(asyncResponse, asyncRestaurantService.getRestaurant(type, value, password),
+                restaurantPojo -> {
+                    if (null != restaurantPojo) {
+                        final String message = String.join("","restaurant login successful welcome ",
+                                restaurantPojo.getName());
 
-        return jacksonFactory.createObjectNode().put("status", "restaurant login failed").asBytes();
+                        return jacksonFactory.createObjectNode().put("status", message).asBytes();
+                    }
+
+                    return jacksonFactory.createObjectNode().put("status", "restaurant login failed").asBytes();
+                }, READ_TIMEOUT_MILLIS);
     }
 
     /**
      * <p>
-     * Gets all the restaurants.
+     * Gets all the restaurants. On a miss of the response cache the rows are written straight into the cached
+     * bytes, without building the list of restaurants.
      * </p>
      *
-     * @return byte array of json object
+     * @param asyncResponse Resumed with the byte array of json object
      */
     @GET
     @Produces("application/json")
-    public byte[] getAllRestaurants() {
-        final List<Restaurant> restaurants = restaurantService.getRestaurants();
-        final JsonArray jsonArray = jacksonFactory.createArrayNode();
-
-        if (null == restaurants) {
-            return jacksonFactory.createObjectNode().put("status", "no available restaurants").asBytes();
-        }
+    public void getAllRestaurants(@Suspended final AsyncResponse asyncResponse) {
+        final byte[] emptyResponse = jacksonFactory.createObjectNode().put("status", "no available restaurants")
+                .asBytes();
 
-        return jsonArray.build(restaurants).asBytes();
+        asyncResponder.resume(asyncResponse, responseCache.getResponseAsync("restaurants",
+                CatalogVersion.RESTAURANT_LIST, () -> restaurantService.streamRestaurants().whenEmpty(emptyResponse)
+                        .asBytes(), databaseExecutor), response -> response, READ_TIMEOUT_MILLIS);
     }
 
     /**
@@ -196,29 +240,133 @@ public class RestaurantController {
      *
      * @param restaurantId Represents the id of the restaurant
      * @param menuCardTypeId Represents the id of the food type.
-     * @return byte array of json object
+     * @param asyncResponse Resumed with the byte array of json object
      */
     @Path("/{restaurantId}/{foodTypeId}")
     @GET
     @Produces("application/json")
-    public byte[] getMenuCard(@PathParam("restaurantId") final long restaurantId,
-                                  @PathParam("foodTypeId") final int menuCardTypeId) {
+    public void getMenuCard(@PathParam("restaurantId") final long restaurantId,
+                            @PathParam("foodTypeId") final int menuCardTypeId,
+                            @Suspended final AsyncResponse asyncResponse) {
         final Restaurant restaurant = new Restaurant();
 
         restaurant.setId(restaurantId);
         final JsonArray jsonViolations = validatorFactory.getViolations(restaurant, GetFoodValidator.class);
 
         if (!jsonViolations.isEmpty()) {
-            return jsonViolations.asBytes();
+            asyncResponse.resume(jsonViolations.asBytes());
+
+            return;
+        }
+        final String key = String.join("", "menucard/", String.valueOf(restaurantId), "/",
+                String.valueOf(menuCardTypeId));
+
+        asyncResponder.resume(asyncResponse, responseCache.getResponseAsync(key, restaurantId, () -> {
+            final List<Food> menuCard = restaurantService.getMenuCard(restaurantId, menuCardTypeId);
+
+            if (null == menuCard) {
+                return jacksonFactory.createObjectNode()
+                        .put("status", "no available foods or enter valid restaurant id").asBytes();
+            }
+
+            return jacksonFactory.createStream(menuCard, Food.class).asBytes();
+        }, databaseExecutor), response -> response, READ_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * <p>
+     * Gets the hit ratio, eviction count and load latency of the menu card cache.
+     * </p>
+     *
+     * @return byte array of json object
+     */
+    @Path("/menucard/statistics")
+    @GET
+    @Produces("application/json")
+    public byte[] getMenuCardCacheStatistics() {
+        return jacksonFactory.createObjectNode().build(MenuCardCache.getInstance().getStatistics()).asBytes();
+    }
+
+    /**
+     * <p>
+     * Checks whether the phone number or email id is still available for a new restaurant.
+     * </p>
+     *
+     * @param typeString Represents the type of the data, PHONE_NUMBER or EMAIL_ID
+     * @param value Represents the phone number or email id
+     * @param asyncResponse Resumed with the byte array of json object
+     */
+    @Path("/signup/availability")
+    @GET
+    @Produces("application/json")
+    public void getSignupAvailability(@QueryParam("type") final String typeString,
+                                      @QueryParam("value") final String value,
+                                      @Suspended final AsyncResponse asyncResponse) {
+        final JsonArray jsonViolations = jacksonFactory.createArrayNode();
+        final RestaurantData type = RestaurantData.PHONE_NUMBER.name().equals(typeString)
+                ? RestaurantData.PHONE_NUMBER
+                : RestaurantData.EMAIL_ID.name().equals(typeString) ? RestaurantData.EMAIL_ID : null;
+
+        if (null == type) {
+            jsonViolations.add(jacksonFactory.createObjectNode()
+                    .put("error", "enter valid type of data to check"));
+        }
+
+        if (null == value || value.isBlank()) {
+            jsonViolations.add(jacksonFactory.createObjectNode()
+                    .put("error", "enter the data to check"));
         }
-        final List<Food> menuCard = restaurantService.getMenuCard(restaurantId, menuCardTypeId);
 
-        if (null == menuCard) {
-            return jacksonFactory.createObjectNode().put("status", "no available foods or enter valid restaurant id")
-                    .asBytes();
+        if (!jsonViolations.isEmpty()) {
+            asyncResponse.resume(jsonViolations.asBytes());
+
+            return;
         }
+        asyncResponder.resume(asyncResponse, asyncRestaurantService.isRestaurantDataTaken(type, value), isTaken
+                -> jacksonFactory.createObjectNode().put("status", isTaken ? "taken" : "available").asBytes(),
+                READ_TIMEOUT_MILLIS);
+    }
 
-        return jacksonFactory.createArrayNode().build(menuCard).asBytes();
+    /**
+     * <p>
+     * Gets the size, false positive probability and skipped lookups of the filter used by the signups.
+     * </p>
+     *
+     * @return byte array of json object
+     */
+    @Path("/signup/statistics")
+    @GET
+    @Produces("application/json")
+    public byte[] getSignupStatistics() {
+        return jacksonFactory.createObjectNode().build(restaurantService.getSignupStatistics()).asBytes();
+    }
+
+    /**
+     * <p>
+     * Gets the hit ratio, failure count and eviction count of the credential cache used by the logins.
+     * </p>
+     *
+     * @return byte array of json object
+     */
+    @Path("/login/statistics")
+    @GET
+    @Produces("application/json")
+    public byte[] getLoginStatistics() {
+        return jacksonFactory.createObjectNode().build(restaurantService.getLoginStatistics()).asBytes();
+    }
+
+    /**
+     * <p>
+     * Gets the hit ratio, eviction count and build latency of the response cache.
+     * </p>
+     *
+     * @return byte array of json object
+     */
+    @Path("/response/statistics")
+    @GET
+    @Produces("application/json")
+    public byte[] getResponseCacheStatistics() {
+        return jacksonFactory.createObjectNode().build(responseCache.getStatistics()).asBytes();
     }
 
     /**
@@ -228,32 +376,39 @@ public class RestaurantController {
      *
      * @param food Represents the food
      * @param restaurantId Represents the id of the restaurant
-     * @return byte array of json object
+     * @param asyncResponse Resumed with the byte array of json object
      */
     @Path("/{restaurantId}")
     @POST
     @Consumes("application/json")
-    public byte[] addFood(final Food food, @PathParam("restaurantId") final long restaurantId) {
+    public void addFood(final Food food, @PathParam("restaurantId") final long restaurantId,
+                        @Suspended final AsyncResponse asyncResponse) {
         final Restaurant restaurant = new Restaurant();
 
         restaurant.setId(restaurantId);
         final JsonArray jsonViolations = validatorFactory.getViolations(restaurant, GetRestaurantValidator.class);
 
         if (!jsonViolations.isEmpty()) {
-            return jsonViolations.asBytes();
+            asyncResponse.resume(jsonViolations.asBytes());
+
+            return;
         }
         jsonViolations.addArray(validatorFactory.getViolations(food, PostFoodValidator.class));
 
         if (!jsonViolations.isEmpty()) {
-            return jsonViolations.asBytes();
-        }
-        final JsonObject jsonObject = jacksonFactory.createObjectNode();
+            asyncResponse.resume(jsonViolations.asBytes());
 
-        if (restaurantService.addFood(food, restaurantId)) {
-            return jsonObject.put("status", "successful food was added").asBytes();
+            return;
         }
+        asyncResponder.resume(asyncResponse, asyncRestaurantService.addFood(food, restaurantId), isAdded -> {
+            final JsonObject jsonObject = jacksonFactory.createObjectNode();
+
+            if (isAdded) {
+                return jsonObject.put("status", "successful food was added").asBytes();
+            }
 
-        return jsonObject.put("status", "unsuccessful adding food was failed").asBytes();
+            return jsonObject.put("status", "unsuccessful adding food was failed").asBytes();
+        }, WRITE_TIMEOUT_MILLIS);
     }
 
     /**
@@ -262,26 +417,30 @@ public class RestaurantController {
      * </p>
      *
      * @param foodId Represents the id of the food
-     * @return byte array of json object
+     * @param asyncResponse Resumed with the byte array of json object
      */
     @Path("/{foodId}")
     @DELETE
-    public byte[] removeFood(@PathParam("foodId") final long foodId) {
+    public void removeFood(@PathParam("foodId") final long foodId, @Suspended final AsyncResponse asyncResponse) {
         final Food food = new Food();
 
         food.setId(foodId);
         final JsonArray jsonViolations = validatorFactory.getViolations(food, DeleteFoodValidator.class);
 
         if (!jsonViolations.isEmpty()) {
-            return jsonViolations.asBytes();
-        }
-        final JsonObject jsonObject = jacksonFactory.createObjectNode();
+            asyncResponse.resume(jsonViolations.asBytes());
 
-        if (restaurantService.removeFood(foodId)) {
-            return jsonObject.put("status", "successful food was removed").asBytes();
+            return;
         }
+        asyncResponder.resume(asyncResponse, asyncRestaurantService.removeFood(foodId), isRemoved -> {
+            final JsonObject jsonObject = jacksonFactory.createObjectNode();
 
-        return jsonObject.put("status", "unsuccessful removing food was failed").asBytes();
+            if (isRemoved) {
+                return jsonObject.put("status", "successful food was removed").asBytes();
+            }
+
+            return jsonObject.put("status", "unsuccessful removing food was failed").asBytes();
+        }, WRITE_TIMEOUT_MILLIS);
     }
 
     /**
@@ -291,13 +450,13 @@ public class RestaurantController {
      *
      * @param restaurantId Represents the id of the restaurant
      * @param restaurantData Represents the data of the restaurant to be updated
-     * @return byte array of json object
+     * @param asyncResponse Resumed with the byte array of json object
      */
     @Path("/{restaurantId}")
     @PUT
     @Consumes("application/json")
-    public byte[] updateRestaurantData(@PathParam("restaurantId") final long restaurantId,
-                                     final String restaurantData)  {
+    public void updateRestaurantData(@PathParam("restaurantId") final long restaurantId,
+                                     final String restaurantData, @Suspended final AsyncResponse asyncResponse)  {
         final JsonArray jsonViolations = jacksonFactory.createArrayNode();
         final JsonObject jsonObject = jacksonFactory.createObjectNode().toJsonNode(restaurantData);
         final String typeString = jsonObject.get("type");
@@ -325,14 +484,19 @@ public class RestaurantController {
         jsonViolations.addArray(validatorFactory.getViolations(restaurant, PutRestaurantValidator.class));
 
         if (!jsonViolations.isEmpty()) {
-            return jsonViolations.asBytes();
-        }
+            asyncResponse.resume(jsonViolations.asBytes());
 
-        if (restaurantService.updateRestaurantData(restaurantId, updateValue, type)) {
-            return jacksonFactory.createObjectNode().put("status", "successful restaurant profile updated").asBytes();
+            return;
         }
-
-        return jacksonFactory.createObjectNode().put("status", "unsuccessful restaurant profile updation failed").
-                asBytes();
+        asyncResponder.resume(asyncResponse, asyncRestaurantService.updateRestaurantData(restaurantId, updateValue,
+                type), isUpdated -> {
+                    if (isUpdated) {
+                        return jacksonFactory.createObjectNode().put("status", "successful restaurant profile updated")
+                                .asBytes();
+                    }
+
+                    return jacksonFactory.createObjectNode()
+                            .put("status", "unsuccessful restaurant profile updation failed").asBytes();
+                }, WRITE_TIMEOUT_MILLIS);
     }
 }
\ No newline at end of file
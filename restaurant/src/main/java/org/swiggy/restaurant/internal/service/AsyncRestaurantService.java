@@ -0,0 +1,95 @@
+package org.swiggy.restaurant.internal.service;
+
+import org.swiggy.restaurant.model.Food;
+import org.swiggy.restaurant.model.Restaurant;
+import org.swiggy.restaurant.model.RestaurantData;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * <p>
+ * Provides the restaurant services without blocking the calling thread.
+ * </p>
+ *
+ * <p>
+ * The methods mirror the {@link RestaurantService} and complete once the database work, run on the database
+ * executor, is done. A call made while the executor is full doesn't throw, it returns a future already
+ * failed with a {@link java.util.concurrent.RejectedExecutionException}. The catalog reads are served through the
+ * {@link org.swiggy.restaurant.cache.ResponseCache}, which runs the {@link RestaurantService} on the executor only
+ * on a miss.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public interface AsyncRestaurantService {
+
+    /**
+     * <p>
+     * Creates the new restaurant profile.
+     * </p>
+     *
+     * @param restaurant Represents the restaurant
+     * @return True if restaurant profile is created, false otherwise
+     */
+    CompletableFuture<Boolean> createRestaurantProfile(final Restaurant restaurant);
+
+    /**
+     * <p>
+     * Gets the restaurant if the phone_number and password matches.
+     * </p>
+     *
+     * @param restaurantDataType Represents the type of data of the restaurant
+     * @param restaurantData Represents the data of the restaurant
+     * @param password Represents the password of the restaurant
+     * @return The restaurant object
+     */
+    CompletableFuture<Restaurant> getRestaurant(final RestaurantData restaurantDataType,
+                                                final String restaurantData, final String password);
+
+    /**
+     * <p>
+     * Loads the food details given from restaurant.
+     * </p>
+     *
+     * @param food Represents the current food added by the restaurant
+     * @param restaurantId Represents the id of the restaurant
+     * @return True if food is added, false otherwise
+     */
+    CompletableFuture<Boolean> addFood(final Food food, final long restaurantId);
+
+    /**
+     * <p>
+     * Removes the food from the restaurant.
+     * </p>
+     *
+     * @param foodId Represents the id of the food
+     * @return True if food is removed, false otherwise
+     */
+    CompletableFuture<Boolean> removeFood(final long foodId);
+
+    /**
+     * <p>
+     * Updates the data of the current restaurant user.
+     * </p>
+     *
+     * @param restaurantId Represents the id of the restaurant
+     * @param restaurantData Represents the data of the restaurant to be updated
+     * @param type Represents the type of data of the restaurant to be updated
+     * @return True if data is updated, false otherwise
+     */
+    CompletableFuture<Boolean> updateRestaurantData(final long restaurantId, final String restaurantData,
+                                                    final RestaurantData type);
+
+    /**
+     * <p>
+     * Checks whether another restaurant has the phone number or email id.
+     * </p>
+     *
+     * @param restaurantDataType Represents the type of data of the restaurant, phone number or email id
+     * @param restaurantData Represents the data of the restaurant
+     * @return True if the data is taken, false otherwise
+     */
+    CompletableFuture<Boolean> isRestaurantDataTaken(final RestaurantData restaurantDataType,
+                                                     final String restaurantData);
+}
@@ -1,5 +1,8 @@
 package org.swiggy.restaurant.internal.service;
 
+import org.swiggy.common.auth.AuthenticationStatistics;
+import org.swiggy.common.bloomfilter.UniquenessStatistics;
+import org.swiggy.database.stream.RowStream;
 import org.swiggy.restaurant.model.Food;
 import org.swiggy.restaurant.model.Restaurant;
 import org.swiggy.restaurant.model.RestaurantData;
@@ -52,32 +55,40 @@ public interface RestaurantService {
 
     /**
      * <p>
-     * Loads all the restaurants data.
+     * Gets all the restaurants as a stream that reads and writes them one row at a time.
      * </p>
      *
-     * @param restaurants Represents list of restaurants
+     * @return The stream of all restaurants
      */
-    boolean loadRestaurantsData(final List<Restaurant> restaurants);
+    RowStream<Restaurant> streamRestaurants();
 
     /**
      * <p>
-     * Loads the food details given from restaurant.
+     * Brings the stored catalog of restaurants and foods in line with the given catalog.
      * </p>
      *
-     * @param food Represents the current food added by the restaurant
-     * @param restaurantId Represents the id of the restaurant
-     * @return True if food is added, false otherwise
+     * @param catalog Contains the list of foods of each restaurant by the name of the restaurant
+     * @return The number of rows changed
      */
-    boolean addFood(final Food food, final long restaurantId);
+    int reconcileCatalog(final Map<String, List<Food>> catalog);
+
+    /**
+     * <p>
+     * Brings the schema of the catalog tables up to date, once before the catalog is loaded.
+     * </p>
+     */
+    void migrateCatalogSchema();
 
     /**
      * <p>
-     * Loads the menucard of the restaurant.
+     * Loads the food details given from restaurant.
      * </p>
      *
-     * @param menuCard Contains the list of foods from the restaurant
+     * @param food Represents the current food added by the restaurant
+     * @param restaurantId Represents the id of the restaurant
+     * @return True if food is added, false otherwise
      */
-    void loadMenuCardData(final Map<Food, Long> menuCard);
+    boolean addFood(final Food food, final long restaurantId);
 
     /**
      * <p>
@@ -121,4 +132,41 @@ public interface RestaurantService {
      * @return True if data is updated, false otherwise
      */
      boolean updateRestaurantData(final long restaurantId, final String restaurantData, final RestaurantData type);
+
+    /**
+     * <p>
+     * Gets the hit ratio, failure count and eviction count of the credential cache used by the logins.
+     * </p>
+     *
+     * @return The login statistics
+     */
+    AuthenticationStatistics getLoginStatistics();
+
+    /**
+     * <p>
+     * Checks whether another restaurant has the phone number or email id.
+     * </p>
+     *
+     * @param restaurantDataType Represents the type of data of the restaurant, phone number or email id
+     * @param restaurantData Represents the data of the restaurant
+     * @return True if the data is taken, false otherwise
+     */
+    boolean isRestaurantDataTaken(final RestaurantData restaurantDataType, final String restaurantData);
+
+    /**
+     * <p>
+     * Loads the phone numbers and email ids of the restaurants into the signup filter, after which the signups with
+     * new values no longer look them up.
+     * </p>
+     */
+    void warmSignupFilter();
+
+    /**
+     * <p>
+     * Gets the size, false positive probability and skipped lookups of the signup filter.
+     * </p>
+     *
+     * @return The signup statistics
+     */
+    UniquenessStatistics getSignupStatistics();
 }
\ No newline at end of file
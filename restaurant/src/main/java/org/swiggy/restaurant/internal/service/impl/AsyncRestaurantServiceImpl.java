@@ -0,0 +1,123 @@
+package org.swiggy.restaurant.internal.service.impl;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.swiggy.database.executor.DatabaseExecutor;
+import org.swiggy.restaurant.internal.service.AsyncRestaurantService;
+import org.swiggy.restaurant.internal.service.RestaurantService;
+import org.swiggy.restaurant.model.Food;
+import org.swiggy.restaurant.model.Restaurant;
+import org.swiggy.restaurant.model.RestaurantData;
+
+/**
+ * <p>
+ * Implements the asynchronous restaurant service by running the {@link RestaurantService} on the database executor.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class AsyncRestaurantServiceImpl implements AsyncRestaurantService {
+
+    private static AsyncRestaurantService asyncRestaurantService;
+    private final RestaurantService restaurantService;
+    private final DatabaseExecutor databaseExecutor;
+
+    private AsyncRestaurantServiceImpl() {
+        restaurantService = RestaurantServiceImpl.getInstance();
+        databaseExecutor = DatabaseExecutor.getInstance();
+    }
+
+    /**
+     * <p>
+     * Gets the async restaurant service implementation object.
+     * </p>
+     *
+     * @return The async restaurant service implementation object
+     */
+    public static synchronized AsyncRestaurantService getInstance() {
+        if (null == asyncRestaurantService) {
+            asyncRestaurantService = new AsyncRestaurantServiceImpl();
+        }
+
+        return asyncRestaurantService;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param restaurant Represents the restaurant
+     * @return True if restaurant profile is created, false otherwise
+     */
+    @Override
+    public CompletableFuture<Boolean> createRestaurantProfile(final Restaurant restaurant) {
+        return databaseExecutor.supply(() -> restaurantService.createRestaurantProfile(restaurant));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param restaurantDataType Represents the type of data of the restaurant
+     * @param restaurantData Represents the data of the restaurant
+     * @param password Represents the password of the restaurant
+     * @return The restaurant object
+     */
+    @Override
+    public CompletableFuture<Restaurant> getRestaurant(final RestaurantData restaurantDataType,
+                                                       final String restaurantData, final String password) {
+        return databaseExecutor.supply(() -> restaurantService.getRestaurant(restaurantDataType,
+                restaurantData, password));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param food Represents the current food added by the restaurant
+     * @param restaurantId Represents the id of the restaurant
+     * @return True if food is added, false otherwise
+     */
+    @Override
+    public CompletableFuture<Boolean> addFood(final Food food, final long restaurantId) {
+        return databaseExecutor.supply(() -> restaurantService.addFood(food, restaurantId));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param foodId Represents the id of the food
+     * @return True if food is removed, false otherwise
+     */
+    @Override
+    public CompletableFuture<Boolean> removeFood(final long foodId) {
+        return databaseExecutor.supply(() -> restaurantService.removeFood(foodId));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param restaurantId Represents the id of the restaurant
+     * @param restaurantData Represents the data of the restaurant to be updated
+     * @param type Represents the type of data of the restaurant to be updated
+     * @return True if data is updated, false otherwise
+     */
+    @Override
+    public CompletableFuture<Boolean> updateRestaurantData(final long restaurantId, final String restaurantData,
+                                                           final RestaurantData type) {
+        return databaseExecutor.supply(() -> restaurantService.updateRestaurantData(restaurantId,
+                restaurantData, type));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param restaurantDataType Represents the type of data of the restaurant, phone number or email id
+     * @param restaurantData Represents the data of the restaurant
+     * @return True if the data is taken, false otherwise
+     */
+    @Override
+    public CompletableFuture<Boolean> isRestaurantDataTaken(final RestaurantData restaurantDataType,
+                                                            final String restaurantData) {
+        return databaseExecutor.supply(() -> restaurantService.isRestaurantDataTaken(restaurantDataType,
+                restaurantData));
+    }
+}
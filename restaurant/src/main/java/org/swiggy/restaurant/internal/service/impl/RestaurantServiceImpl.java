@@ -3,9 +3,20 @@ package org.swiggy.restaurant.internal.service.impl;
 import java.util.List;
 import java.util.Map;
 
+import org.swiggy.common.auth.AuthenticationStatistics;
+import org.swiggy.common.auth.CredentialCache;
+import org.swiggy.common.bloomfilter.UniquenessFilter;
+import org.swiggy.common.bloomfilter.UniquenessStatistics;
 import org.swiggy.common.hashgenerator.PasswordHashGenerator;
+import org.swiggy.common.metrics.MetricsRegistry;
+import org.swiggy.database.stream.RowStream;
+import org.swiggy.restaurant.cache.CatalogVersion;
+import org.swiggy.restaurant.cache.MenuCardCache;
+import org.swiggy.restaurant.internal.dao.CatalogDAO;
 import org.swiggy.restaurant.internal.dao.RestaurantDAO;
+import org.swiggy.restaurant.internal.dao.impl.CatalogDAOImpl;
 import org.swiggy.restaurant.internal.dao.impl.RestaurantDAOImpl;
+import org.swiggy.restaurant.inventory.InventoryManager;
 import org.swiggy.restaurant.model.Food;
 import org.swiggy.restaurant.model.Restaurant;
 import org.swiggy.restaurant.model.RestaurantData;
@@ -16,16 +27,47 @@ import org.swiggy.restaurant.internal.service.RestaurantService;
  * Implements the service of the restaurant related operation.
  * </p>
  *
+ * <p>
+ * The logins are checked against the credential cache, which reads the restaurant by the phone number or email id
+ * only when it isn't known yet, so repeated logins don't query the restaurants.
+ * </p>
+ *
+ * <p>
+ * A signup with a phone number or email id that is already taken is refused before the insert. The uniqueness
+ * filter holds the phone numbers and email ids of the restaurants, so the lookup of a taken value only runs for the
+ * values that may be taken.
+ * </p>
+ *
  * @author Muthu kumar V
  * @version 1.0
  */
 public class RestaurantServiceImpl implements RestaurantService {
 
+    private static final int MAXIMUM_SESSIONS = 10000;
+    private static final long SESSION_MILLIS = 300000;
+    private static final int MAXIMUM_UNKNOWN = 10000;
+    private static final long UNKNOWN_MILLIS = 30000;
+    private static final long EXPECTED_SIGNUP_DATA = 200000;
+    private static final double SIGNUP_FALSE_POSITIVE_PROBABILITY = 0.01;
     private static RestaurantService restaurantService;
     private final RestaurantDAO restaurantDAO;
+    private final CatalogDAO catalogDAO;
+    private final MenuCardCache menuCardCache;
+    private final CatalogVersion catalogVersion;
+    private final InventoryManager inventoryManager;
+    private final CredentialCache<Restaurant> credentialCache;
+    private final UniquenessFilter signupFilter;
 
     private RestaurantServiceImpl() {
-        restaurantDAO = RestaurantDAOImpl.getInstance();
+        final MetricsRegistry metricsRegistry = MetricsRegistry.getInstance();
+
+        restaurantDAO = metricsRegistry.timed(RestaurantDAO.class, RestaurantDAOImpl.getInstance());
+        catalogDAO = metricsRegistry.timed(CatalogDAO.class, CatalogDAOImpl.getInstance());
+        menuCardCache = MenuCardCache.getInstance();
+        catalogVersion = CatalogVersion.getInstance();
+        inventoryManager = InventoryManager.getInstance();
+        credentialCache = new CredentialCache<>(MAXIMUM_SESSIONS, SESSION_MILLIS, MAXIMUM_UNKNOWN, UNKNOWN_MILLIS);
+        signupFilter = new UniquenessFilter(EXPECTED_SIGNUP_DATA, SIGNUP_FALSE_POSITIVE_PROBABILITY);
     }
 
     /**
@@ -51,11 +93,24 @@ public class RestaurantServiceImpl implements RestaurantService {
      */
     @Override
     public boolean createRestaurantProfile(final Restaurant restaurant) {
+        if (isRestaurantDataTaken(RestaurantData.PHONE_NUMBER, restaurant.getPhoneNumber())
+                || isRestaurantDataTaken(RestaurantData.EMAIL_ID, restaurant.getEmailId())) {
+            return false;
+        }
         final String hashPassword = PasswordHashGenerator.getInstance().hashPassword(restaurant.getPassword());
 
         restaurant.setPassword(hashPassword);
+        final boolean isCreated = restaurantDAO.createRestaurantProfile(restaurant);
+
+        if (isCreated) {
+            catalogVersion.incrementRestaurantVersion(CatalogVersion.RESTAURANT_LIST);
+            credentialCache.invalidate(getIdentifier(RestaurantData.PHONE_NUMBER, restaurant.getPhoneNumber()));
+            credentialCache.invalidate(getIdentifier(RestaurantData.EMAIL_ID, restaurant.getEmailId()));
+            signupFilter.add(getIdentifier(RestaurantData.PHONE_NUMBER, restaurant.getPhoneNumber()));
+            signupFilter.add(getIdentifier(RestaurantData.EMAIL_ID, restaurant.getEmailId()));
+        }
 
-        return restaurantDAO.createRestaurantProfile(restaurant);
+        return isCreated;
     }
 
     /**
@@ -68,9 +123,8 @@ public class RestaurantServiceImpl implements RestaurantService {
      */
     @Override
     public Restaurant getRestaurant(final RestaurantData restaurantDataType, final String restaurantData, final String password) {
-        final String hashPassword = PasswordHashGenerator.getInstance().hashPassword(password);
-
-        return restaurantDAO.getRestaurant(restaurantDataType, restaurantData, hashPassword);
+        return credentialCache.authenticate(getIdentifier(restaurantDataType, restaurantData), password,
+                () -> restaurantDAO.getCredential(restaurantDataType, restaurantData));
     }
 
     /**
@@ -86,20 +140,27 @@ public class RestaurantServiceImpl implements RestaurantService {
     /**
      * {@inheritDoc}
      *
-     * @param restaurants Represents list of restaurants
+     * @param catalog Contains the list of foods of each restaurant by the name of the restaurant
+     * @return The number of rows changed
      */
     @Override
-    public boolean loadRestaurantsData(final List<Restaurant> restaurants) {
-        return restaurantDAO.loadRestaurantsData(restaurants);
+    public int reconcileCatalog(final Map<String, List<Food>> catalog) {
+        final int changeCount = catalogDAO.reconcileCatalog(catalog);
+
+        if (0 < changeCount) {
+            inventoryManager.invalidateStoredQuantities();
+            menuCardCache.invalidateAll();
+        }
+
+        return changeCount;
     }
 
     /**
      * {@inheritDoc}
-     *
-     * @param menuCard Contains the list of foods from the restaurant
      */
-    public void loadMenuCardData(final Map<Food, Long> menuCard) {
-        restaurantDAO.loadMenuCardData(menuCard);
+    @Override
+    public void migrateCatalogSchema() {
+        catalogDAO.migrateSchema();
     }
 
     /**
@@ -111,7 +172,13 @@ public class RestaurantServiceImpl implements RestaurantService {
      */
     @Override
     public boolean addFood(final Food food, final long restaurantId) {
-        return restaurantDAO.addFood(food, restaurantId);
+        final boolean isAdded = restaurantDAO.addFood(food, restaurantId);
+
+        if (isAdded) {
+            menuCardCache.invalidateRestaurant(restaurantId);
+        }
+
+        return isAdded;
     }
 
     /**
@@ -127,12 +194,26 @@ public class RestaurantServiceImpl implements RestaurantService {
     /**
      * {@inheritDoc}
      *
+     * @return The stream of all restaurants
+     */
+    @Override
+    public RowStream<Restaurant> streamRestaurants() {
+        return restaurantDAO.streamRestaurants();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The quantity reserved by the carts of the users is not available.
+     * </p>
+     *
      * @param foodId Represents the id of the food
      * @return Available quantity of food from the restaurant
      */
     @Override
     public int getQuantity(final long foodId) {
-        return restaurantDAO.getQuantity(foodId);
+        return inventoryManager.getAvailableQuantity(foodId);
     }
 
     /**
@@ -144,7 +225,8 @@ public class RestaurantServiceImpl implements RestaurantService {
      */
     @Override
     public List<Food> getMenuCard(final long restaurantId, final int foodTypeId) {
-        return restaurantDAO.getMenuCard(restaurantId, foodTypeId);
+        return menuCardCache.getMenuCard(restaurantId, foodTypeId,
+                () -> restaurantDAO.getMenuCard(restaurantId, foodTypeId));
     }
 
     /**
@@ -155,7 +237,14 @@ public class RestaurantServiceImpl implements RestaurantService {
      */
     @Override
     public boolean removeFood(final long foodId) {
-        return restaurantDAO.removeFood(foodId);
+        final boolean isRemoved = restaurantDAO.removeFood(foodId);
+
+        if (isRemoved) {
+            inventoryManager.invalidateStoredQuantities(List.of(foodId));
+            menuCardCache.invalidateRemovedFood(foodId);
+        }
+
+        return isRemoved;
     }
 
     /**
@@ -169,6 +258,75 @@ public class RestaurantServiceImpl implements RestaurantService {
     @Override
     public boolean updateRestaurantData(final long restaurantId, final String restaurantData,
                                      final RestaurantData type) {
-        return restaurantDAO.updateRestaurantData(restaurantId, type.name(), restaurantData);
+        if ((RestaurantData.PHONE_NUMBER == type || RestaurantData.EMAIL_ID == type)
+                && isRestaurantDataTaken(type, restaurantData)) {
+            return false;
+        }
+        final String updateData = RestaurantData.PASSWORD == type
+                ? PasswordHashGenerator.getInstance().hashPassword(restaurantData) : restaurantData;
+        final boolean isUpdated = restaurantDAO.updateRestaurantData(restaurantId, type.name(), updateData);
+
+        if (isUpdated) {
+            catalogVersion.incrementRestaurantVersion(restaurantId);
+            catalogVersion.incrementRestaurantVersion(CatalogVersion.RESTAURANT_LIST);
+            credentialCache.invalidateAccount(restaurantId);
+            credentialCache.invalidate(getIdentifier(type, restaurantData));
+
+            if (RestaurantData.PHONE_NUMBER == type || RestaurantData.EMAIL_ID == type) {
+                signupFilter.add(getIdentifier(type, restaurantData));
+            }
+        }
+
+        return isUpdated;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The login statistics
+     */
+    @Override
+    public AuthenticationStatistics getLoginStatistics() {
+        return credentialCache.getStatistics();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param restaurantDataType Represents the type of data of the restaurant, phone number or email id
+     * @param restaurantData Represents the data of the restaurant
+     * @return True if the data is taken, false otherwise
+     */
+    @Override
+    public boolean isRestaurantDataTaken(final RestaurantData restaurantDataType, final String restaurantData) {
+        if (null == restaurantData) {
+            return false;
+        }
+
+        return signupFilter.isTaken(getIdentifier(restaurantDataType, restaurantData),
+                identifier -> restaurantDAO.isRestaurantDataTaken(restaurantDataType, restaurantData));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void warmSignupFilter() {
+        signupFilter.warm(consumer -> restaurantDAO.readSignupData((restaurantDataType, restaurantData)
+                -> consumer.accept(getIdentifier(restaurantDataType, restaurantData))));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The signup statistics
+     */
+    @Override
+    public UniquenessStatistics getSignupStatistics() {
+        return signupFilter.getStatistics();
+    }
+
+    private String getIdentifier(final RestaurantData restaurantDataType, final String restaurantData) {
+        return String.join(":", restaurantDataType.name(), restaurantData);
     }
 }
\ No newline at end of file
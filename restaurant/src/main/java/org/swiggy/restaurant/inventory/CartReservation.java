@@ -0,0 +1,40 @@
+package org.swiggy.restaurant.inventory;
+
+/**
+ * <p>
+ * Holds the quantity of a food set aside for a cart entry until it expires.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+class CartReservation {
+
+    private final long userId;
+    private final long foodId;
+    private final int quantity;
+    private final long expiryNanos;
+
+    CartReservation(final long userId, final long foodId, final int quantity, final long expiryNanos) {
+        this.userId = userId;
+        this.foodId = foodId;
+        this.quantity = quantity;
+        this.expiryNanos = expiryNanos;
+    }
+
+    long getUserId() {
+        return userId;
+    }
+
+    long getFoodId() {
+        return foodId;
+    }
+
+    int getQuantity() {
+        return quantity;
+    }
+
+    boolean isExpired(final long now) {
+        return now - expiryNanos >= 0;
+    }
+}
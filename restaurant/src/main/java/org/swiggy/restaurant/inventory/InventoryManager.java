@@ -0,0 +1,454 @@
+package org.swiggy.restaurant.inventory;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.swiggy.restaurant.cache.MenuCardCache;
+import org.swiggy.restaurant.internal.dao.InventoryDAO;
+import org.swiggy.restaurant.internal.dao.RestaurantDAO;
+import org.swiggy.restaurant.internal.dao.impl.InventoryDAOImpl;
+import org.swiggy.restaurant.internal.dao.impl.RestaurantDAOImpl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Keeps the stock of the foods from being oversold while many users order the same dishes.
+ * </p>
+ *
+ * <p>
+ * Adding a food to a cart reserves its quantity for a while, and a food can't be reserved beyond the stock not
+ * already reserved by other carts. Replacing the reservation of a cart entry only needs the stock it adds to the
+ * previous one. The reservations are released when the cart entry is removed or ordered, and
+ * the expired ones are swept in the background. Placing the order takes the stock with a conditional decrement,
+ * so the database never goes below zero whatever the reservations say.
+ * </p>
+ *
+ * <p>
+ * A food ordered often enough within a flush interval becomes hot: the flusher leases a block of its stock out of
+ * the database into a {@link StripedStock}, and its orders take from memory instead of queuing on the row lock of
+ * the food. The leases are refilled and the stock of foods that cooled down is returned in one batch per flush.
+ * The stored quantity of a hot food excludes its leased stock, and an order its leased stock can't serve falls
+ * back to the database, so both paths never count the same stock twice. The menu cards show the stored quantity,
+ * which leaves out the leased stock of the hot foods.
+ * </p>
+ *
+ * <p>
+ * The stored quantity a reservation checks against is kept in memory for a second rather than read on every
+ * reservation. It is dropped whenever this manager changes it, by an order, a lease or a return, and the expiry
+ * bounds how long a change made elsewhere goes unseen. A stale quantity only lets a reservation through that the
+ * order may still fail on, since the order takes the stock with the conditional decrement.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class InventoryManager {
+
+    private static final long RESERVATION_TTL_NANOS = TimeUnit.MINUTES.toNanos(15);
+    private static final long STORED_QUANTITY_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long SWEEP_INTERVAL_MILLIS = 5000;
+    private static final long FLUSH_INTERVAL_MILLIS = 200;
+    private static final long HOT_TAKE_COUNT = 10;
+    private static final long IDLE_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final int LEASE_SIZE = 64;
+    private static final int STRIPE_COUNT = Math.max(2, Math.min(16, Runtime.getRuntime().availableProcessors()));
+    private static InventoryManager inventoryManager;
+    private final Logger logger;
+    private final InventoryDAO inventoryDAO;
+    private final RestaurantDAO restaurantDAO;
+    private final MenuCardCache menuCardCache;
+    private final Map<Long, CartReservation> reservations;
+    private final Map<Long, AtomicInteger> heldQuantities;
+    private final Map<Long, StripedStock> hotStocks;
+    private final Map<Long, Integer> pendingReturns;
+    private final Map<Long, LongAdder> storedTakes;
+    private final Map<Long, StoredQuantity> storedQuantities;
+    private final AtomicLong storedVersion;
+    private final ScheduledExecutorService flusher;
+
+    private InventoryManager() {
+        logger = LogManager.getLogger(InventoryManager.class);
+        inventoryDAO = InventoryDAOImpl.getInstance();
+        restaurantDAO = RestaurantDAOImpl.getInstance();
+        menuCardCache = MenuCardCache.getInstance();
+        reservations = new ConcurrentHashMap<>();
+        heldQuantities = new ConcurrentHashMap<>();
+        hotStocks = new ConcurrentHashMap<>();
+        pendingReturns = new ConcurrentHashMap<>();
+        storedTakes = new ConcurrentHashMap<>();
+        storedQuantities = new ConcurrentHashMap<>();
+        storedVersion = new AtomicLong();
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "inventory-flusher");
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushStocks, FLUSH_INTERVAL_MILLIS, FLUSH_INTERVAL_MILLIS,
+                TimeUnit.MILLISECONDS);
+        flusher.scheduleWithFixedDelay(this::sweepReservations, SWEEP_INTERVAL_MILLIS, SWEEP_INTERVAL_MILLIS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * <p>
+     * Gets the object of the inventory manager class.
+     * </p>
+     *
+     * @return The inventory manager object
+     */
+    public static synchronized InventoryManager getInstance() {
+        if (null == inventoryManager) {
+            inventoryManager = new InventoryManager();
+        }
+
+        return inventoryManager;
+    }
+
+    /**
+     * <p>
+     * Shuts the inventory manager down if it was ever created, without creating one.
+     * </p>
+     */
+    public static synchronized void shutdownInstance() {
+        if (null != inventoryManager) {
+            inventoryManager.shutdown();
+            inventoryManager = null;
+        }
+    }
+
+    /**
+     * <p>
+     * Reserves the quantity of the food for the cart entry, replacing its previous reservation.
+     * </p>
+     *
+     * @param cartId Represents the id of the cart entry
+     * @param userId Represents the id of the user of the cart
+     * @param foodId Represents the id of the food
+     * @param quantity Represents the quantity to reserve
+     * @return True if the quantity is reserved, false if the unreserved stock is lower
+     */
+    public boolean reserve(final long cartId, final long userId, final long foodId, final int quantity) {
+        final int stock = getStock(foodId);
+        final AtomicInteger heldQuantity = heldQuantities.computeIfAbsent(foodId, id -> new AtomicInteger());
+        final CartReservation current = reservations.get(cartId);
+        final int replacedQuantity = null != current && foodId == current.getFoodId() ? current.getQuantity() : 0;
+        int held;
+
+        do {
+            held = heldQuantity.get();
+
+            if (held - replacedQuantity + quantity > stock) {
+                return false;
+            }
+        } while (!heldQuantity.compareAndSet(held, held + quantity));
+        final CartReservation previous = reservations.put(cartId, new CartReservation(userId, foodId, quantity,
+                System.nanoTime() + RESERVATION_TTL_NANOS));
+
+        if (null != previous) {
+            heldQuantities.get(previous.getFoodId()).addAndGet(-previous.getQuantity());
+        }
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Releases the reservation of the cart entry.
+     * </p>
+     *
+     * @param cartId Represents the id of the cart entry
+     */
+    public void release(final long cartId) {
+        final CartReservation reservation = reservations.remove(cartId);
+
+        if (null != reservation) {
+            heldQuantities.get(reservation.getFoodId()).addAndGet(-reservation.getQuantity());
+        }
+    }
+
+    /**
+     * <p>
+     * Releases the reservations of all the cart entries of the user.
+     * </p>
+     *
+     * @param userId Represents the id of the user
+     */
+    public void releaseUser(final long userId) {
+        for (final Map.Entry<Long, CartReservation> entry : reservations.entrySet()) {
+            if (userId == entry.getValue().getUserId()) {
+                removeReservation(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the quantity of the food not reserved by any cart.
+     * </p>
+     *
+     * @param foodId Represents the id of the food
+     * @return The unreserved quantity of the food
+     */
+    public int getAvailableQuantity(final long foodId) {
+        final AtomicInteger heldQuantity = heldQuantities.get(foodId);
+
+        return Math.max(0, getStock(foodId) - (null == heldQuantity ? 0 : heldQuantity.get()));
+    }
+
+    /**
+     * <p>
+     * Creates the allocation that takes the stock of the foods of an order.
+     * </p>
+     *
+     * @return The stock allocation
+     */
+    public StockAllocation createAllocation() {
+        return new StockAllocation(this, inventoryDAO);
+    }
+
+    /**
+     * <p>
+     * Stops the background work and returns the leased stock to the database.
+     * </p>
+     */
+    public void shutdown() {
+        flusher.shutdown();
+
+        try {
+            flusher.awaitTermination(FLUSH_INTERVAL_MILLIS * 5, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException message) {
+            Thread.currentThread().interrupt();
+        }
+        final List<StripedStock> retiringStocks = new ArrayList<>();
+
+        for (final StripedStock stock : hotStocks.values()) {
+            if (!stock.tryRetire()) {
+                logger.warn(String.join("", "Food ", String.valueOf(stock.getFoodId()),
+                        " has orders in flight while its stock is returned"));
+            }
+            retiringStocks.add(stock);
+        }
+        returnStocks(retiringStocks);
+
+        if (!pendingReturns.isEmpty()) {
+            logger.error(String.join("", "Leased stock ", pendingReturns.toString(),
+                    " was not returned before the shutdown"));
+        }
+    }
+
+    /**
+     * <p>
+     * Drops the stored quantity kept for the foods, after they were changed in the database.
+     * </p>
+     *
+     * @param foodIds Represents the ids of the changed foods
+     */
+    public void invalidateStoredQuantities(final Collection<Long> foodIds) {
+        storedVersion.incrementAndGet();
+
+        for (final Long foodId : foodIds) {
+            storedQuantities.remove(foodId);
+        }
+    }
+
+    /**
+     * <p>
+     * Drops the stored quantity kept for all the foods.
+     * </p>
+     */
+    public void invalidateStoredQuantities() {
+        storedVersion.incrementAndGet();
+        storedQuantities.clear();
+    }
+
+    StripedStock getHotStock(final long foodId) {
+        return hotStocks.get(foodId);
+    }
+
+    /**
+     * <p>
+     * Counts the orders that took the foods from the database, to find the foods worth holding in memory.
+     * </p>
+     *
+     * @param foodIds Represents the ids of the ordered foods
+     */
+    void recordStoredTakes(final Collection<Long> foodIds) {
+        for (final Long foodId : foodIds) {
+            storedTakes.computeIfAbsent(foodId, id -> new LongAdder()).increment();
+        }
+    }
+
+    private int getStock(final long foodId) {
+        final StripedStock stock = hotStocks.get(foodId);
+
+        return getStoredQuantity(foodId) + (null == stock ? 0 : stock.getQuantity());
+    }
+
+    /**
+     * <p>
+     * Gets the stored quantity of the food, reading it from the database once it expired. A read that overlaps a
+     * change of the stored quantities is returned but not kept.
+     * </p>
+     */
+    private int getStoredQuantity(final long foodId) {
+        final long now = System.nanoTime();
+        final StoredQuantity storedQuantity = storedQuantities.get(foodId);
+
+        if (null != storedQuantity && !storedQuantity.isExpired(now)) {
+            return storedQuantity.getQuantity();
+        }
+        final long version = storedVersion.get();
+        final int quantity = restaurantDAO.getQuantity(foodId);
+
+        if (version == storedVersion.get()) {
+            storedQuantities.put(foodId, new StoredQuantity(quantity, now + STORED_QUANTITY_NANOS));
+        }
+
+        return quantity;
+    }
+
+    private void removeReservation(final long cartId, final CartReservation reservation) {
+        if (reservations.remove(cartId, reservation)) {
+            heldQuantities.get(reservation.getFoodId()).addAndGet(-reservation.getQuantity());
+        }
+    }
+
+    /**
+     * <p>
+     * Releases the reservations whose time is over and drops the expired stored quantities.
+     * </p>
+     */
+    private void sweepReservations() {
+        final long now = System.nanoTime();
+
+        for (final Map.Entry<Long, CartReservation> entry : reservations.entrySet()) {
+            if (entry.getValue().isExpired(now)) {
+                removeReservation(entry.getKey(), entry.getValue());
+            }
+        }
+        storedQuantities.values().removeIf(storedQuantity -> storedQuantity.isExpired(now));
+    }
+
+    /**
+     * <p>
+     * Returns the stock of the hot foods that cooled down, then leases stock for the hot foods running low and for
+     * the foods that became hot, each in one batch.
+     * </p>
+     */
+    private void flushStocks() {
+        try {
+            final long now = System.nanoTime();
+            final List<StripedStock> retiringStocks = new ArrayList<>();
+            final Map<Long, Integer> leases = new TreeMap<>();
+
+            for (final StripedStock stock : hotStocks.values()) {
+                if (now - stock.getLastTakeNanos() > IDLE_NANOS) {
+                    if (stock.tryRetire()) {
+                        retiringStocks.add(stock);
+                    }
+                } else if (stock.getQuantity() < LEASE_SIZE / 2) {
+                    leases.put(stock.getFoodId(), LEASE_SIZE);
+                }
+            }
+
+            for (final Map.Entry<Long, LongAdder> entry : storedTakes.entrySet()) {
+                if (HOT_TAKE_COUNT <= entry.getValue().sum() && !hotStocks.containsKey(entry.getKey())) {
+                    leases.put(entry.getKey(), LEASE_SIZE);
+                }
+            }
+            storedTakes.clear();
+            returnStocks(retiringStocks);
+            leaseStocks(leases);
+        } catch (RuntimeException message) {
+            logger.error(message.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Returns the stock left in the retired stocks to the database and forgets them.
+     * </p>
+     *
+     * <p>
+     * The leased units are already taken off the stored quantity, so the drained units are kept as pending returns
+     * until the return commits. A failed return is tried again with the next flush rather than dropped.
+     * </p>
+     *
+     * @param retiringStocks Represents the retired stocks
+     */
+    private void returnStocks(final List<StripedStock> retiringStocks) {
+        for (final StripedStock stock : retiringStocks) {
+            final int quantity = stock.drain();
+
+            if (0 < quantity) {
+                pendingReturns.merge(stock.getFoodId(), quantity, Integer::sum);
+            }
+            hotStocks.remove(stock.getFoodId(), stock);
+        }
+
+        if (pendingReturns.isEmpty()) {
+            return;
+        }
+        final Map<Long, Integer> returns = new TreeMap<>(pendingReturns);
+
+        try {
+            inventoryDAO.returnQuantities(returns);
+        } catch (RuntimeException message) {
+            logger.error(String.join("", "Leased stock ", returns.toString(),
+                    " was not returned and is kept for the next flush: ", message.getMessage()));
+
+            return;
+        }
+
+        for (final Map.Entry<Long, Integer> entry : returns.entrySet()) {
+            pendingReturns.merge(entry.getKey(), -entry.getValue(),
+                    (pending, returned) -> 0 == pending + returned ? null : pending + returned);
+        }
+        invalidateStoredQuantities(returns.keySet());
+        menuCardCache.invalidateFoods(returns.keySet());
+    }
+
+    /**
+     * <p>
+     * Leases stock for the given foods, adding it to their striped stock.
+     * </p>
+     *
+     * @param leases Represents the quantity to lease of each food
+     */
+    private void leaseStocks(final Map<Long, Integer> leases) {
+        if (leases.isEmpty()) {
+            return;
+        }
+        final Set<Long> leasedFoodIds = inventoryDAO.leaseQuantities(leases);
+
+        for (final Long foodId : leasedFoodIds) {
+            final StripedStock stock = hotStocks.get(foodId);
+
+            if (null == stock) {
+                hotStocks.put(foodId, new StripedStock(foodId, STRIPE_COUNT, leases.get(foodId)));
+            } else {
+                stock.add(leases.get(foodId));
+            }
+        }
+
+        if (!leasedFoodIds.isEmpty()) {
+            invalidateStoredQuantities(leasedFoodIds);
+            menuCardCache.invalidateFoods(leasedFoodIds);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package org.swiggy.restaurant.inventory;
+
+import org.swiggy.restaurant.internal.dao.InventoryDAO;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * <p>
+ * Takes the stock of the foods of one order, from the striped stock of the hot foods and with a conditional
+ * decrement in the transaction of the order for the others.
+ * </p>
+ *
+ * <p>
+ * The stock taken in memory isn't part of the transaction, so the order must end with {@link #confirm} once
+ * committed, or {@link #cancel} to give it back. Cancelling after confirming does nothing, so the order can cancel
+ * in a finally block.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class StockAllocation {
+
+    private final InventoryManager inventoryManager;
+    private final InventoryDAO inventoryDAO;
+    private final List<StripedStock> takenStocks;
+    private final List<Integer> takenQuantities;
+    private Set<Long> storedFoodIds;
+    private boolean completed;
+
+    StockAllocation(final InventoryManager inventoryManager, final InventoryDAO inventoryDAO) {
+        this.inventoryManager = inventoryManager;
+        this.inventoryDAO = inventoryDAO;
+        takenStocks = new ArrayList<>();
+        takenQuantities = new ArrayList<>();
+        storedFoodIds = Set.of();
+    }
+
+    /**
+     * <p>
+     * Takes the ordered quantity of each food from its stock.
+     * </p>
+     *
+     * @param connection Represents the connection of the transaction of the order
+     * @param foodQuantities Represents the ordered quantity of each food, sorted by the id of the food
+     * @throws SQLException if the stock of a food is lower than its ordered quantity, to roll the order back
+     */
+    public void take(final Connection connection, final Map<Long, Integer> foodQuantities) throws SQLException {
+        final Map<Long, Integer> storedQuantities = new TreeMap<>();
+
+        for (final Map.Entry<Long, Integer> foodQuantity : foodQuantities.entrySet()) {
+            final StripedStock stock = inventoryManager.getHotStock(foodQuantity.getKey());
+
+            if (null != stock && stock.take(foodQuantity.getValue())) {
+                takenStocks.add(stock);
+                takenQuantities.add(foodQuantity.getValue());
+            } else {
+                storedQuantities.put(foodQuantity.getKey(), foodQuantity.getValue());
+            }
+        }
+
+        if (storedQuantities.isEmpty()) {
+            return;
+        }
+        inventoryManager.recordStoredTakes(storedQuantities.keySet());
+        final Set<Long> shortFoodIds = inventoryDAO.takeQuantities(connection, storedQuantities);
+
+        if (!shortFoodIds.isEmpty()) {
+            throw new SQLException(String.join("", "Not enough quantity of the foods ", shortFoodIds.toString()));
+        }
+        storedFoodIds = storedQuantities.keySet();
+    }
+
+    /**
+     * <p>
+     * Keeps the stock taken in memory once the order is committed, and drops the stored quantity the manager kept
+     * for the foods taken from the database.
+     * </p>
+     */
+    public void confirm() {
+        if (!completed) {
+            completed = true;
+
+            if (!storedFoodIds.isEmpty()) {
+                inventoryManager.invalidateStoredQuantities(storedFoodIds);
+            }
+
+            for (final StripedStock stock : takenStocks) {
+                stock.complete();
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Gives the stock taken in memory back when the order is rolled back.
+     * </p>
+     */
+    public void cancel() {
+        if (!completed) {
+            completed = true;
+
+            for (int index = 0; index < takenStocks.size(); index++) {
+                takenStocks.get(index).giveBack(takenQuantities.get(index));
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package org.swiggy.restaurant.inventory;
+
+/**
+ * <p>
+ * Holds the quantity of a food read from the database until it expires.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+class StoredQuantity {
+
+    private final int quantity;
+    private final long expiryNanos;
+
+    StoredQuantity(final int quantity, final long expiryNanos) {
+        this.quantity = quantity;
+        this.expiryNanos = expiryNanos;
+    }
+
+    int getQuantity() {
+        return quantity;
+    }
+
+    boolean isExpired(final long now) {
+        return now - expiryNanos >= 0;
+    }
+}
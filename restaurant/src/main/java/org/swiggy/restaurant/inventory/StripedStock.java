@@ -0,0 +1,208 @@
+package org.swiggy.restaurant.inventory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * <p>
+ * Holds the stock of a hot food leased from the database, split across stripes so concurrent orders update
+ * different memory instead of queuing on one counter or one row lock.
+ * </p>
+ *
+ * <p>
+ * An order takes from the stripe of its thread and tries the other stripes when that one runs short, every take
+ * being a compare and set that never goes below zero. The stock counts the takes whose order isn't committed or
+ * rolled back yet, and can only be retired when there are none, so the stock handed back to the database on
+ * retirement is final.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+class StripedStock {
+
+    private static final int PADDING = 16;
+    private final long foodId;
+    private final int stripeCount;
+    private final AtomicIntegerArray stripes;
+    private final AtomicInteger inFlight;
+    private volatile boolean retired;
+    private volatile long lastTakeNanos;
+
+    StripedStock(final long foodId, final int stripeCount, final int quantity) {
+        this.foodId = foodId;
+        this.stripeCount = stripeCount;
+        stripes = new AtomicIntegerArray(stripeCount * PADDING);
+        inFlight = new AtomicInteger();
+        lastTakeNanos = System.nanoTime();
+        add(quantity);
+    }
+
+    long getFoodId() {
+        return foodId;
+    }
+
+    /**
+     * <p>
+     * Takes the quantity from the stock for an order, which must later call {@link #complete} or {@link #giveBack}.
+     * </p>
+     *
+     * @param quantity Represents the ordered quantity
+     * @return True if the quantity is taken, false if the stock is short or retired
+     */
+    boolean take(final int quantity) {
+        inFlight.incrementAndGet();
+
+        if (!retired && (takeFromOneStripe(quantity) || takeAcrossStripes(quantity))) {
+            lastTakeNanos = System.nanoTime();
+
+            return true;
+        }
+        inFlight.decrementAndGet();
+
+        return false;
+    }
+
+    /**
+     * <p>
+     * Ends a take whose order was committed.
+     * </p>
+     */
+    void complete() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * <p>
+     * Ends a take whose order was rolled back, putting the quantity back in the stock.
+     * </p>
+     *
+     * @param quantity Represents the quantity taken
+     */
+    void giveBack(final int quantity) {
+        stripes.addAndGet(getHomeStripe() * PADDING, quantity);
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * <p>
+     * Adds the newly leased quantity spread evenly over the stripes.
+     * </p>
+     *
+     * @param quantity Represents the leased quantity
+     */
+    void add(final int quantity) {
+        final int share = quantity / stripeCount;
+
+        for (int stripe = 0; stripe < stripeCount; stripe++) {
+            stripes.addAndGet(stripe * PADDING, 0 == stripe ? share + quantity % stripeCount : share);
+        }
+    }
+
+    int getQuantity() {
+        int quantity = 0;
+
+        for (int stripe = 0; stripe < stripeCount; stripe++) {
+            quantity += stripes.get(stripe * PADDING);
+        }
+
+        return quantity;
+    }
+
+    long getLastTakeNanos() {
+        return lastTakeNanos;
+    }
+
+    /**
+     * <p>
+     * Stops the stock from taking new orders if no order is between its take and its commit.
+     * </p>
+     *
+     * @return True if the stock is retired, false if an order is in flight
+     */
+    boolean tryRetire() {
+        retired = true;
+
+        if (0 != inFlight.get()) {
+            retired = false;
+
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Empties the stripes of a retired stock.
+     * </p>
+     *
+     * @return The quantity left in the stock
+     */
+    int drain() {
+        int quantity = 0;
+
+        for (int stripe = 0; stripe < stripeCount; stripe++) {
+            quantity += stripes.getAndSet(stripe * PADDING, 0);
+        }
+
+        return quantity;
+    }
+
+    private boolean takeFromOneStripe(final int quantity) {
+        final int homeStripe = getHomeStripe();
+
+        for (int offset = 0; offset < stripeCount; offset++) {
+            final int index = ((homeStripe + offset) % stripeCount) * PADDING;
+            int available = stripes.get(index);
+
+            while (available >= quantity) {
+                if (stripes.compareAndSet(index, available, available - quantity)) {
+                    return true;
+                }
+                available = stripes.get(index);
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * <p>
+     * Gathers a quantity no single stripe holds, giving back what was gathered when the whole stock is short.
+     * </p>
+     *
+     * @param quantity Represents the ordered quantity
+     * @return True if the quantity is taken, false otherwise
+     */
+    private synchronized boolean takeAcrossStripes(final int quantity) {
+        int gathered = 0;
+
+        for (int stripe = 0; stripe < stripeCount && gathered < quantity; stripe++) {
+            final int index = stripe * PADDING;
+            int available = stripes.get(index);
+
+            while (0 < available) {
+                final int part = Math.min(available, quantity - gathered);
+
+                if (stripes.compareAndSet(index, available, available - part)) {
+                    gathered += part;
+                    break;
+                }
+                available = stripes.get(index);
+            }
+        }
+
+        if (gathered < quantity) {
+            stripes.addAndGet(getHomeStripe() * PADDING, gathered);
+
+            return false;
+        }
+
+        return true;
+    }
+
+    private int getHomeStripe() {
+        return (int) (Thread.currentThread().getId() % stripeCount);
+    }
+}
@@ -4,26 +4,69 @@ import org.apache.cxf.endpoint.Server;
 import org.apache.cxf.jaxrs.JAXRSServerFactoryBean;
 import org.osgi.framework.BundleActivator;
 import org.osgi.framework.BundleContext;
+import org.swiggy.common.auth.AdminFilter;
+import org.swiggy.common.auth.SessionTokenFilter;
+import org.swiggy.common.auth.SessionTokenSigner;
+import org.swiggy.common.execution.ExecutionMode;
+import org.swiggy.common.execution.ExecutorFactory;
 import org.swiggy.common.json.JacksonFactory;
+import org.swiggy.common.metrics.MetricsController;
+import org.swiggy.common.metrics.MetricsInterceptor;
+import org.swiggy.database.executor.DatabaseExecutor;
+import org.swiggy.database.restcontroller.StatementController;
 import org.swiggy.restaurant.internal.restcontroller.RestaurantController;
+import org.swiggy.user.cart.CartStore;
 import org.swiggy.user.internal.restcontroller.CartController;
 import org.swiggy.user.internal.restcontroller.OrderController;
 import org.swiggy.user.internal.restcontroller.UserController;
+import org.swiggy.user.internal.service.impl.UserServiceImpl;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <p>
  *  Customizes the starting and stopping of a bundle and Creates the JAX-RS Server instance.
  * </p>
  *
+ * <p>
+ * The resource methods run on the threads of the execution mode set by the swiggy.executionMode framework
+ * property, one of transport, platform or virtual. The platform pool holds swiggy.platformThreads threads.
+ * </p>
+ *
+ * <p>
+ * The session tokens issued at login are signed with the swiggy.sessionSecret framework property and are valid
+ * for swiggy.sessionMinutes minutes. The nodes behind one address need the same secret; without one a random key
+ * is used and the sessions end when the bundle restarts.
+ * </p>
+ *
+ * <p>
+ * The administration resources are open only to the users listed by id in the swiggy.adminAccounts framework
+ * property, separated by commas, and to no one when it is not set.
+ * </p>
+ *
+ * <p>
+ * The phone numbers and email ids of the users are loaded into the signup filter on the database executor once the
+ * bundle starts. Until then the signups check them by querying the users.
+ * </p>
+ *
  * @author Muthu kumar V
  * @version 1.0
  */
 public class UserActivator implements BundleActivator {
 
+    private static final String EXECUTION_MODE = "swiggy.executionMode";
+    private static final String PLATFORM_THREADS = "swiggy.platformThreads";
+    private static final int DEFAULT_PLATFORM_THREADS = 64;
+    private static final String SESSION_SECRET = "swiggy.sessionSecret";
+    private static final String SESSION_MINUTES = "swiggy.sessionMinutes";
+    private static final int DEFAULT_SESSION_MINUTES = 60;
+    private static final String ADMIN_ACCOUNTS = "swiggy.adminAccounts";
+    private static final String USER_ID_PARAMETER = "userId";
     private Server server;
+    private ExecutorService requestExecutor;
 
     /**
      * <p>
@@ -35,13 +78,31 @@ public class UserActivator implements BundleActivator {
     @Override
     public void start(final BundleContext context) {
         final JAXRSServerFactoryBean bean = new JAXRSServerFactoryBean();
+        final String sessionMinutes = context.getProperty(SESSION_MINUTES);
 
+        SessionTokenSigner.configure(context.getProperty(SESSION_SECRET), TimeUnit.MINUTES.toMillis(
+                null == sessionMinutes ? DEFAULT_SESSION_MINUTES : Integer.parseInt(sessionMinutes.trim())));
         bean.setAddress("/swiggy/v1");
-        bean.setProvider(JacksonFactory.getInstance().getJsonProvider());
+        bean.setProviders(List.of(JacksonFactory.getInstance().getJsonProvider(),
+                new SessionTokenFilter(USER_ID_PARAMETER),
+                AdminFilter.fromList(context.getProperty(ADMIN_ACCOUNTS))));
         bean.setServiceBean(getBeans());
+        bean.getInInterceptors().add(MetricsInterceptor.getInInterceptor());
+        bean.getOutInterceptors().add(MetricsInterceptor.getOutInterceptor());
+        bean.getOutFaultInterceptors().add(MetricsInterceptor.getOutInterceptor());
         server = bean.create();
+        final ExecutionMode executionMode = ExecutionMode.getModeByName(context.getProperty(EXECUTION_MODE));
+        final String platformThreads = context.getProperty(PLATFORM_THREADS);
+
+        requestExecutor = ExecutorFactory.getInstance().createExecutor(executionMode, null == platformThreads
+                ? DEFAULT_PLATFORM_THREADS : Integer.parseInt(platformThreads.trim()), "swiggy-request");
 
-        System.out.println("User Bundle Is Started");
+        if (null != requestExecutor) {
+            server.getEndpoint().setExecutor(requestExecutor);
+        }
+        DatabaseExecutor.getInstance().run(UserServiceImpl.getInstance()::warmSignupFilter);
+
+        System.out.println(String.join(" ", "User Bundle Is Started in", executionMode.name(), "mode"));
     }
 
     /**
@@ -58,6 +119,8 @@ public class UserActivator implements BundleActivator {
         beans.add(UserController.getInstance());
         beans.add(CartController.getInstance());
         beans.add(OrderController.getInstance());
+        beans.add(MetricsController.getInstance());
+        beans.add(StatementController.getInstance());
 
         return beans;
     }
@@ -76,5 +139,10 @@ public class UserActivator implements BundleActivator {
         if (null != server) {
             server.destroy();
         }
+
+        if (null != requestExecutor) {
+            requestExecutor.shutdown();
+        }
+        CartStore.getInstance().shutdown();
     }
 }
@@ -0,0 +1,94 @@
+package org.swiggy.user.cart;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>
+ * Holds the carts of the users hashed to one shard of the cart store and the carts having pending changes.
+ * </p>
+ *
+ * <p>
+ * The shard isn't thread safe; the store holds the monitor of the shard around every call, so users of
+ * different shards never wait for each other.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+class CartShard {
+
+    private final Map<Long, UserCart> carts;
+    private final Set<UserCart> dirtyCarts;
+
+    CartShard() {
+        carts = new HashMap<>();
+        dirtyCarts = new LinkedHashSet<>();
+    }
+
+    UserCart get(final long userId) {
+        return carts.get(userId);
+    }
+
+    /**
+     * <p>
+     * Adds the loaded cart unless another request loaded the cart of the user first.
+     * </p>
+     *
+     * @param userCart Represents the cart loaded from the database
+     * @return The cart of the user held by the shard
+     */
+    UserCart putIfAbsent(final UserCart userCart) {
+        final UserCart existingCart = carts.putIfAbsent(userCart.getUserId(), userCart);
+
+        return null == existingCart ? userCart : existingCart;
+    }
+
+    void markDirty(final UserCart userCart) {
+        dirtyCarts.add(userCart);
+    }
+
+    /**
+     * <p>
+     * Gets the carts having pending changes and forgets them until they change again.
+     * </p>
+     *
+     * @return The carts having pending changes
+     */
+    List<UserCart> takeDirtyCarts() {
+        final List<UserCart> takenCarts = new ArrayList<>(dirtyCarts);
+
+        dirtyCarts.clear();
+
+        return takenCarts;
+    }
+
+    /**
+     * <p>
+     * Drops the clean carts that are empty or not used since the given time.
+     * </p>
+     *
+     * @param idleSince Represents the time of the last access below which a cart is idle
+     * @return The dropped carts
+     */
+    List<UserCart> evict(final long idleSince) {
+        final List<UserCart> evictedCarts = new ArrayList<>();
+        final Iterator<UserCart> iterator = carts.values().iterator();
+
+        while (iterator.hasNext()) {
+            final UserCart userCart = iterator.next();
+
+            if (userCart.isClean() && (userCart.isEmpty() || userCart.getLastAccessNanos() - idleSince < 0)) {
+                iterator.remove();
+                evictedCarts.add(userCart);
+            }
+        }
+
+        return evictedCarts;
+    }
+}
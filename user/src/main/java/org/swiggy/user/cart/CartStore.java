@@ -0,0 +1,466 @@
+package org.swiggy.user.cart;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.swiggy.common.metrics.MetricsRegistry;
+import org.swiggy.restaurant.inventory.InventoryManager;
+import org.swiggy.user.internal.dao.CartDAO;
+import org.swiggy.user.internal.dao.impl.CartDAOImpl;
+import org.swiggy.user.internal.exception.CartUpdateFailureException;
+import org.swiggy.user.model.Cart;
+import org.swiggy.user.model.CartSummary;
+import org.swiggy.user.model.Order;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * Holds the active carts of the users in memory and writes their changes behind to the cart table.
+ * </p>
+ *
+ * <p>
+ * The carts are spread over shards by the id of the user, each guarded by its own monitor. A cart is loaded from
+ * the database on its first use and then served from memory with its running totals, and the one restaurant per
+ * cart rule is checked against it. The changes are written by a single thread, every flush interval or when an
+ * order is placed, all the pending changes in one transaction. The number of pending changes is bounded: a
+ * request finding the queue full waits for a flush before changing a cart. Clean carts are dropped when empty
+ * or idle.
+ * </p>
+ *
+ * <p>
+ * The ids of the new cart entries are taken from blocks reserved from the sequence of the cart table, so they
+ * never collide with the entries of other writers. A new entry the database rejects while the others of the flush
+ * are written is dropped from its cart and its stock reservation is released, rather than being written again on
+ * every flush. Any other failed write is put back and written again on the next flush.
+ * </p>
+ *
+ * <p>
+ * A food is added to the cart in memory and the caller is told so before the entry is written, so adding a food
+ * costs no round trip instead of the single one of {@link CartDAO#addFoodToCart}. The cart held here is loaded
+ * from the database and changed only through the store, so the one restaurant per cart rule checked against it
+ * gives the same answer the conditional insert would. The flush inserts with the same condition, so an entry that
+ * another writer made invalid in the meantime is still refused by the database; such an entry is then dropped as
+ * above, after the caller was told it was added. A caller that must have the answer of the database before it
+ * replies uses {@link CartDAO#addFoodToCart} instead.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class CartStore {
+
+    private static final int SHARD_COUNT = 16;
+    private static final int QUEUE_CAPACITY = 4096;
+    private static final int CART_ID_BLOCK_SIZE = 64;
+    private static final long FLUSH_INTERVAL_MILLIS = 500;
+    private static final long EVICTION_INTERVAL_MILLIS = 60000;
+    private static final long IDLE_NANOS = TimeUnit.MINUTES.toNanos(30);
+    private static CartStore cartStore;
+    private final Logger logger;
+    private final CartDAO cartDAO;
+    private final InventoryManager inventoryManager;
+    private final CartShard[] shards;
+    private final Map<Long, Long> cartOwners;
+    private final AtomicInteger pendingCount;
+    private final ScheduledExecutorService flusher;
+    private long[] reservedCartIds;
+    private int nextCartIdIndex;
+
+    private CartStore() {
+        this(MetricsRegistry.getInstance().timed(CartDAO.class, CartDAOImpl.getInstance()),
+                InventoryManager.getInstance());
+    }
+
+    /**
+     * <p>
+     * Creates the cart store over the given cart DAO and inventory manager.
+     * </p>
+     *
+     * @param cartDAO Represents the database service of the carts
+     * @param inventoryManager Represents the manager holding the stock reservations of the cart entries
+     */
+    CartStore(final CartDAO cartDAO, final InventoryManager inventoryManager) {
+        logger = LogManager.getLogger(CartStore.class);
+        this.cartDAO = cartDAO;
+        this.inventoryManager = inventoryManager;
+        shards = new CartShard[SHARD_COUNT];
+        cartOwners = new ConcurrentHashMap<>();
+        pendingCount = new AtomicInteger();
+        reservedCartIds = new long[0];
+
+        for (int index = 0; index < SHARD_COUNT; index++) {
+            shards[index] = new CartShard();
+        }
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "cart-write-behind");
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushChanges, FLUSH_INTERVAL_MILLIS, FLUSH_INTERVAL_MILLIS,
+                TimeUnit.MILLISECONDS);
+        flusher.scheduleWithFixedDelay(this::evictCarts, EVICTION_INTERVAL_MILLIS, EVICTION_INTERVAL_MILLIS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * <p>
+     * Gets the object of the cart store class.
+     * </p>
+     *
+     * @return The cart store object
+     */
+    public static synchronized CartStore getInstance() {
+        if (null == cartStore) {
+            cartStore = new CartStore();
+        }
+
+        return cartStore;
+    }
+
+    /**
+     * <p>
+     * Adds the food to the cart of the user and gives the new cart entry its id. The entry is written with the next
+     * flush.
+     * </p>
+     *
+     * @param cart Represents the new cart entry
+     * @return True if the food is added, false if the cart holds the foods of another restaurant
+     */
+    public boolean addFoodToCart(final Cart cart) {
+        awaitCapacity();
+        final long cartId = nextCartId();
+
+        return update(cart.getUserId(), userCart -> {
+            if (!userCart.accepts(cart)) {
+                return false;
+            }
+            cart.setId(cartId);
+            userCart.add(cart);
+            cartOwners.put(cartId, cart.getUserId());
+
+            return true;
+        });
+    }
+
+    /**
+     * <p>
+     * Gets the active cart entries of the user.
+     * </p>
+     *
+     * @param userId Represents the id of the user
+     * @return The cart entries, null if the cart is empty
+     */
+    public List<Cart> getCart(final long userId) {
+        return update(userId, userCart -> userCart.isEmpty() ? null : userCart.getEntries());
+    }
+
+    /**
+     * <p>
+     * Gets the summary of the cart of the user from its running totals.
+     * </p>
+     *
+     * @param userId Represents the id of the user
+     * @return The summary of the cart
+     */
+    public CartSummary getSummary(final long userId) {
+        return update(userId, UserCart::getSummary);
+    }
+
+    /**
+     * <p>
+     * Removes the cart entry from the cart of the user, when the entry belongs to the user.
+     * </p>
+     *
+     * @param userId Represents the id of the user removing the entry
+     * @param cartId Represents the id of the cart entry
+     * @return True if the entry is removed, false if the user has no such active entry
+     */
+    public boolean removeFood(final long userId, final long cartId) {
+        final Long ownerId = cartOwners.get(cartId);
+
+        if (userId != (null == ownerId ? cartDAO.getCartOwner(cartId) : ownerId)) {
+            return false;
+        }
+        awaitCapacity();
+
+        return update(userId, userCart -> {
+            cartOwners.remove(cartId);
+
+            return null != userCart.remove(cartId);
+        });
+    }
+
+    /**
+     * <p>
+     * Removes all the entries from the cart of the user.
+     * </p>
+     *
+     * @param userId Represents the id of the user
+     * @return True if any entry is removed, false if the cart is empty
+     */
+    public boolean clearCart(final long userId) {
+        awaitCapacity();
+
+        return update(userId, userCart -> {
+            final List<Cart> entries = userCart.getEntries();
+
+            for (final Cart cart : entries) {
+                cartOwners.remove(cart.getId());
+                userCart.remove(cart.getId());
+            }
+
+            return !entries.isEmpty();
+        });
+    }
+
+    /**
+     * <p>
+     * Drops the ordered entries from the carts once the order is placed, as the database already holds them with
+     * the ordered status.
+     * </p>
+     *
+     * @param orderList Represents the list of order items
+     */
+    public void removeOrdered(final List<Order> orderList) {
+        for (final Order order : orderList) {
+            final Long userId = cartOwners.remove(order.getCartId());
+
+            if (null != userId) {
+                update(userId, userCart -> userCart.removeOrdered(order.getCartId()));
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Writes all the pending changes and waits for the write, so the database holds the carts as they are in
+     * memory.
+     * </p>
+     */
+    public void flush() {
+        try {
+            flusher.submit(this::writeChanges).get();
+        } catch (InterruptedException message) {
+            Thread.currentThread().interrupt();
+            throw new CartUpdateFailureException(message.getMessage());
+        } catch (ExecutionException message) {
+            throw new CartUpdateFailureException(message.getCause().getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Stops the background work and writes the pending changes.
+     * </p>
+     */
+    public void shutdown() {
+        flusher.shutdown();
+
+        try {
+            flusher.awaitTermination(FLUSH_INTERVAL_MILLIS * 10, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException message) {
+            Thread.currentThread().interrupt();
+        }
+        flushChanges();
+    }
+
+    /**
+     * <p>
+     * Runs the operation on the cart of the user while holding its shard, loading the cart from the database
+     * first when it isn't in memory, and accounts the pending changes it makes.
+     * </p>
+     *
+     * @param userId Represents the id of the user
+     * @param operation Represents the operation on the cart
+     * @return The result of the operation
+     */
+    private <T> T update(final long userId, final Function<UserCart, T> operation) {
+        final CartShard shard = getShard(userId);
+
+        synchronized (shard) {
+            final UserCart userCart = shard.get(userId);
+
+            if (null != userCart) {
+                return apply(shard, userCart, operation);
+            }
+        }
+        final List<Cart> storedCarts = cartDAO.getCart(userId);
+        final UserCart loadedCart = new UserCart(userId, null == storedCarts ? Collections.emptyList() : storedCarts);
+
+        synchronized (shard) {
+            final UserCart userCart = shard.putIfAbsent(loadedCart);
+
+            if (userCart == loadedCart) {
+                for (final Cart cart : loadedCart.getEntries()) {
+                    cartOwners.put(cart.getId(), userId);
+                }
+            }
+
+            return apply(shard, userCart, operation);
+        }
+    }
+
+    private <T> T apply(final CartShard shard, final UserCart userCart, final Function<UserCart, T> operation) {
+        final int previousCount = userCart.getPendingCount();
+        final T result = operation.apply(userCart);
+        final int currentCount = userCart.getPendingCount();
+
+        userCart.touch(System.nanoTime());
+        pendingCount.addAndGet(currentCount - previousCount);
+
+        if (0 < currentCount) {
+            shard.markDirty(userCart);
+        }
+
+        return result;
+    }
+
+    private void awaitCapacity() {
+        if (QUEUE_CAPACITY <= pendingCount.get()) {
+            flush();
+        }
+    }
+
+    /**
+     * <p>
+     * Gives the next id of the reserved block, reserving a new block from the database once it is used up.
+     * </p>
+     *
+     * @return The id of the new cart entry
+     */
+    private synchronized long nextCartId() {
+        if (reservedCartIds.length == nextCartIdIndex) {
+            reservedCartIds = cartDAO.reserveCartIds(CART_ID_BLOCK_SIZE);
+            nextCartIdIndex = 0;
+        }
+
+        return reservedCartIds[nextCartIdIndex++];
+    }
+
+    private void flushChanges() {
+        try {
+            writeChanges();
+        } catch (RuntimeException message) {
+            logger.error(message.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Writes the pending changes of all the carts in one transaction, putting them back to be written again
+     * when the write fails and dropping the new entries the database rejects. Runs only on the flusher thread, so
+     * the changes of a cart are written in order.
+     * </p>
+     */
+    private void writeChanges() {
+        final List<UserCart> flushedCarts = new ArrayList<>();
+        final List<Cart> addedCarts = new ArrayList<>();
+        final List<Long> removedCartIds = new ArrayList<>();
+
+        for (final CartShard shard : shards) {
+            synchronized (shard) {
+                for (final UserCart userCart : shard.takeDirtyCarts()) {
+                    pendingCount.addAndGet(-userCart.getPendingCount());
+                    userCart.takeChanges(addedCarts, removedCartIds);
+                    flushedCarts.add(userCart);
+                }
+            }
+        }
+
+        if (flushedCarts.isEmpty()) {
+            return;
+        }
+
+        final List<Cart> rejectedCarts;
+
+        try {
+            rejectedCarts = cartDAO.saveCarts(addedCarts, removedCartIds);
+        } catch (RuntimeException message) {
+            for (final UserCart userCart : flushedCarts) {
+                final CartShard shard = getShard(userCart.getUserId());
+
+                synchronized (shard) {
+                    final int previousCount = userCart.getPendingCount();
+
+                    userCart.restoreChanges();
+                    pendingCount.addAndGet(userCart.getPendingCount() - previousCount);
+                    shard.markDirty(userCart);
+                }
+            }
+            throw message;
+        }
+
+        for (final UserCart userCart : flushedCarts) {
+            final CartShard shard = getShard(userCart.getUserId());
+
+            synchronized (shard) {
+                userCart.completeChanges();
+            }
+        }
+        dropRejected(rejectedCarts);
+    }
+
+    /**
+     * <p>
+     * Drops the new cart entries the database rejected from the carts, releasing their stock reservations.
+     * </p>
+     *
+     * @param rejectedCarts Represents the rejected cart entries
+     */
+    private void dropRejected(final List<Cart> rejectedCarts) {
+        for (final Cart cart : rejectedCarts) {
+            final CartShard shard = getShard(cart.getUserId());
+
+            synchronized (shard) {
+                final UserCart userCart = shard.get(cart.getUserId());
+
+                if (null != userCart) {
+                    final int previousCount = userCart.getPendingCount();
+
+                    userCart.dropRejected(cart.getId());
+                    pendingCount.addAndGet(userCart.getPendingCount() - previousCount);
+                }
+                cartOwners.remove(cart.getId());
+            }
+            inventoryManager.release(cart.getId());
+            logger.error(String.join("", "Cart entry ", String.valueOf(cart.getId()), " of user ",
+                    String.valueOf(cart.getUserId()), " is rejected by the database and dropped"));
+        }
+    }
+
+    /**
+     * <p>
+     * Drops the clean carts that are empty or idle, with their entries in the owner index.
+     * </p>
+     */
+    private void evictCarts() {
+        final long idleSince = System.nanoTime() - IDLE_NANOS;
+
+        for (final CartShard shard : shards) {
+            synchronized (shard) {
+                for (final UserCart userCart : shard.evict(idleSince)) {
+                    for (final Cart cart : userCart.getEntries()) {
+                        cartOwners.remove(cart.getId());
+                    }
+                }
+            }
+        }
+    }
+
+    private CartShard getShard(final long userId) {
+        return shards[(int) (userId & (SHARD_COUNT - 1))];
+    }
+}
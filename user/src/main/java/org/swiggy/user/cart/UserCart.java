@@ -0,0 +1,264 @@
+package org.swiggy.user.cart;
+
+import org.swiggy.user.model.Cart;
+import org.swiggy.user.model.CartStatus;
+import org.swiggy.user.model.CartSummary;
+import org.swiggy.user.model.RestaurantSubtotal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>
+ * Holds the active cart entries of one user with the changes not written to the database yet.
+ * </p>
+ *
+ * <p>
+ * The totals of the cart and the subtotal of each restaurant are kept up to date as the entries are added and
+ * removed, so the summary of the cart is built without going through its entries.
+ * </p>
+ *
+ * <p>
+ * Adding and then removing an entry before it is written cancels out, so each entry has at most one pending
+ * change. The changes taken by a write stay in flight until the write completes, and are merged back into the
+ * pending changes if it fails. The cart isn't thread safe and is guarded by the monitor of its shard.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+class UserCart {
+
+    private final long userId;
+    private final Map<Long, Cart> entries;
+    private final Map<Long, Cart> addedCarts;
+    private final Set<Long> removedCartIds;
+    private final List<Cart> inFlightAddedCarts;
+    private final List<Long> inFlightRemovedCartIds;
+    private final Map<Long, RestaurantSubtotal> restaurantSubtotals;
+    private float totalAmount;
+    private int totalQuantity;
+    private long lastAccessNanos;
+
+    UserCart(final long userId, final Collection<Cart> storedCarts) {
+        this.userId = userId;
+        entries = new LinkedHashMap<>();
+        addedCarts = new LinkedHashMap<>();
+        removedCartIds = new HashSet<>();
+        inFlightAddedCarts = new ArrayList<>();
+        inFlightRemovedCartIds = new ArrayList<>();
+        restaurantSubtotals = new LinkedHashMap<>();
+        lastAccessNanos = System.nanoTime();
+
+        for (final Cart cart : storedCarts) {
+            putEntry(cart);
+        }
+    }
+
+    long getUserId() {
+        return userId;
+    }
+
+    /**
+     * <p>
+     * Checks the food of the cart entry belongs to the restaurant of the foods already in the cart.
+     * </p>
+     *
+     * @param cart Represents the new cart entry
+     * @return True if the cart is empty or holds the foods of the same restaurant, false otherwise
+     */
+    boolean accepts(final Cart cart) {
+        return entries.isEmpty() || entries.values().iterator().next().getRestaurantId() == cart.getRestaurantId();
+    }
+
+    void add(final Cart cart) {
+        cart.setCartStatus(CartStatus.IN_CART);
+        putEntry(cart);
+        addedCarts.put(cart.getId(), cart);
+    }
+
+    /**
+     * <p>
+     * Removes the cart entry, cancelling its insert when it isn't written yet.
+     * </p>
+     *
+     * @param cartId Represents the id of the cart entry
+     * @return The removed cart entry, or null if the cart has no such entry
+     */
+    Cart remove(final long cartId) {
+        final Cart cart = removeEntry(cartId);
+
+        if (null != cart && null == addedCarts.remove(cartId)) {
+            removedCartIds.add(cartId);
+        }
+
+        return cart;
+    }
+
+    /**
+     * <p>
+     * Removes the cart entry already written with the ordered status, leaving the database as it is.
+     * </p>
+     *
+     * @param cartId Represents the id of the ordered cart entry
+     * @return The removed cart entry, or null if the cart has no such entry
+     */
+    Cart removeOrdered(final long cartId) {
+        return removeEntry(cartId);
+    }
+
+    List<Cart> getEntries() {
+        return new ArrayList<>(entries.values());
+    }
+
+    boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * <p>
+     * Builds the summary of the cart from its running totals.
+     * </p>
+     *
+     * @return The summary of the cart
+     */
+    CartSummary getSummary() {
+        final CartSummary cartSummary = new CartSummary();
+        final List<RestaurantSubtotal> subtotals = new ArrayList<>(restaurantSubtotals.size());
+
+        for (final RestaurantSubtotal restaurantSubtotal : restaurantSubtotals.values()) {
+            final RestaurantSubtotal subtotal = new RestaurantSubtotal();
+
+            subtotal.setRestaurantId(restaurantSubtotal.getRestaurantId());
+            subtotal.setRestaurantName(restaurantSubtotal.getRestaurantName());
+            subtotal.setItemCount(restaurantSubtotal.getItemCount());
+            subtotal.setQuantity(restaurantSubtotal.getQuantity());
+            subtotal.setAmount(restaurantSubtotal.getAmount());
+            subtotals.add(subtotal);
+        }
+        cartSummary.setUserId(userId);
+        cartSummary.setItemCount(entries.size());
+        cartSummary.setTotalQuantity(totalQuantity);
+        cartSummary.setTotalAmount(totalAmount);
+        cartSummary.setRestaurantSubtotals(subtotals);
+
+        return cartSummary;
+    }
+
+    int getPendingCount() {
+        return addedCarts.size() + removedCartIds.size();
+    }
+
+    /**
+     * <p>
+     * Checks the cart has neither pending nor in flight changes, so it can be dropped and loaded again later.
+     * </p>
+     *
+     * @return True if the database holds the cart as it is, false otherwise
+     */
+    boolean isClean() {
+        return 0 == getPendingCount() && inFlightAddedCarts.isEmpty() && inFlightRemovedCartIds.isEmpty();
+    }
+
+    void touch(final long now) {
+        lastAccessNanos = now;
+    }
+
+    long getLastAccessNanos() {
+        return lastAccessNanos;
+    }
+
+    /**
+     * <p>
+     * Moves the pending changes into the given lists to be written, keeping them in flight until the write ends.
+     * </p>
+     *
+     * @param addedCartList Represents the cart entries to insert
+     * @param removedCartIdList Represents the ids of the cart entries to delete
+     */
+    void takeChanges(final List<Cart> addedCartList, final List<Long> removedCartIdList) {
+        inFlightAddedCarts.addAll(addedCarts.values());
+        inFlightRemovedCartIds.addAll(removedCartIds);
+        addedCartList.addAll(addedCarts.values());
+        removedCartIdList.addAll(removedCartIds);
+        addedCarts.clear();
+        removedCartIds.clear();
+    }
+
+    void completeChanges() {
+        inFlightAddedCarts.clear();
+        inFlightRemovedCartIds.clear();
+    }
+
+    /**
+     * <p>
+     * Puts the changes of a failed write back to the pending changes, dropping the inserts of the entries removed
+     * meanwhile along with their deletes.
+     * </p>
+     */
+    void restoreChanges() {
+        for (final Cart cart : inFlightAddedCarts) {
+            if (!removedCartIds.remove(cart.getId())) {
+                addedCarts.put(cart.getId(), cart);
+            }
+        }
+        removedCartIds.addAll(inFlightRemovedCartIds);
+        completeChanges();
+    }
+
+    /**
+     * <p>
+     * Drops the new cart entry the database rejected, with the delete of it queued while it was in flight.
+     * </p>
+     *
+     * @param cartId Represents the id of the rejected cart entry
+     */
+    void dropRejected(final long cartId) {
+        removeEntry(cartId);
+        removedCartIds.remove(cartId);
+    }
+
+    private void putEntry(final Cart cart) {
+        final RestaurantSubtotal subtotal = restaurantSubtotals.computeIfAbsent(cart.getRestaurantId(), id -> {
+            final RestaurantSubtotal restaurantSubtotal = new RestaurantSubtotal();
+
+            restaurantSubtotal.setRestaurantId(id);
+            restaurantSubtotal.setRestaurantName(cart.getRestaurantName());
+
+            return restaurantSubtotal;
+        });
+
+        entries.put(cart.getId(), cart);
+        totalAmount += cart.getAmount();
+        totalQuantity += cart.getQuantity();
+        subtotal.setItemCount(subtotal.getItemCount() + 1);
+        subtotal.setQuantity(subtotal.getQuantity() + cart.getQuantity());
+        subtotal.setAmount(subtotal.getAmount() + cart.getAmount());
+    }
+
+    private Cart removeEntry(final long cartId) {
+        final Cart cart = entries.remove(cartId);
+
+        if (null != cart) {
+            final RestaurantSubtotal subtotal = restaurantSubtotals.get(cart.getRestaurantId());
+
+            totalAmount = entries.isEmpty() ? 0 : totalAmount - cart.getAmount();
+            totalQuantity -= cart.getQuantity();
+
+            if (1 == subtotal.getItemCount()) {
+                restaurantSubtotals.remove(cart.getRestaurantId());
+            } else {
+                subtotal.setItemCount(subtotal.getItemCount() - 1);
+                subtotal.setQuantity(subtotal.getQuantity() - cart.getQuantity());
+                subtotal.setAmount(subtotal.getAmount() - cart.getAmount());
+            }
+        }
+
+        return cart;
+    }
+}
@@ -68,11 +68,12 @@ public class CartController {
      * Removes the selected food from the user cart.
      * </p>
      *
+     * @param userId Represents the id of the {@link User} removing the food
      * @param cartId Represents the id of the user cart
      * @return True if the food is removed, false otherwise
      */
-    public boolean removeFood(final long cartId) {
-        return cartService.removeFood(cartId);
+    public boolean removeFood(final long userId, final long cartId) {
+        return cartService.removeFood(userId, cartId);
     }
 
     /**
@@ -17,11 +17,12 @@ public interface CartDAO {
 
     /**
      * <p>
-     * Adds the selected food to the user cart.
+     * Adds the selected food to the user cart in one statement, which inserts it only when the user holds no active
+     * cart entry of another restaurant, and gives the new cart entry its id.
      * </p>
      *
      * @param cart Represents the cart of the user
-     * @return True if the food is added to the user cart, false otherwise
+     * @return True if the food is added to the user cart, false if the cart holds the foods of another restaurant
      */
     boolean addFoodToCart(final Cart cart);
 
@@ -37,21 +38,35 @@ public interface CartDAO {
 
     /**
      * <p>
-     * Removes the selected food from the user cart.
+     * Writes the changes of the carts held in memory, deleting the removed cart entries and inserting the new ones
+     * with their ids in one transaction. A new entry the database rejects, by a constraint or because the user holds
+     * active entries of another restaurant, is left out and the others are written.
      * </p>
      *
-     * @param cartId Represents the id of the user cart
-     * @return True if the food is removed, false otherwise
+     * @param addedCarts Represents the new cart entries
+     * @param removedCartIds Represents the ids of the removed cart entries
+     * @return The new cart entries that are not written, empty if all are written
      */
-    boolean removeFood(final long cartId);
+    List<Cart> saveCarts(final List<Cart> addedCarts, final List<Long> removedCartIds);
 
     /**
      * <p>
-     * Remove all the foods from the user cart.
+     * Reserves ids for the cart entries added in memory from the sequence of the cart table, so they never collide
+     * with the ids given by other writers.
      * </p>
      *
-     * @param userId Represents the id of the {@link User}
-     * @return The true if the cart is cleared, false otherwise
+     * @param count Represents the number of ids to reserve
+     * @return The reserved ids
+     */
+    long[] reserveCartIds(final int count);
+
+    /**
+     * <p>
+     * Gets the user having the active cart entry.
+     * </p>
+     *
+     * @param cartId Represents the id of the cart entry
+     * @return The id of the {@link User}, zero if there is no such active entry
      */
-    boolean clearCart(final long userId);
+    long getCartOwner(final long cartId);
 }
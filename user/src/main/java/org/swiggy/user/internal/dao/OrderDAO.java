@@ -55,4 +55,16 @@ public interface OrderDAO {
      * @return List having all the orders placed by the user
      */
     List<Order> getOrders(final long userId);
+
+    /**
+     * <p>
+     * Gets a page of the orders placed by the user, ordered by the id of the order.
+     * </p>
+     *
+     * @param userId Represents the id of the {@link User}
+     * @param afterOrderId Represents the id of the last order of the previous page, zero for the first page
+     * @param limit Represents the maximum number of orders in the page
+     * @return List having the orders placed by the user after the given order
+     */
+    List<Order> getOrders(final long userId, final long afterOrderId, final int limit);
 }
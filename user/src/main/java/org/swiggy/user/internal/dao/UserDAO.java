@@ -1,8 +1,11 @@
 package org.swiggy.user.internal.dao;
 
+import org.swiggy.common.auth.Credential;
 import org.swiggy.user.model.User;
 import org.swiggy.user.model.UserData;
 
+import java.util.function.BiConsumer;
+
 /**
  * <p>
  * Provides data base service for the user
@@ -25,15 +28,34 @@ public interface UserDAO {
 
     /**
      * <p>
-     * Gets the user profile if the phone_number and password matches.
+     * Gets the user profile with its password hash by the phone number or email id the user logs in with.
      * </p>
      *
      * @param userDataType Represents the data type of the user
      * @param userData Represents the data of the user
-     * @param password Represents the password of the user
-     * @return The user object
+     * @return The credential of the user, or null if there is no such user
+     */
+    Credential<User> getCredential(final UserData userDataType, final String userData);
+
+    /**
+     * <p>
+     * Checks whether a user has the phone number or email id.
+     * </p>
+     *
+     * @param userDataType Represents the data type of the user, phone number or email id
+     * @param userData Represents the data of the user
+     * @return True if the data is taken, false otherwise
+     */
+    boolean isUserDataTaken(final UserData userDataType, final String userData);
+
+    /**
+     * <p>
+     * Reads the phone number and email id of every user, one row at a time.
+     * </p>
+     *
+     * @param consumer Receives the type and value of each phone number and email id
      */
-    User getUser(final UserData userDataType, final String userData, final String password);
+    void readSignupData(final BiConsumer<UserData, String> consumer);
 
     /**
      * <p>
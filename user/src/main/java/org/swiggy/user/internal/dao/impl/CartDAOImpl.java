@@ -7,14 +7,16 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Savepoint;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.swiggy.user.internal.exception.CartDataNotFoundException;
 import org.swiggy.user.internal.exception.CartUpdateFailureException;
 import org.swiggy.user.internal.dao.CartDAO;
+import org.swiggy.database.bulk.BulkLoader;
 import org.swiggy.database.connection.DataBaseConnection;
-import org.swiggy.restaurant.internal.exception.RestaurantDataLoadFailureException;
+import org.swiggy.database.transaction.TransactionTemplate;
 import org.swiggy.user.model.Cart;
 import org.swiggy.user.model.CartStatus;
 import org.swiggy.user.model.User;
@@ -29,14 +31,19 @@ import org.swiggy.user.model.User;
  */
 public class CartDAOImpl implements CartDAO {
 
+    private static final String INTEGRITY_CONSTRAINT_VIOLATION = "23";
+    private static final String SINGLE_RESTAURANT_CONDITION = """
+            where not exists (select 1 from cart where user_id = ? and status = 1 and restaurant_id <> ?)""";
     private static CartDAO cartDAO;
 
     private final Logger logger;
-    private final Connection connection;
+    private final TransactionTemplate transactionTemplate;
+    private final BulkLoader bulkLoader;
 
     private CartDAOImpl() {
         logger = LogManager.getLogger(CartDAOImpl.class);
-        connection = DataBaseConnection.getConnection();
+        transactionTemplate = TransactionTemplate.getInstance();
+        bulkLoader = BulkLoader.getInstance();
     }
 
     /**
@@ -57,104 +64,44 @@ public class CartDAOImpl implements CartDAO {
     /**
      * {@inheritDoc}
      *
+     * <p>
+     * The food is inserted only when the user has no active cart entry of another restaurant, checked by the
+     * insert itself so adding a food takes a single round trip. No row is inserted when the cart holds the foods of
+     * another restaurant.
+     * </p>
+     *
      * @param cart Represents the cart of the user
      * @return True if the food is added to the user cart, false otherwise
      */
     @Override
     public boolean addFoodToCart(final Cart cart) {
-        try {
-            connection.setAutoCommit(false);
-
-            if (isCartEntryExist(cart.getUserId(), cart.getRestaurantId()) || isUserCartEmpty(cart.getUserId())) {
-                final String query = """
-                        insert into cart (user_id, restaurant_id, food_id, quantity, total_amount) values
-                        (?, ?, ?, ?, ?) returning id""";
-
-                try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-                    preparedStatement.setLong(1, cart.getUserId());
-                    preparedStatement.setLong(2, cart.getRestaurantId());
-                    preparedStatement.setLong(3, cart.getFoodId());
-                    preparedStatement.setInt(4, cart.getQuantity());
-                    preparedStatement.setFloat(5, cart.getAmount());
-                    final ResultSet resultSet = preparedStatement.executeQuery();
-
-                    resultSet.next();
-                    final int cartId = resultSet.getInt(1);
-
-                    cart.setId(cartId);
-                    connection.commit();
-
-                    return true;
-                }
-            }
-        } catch (SQLException message) {
-            try {
-                connection.rollback();
-            } catch (SQLException exception) {
-                logger.error(message.getMessage());
-                throw new CartUpdateFailureException(message.getMessage());
-            }
-        } finally {
-            try {
-                connection.setAutoCommit(true);
-            } catch (SQLException message) {
-                logger.error(message.getMessage());
-                throw new CartUpdateFailureException(message.getMessage());
+        final String query = String.join(" ", """
+                insert into cart (user_id, restaurant_id, food_id, quantity, total_amount)
+                select ?, ?, ?, ?, ?""", SINGLE_RESTAURANT_CONDITION);
+
+        try (final Connection connection = DataBaseConnection.getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(query, new String[] {"id"})) {
+            preparedStatement.setLong(1, cart.getUserId());
+            preparedStatement.setLong(2, cart.getRestaurantId());
+            preparedStatement.setLong(3, cart.getFoodId());
+            preparedStatement.setInt(4, cart.getQuantity());
+            preparedStatement.setFloat(5, cart.getAmount());
+            preparedStatement.setLong(6, cart.getUserId());
+            preparedStatement.setLong(7, cart.getRestaurantId());
+
+            if (0 == preparedStatement.executeUpdate()) {
+                return false;
             }
-        }
-
-        return false;
-    }
-
-    /**
-     * <p>
-     * Checks the user and the restaurant id for already having an entry.
-     * </p>
-     *
-     * @param userId Represents the id 0f the {@link User}
-     * @param restaurantId Represents the id of the restaurant
-     * @return True if the user and restaurant entry is exist in cart, false otherwise
-     */
-    private boolean isCartEntryExist(final long userId, final long restaurantId) {
-        final String query = "select count(*) from cart where user_id = ? and restaurant_id = ? and status = 1";
-
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-            preparedStatement.setLong(1, userId);
-            preparedStatement.setLong(2, restaurantId);
-            final ResultSet resultSet = preparedStatement.executeQuery();
+            final ResultSet resultSet = preparedStatement.getGeneratedKeys();
 
             resultSet.next();
-            final int result = resultSet.getInt(1);
+            cart.setId(resultSet.getLong(1));
 
-            return 0 < result;
+            return true;
         } catch (SQLException message) {
             logger.error(message.getMessage());
-            throw new RestaurantDataLoadFailureException(message.getMessage());
-        }
-    }
-
-    /**
-     * <p>
-     * Checks the user has any entry in the cart.
-     * </p>
-     *
-     * @param userId Represents the id 0f the {@link User}
-     * @return True if the user entry is exist in cart, false otherwise
-     */
-    private boolean isUserCartEmpty(final long userId) {
-        final String query = "select count(*) from cart where user_id = ? and status = 1";
-
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-            preparedStatement.setLong(1, userId);
-            final ResultSet resultSet = preparedStatement.executeQuery();
-
-            resultSet.next();
-            final int result = resultSet.getInt(1);
 
-            return 0 >= result;
-        } catch (SQLException message) {
-            logger.error(message.getMessage());
-            throw new RestaurantDataLoadFailureException(message.getMessage());
+            return false;
         }
     }
 
@@ -172,7 +119,8 @@ public class CartDAOImpl implements CartDAO {
                 join restaurant r on c.restaurant_id = r.id
                 join users u on c.user_id = u.id where u.id = ? and c.status = 1""";
 
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+        try (final Connection connection = DataBaseConnection.getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
             preparedStatement.setLong(1, userId);
             final ResultSet resultSet = preparedStatement.executeQuery();
 
@@ -208,17 +156,51 @@ public class CartDAOImpl implements CartDAO {
     /**
      * {@inheritDoc}
      *
-     * @param cartId Represents the id of the user cart
-     * @return True if the food is removed,false otherwise
+     * <p>
+     * The deletes and the inserts are each sent as one JDBC batch. Each entry is inserted only when the user has
+     * no active cart entry of another restaurant, checked by the insert itself, so the one restaurant per cart rule
+     * holds in the database as well as in memory, and an entry breaking it is left out. When the batch breaks a
+     * constraint of the cart table, the whole write is rolled back and done again with each insert behind its own
+     * savepoint, so the entries breaking the constraint are left out and the rest are written. Any other failure
+     * rolls the write back.
+     * </p>
+     *
+     * @param addedCarts Represents the new cart entries
+     * @param removedCartIds Represents the ids of the removed cart entries
+     * @return The new cart entries that are not written, empty if all are written
      */
     @Override
-    public boolean removeFood(final long cartId) {
-        final String query = "delete from cart c where c.id = ? and status = 1";
+    public List<Cart> saveCarts(final List<Cart> addedCarts, final List<Long> removedCartIds) {
+        try {
+            return transactionTemplate.execute(connection -> writeCarts(connection, addedCarts, removedCartIds,
+                    false));
+        } catch (SQLException message) {
+            if (!isConstraintViolation(message)) {
+                logger.error(message.getMessage());
+                throw new CartUpdateFailureException(message.getMessage());
+            }
+            logger.warn(String.join(" ", "Writing the cart entries one by one:", message.getMessage()));
+        }
 
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-            preparedStatement.setLong(1, cartId);
+        try {
+            return transactionTemplate.execute(connection -> writeCarts(connection, addedCarts, removedCartIds,
+                    true));
+        } catch (SQLException message) {
+            logger.error(message.getMessage());
+            throw new CartUpdateFailureException(message.getMessage());
+        }
+    }
 
-            return 0 < preparedStatement.executeUpdate();
+    /**
+     * {@inheritDoc}
+     *
+     * @param count Represents the number of ids to reserve
+     * @return The reserved ids
+     */
+    @Override
+    public long[] reserveCartIds(final int count) {
+        try (final Connection connection = DataBaseConnection.getConnection()) {
+            return bulkLoader.reserveIds(connection, "cart", "id", count);
         } catch (SQLException message) {
             logger.error(message.getMessage());
             throw new CartUpdateFailureException(message.getMessage());
@@ -228,20 +210,137 @@ public class CartDAOImpl implements CartDAO {
     /**
      * {@inheritDoc}
      *
-     * @param userId Represents the id of the {@link User}
-     * @return The true if the cart is cleared, false otherwise
+     * @param cartId Represents the id of the cart entry
+     * @return The id of the {@link User}, zero if there is no such active entry
      */
     @Override
-    public boolean clearCart(final long userId) {
-        final String query = "delete from cart where user_id = ? and status = 1";
+    public long getCartOwner(final long cartId) {
+        final String query = "select user_id from cart where id = ? and status = 1";
 
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-            preparedStatement.setLong(1, userId);
+        try (final Connection connection = DataBaseConnection.getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+            preparedStatement.setLong(1, cartId);
+            final ResultSet resultSet = preparedStatement.executeQuery();
 
-            return 0 < preparedStatement.executeUpdate();
+            return resultSet.next() ? resultSet.getLong(1) : 0;
         } catch (SQLException message) {
             logger.error(message.getMessage());
-            throw new CartUpdateFailureException(message.getMessage());
+            throw new CartDataNotFoundException(message.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * <p>
+     * Deletes the removed cart entries and inserts the new ones, either as batches or each insert behind its own
+     * savepoint.
+     * </p>
+     *
+     * @param connection Represents the connection of the transaction
+     * @param addedCarts Represents the new cart entries
+     * @param removedCartIds Represents the ids of the removed cart entries
+     * @param isIsolated Represents whether each insert is isolated by a savepoint
+     * @return The new cart entries that are not written
+     * @throws SQLException if the write fails
+     */
+    private List<Cart> writeCarts(final Connection connection, final List<Cart> addedCarts,
+                                  final List<Long> removedCartIds, final boolean isIsolated) throws SQLException {
+        final String insertQuery = String.join(" ", """
+                insert into cart (id, user_id, restaurant_id, food_id, quantity, total_amount)
+                select ?, ?, ?, ?, ?, ?""", SINGLE_RESTAURANT_CONDITION);
+        final String deleteQuery = "delete from cart where id = ? and status = 1";
+        final List<Cart> rejectedCarts = new ArrayList<>();
+
+        try (final PreparedStatement insertStatement = connection.prepareStatement(insertQuery);
+             final PreparedStatement deleteStatement = connection.prepareStatement(deleteQuery)) {
+            for (final Long cartId : removedCartIds) {
+                deleteStatement.setLong(1, cartId);
+                deleteStatement.addBatch();
+            }
+
+            if (!removedCartIds.isEmpty()) {
+                deleteStatement.executeBatch();
+            }
+
+            for (final Cart cart : addedCarts) {
+                insertStatement.setLong(1, cart.getId());
+                insertStatement.setLong(2, cart.getUserId());
+                insertStatement.setLong(3, cart.getRestaurantId());
+                insertStatement.setLong(4, cart.getFoodId());
+                insertStatement.setInt(5, cart.getQuantity());
+                insertStatement.setFloat(6, cart.getAmount());
+                insertStatement.setLong(7, cart.getUserId());
+                insertStatement.setLong(8, cart.getRestaurantId());
+
+                if (!isIsolated) {
+                    insertStatement.addBatch();
+                } else if (!insertIsolated(connection, insertStatement, cart)) {
+                    rejectedCarts.add(cart);
+                }
+            }
+
+            if (!isIsolated && !addedCarts.isEmpty()) {
+                final int[] insertCounts = insertStatement.executeBatch();
+
+                for (int index = 0; index < insertCounts.length; index++) {
+                    if (0 == insertCounts[index]) {
+                        rejectedCarts.add(addedCarts.get(index));
+                    }
+                }
+            }
+        }
+
+        return rejectedCarts;
+    }
+
+    /**
+     * <p>
+     * Inserts the cart entry behind a savepoint, rolling back to it when the entry breaks a constraint.
+     * </p>
+     *
+     * @param connection Represents the connection of the transaction
+     * @param insertStatement Represents the insert with the cart entry set
+     * @param cart Represents the new cart entry
+     * @return True if the entry is inserted, false if it is rejected or the cart holds the foods of another
+     *         restaurant
+     * @throws SQLException if the insert fails for any other reason
+     */
+    private boolean insertIsolated(final Connection connection, final PreparedStatement insertStatement,
+                                   final Cart cart) throws SQLException {
+        final Savepoint savepoint = connection.setSavepoint();
+
+        try {
+            final boolean isInserted = 0 < insertStatement.executeUpdate();
+
+            connection.releaseSavepoint(savepoint);
+
+            return isInserted;
+        } catch (SQLException message) {
+            if (!isConstraintViolation(message)) {
+                throw message;
+            }
+            connection.rollback(savepoint);
+            logger.warn(String.join("", "Cart entry ", String.valueOf(cart.getId()), " of user ",
+                    String.valueOf(cart.getUserId()), " is rejected: ", message.getMessage()));
+
+            return false;
+        }
+    }
+
+    /**
+     * <p>
+     * Checks the failure, or any failure chained to it, is an integrity constraint violation.
+     * </p>
+     *
+     * @param exception Represents the failure of the write
+     * @return True if a constraint of the table is broken, false otherwise
+     */
+    private boolean isConstraintViolation(final SQLException exception) {
+        for (SQLException cause = exception; null != cause; cause = cause.getNextException()) {
+            if (null != cause.getSQLState() && cause.getSQLState().startsWith(INTEGRITY_CONSTRAINT_VIOLATION)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
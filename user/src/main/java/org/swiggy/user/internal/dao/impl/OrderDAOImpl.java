@@ -7,15 +7,20 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
-import org.swiggy.restaurant.model.Food;
+import org.swiggy.restaurant.inventory.InventoryManager;
+import org.swiggy.restaurant.inventory.StockAllocation;
 import org.swiggy.user.internal.exception.AddressDataLoadFailureException;
 import org.swiggy.user.internal.exception.OrderDataNotFoundException;
 import org.swiggy.user.internal.exception.OrderPlacementFailureException;
 import org.swiggy.user.internal.dao.OrderDAO;
 import org.swiggy.database.connection.DataBaseConnection;
+import org.swiggy.database.transaction.TransactionTemplate;
 import org.swiggy.user.model.Address;
 import org.swiggy.user.model.AddressType;
 import org.swiggy.user.model.Order;
@@ -31,13 +36,17 @@ import org.swiggy.user.model.User;
  */
 public class OrderDAOImpl implements OrderDAO {
 
+    private static final String ADDRESS_COLUMNS = """
+            id, user_id, house_number, street_name, area_name, city_name, pincode, address_type""";
     private static OrderDAO orderDAO;
     private final Logger logger;
-    private final Connection connection;
+    private final TransactionTemplate transactionTemplate;
+    private final InventoryManager inventoryManager;
 
     private OrderDAOImpl() {
         logger = LogManager.getLogger(OrderDAOImpl.class);
-        connection = DataBaseConnection.getConnection();
+        transactionTemplate = TransactionTemplate.getInstance();
+        inventoryManager = InventoryManager.getInstance();
     }
 
     /**
@@ -58,69 +67,98 @@ public class OrderDAOImpl implements OrderDAO {
     /**
      * {@inheritDoc}
      *
+     * <p>
+     * The orders, the cart status changes and the food quantity changes are each sent as one JDBC batch, so
+     * placing an order costs the same number of round trips whatever the size of the cart. The stock is taken
+     * through a {@link StockAllocation}, which rolls the order back when a food is short and gives the stock taken
+     * in memory back unless the order is committed.
+     * </p>
+     *
      * @param orderList Represents the list of order items
      * @return True if the order is placed, false otherwise
      */
     @Override
     public boolean placeOrder(final List<Order> orderList) {
-        try {
-            connection.setAutoCommit(false);
-            final String query = "insert into orders (user_id, cart_id, address_id) values(?, ?, ?)";
-
-            try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+        final StockAllocation stockAllocation = inventoryManager.createAllocation();
 
-                for (final Order order : orderList) {
-                    preparedStatement.setLong(1, order.getUserId());
-                    preparedStatement.setLong(2, order.getCartId());
-                    preparedStatement.setLong(3, order.getAddressId());
-                    preparedStatement.executeUpdate();
-                }
-                updateCartStatus(orderList);
-                connection.commit();
+        try {
+            transactionTemplate.execute(connection -> {
+                insertOrders(connection, orderList);
+                stockAllocation.take(connection, updateCartStatus(connection, orderList));
 
                 return true;
-            }
+            });
+            stockAllocation.confirm();
+
+            return true;
         } catch (SQLException message) {
-            try {
-                connection.rollback();
-            } catch (SQLException exception) {
-                logger.error(message.getMessage());
-                throw new OrderPlacementFailureException(message.getMessage());
-            }
+            logger.error(message.getMessage());
+
+            return false;
         } finally {
-            try {
-                connection.setAutoCommit(true);
-            } catch (SQLException message) {
-                logger.error(message.getMessage());
-                throw new OrderPlacementFailureException(message.getMessage());
-            }
+            stockAllocation.cancel();
         }
+    }
+
+    /**
+     * <p>
+     * Inserts all the order items in one batch.
+     * </p>
+     *
+     * @param connection Represents the connection of the current transaction
+     * @param orderList Represents the list of order items
+     */
+    private void insertOrders(final Connection connection, final List<Order> orderList) {
+        final String query = "insert into orders (user_id, cart_id, address_id) values(?, ?, ?)";
+
+        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
 
-        return false;
+            for (final Order order : orderList) {
+                preparedStatement.setLong(1, order.getUserId());
+                preparedStatement.setLong(2, order.getCartId());
+                preparedStatement.setLong(3, order.getAddressId());
+                preparedStatement.addBatch();
+            }
+            preparedStatement.executeBatch();
+        } catch (SQLException message) {
+            logger.error(message.getMessage());
+            throw new OrderPlacementFailureException(message.getMessage());
+        }
     }
 
     /**
      * <p>
-     * Updates the status of the cart.
+     * Updates the status of the cart in one batch.
      * </p>
      *
+     * @param connection Represents the connection of the current transaction
      * @param orderList Represents the list of order items
+     * @return The ordered quantity of each food whose cart entry was updated, sorted by the id of the food
      */
-    private void updateCartStatus(final List<Order> orderList) {
+    private Map<Long, Integer> updateCartStatus(final Connection connection, final List<Order> orderList) {
         final String query = "update cart set status = 2 where id = ?";
 
         try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
 
             for (final Order order : orderList) {
                 preparedStatement.setLong(1, order.getCartId());
+                preparedStatement.addBatch();
+            }
+            final int[] updateCounts = preparedStatement.executeBatch();
+            final Map<Long, Integer> foodQuantities = new TreeMap<>();
+
+            for (int index = 0; index < updateCounts.length; index++) {
+                if (0 < updateCounts[index] || Statement.SUCCESS_NO_INFO == updateCounts[index]) {
+                    final Order order = orderList.get(index);
 
-                if (0 < preparedStatement.executeUpdate()) {
-                    updateQuantity(order.getFoodId(), order.getQuantity());
+                    foodQuantities.merge(order.getFoodId(), order.getQuantity(), Integer::sum);
                 }
             }
+
+            return foodQuantities;
         } catch (SQLException message) {
             logger.error(message.getMessage());
-            throw new AddressDataLoadFailureException(message.getMessage());
+            throw new OrderPlacementFailureException(message.getMessage());
         }
     }
 
@@ -136,7 +174,8 @@ public class OrderDAOImpl implements OrderDAO {
                 insert into address (user_id, house_number, street_name, area_name, city_name, pincode, address_type) values
                 (?, ?, ?, ?, ?, ?, ?) returning id""";
 
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+        try (final Connection connection = DataBaseConnection.getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
             preparedStatement.setLong(1, address.getUserId());
             preparedStatement.setString(2, address.getHouseNumber());
             preparedStatement.setString(3, address.getStreetName());
@@ -165,9 +204,10 @@ public class OrderDAOImpl implements OrderDAO {
      */
     @Override
     public List<Address> getAddress(final long userId) {
-        final String query = "select * from address where user_id = ?";
+        final String query = String.join(" ", "select", ADDRESS_COLUMNS, "from address where user_id = ?");
 
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+        try (final Connection connection = DataBaseConnection.getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
             preparedStatement.setLong(1, userId);
             final ResultSet resultSet = preparedStatement.executeQuery();
 
@@ -175,19 +215,7 @@ public class OrderDAOImpl implements OrderDAO {
                 final List<Address> addressList = new ArrayList<>();
 
                 while (resultSet.next()) {
-                    final Address address = new Address();
-
-                    address.setId(resultSet.getInt(1));
-                    address.setUserId(resultSet.getInt(2));
-                    address.setHouseNumber(resultSet.getString(3));
-                    address.setStreetName(resultSet.getString(4));
-                    address.setAreaName(resultSet.getString(5));
-                    address.setCityName(resultSet.getString(6));
-                    address.setPincode(resultSet.getString(7));
-                    final AddressType addressType = AddressType.getTypeById(resultSet.getInt(8));
-
-                    address.setAddressType(addressType);
-                    addressList.add(address);
+                    addressList.add(mapAddress(resultSet));
                 }
 
                 return addressList;
@@ -200,28 +228,6 @@ public class OrderDAOImpl implements OrderDAO {
         }
     }
 
-    /**
-     * <p>
-     * Updates the food quantity in restaurant after ordered by user.
-     * </p>
-     *
-     * @param foodId Represents the id of the {@link Food}
-     * @param quantity quantity Represents the quantity of the food
-     */
-    private void updateQuantity(final long foodId, final int quantity) {
-        final String query = "update food set food_quantity = food_quantity - ? where id = ?";
-
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-            preparedStatement.setInt(1, quantity);
-            preparedStatement.setLong(2, foodId);
-
-            preparedStatement.executeUpdate();
-        } catch (SQLException message) {
-            logger.error(message.getMessage());
-            throw new OrderPlacementFailureException(message.getMessage());
-        }
-    }
-
     /**
      * {@inheritDoc}
      *
@@ -237,7 +243,8 @@ public class OrderDAOImpl implements OrderDAO {
                 join restaurant r on c.restaurant_id = r.id
                 where o.user_id = ? and c.status = 2""";
 
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+        try (final Connection connection = DataBaseConnection.getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
             preparedStatement.setLong(1, userId);
             final ResultSet resultSet = preparedStatement.executeQuery();
 
@@ -245,19 +252,7 @@ public class OrderDAOImpl implements OrderDAO {
                 final List<Order> orderList = new ArrayList<>();
 
                 while (resultSet.next()) {
-                    final Order order = new Order();
-
-                    order.setId(resultSet.getInt(1));
-                    order.setCartId(resultSet.getLong(2));
-                    order.setFoodId(resultSet.getLong(3));
-                    order.setFoodName(resultSet.getString(4));
-                    order.setRestaurantId(resultSet.getLong(5));
-                    order.setRestaurantName(resultSet.getString(6));
-                    order.setQuantity(resultSet.getInt(7));
-                    order.setAmount(resultSet.getFloat(8));
-                    order.setAddressId(resultSet.getLong(9));
-                    order.setUserId(userId);
-                    orderList.add(order);
+                    orderList.add(mapOrder(resultSet, userId));
                 }
 
                 return orderList;
@@ -269,4 +264,97 @@ public class OrderDAOImpl implements OrderDAO {
             throw new OrderDataNotFoundException(message.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The page is found by seeking past the given order id rather than skipping rows, so every page costs the
+     * same whatever the length of the order history, given an index on the user id and the order id.
+     * </p>
+     *
+     * @param userId Represents the id of the {@link User}
+     * @param afterOrderId Represents the id of the last order of the previous page, zero for the first page
+     * @param limit Represents the maximum number of orders in the page
+     * @return List having the orders placed by the user after the given order
+     */
+    @Override
+    public List<Order> getOrders(final long userId, final long afterOrderId, final int limit) {
+        final String query = """
+                select o.id, c.id, f.id, f.name, r.id, r.name, c.quantity, c.total_amount, o.address_id from orders o
+                join cart c on o.cart_id = c.id
+                join food f on c.food_id = f.id
+                join restaurant r on c.restaurant_id = r.id
+                where o.user_id = ? and o.id > ? and c.status = 2
+                order by o.id limit ?""";
+
+        try (final Connection connection = DataBaseConnection.getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+            preparedStatement.setLong(1, userId);
+            preparedStatement.setLong(2, afterOrderId);
+            preparedStatement.setInt(3, limit);
+            final ResultSet resultSet = preparedStatement.executeQuery();
+            final List<Order> orderList = new ArrayList<>(limit);
+
+            while (resultSet.next()) {
+                orderList.add(mapOrder(resultSet, userId));
+            }
+
+            return orderList;
+        } catch (SQLException message) {
+            logger.error(message.getMessage());
+            throw new OrderDataNotFoundException(message.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Maps the current row of the order query to an order.
+     * </p>
+     *
+     * @param resultSet Represents the result of the order query
+     * @param userId Represents the id of the {@link User}
+     * @return The order of the current row
+     * @throws SQLException if a column can't be read
+     */
+    private Order mapOrder(final ResultSet resultSet, final long userId) throws SQLException {
+        final Order order = new Order();
+
+        order.setId(resultSet.getInt(1));
+        order.setCartId(resultSet.getLong(2));
+        order.setFoodId(resultSet.getLong(3));
+        order.setFoodName(resultSet.getString(4));
+        order.setRestaurantId(resultSet.getLong(5));
+        order.setRestaurantName(resultSet.getString(6));
+        order.setQuantity(resultSet.getInt(7));
+        order.setAmount(resultSet.getFloat(8));
+        order.setAddressId(resultSet.getLong(9));
+        order.setUserId(userId);
+
+        return order;
+    }
+
+    /**
+     * <p>
+     * Maps the current row of the address query to an address.
+     * </p>
+     *
+     * @param resultSet Represents the result of the address query
+     * @return The address of the current row
+     * @throws SQLException if a column can't be read
+     */
+    private Address mapAddress(final ResultSet resultSet) throws SQLException {
+        final Address address = new Address();
+
+        address.setId(resultSet.getInt(1));
+        address.setUserId(resultSet.getInt(2));
+        address.setHouseNumber(resultSet.getString(3));
+        address.setStreetName(resultSet.getString(4));
+        address.setAreaName(resultSet.getString(5));
+        address.setCityName(resultSet.getString(6));
+        address.setPincode(resultSet.getString(7));
+        address.setAddressType(AddressType.getTypeById(resultSet.getInt(8)));
+
+        return address;
+    }
+}
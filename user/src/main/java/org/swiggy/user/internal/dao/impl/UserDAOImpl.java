@@ -7,7 +7,9 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.function.BiConsumer;
 
+import org.swiggy.common.auth.Credential;
 import org.swiggy.user.internal.exception.UserDataLoadFailureException;
 import org.swiggy.user.internal.exception.UserDataNotFoundException;
 import org.swiggy.user.internal.exception.UserDataUpdateFailureException;
@@ -28,11 +30,9 @@ public class UserDAOImpl implements UserDAO {
 
     private static UserDAO userDAO;
     private final Logger logger;
-    private final Connection connection;
 
     private UserDAOImpl() {
         logger = LogManager.getLogger(UserDAOImpl.class);
-        connection = DataBaseConnection.getConnection();
     }
 
     /**
@@ -60,7 +60,8 @@ public class UserDAOImpl implements UserDAO {
         final String query = """
                 insert into users (name, phone_number, email_id, password) values (?, ?, ?, ?) returning id""";
 
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+        try (final Connection connection = DataBaseConnection.getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
             preparedStatement.setString(1, user.getName());
             preparedStatement.setString(2, user.getPhoneNumber());
             preparedStatement.setString(3, user.getEmailId());
@@ -82,21 +83,27 @@ public class UserDAOImpl implements UserDAO {
      *
      * @param userDataType Represents the data type of the user
      * @param userData Represents the data of the user
-     * @param password Represents the password of the user
-     * @return The user object
+     * @return The credential of the user, or null if there is no such user
      */
-    public User getUser(final UserData userDataType, final String userData, final String password) {
-        String query = null;
+    @Override
+    public Credential<User> getCredential(final UserData userDataType, final String userData) {
+        final String query;
+
         switch (userDataType) {
             case PHONE_NUMBER -> query = """
-                select id, name, phone_number, email_id, password from users where phone_Number = ? and password = ?""";
+                    select id, name, phone_number, email_id, password from users where phone_number = ? order by id
+                    limit 1""";
             case EMAIL_ID -> query = """
-                select id, name, phone_number, email_id, password from users where email_id = ? and password = ?""";
+                    select id, name, phone_number, email_id, password from users where email_id = ? order by id
+                    limit 1""";
+            default -> {
+                return null;
+            }
         }
 
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+        try (final Connection connection = DataBaseConnection.getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
             preparedStatement.setString(1, userData);
-            preparedStatement.setString(2, password);
             final ResultSet resultSet = preparedStatement.executeQuery();
 
             if (resultSet.next()) {
@@ -108,7 +115,7 @@ public class UserDAOImpl implements UserDAO {
                 user.setEmailId(resultSet.getString(4));
                 user.setPassword(resultSet.getString(5));
 
-                return user;
+                return new Credential<>(user.getId(), user, user.getPassword());
             } else {
                 return null;
             }
@@ -118,6 +125,77 @@ public class UserDAOImpl implements UserDAO {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @param userDataType Represents the data type of the user, phone number or email id
+     * @param userData Represents the data of the user
+     * @return True if the data is taken, false otherwise
+     */
+    @Override
+    public boolean isUserDataTaken(final UserData userDataType, final String userData) {
+        final String query;
+
+        switch (userDataType) {
+            case PHONE_NUMBER -> query = "select 1 from users where phone_number = ? limit 1";
+            case EMAIL_ID -> query = "select 1 from users where email_id = ? limit 1";
+            default -> {
+                return false;
+            }
+        }
+
+        try (final Connection connection = DataBaseConnection.getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+            preparedStatement.setString(1, userData);
+
+            return preparedStatement.executeQuery().next();
+        } catch (SQLException message) {
+            logger.error(message.getMessage());
+            throw new UserDataNotFoundException(message.getMessage());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The rows are fetched in batches of the configured fetch size, so the users are never all in memory.
+     * </p>
+     *
+     * @param consumer Receives the type and value of each phone number and email id
+     */
+    @Override
+    public void readSignupData(final BiConsumer<UserData, String> consumer) {
+        final String query = "select phone_number, email_id from users";
+
+        try (final Connection connection = DataBaseConnection.getConnection()) {
+            connection.setAutoCommit(false);
+
+            try (final PreparedStatement preparedStatement = connection.prepareStatement(query,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                preparedStatement.setFetchSize(DataBaseConnection.getConnectionPool().getConfiguration()
+                        .getFetchSize());
+                final ResultSet resultSet = preparedStatement.executeQuery();
+
+                while (resultSet.next()) {
+                    final String phoneNumber = resultSet.getString(1);
+                    final String emailId = resultSet.getString(2);
+
+                    if (null != phoneNumber) {
+                        consumer.accept(UserData.PHONE_NUMBER, phoneNumber);
+                    }
+
+                    if (null != emailId) {
+                        consumer.accept(UserData.EMAIL_ID, emailId);
+                    }
+                }
+            }
+        } catch (SQLException message) {
+            logger.error(message.getMessage());
+            throw new UserDataNotFoundException(message.getMessage());
+        }
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -129,7 +207,8 @@ public class UserDAOImpl implements UserDAO {
         final String query = """
                 select name, phone_number, email_id, password from users where id = ?""";
 
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+        try (final Connection connection = DataBaseConnection.getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
             preparedStatement.setLong(1, userId);
             final ResultSet resultSet = preparedStatement.executeQuery();
 
@@ -164,7 +243,8 @@ public class UserDAOImpl implements UserDAO {
     public boolean updateUserProfile(final long userId, final String type, final String userData) {
         final String query = String.join("", "update users set ", type, " = ? where id = ?");
 
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+        try (final Connection connection = DataBaseConnection.getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
             preparedStatement.setString(1, userData);
             preparedStatement.setLong(2, userId);
 
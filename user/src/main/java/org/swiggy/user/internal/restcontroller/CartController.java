@@ -7,16 +7,22 @@ import javax.ws.rs.DELETE;
 import javax.ws.rs.Produces;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.PathParam;
-
-import java.util.List;
-
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.SecurityContext;
+
+import org.swiggy.common.async.AsyncResponder;
+import org.swiggy.common.auth.AccountPrincipal;
+import org.swiggy.common.auth.Authenticated;
 import org.swiggy.common.json.JacksonFactory;
 import org.swiggy.common.json.JsonArray;
 import org.swiggy.common.json.JsonObject;
 import org.swiggy.user.model.Cart;
+import org.swiggy.user.model.CartSummary;
 import org.swiggy.user.model.User;
-import org.swiggy.user.internal.service.CartService;
-import org.swiggy.user.internal.service.impl.CartServiceImpl;
+import org.swiggy.user.internal.service.AsyncCartService;
+import org.swiggy.user.internal.service.impl.AsyncCartServiceImpl;
 import org.swiggy.validator.hibernatevalidator.ValidatorFactory;
 import org.swiggy.validator.validatorgroup.cart.ClearCartValidator;
 import org.swiggy.validator.validatorgroup.cart.DeleteCartValidator;
@@ -29,19 +35,33 @@ import org.swiggy.validator.validatorgroup.order.PostOrderValdiator;
  * Handles the users cart related operation and responsible for receiving user input through rest api and processing it.
  * </p>
  *
+ * <p>
+ * The requests are suspended while the cart service runs on the database executor and are answered with a 503
+ * response when the service doesn't complete within the timeout of the endpoint.
+ * </p>
+ *
+ * <p>
+ * The requests need the session token of the user, and the cart added is always the cart of that user.
+ * </p>
+ *
  * @author Muthu kumar V
  * @version 1.0
  */
 @Path("/cart")
+@Authenticated
 public class CartController {
 
+    private static final long READ_TIMEOUT_MILLIS = 5000;
+    private static final long WRITE_TIMEOUT_MILLIS = 10000;
     private static CartController cartController;
-    private final CartService cartService;
+    private final AsyncCartService cartService;
+    private final AsyncResponder asyncResponder;
     private final JacksonFactory jacksonFactory;
     private final ValidatorFactory validatorFactory;
 
     private CartController() {
-        cartService = CartServiceImpl.getInstance();
+        cartService = AsyncCartServiceImpl.getInstance();
+        asyncResponder = AsyncResponder.getInstance();
         jacksonFactory = JacksonFactory.getInstance();
         validatorFactory = ValidatorFactory.getInstance();
     }
@@ -67,23 +87,32 @@ public class CartController {
      * </p>
      *
      * @param cart Represents the cart of the user
-     * @return byte array of json object
+     * @param securityContext Holds the user of the session token
+     * @param asyncResponse Resumed with the byte array of json object
      */
     @POST
     @Consumes("application/json")
-    public byte[] addFoodToCart(final Cart cart) {
+    public void addFoodToCart(final Cart cart, @Context final SecurityContext securityContext,
+                              @Suspended final AsyncResponse asyncResponse) {
+        if (null != cart) {
+            cart.setUserId(AccountPrincipal.getAccountId(securityContext));
+        }
         final JsonArray jsonViolations = validatorFactory.getViolations(cart, PostCartValidator.class);
 
         if (!jsonViolations.isEmpty()) {
-            return jsonViolations.asBytes();
-        }
-        final JsonObject jsonObject = jacksonFactory.createObjectNode();
+            asyncResponse.resume(jsonViolations.asBytes());
 
-        if (cartService.addFoodToCart(cart)) {
-            return jsonObject.put("status", "successful cart item added").asBytes();
+            return;
         }
+        asyncResponder.resume(asyncResponse, cartService.addFoodToCart(cart), isAdded -> {
+            final JsonObject jsonObject = jacksonFactory.createObjectNode();
+
+            if (isAdded) {
+                return jsonObject.put("status", "successful cart item added").asBytes();
+            }
 
-        return jsonObject.put("status", "unsuccessful adding cart item failed").asBytes();
+            return jsonObject.put("status", "unsuccessful adding cart item failed").asBytes();
+        }, WRITE_TIMEOUT_MILLIS);
     }
 
     /**
@@ -92,55 +121,93 @@ public class CartController {
      * </p>
      *
      * @param userId Represents the id of the {@link User}
-     * @return byte array of json object
+     * @param asyncResponse Resumed with the json stream of json object
      */
     @Path("/{userId}")
     @GET
     @Produces("application/json")
-    public byte[] getCart(@PathParam("userId") final long userId) {
+    public void getCart(@PathParam("userId") final long userId, @Suspended final AsyncResponse asyncResponse) {
         final Cart cart = new Cart();
 
         cart.setUserId(userId);
         final JsonArray jsonViolations = validatorFactory.getViolations(cart, GetCartValidator.class);
 
         if (!jsonViolations.isEmpty()) {
-            return jsonViolations.asBytes();
-        }
-        final List<Cart> cartList = cartService.getCart(userId);
+            asyncResponse.resume(jsonViolations.asStream());
 
-        if (null == cartList) {
-            return jacksonFactory.createObjectNode().put("status", "your cart is empty or user id is invalid").asBytes();
+            return;
         }
+        asyncResponder.resume(asyncResponse, cartService.getCart(userId), cartList -> {
+            if (null == cartList) {
+                return jacksonFactory.createObjectNode().put("status", "your cart is empty or user id is invalid")
+                        .asStream();
+            }
+
+            return jacksonFactory.createStream(cartList, Cart.class);
+        }, READ_TIMEOUT_MILLIS);
+    }
 
-        return jacksonFactory.createArrayNode().build(cartList).asBytes();
+    /**
+     * <p>
+     * Gets the item count, the subtotal of each restaurant and the total amount of the user cart.
+     * </p>
+     *
+     * @param userId Represents the id of the {@link User}
+     * @param asyncResponse Resumed with the json stream of json object
+     */
+    @Path("/{userId}/summary")
+    @GET
+    @Produces("application/json")
+    public void getCartSummary(@PathParam("userId") final long userId,
+                               @Suspended final AsyncResponse asyncResponse) {
+        final Cart cart = new Cart();
+
+        cart.setUserId(userId);
+        final JsonArray jsonViolations = validatorFactory.getViolations(cart, GetCartValidator.class);
+
+        if (!jsonViolations.isEmpty()) {
+            asyncResponse.resume(jsonViolations.asStream());
+
+            return;
+        }
+        asyncResponder.resume(asyncResponse, cartService.getCartSummary(userId),
+                jacksonFactory::createStream, READ_TIMEOUT_MILLIS);
     }
 
     /**
      * <p>
-     * Removes the food selected by the user.
+     * Removes the food selected by the user. The path names the cart entry rather than the user, so the entry is
+     * removed only when it belongs to the user of the session token.
      * </p>
      *
      * @param cartId Represents the id of the user cart
-     * @return byte array of json object
+     * @param securityContext Holds the user of the session token
+     * @param asyncResponse Resumed with the byte array of json object
      */
     @Path("/{cartId}")
     @DELETE
-    public byte[] removeFood(@PathParam("cartId") final long cartId) {
+    public void removeFood(@PathParam("cartId") final long cartId, @Context final SecurityContext securityContext,
+                           @Suspended final AsyncResponse asyncResponse) {
         final Cart cart = new Cart();
 
         cart.setId(cartId);
         final JsonArray jsonViolations = validatorFactory.getViolations(cart, DeleteCartValidator.class);
 
         if (!jsonViolations.isEmpty()) {
-            return jsonViolations.asBytes();
-        }
-        final JsonObject jsonObject = jacksonFactory.createObjectNode();
+            asyncResponse.resume(jsonViolations.asBytes());
 
-        if (cartService.removeFood(cartId)) {
-            return jsonObject.put("status", "successful food was removed").asBytes();
+            return;
         }
+        asyncResponder.resume(asyncResponse, cartService.removeFood(AccountPrincipal.getAccountId(securityContext),
+                cartId), isRemoved -> {
+            final JsonObject jsonObject = jacksonFactory.createObjectNode();
+
+            if (isRemoved) {
+                return jsonObject.put("status", "successful food was removed").asBytes();
+            }
 
-        return jsonObject.put("status", "unsuccessful removing food was failed").asBytes();
+            return jsonObject.put("status", "unsuccessful removing food was failed").asBytes();
+        }, WRITE_TIMEOUT_MILLIS);
     }
 
     /**
@@ -149,25 +216,29 @@ public class CartController {
      * </p>
      *
      * @param userId Represents the id of the {@link User}
-     * @return byte array of json object
+     * @param asyncResponse Resumed with the byte array of json object
      */
     @Path("clear/{userId}")
     @DELETE
-    public byte[] clearCart(@PathParam("userId") final long userId) {
+    public void clearCart(@PathParam("userId") final long userId, @Suspended final AsyncResponse asyncResponse) {
         final Cart cart = new Cart();
 
         cart.setUserId(userId);
         final JsonArray jsonViolations = validatorFactory.getViolations(cart, ClearCartValidator.class);
 
         if (!jsonViolations.isEmpty()) {
-            return jsonViolations.asBytes();
-        }
-        final JsonObject jsonObject = jacksonFactory.createObjectNode();
+            asyncResponse.resume(jsonViolations.asBytes());
 
-        if (cartService.clearCart(userId)) {
-            return jsonObject.put("status", "successful cart was cleared").asBytes();
+            return;
         }
+        asyncResponder.resume(asyncResponse, cartService.clearCart(userId), isCleared -> {
+            final JsonObject jsonObject = jacksonFactory.createObjectNode();
+
+            if (isCleared) {
+                return jsonObject.put("status", "successful cart was cleared").asBytes();
+            }
 
-        return jsonObject.put("status", "unsuccessful clearing cart was failed").asBytes();
+            return jsonObject.put("status", "unsuccessful clearing cart was failed").asBytes();
+        }, WRITE_TIMEOUT_MILLIS);
     }
 }
\ No newline at end of file
@@ -6,17 +6,26 @@ import javax.ws.rs.GET;
 import javax.ws.rs.Produces;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.PathParam;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.SecurityContext;
 
 import java.util.List;
 
+import org.swiggy.common.async.AsyncResponder;
+import org.swiggy.common.auth.AccountPrincipal;
+import org.swiggy.common.auth.Authenticated;
 import org.swiggy.common.json.JacksonFactory;
 import org.swiggy.common.json.JsonArray;
 import org.swiggy.common.json.JsonObject;
 import org.swiggy.user.model.Address;
 import org.swiggy.user.model.Order;
 import org.swiggy.user.model.User;
-import org.swiggy.user.internal.service.OrderService;
-import org.swiggy.user.internal.service.impl.OrderServiceImpl;
+import org.swiggy.user.internal.service.AsyncOrderService;
+import org.swiggy.user.internal.service.impl.AsyncOrderServiceImpl;
 import org.swiggy.validator.hibernatevalidator.ValidatorFactory;
 import org.swiggy.validator.validatorgroup.address.PostAddressValidator;
 import org.swiggy.validator.validatorgroup.address.GetAddressValidator;
@@ -28,19 +37,35 @@ import org.swiggy.validator.validatorgroup.order.PostOrderValdiator;
  * Handles the order related operation and responsible for receiving user input through rest api and processing it.
  * </p>
  *
+ * <p>
+ * The requests are suspended while the order service runs on the database executor and are answered with a 503
+ * response when the service doesn't complete within the timeout of the endpoint. Placing an order updates the
+ * food quantities and the cart in one transaction, so it gets the longest timeout.
+ * </p>
+ *
+ * <p>
+ * The requests need the session token of the user, and the orders and addresses added are always of that user.
+ * </p>
+ *
  * @author Muthu kumar V
  * @version 1.0
  */
 @Path("/order")
+@Authenticated
 public class OrderController {
 
+    private static final long READ_TIMEOUT_MILLIS = 5000;
+    private static final long WRITE_TIMEOUT_MILLIS = 10000;
+    private static final long PLACE_ORDER_TIMEOUT_MILLIS = 15000;
     private static OrderController orderController;
-    private final OrderService orderService;
+    private final AsyncOrderService orderService;
+    private final AsyncResponder asyncResponder;
     private final JacksonFactory jacksonFactory;
     private final ValidatorFactory validatorFactory;
 
     private OrderController() {
-        orderService = OrderServiceImpl.getInstance();
+        orderService = AsyncOrderServiceImpl.getInstance();
+        asyncResponder = AsyncResponder.getInstance();
         jacksonFactory = JacksonFactory.getInstance();
         validatorFactory = ValidatorFactory.getInstance();
     }
@@ -66,23 +91,38 @@ public class OrderController {
      * </p>
      *
      * @param orderList Represents the list of order items
-     * @return byte array of json object
+     * @param securityContext Holds the user of the session token
+     * @param asyncResponse Resumed with the byte array of json object
      */
     @POST
     @Consumes("application/json")
-    public byte[] placeOrder(final List<Order> orderList) {
+    public void placeOrder(final List<Order> orderList, @Context final SecurityContext securityContext,
+                           @Suspended final AsyncResponse asyncResponse) {
+        if (null != orderList) {
+            final long userId = AccountPrincipal.getAccountId(securityContext);
+
+            for (final Order order : orderList) {
+                if (null != order) {
+                    order.setUserId(userId);
+                }
+            }
+        }
         final JsonArray jsonViolations = validatorFactory.getViolations(orderList, PostOrderValdiator.class);
 
         if (!jsonViolations.isEmpty()) {
-            return jsonViolations.asBytes();
-        }
-        final JsonObject jsonObject = jacksonFactory.createObjectNode();
+            asyncResponse.resume(jsonViolations.asBytes());
 
-        if (orderService.placeOrder(orderList)) {
-            return jsonObject.put("status", "successful order was placed").asBytes();
+            return;
         }
+        asyncResponder.resume(asyncResponse, orderService.placeOrder(orderList), isPlaced -> {
+            final JsonObject jsonObject = jacksonFactory.createObjectNode();
 
-        return jsonObject.put("status", "unsuccessful order placing failed").asBytes();
+            if (isPlaced) {
+                return jsonObject.put("status", "successful order was placed").asBytes();
+            }
+
+            return jsonObject.put("status", "unsuccessful order placing failed").asBytes();
+        }, PLACE_ORDER_TIMEOUT_MILLIS);
     }
 
     /**
@@ -91,81 +131,97 @@ public class OrderController {
      * </p>
      *
      * @param address Represents the address of the user
-     * @return byte array of json object
+     * @param securityContext Holds the user of the session token
+     * @param asyncResponse Resumed with the byte array of json object
      */
     @Path("/address")
     @POST
     @Consumes("application/json")
-    public byte[] addAddress(final Address address) {
+    public void addAddress(final Address address, @Context final SecurityContext securityContext,
+                           @Suspended final AsyncResponse asyncResponse) {
+        if (null != address) {
+            address.setUserId(AccountPrincipal.getAccountId(securityContext));
+        }
         final JsonArray jsonViolations = validatorFactory.getViolations(address, PostAddressValidator.class);
 
         if (!jsonViolations.isEmpty()) {
-            return jsonViolations.asBytes();
-        }
-        final JsonObject jsonObject = jacksonFactory.createObjectNode();
+            asyncResponse.resume(jsonViolations.asBytes());
 
-        if (orderService.addAddress(address)) {
-            return jsonObject.put("status", "successful address was added").asBytes();
+            return;
         }
+        asyncResponder.resume(asyncResponse, orderService.addAddress(address), isAdded -> {
+            final JsonObject jsonObject = jacksonFactory.createObjectNode();
+
+            if (isAdded) {
+                return jsonObject.put("status", "successful address was added").asBytes();
+            }
 
-        return jsonObject.put("status", "successful adding address was failed").asBytes();
+            return jsonObject.put("status", "successful adding address was failed").asBytes();
+        }, WRITE_TIMEOUT_MILLIS);
     }
 
     /**
      * <p>
-     * Displays all the addresses of the user.
+     * Displays all the addresses of the user. The addresses are served from the address cache of the order service,
+     * so repeated reads of a user cost no query, and are written to the response without building a json tree.
      * </p>
      *
      * @param userId Represents the id of the {@link User}
-     * @return byte array of json object
+     * @param asyncResponse Resumed with the json stream of the addresses
      */
     @Path("/address/{userId}")
     @GET
     @Produces("application/json")
-    public byte[] getAddress(@PathParam("userId") final long userId) {
+    public void getAddress(@PathParam("userId") final long userId, @Suspended final AsyncResponse asyncResponse) {
         final Address address = new Address();
 
         address.setUserId(userId);
         final JsonArray jsonViolations = validatorFactory.getViolations(address, GetAddressValidator.class);
 
         if (!jsonViolations.isEmpty()) {
-            return jsonViolations.asBytes();
-        }
-        final List<Address> addressList = orderService.getAddress(userId);
+            asyncResponse.resume(jsonViolations.asStream());
 
-        if (null == addressList) {
-            return jacksonFactory.createObjectNode().put("status", "unsuccessful address list is empty or user id is invalid").asBytes();
+            return;
         }
-
-        return jacksonFactory.createArrayNode().build(addressList).asBytes();
+        asyncResponder.resume(asyncResponse, orderService.getAddress(userId), addressList -> {
+            if (null == addressList) {
+                return jacksonFactory.createObjectNode()
+                        .put("status", "unsuccessful address list is empty or user id is invalid").asStream();
+            }
+
+            return jacksonFactory.createStream(addressList, Address.class);
+        }, READ_TIMEOUT_MILLIS);
     }
 
     /**
      * <p>
-     * Gets the orders placed by the user.
+     * Gets a page of the orders placed by the user, with the cursor to pass as the after parameter of the next
+     * page.
      * </p>
      *
      * @param userId Represents the id of the {@link User}
-     * @return byte array of json object
+     * @param afterOrderId Represents the id of the last order of the previous page, zero for the first page
+     * @param limit Represents the maximum number of orders in the page
+     * @param asyncResponse Resumed with the json stream of json object
      */
     @Path("/{userId}")
     @GET
     @Produces("application/json")
-    public byte[] getOrders(@PathParam("userId") final long userId) {
+    public void getOrders(@PathParam("userId") final long userId,
+                          @QueryParam("after") @DefaultValue("0") final long afterOrderId,
+                          @QueryParam("limit") @DefaultValue("20") final int limit,
+                          @Suspended final AsyncResponse asyncResponse) {
         final Order order = new Order();
 
         order.setUserId(userId);
         final JsonArray jsonViolations = validatorFactory.getViolations(order, GetOrderValidator.class);
 
         if (!jsonViolations.isEmpty()) {
-            return jsonViolations.asBytes();
-        }
-        final List<Order> orderList = orderService.getOrders(userId);
+            asyncResponse.resume(jsonViolations.asStream());
 
-        if (null == orderList) {
-            return jacksonFactory.createObjectNode().put("status", "unsuccessful order list is empty or user id is invalid").asBytes();
+            return;
         }
-
-        return jacksonFactory.createArrayNode().build(orderList).asBytes();
+        asyncResponder.resume(asyncResponse, orderService.getOrders(userId, afterOrderId, limit),
+                jacksonFactory::createStream, READ_TIMEOUT_MILLIS);
     }
 }
\ No newline at end of file
@@ -7,11 +7,19 @@ import javax.ws.rs.PUT;
 import javax.ws.rs.Produces;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.PathParam;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 
+import org.swiggy.common.async.AsyncResponder;
+import org.swiggy.common.auth.Authenticated;
+import org.swiggy.common.auth.SessionTokenSigner;
 import org.swiggy.common.json.JacksonFactory;
 import org.swiggy.common.json.JsonArray;
 import org.swiggy.common.json.JsonObject;
-import org.swiggy.user.internal.service.UserService;
+import org.swiggy.user.internal.service.AsyncUserService;
+import org.swiggy.user.internal.service.impl.AsyncUserServiceImpl;
+import org.swiggy.user.internal.service.impl.OrderServiceImpl;
 import org.swiggy.user.internal.service.impl.UserServiceImpl;
 import org.swiggy.user.model.User;
 import org.swiggy.user.model.UserData;
@@ -26,20 +34,39 @@ import org.swiggy.validator.validatorgroup.user.PutUserValidator;
  * Handles the user related operation and responsible for processing user input through rest api
  * </p>
  *
+ * <p>
+ * The requests are suspended while the user service runs on the database executor and are answered with a 503
+ * response when the service doesn't complete within the timeout of the endpoint.
+ * </p>
+ *
+ * <p>
+ * A successful login answers with a session token, which the requests for the profile of the user have to carry.
+ * </p>
+ *
+ * <p>
+ * The signup form checks whether a phone number or email id is available before the profile is posted.
+ * </p>
+ *
  * @author Muthu kumar V
  * @version 1.0
  */
 @Path("/user")
 public class UserController {
+    private static final long READ_TIMEOUT_MILLIS = 5000;
+    private static final long WRITE_TIMEOUT_MILLIS = 10000;
     private static UserController userController;
-    private final UserService userService;
+    private final AsyncUserService userService;
+    private final AsyncResponder asyncResponder;
     private final JacksonFactory jacksonFactory;
     private final ValidatorFactory validatorFactory;
+    private final SessionTokenSigner sessionTokenSigner;
 
     private UserController() {
-        userService = UserServiceImpl.getInstance();
+        userService = AsyncUserServiceImpl.getInstance();
+        asyncResponder = AsyncResponder.getInstance();
         jacksonFactory = JacksonFactory.getInstance();
         validatorFactory = ValidatorFactory.getInstance();
+        sessionTokenSigner = SessionTokenSigner.getInstance();
     }
 
     /**
@@ -63,24 +90,28 @@ public class UserController {
      * </p>
      *
      * @param user Represents the {@link User}
-     * @return byte array of json object
+     * @param asyncResponse Resumed with the byte array of json object
      */
     @POST
     @Consumes("application/json")
     @Produces("application/json")
-    public byte[] createUserProfile(final User user) {
+    public void createUserProfile(final User user, @Suspended final AsyncResponse asyncResponse) {
         final JsonArray jsonViolations = validatorFactory.getViolations(user, PostUserValidator.class);
 
         if (!jsonViolations.isEmpty()) {
-            return jsonViolations.asBytes();
-        }
-        final JsonObject jsonObject = jacksonFactory.createObjectNode();
+            asyncResponse.resume(jsonViolations.asBytes());
 
-        if (userService.createUserProfile(user)) {
-            return jsonObject.put("status", "successful user profile was created").asBytes();
+            return;
         }
+        asyncResponder.resume(asyncResponse, userService.createUserProfile(user), isCreated -> {
+            final JsonObject jsonObject = jacksonFactory.createObjectNode();
 
-        return jsonObject.put("status", "unsuccessful user profile creation failed").asBytes();
+            if (isCreated) {
+                return jsonObject.put("status", "successful user profile was created").asBytes();
+            }
+
+            return jsonObject.put("status", "unsuccessful user profile creation failed").asBytes();
+        }, WRITE_TIMEOUT_MILLIS);
     }
 
     /**
@@ -89,11 +120,11 @@ public class UserController {
      * </p>
      *
      * @param userData Represents the data of the user
-     * @return byte array of json object
+     * @param asyncResponse Resumed with the byte array of json object
      */
     @Path("/login")
     @POST
-    public byte[] userLogin(final String userData) {
+    public void userLogin(final String userData, @Suspended final AsyncResponse asyncResponse) {
         final JsonArray jsonViolations = jacksonFactory.createArrayNode();
         final JsonObject jsonObject = jacksonFactory.createObjectNode().toJsonNode(userData);
         final String loginType = jsonObject.get("type");
@@ -119,17 +150,117 @@ public class UserController {
         jsonViolations.addArray(validatorFactory.getViolations(user, LoginUserValidator.class));
 
         if (!jsonViolations.isEmpty()) {
-            return jsonViolations.asBytes();
+            asyncResponse.resume(jsonViolations.asBytes());
+
+            return;
         }
-        final User userPojo = userService.getUser(type, value, password);
+        asyncResponder.resume(asyncResponse, userService.getUser(type, value, password), userPojo -> {
+            if (null != userPojo) {
+                final String message = String.join("","user login successful welcome ",userPojo.getName());
+
+                return jacksonFactory.createObjectNode().put("status", message)
+                        .put("token", sessionTokenSigner.sign(userPojo.getId())).asBytes();
+            }
 
-        if (null != userPojo) {
-            final String message = String.join("","user login successful welcome ",userPojo.getName());
+            return jacksonFactory.createObjectNode().put("status", "user login failed").asBytes();
+        }, READ_TIMEOUT_MILLIS);
+    }
 
-            return jacksonFactory.createObjectNode().put("status", message).asBytes();
+    /**
+     * <p>
+     * Gets the hit ratio, failure count and eviction count of the credential cache used by the logins.
+     * </p>
+     *
+     * @return byte array of json object
+     */
+    @Path("/login/statistics")
+    @GET
+    @Produces("application/json")
+    public byte[] getLoginStatistics() {
+        return jacksonFactory.createObjectNode().build(UserServiceImpl.getInstance().getLoginStatistics()).asBytes();
+    }
+
+    /**
+     * <p>
+     * Gets the hit ratio, eviction count and write count of the cache of the profiles read by id.
+     * </p>
+     *
+     * @return byte array of json object
+     */
+    @Path("/profile/statistics")
+    @GET
+    @Produces("application/json")
+    public byte[] getProfileStatistics() {
+        return jacksonFactory.createObjectNode().build(UserServiceImpl.getInstance().getProfileStatistics())
+                .asBytes();
+    }
+
+    /**
+     * <p>
+     * Gets the hit ratio, eviction count and write count of the cache of the address lists.
+     * </p>
+     *
+     * @return byte array of json object
+     */
+    @Path("/address/statistics")
+    @GET
+    @Produces("application/json")
+    public byte[] getAddressStatistics() {
+        return jacksonFactory.createObjectNode().build(OrderServiceImpl.getInstance().getAddressStatistics())
+                .asBytes();
+    }
+
+    /**
+     * <p>
+     * Checks whether the phone number or email id is still available for a new user.
+     * </p>
+     *
+     * @param typeString Represents the type of the data, PHONE_NUMBER or EMAIL_ID
+     * @param value Represents the phone number or email id
+     * @param asyncResponse Resumed with the byte array of json object
+     */
+    @Path("/signup/availability")
+    @GET
+    @Produces("application/json")
+    public void getSignupAvailability(@QueryParam("type") final String typeString,
+                                      @QueryParam("value") final String value,
+                                      @Suspended final AsyncResponse asyncResponse) {
+        final JsonArray jsonViolations = jacksonFactory.createArrayNode();
+        final UserData type = UserData.PHONE_NUMBER.name().equals(typeString) ? UserData.PHONE_NUMBER
+                : UserData.EMAIL_ID.name().equals(typeString) ? UserData.EMAIL_ID : null;
+
+        if (null == type) {
+            jsonViolations.add(jacksonFactory.createObjectNode()
+                    .put("error", "enter valid type of data to check"));
+        }
+
+        if (null == value || value.isBlank()) {
+            jsonViolations.add(jacksonFactory.createObjectNode()
+                    .put("error", "enter the data to check"));
         }
 
-        return jacksonFactory.createObjectNode().put("status", "user login failed").asBytes();
+        if (!jsonViolations.isEmpty()) {
+            asyncResponse.resume(jsonViolations.asBytes());
+
+            return;
+        }
+        asyncResponder.resume(asyncResponse, userService.isUserDataTaken(type, value), isTaken
+                -> jacksonFactory.createObjectNode().put("status", isTaken ? "taken" : "available").asBytes(),
+                READ_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * <p>
+     * Gets the size, false positive probability and skipped lookups of the filter used by the signups.
+     * </p>
+     *
+     * @return byte array of json object
+     */
+    @Path("/signup/statistics")
+    @GET
+    @Produces("application/json")
+    public byte[] getSignupStatistics() {
+        return jacksonFactory.createObjectNode().build(UserServiceImpl.getInstance().getSignupStatistics()).asBytes();
     }
 
     /**
@@ -138,28 +269,30 @@ public class UserController {
      * </p>
      *
      * @param userId Represents the password of the current user
-     * @return byte array of json object
+     * @param asyncResponse Resumed with the json stream of json object
      */
     @Path("/{userId}")
     @GET
+    @Authenticated
     @Produces("application/json")
-    public byte[] getUserById(@PathParam("userId") final long userId) {
+    public void getUserById(@PathParam("userId") final long userId, @Suspended final AsyncResponse asyncResponse) {
         final User userPojo = new User();
 
         userPojo.setId(userId);
         final JsonArray jsonViolations = validatorFactory.getViolations(userPojo, GetUserValidator.class);
 
         if (!jsonViolations.isEmpty()) {
-            return jsonViolations.asBytes();
-        }
-        final JsonObject jsonObject = jacksonFactory.createObjectNode();
-        final User user = userService.getUserById(userId);
+            asyncResponse.resume(jsonViolations.asStream());
 
-        if (null == user) {
-            return jsonObject.put("status", "Enter A Valid User Id").asBytes();
+            return;
         }
+        asyncResponder.resume(asyncResponse, userService.getUserById(userId), user -> {
+            if (null == user) {
+                return jacksonFactory.createObjectNode().put("status", "Enter A Valid User Id").asStream();
+            }
 
-        return jsonObject.build(user).asBytes();
+            return jacksonFactory.createStream(user);
+        }, READ_TIMEOUT_MILLIS);
     }
 
     /**
@@ -169,12 +302,14 @@ public class UserController {
      *
      * @param userId Represents the id 0f the {@link User}
      * @param userData Represents the data of the user to be updated
-     * @return byte array of json object
+     * @param asyncResponse Resumed with the byte array of json object
      */
     @Path("/{userId}")
     @PUT
+    @Authenticated
     @Consumes("application/json")
-    public byte[] updateUserData(@PathParam("userId") final long userId, final String userData) {
+    public void updateUserData(@PathParam("userId") final long userId, final String userData,
+                               @Suspended final AsyncResponse asyncResponse) {
         final JsonArray jsonViolations = jacksonFactory.createArrayNode();
         final JsonObject jsonObject = jacksonFactory.createObjectNode().toJsonNode(userData);
         final String typeString = jsonObject.get("type");
@@ -202,13 +337,18 @@ public class UserController {
         jsonViolations.addArray(validatorFactory.getViolations(user, PutUserValidator.class));
 
         if (!jsonViolations.isEmpty()) {
-            return jsonViolations.asBytes();
-        }
+            asyncResponse.resume(jsonViolations.asBytes());
 
-        if (userService.updateUserData(userId, type, updateValue)) {
-            return jacksonFactory.createObjectNode().put("status", "successful user profile is updated").asBytes();
+            return;
         }
+        asyncResponder.resume(asyncResponse, userService.updateUserData(userId, type, updateValue), isUpdated -> {
+            final JsonObject jsonResponse = jacksonFactory.createObjectNode();
+
+            if (isUpdated) {
+                return jsonResponse.put("status", "successful user profile is updated").asBytes();
+            }
 
-        return jacksonFactory.createObjectNode().put("status", "unsuccessful user profile updation failed").asBytes();
+            return jsonResponse.put("status", "unsuccessful user profile updation failed").asBytes();
+        }, WRITE_TIMEOUT_MILLIS);
     }
 }
\ No newline at end of file
@@ -0,0 +1,76 @@
+package org.swiggy.user.internal.service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.swiggy.user.model.Cart;
+import org.swiggy.user.model.CartSummary;
+import org.swiggy.user.model.User;
+
+/**
+ * <p>
+ * Provides the services for the user cart without blocking the calling thread.
+ * </p>
+ *
+ * <p>
+ * The methods mirror the {@link CartService} and complete once the database work, run on the database executor, is
+ * done. A call made while the executor is full doesn't throw, it returns a future already
+ * failed with a {@link java.util.concurrent.RejectedExecutionException}.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public interface AsyncCartService {
+
+    /**
+     * <p>
+     * Adds the selected food to the user cart.
+     * </p>
+     *
+     * @param cart Represents the cart of the user
+     * @return True if the food is added to the user cart, false otherwise
+     */
+    CompletableFuture<Boolean> addFoodToCart(final Cart cart);
+
+    /**
+     * <p>
+     * Gets the cart of the current user.
+     * </p>
+     *
+     * @param userId Represents the id of the current {@link User}
+     * @return The list of all foods from the user cart
+     */
+    CompletableFuture<List<Cart>> getCart(final long userId);
+
+    /**
+     * <p>
+     * Gets the item count, the subtotal of each restaurant and the total amount of the user cart.
+     * </p>
+     *
+     * @param userId Represents the id of the current {@link User}
+     * @return The summary of the user cart
+     */
+    CompletableFuture<CartSummary> getCartSummary(final long userId);
+
+    /**
+     * <p>
+     * Removes the selected food from the user cart. A cart entry of another user is not removed.
+     * </p>
+     *
+     * @param userId Represents the id of the {@link User} removing the food
+     * @param cartId Represents the id of the user cart
+     * @return True if the food is removed, false otherwise
+     */
+    CompletableFuture<Boolean> removeFood(final long userId, final long cartId);
+
+    /**
+     * <p>
+     * Remove all the foods from the user cart.
+     * </p>
+     *
+     * @param userId Represents the id of the current {@link User}
+     * @return The true if the cart is cleared, false otherwise
+     */
+    CompletableFuture<Boolean> clearCart(final long userId);
+}
@@ -0,0 +1,78 @@
+package org.swiggy.user.internal.service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.swiggy.user.model.Address;
+import org.swiggy.user.model.Order;
+import org.swiggy.user.model.OrderPage;
+import org.swiggy.user.model.User;
+
+/**
+ * <p>
+ * Provides the services for the user orders without blocking the calling thread.
+ * </p>
+ *
+ * <p>
+ * The methods mirror the {@link OrderService} and complete once the database work, run on the database executor, is
+ * done. A call made while the executor is full doesn't throw, it returns a future already
+ * failed with a {@link java.util.concurrent.RejectedExecutionException}.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public interface AsyncOrderService {
+
+    /**
+     * <p>
+     * places the user orders.
+     * </p>
+     *
+     * @param orderList Represents the list of order items
+     * @return True if the order is placed, false otherwise
+     */
+    CompletableFuture<Boolean> placeOrder(final List<Order> orderList);
+
+    /**
+     * <p>
+     * Stores the address of the user.
+     * </p>
+     *
+     * @param address Represents the address of the user
+     * @return True if the address is added, false otherwise
+     */
+    CompletableFuture<Boolean> addAddress(final Address address);
+
+    /**
+     * <p>
+     * Gets all the addresses of the user.
+     * </p>
+     *
+     * @param userId Represents the id of the {@link User}
+     * @return List of addresses of the user
+     */
+    CompletableFuture<List<Address>> getAddress(final long userId);
+
+    /**
+     * <p>
+     * Gets the orders placed by the user.
+     * </p>
+     *
+     * @param userId Represents the id of the {@link User}
+     * @return List having all the orders placed by the user
+     */
+    CompletableFuture<List<Order>> getOrders(final long userId);
+
+    /**
+     * <p>
+     * Gets a page of the orders placed by the user.
+     * </p>
+     *
+     * @param userId Represents the id of the {@link User}
+     * @param afterOrderId Represents the id of the last order of the previous page, zero for the first page
+     * @param limit Represents the maximum number of orders in the page
+     * @return The page of orders with the cursor of the next page
+     */
+    CompletableFuture<OrderPage> getOrders(final long userId, final long afterOrderId, final int limit);
+}
@@ -0,0 +1,78 @@
+package org.swiggy.user.internal.service;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.swiggy.user.model.User;
+import org.swiggy.user.model.UserData;
+
+/**
+ * <p>
+ * Provides the services for the user without blocking the calling thread.
+ * </p>
+ *
+ * <p>
+ * The methods mirror the {@link UserService} and complete once the database work, run on the database executor, is
+ * done. A call made while the executor is full doesn't throw, it returns a future already
+ * failed with a {@link java.util.concurrent.RejectedExecutionException}.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public interface AsyncUserService {
+
+    /**
+     * <p>
+     * Creates the new user profile.
+     * </p>
+     *
+     * @param user Represents the {@link User}
+     * @return True if user is created, false otherwise
+     */
+    CompletableFuture<Boolean> createUserProfile(final User user);
+
+    /**
+     * <p>
+     * Gets the user profile if the phone_number and password matches.
+     * </p>
+     *
+     * @param userDataType Represents the data type of the user
+     * @param userData Represents the data of the user
+     * @param password Represents the password of the user
+     * @return The user object
+     */
+    CompletableFuture<User> getUser(final UserData userDataType, final String userData, final String password);
+
+    /**
+     * <p>
+     * Gets the user profile if the id matches.
+     * </p>
+     *
+     * @param userId Represents the id of the user
+     * @return The user object
+     */
+    CompletableFuture<User> getUserById(final long userId);
+
+    /**
+     * <p>
+     * Updates the data of the user.
+     * </p>
+     *
+     * @param userId Represents the id of {@link User}
+     * @param type Represents the type of data to be updated
+     * @param userData Represents the data to be updated
+     * @return True if user data is updated, false otherwise
+     */
+    CompletableFuture<Boolean> updateUserData(final long userId, final UserData type, final String userData);
+
+    /**
+     * <p>
+     * Checks whether another user has the phone number or email id.
+     * </p>
+     *
+     * @param userDataType Represents the data type of the user, phone number or email id
+     * @param userData Represents the data of the user
+     * @return True if the data is taken, false otherwise
+     */
+    CompletableFuture<Boolean> isUserDataTaken(final UserData userDataType, final String userData);
+}
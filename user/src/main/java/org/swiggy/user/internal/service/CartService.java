@@ -3,6 +3,7 @@ package org.swiggy.user.internal.service;
 import java.util.List;
 
 import org.swiggy.user.model.Cart;
+import org.swiggy.user.model.CartSummary;
 import org.swiggy.user.model.User;
 
 /**
@@ -37,13 +38,24 @@ public interface CartService {
 
      /**
       * <p>
-      * Removes the selected food from the user cart.
+      * Gets the item count, the subtotal of each restaurant and the total amount of the user cart.
       * </p>
       *
+      * @param userId Represents the id 0f the current {@link User}
+      * @return The summary of the user cart
+      */
+     CartSummary getCartSummary(final long userId);
+
+     /**
+      * <p>
+      * Removes the selected food from the user cart. A cart entry of another user is not removed.
+      * </p>
+      *
+      * @param userId Represents the id of the {@link User} removing the food
       * @param cartId Represents the id 0f the user cart
       * @return True if the food is removed,false otherwise
       */
-     boolean removeFood(final long cartId);
+     boolean removeFood(final long userId, final long cartId);
 
      /**
       * <p>
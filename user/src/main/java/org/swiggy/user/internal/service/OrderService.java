@@ -1,7 +1,9 @@
 package org.swiggy.user.internal.service;
 
+import org.swiggy.common.cache.CacheStatistics;
 import org.swiggy.user.model.Address;
 import org.swiggy.user.model.Order;
+import org.swiggy.user.model.OrderPage;
 import org.swiggy.user.model.User;
 
 import java.util.List;
@@ -46,6 +48,15 @@ public interface OrderService {
      */
      List<Address> getAddress(final long userId);
 
+    /**
+     * <p>
+     * Gets the hit ratio, eviction count and write count of the cache of the address lists.
+     * </p>
+     *
+     * @return The address statistics
+     */
+    CacheStatistics getAddressStatistics();
+
     /**
      * <p>
      * Gets the orders placed by the user.
@@ -55,4 +66,16 @@ public interface OrderService {
      * @return List having all the orders placed by the user
      */
     List<Order> getOrders(final long userId);
+
+    /**
+     * <p>
+     * Gets a page of the orders placed by the user.
+     * </p>
+     *
+     * @param userId Represents the id of the {@link User}
+     * @param afterOrderId Represents the id of the last order of the previous page, zero for the first page
+     * @param limit Represents the maximum number of orders in the page
+     * @return The page of orders with the cursor of the next page
+     */
+    OrderPage getOrders(final long userId, final long afterOrderId, final int limit);
 }
@@ -1,5 +1,8 @@
 package org.swiggy.user.internal.service;
 
+import org.swiggy.common.auth.AuthenticationStatistics;
+import org.swiggy.common.bloomfilter.UniquenessStatistics;
+import org.swiggy.common.cache.CacheStatistics;
 import org.swiggy.user.model.User;
 import org.swiggy.user.model.UserData;
 
@@ -56,4 +59,50 @@ public interface UserService {
      * @return True if user data is updated, false otherwise
      */
     boolean updateUserData(final long userId, final UserData type, final String userData);
+
+    /**
+     * <p>
+     * Gets the hit ratio, failure count and eviction count of the credential cache used by the logins.
+     * </p>
+     *
+     * @return The login statistics
+     */
+    AuthenticationStatistics getLoginStatistics();
+
+    /**
+     * <p>
+     * Gets the hit ratio, eviction count and write count of the cache of the profiles read by id.
+     * </p>
+     *
+     * @return The profile statistics
+     */
+    CacheStatistics getProfileStatistics();
+
+    /**
+     * <p>
+     * Checks whether another user has the phone number or email id.
+     * </p>
+     *
+     * @param userDataType Represents the data type of the user, phone number or email id
+     * @param userData Represents the data of the user
+     * @return True if the data is taken, false otherwise
+     */
+    boolean isUserDataTaken(final UserData userDataType, final String userData);
+
+    /**
+     * <p>
+     * Loads the phone numbers and email ids of the users into the signup filter, after which the signups with new
+     * values no longer look them up.
+     * </p>
+     */
+    void warmSignupFilter();
+
+    /**
+     * <p>
+     * Gets the size, false positive probability and skipped lookups of the signup filter.
+     * </p>
+     *
+     * @return The signup statistics
+     */
+    UniquenessStatistics getSignupStatistics();
 }
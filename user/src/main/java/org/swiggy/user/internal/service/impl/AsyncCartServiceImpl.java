@@ -0,0 +1,102 @@
+package org.swiggy.user.internal.service.impl;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.swiggy.database.executor.DatabaseExecutor;
+import org.swiggy.user.internal.service.AsyncCartService;
+import org.swiggy.user.internal.service.CartService;
+import org.swiggy.user.model.Cart;
+import org.swiggy.user.model.CartSummary;
+import org.swiggy.user.model.User;
+
+/**
+ * <p>
+ * Implements the asynchronous cart service by running the {@link CartService} on the database executor.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class AsyncCartServiceImpl implements AsyncCartService {
+
+    private static AsyncCartService asyncCartService;
+    private final CartService cartService;
+    private final DatabaseExecutor databaseExecutor;
+
+    private AsyncCartServiceImpl() {
+        cartService = CartServiceImpl.getInstance();
+        databaseExecutor = DatabaseExecutor.getInstance();
+    }
+
+    /**
+     * <p>
+     * Gets the async cart service implementation object.
+     * </p>
+     *
+     * @return The async cart service implementation object
+     */
+    public static synchronized AsyncCartService getInstance() {
+        if (null == asyncCartService) {
+            asyncCartService = new AsyncCartServiceImpl();
+        }
+
+        return asyncCartService;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param cart Represents the cart of the user
+     * @return True if the food is added to the user cart, false otherwise
+     */
+    @Override
+    public CompletableFuture<Boolean> addFoodToCart(final Cart cart) {
+        return databaseExecutor.supply(() -> cartService.addFoodToCart(cart));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param userId Represents the id of the {@link User}
+     * @return The list of all foods from the user cart
+     */
+    @Override
+    public CompletableFuture<List<Cart>> getCart(final long userId) {
+        return databaseExecutor.supply(() -> cartService.getCart(userId));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param userId Represents the id of the current {@link User}
+     * @return The summary of the user cart
+     */
+    @Override
+    public CompletableFuture<CartSummary> getCartSummary(final long userId) {
+        return databaseExecutor.supply(() -> cartService.getCartSummary(userId));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param userId Represents the id of the {@link User} removing the food
+     * @param cartId Represents the id of the user cart
+     * @return True if the food is removed, false otherwise
+     */
+    @Override
+    public CompletableFuture<Boolean> removeFood(final long userId, final long cartId) {
+        return databaseExecutor.supply(() -> cartService.removeFood(userId, cartId));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param userId Represents the id of the {@link User}
+     * @return The true if the cart is cleared, false otherwise
+     */
+    @Override
+    public CompletableFuture<Boolean> clearCart(final long userId) {
+        return databaseExecutor.supply(() -> cartService.clearCart(userId));
+    }
+}
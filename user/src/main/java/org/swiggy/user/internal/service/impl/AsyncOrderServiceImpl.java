@@ -0,0 +1,104 @@
+package org.swiggy.user.internal.service.impl;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.swiggy.database.executor.DatabaseExecutor;
+import org.swiggy.user.internal.service.AsyncOrderService;
+import org.swiggy.user.internal.service.OrderService;
+import org.swiggy.user.model.Address;
+import org.swiggy.user.model.Order;
+import org.swiggy.user.model.OrderPage;
+import org.swiggy.user.model.User;
+
+/**
+ * <p>
+ * Implements the asynchronous order service by running the {@link OrderService} on the database executor.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class AsyncOrderServiceImpl implements AsyncOrderService {
+
+    private static AsyncOrderService asyncOrderService;
+    private final OrderService orderService;
+    private final DatabaseExecutor databaseExecutor;
+
+    private AsyncOrderServiceImpl() {
+        orderService = OrderServiceImpl.getInstance();
+        databaseExecutor = DatabaseExecutor.getInstance();
+    }
+
+    /**
+     * <p>
+     * Gets the async order service implementation object.
+     * </p>
+     *
+     * @return The async order service implementation object
+     */
+    public static synchronized AsyncOrderService getInstance() {
+        if (null == asyncOrderService) {
+            asyncOrderService = new AsyncOrderServiceImpl();
+        }
+
+        return asyncOrderService;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param orderList Represents the list of order items
+     * @return True if the order is placed, false otherwise
+     */
+    @Override
+    public CompletableFuture<Boolean> placeOrder(final List<Order> orderList) {
+        return databaseExecutor.supply(() -> orderService.placeOrder(orderList));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param address Represents the address of the user
+     * @return True if the address is added, false otherwise
+     */
+    @Override
+    public CompletableFuture<Boolean> addAddress(final Address address) {
+        return databaseExecutor.supply(() -> orderService.addAddress(address));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param userId Represents the id of the {@link User}
+     * @return List of addresses of the user
+     */
+    @Override
+    public CompletableFuture<List<Address>> getAddress(final long userId) {
+        return databaseExecutor.supply(() -> orderService.getAddress(userId));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param userId Represents the id of the {@link User}
+     * @return List having all the orders placed by the user
+     */
+    @Override
+    public CompletableFuture<List<Order>> getOrders(final long userId) {
+        return databaseExecutor.supply(() -> orderService.getOrders(userId));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param userId Represents the id of the {@link User}
+     * @param afterOrderId Represents the id of the last order of the previous page, zero for the first page
+     * @param limit Represents the maximum number of orders in the page
+     * @return The page of orders with the cursor of the next page
+     */
+    @Override
+    public CompletableFuture<OrderPage> getOrders(final long userId, final long afterOrderId, final int limit) {
+        return databaseExecutor.supply(() -> orderService.getOrders(userId, afterOrderId, limit));
+    }
+}
@@ -0,0 +1,106 @@
+package org.swiggy.user.internal.service.impl;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.swiggy.database.executor.DatabaseExecutor;
+import org.swiggy.user.internal.service.AsyncUserService;
+import org.swiggy.user.internal.service.UserService;
+import org.swiggy.user.model.User;
+import org.swiggy.user.model.UserData;
+
+/**
+ * <p>
+ * Implements the asynchronous user service by running the {@link UserService} on the database executor.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class AsyncUserServiceImpl implements AsyncUserService {
+
+    private static AsyncUserService asyncUserService;
+    private final UserService userService;
+    private final DatabaseExecutor databaseExecutor;
+
+    private AsyncUserServiceImpl() {
+        userService = UserServiceImpl.getInstance();
+        databaseExecutor = DatabaseExecutor.getInstance();
+    }
+
+    /**
+     * <p>
+     * Gets the async user service implementation object.
+     * </p>
+     *
+     * @return The async user service implementation object
+     */
+    public static synchronized AsyncUserService getInstance() {
+        if (null == asyncUserService) {
+            asyncUserService = new AsyncUserServiceImpl();
+        }
+
+        return asyncUserService;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param user Represents the {@link User}
+     * @return True if user is created, false otherwise
+     */
+    @Override
+    public CompletableFuture<Boolean> createUserProfile(final User user) {
+        return databaseExecutor.supply(() -> userService.createUserProfile(user));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param userDataType Represents the data type of the user
+     * @param userData Represents the data of the user
+     * @param password Represents the password of the user
+     * @return The user object
+     */
+    @Override
+    public CompletableFuture<User> getUser(final UserData userDataType, final String userData,
+                                           final String password) {
+        return databaseExecutor.supply(() -> userService.getUser(userDataType, userData, password));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param userId Represents the id of the user
+     * @return The user object
+     */
+    @Override
+    public CompletableFuture<User> getUserById(final long userId) {
+        return databaseExecutor.supply(() -> userService.getUserById(userId));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param userId Represents the id of {@link User}
+     * @param type Represents the type of data to be updated
+     * @param userData Represents the data to be updated
+     * @return True if user data is updated, false otherwise
+     */
+    @Override
+    public CompletableFuture<Boolean> updateUserData(final long userId, final UserData type,
+                                                     final String userData) {
+        return databaseExecutor.supply(() -> userService.updateUserData(userId, type, userData));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param userDataType Represents the data type of the user, phone number or email id
+     * @param userData Represents the data of the user
+     * @return True if the data is taken, false otherwise
+     */
+    @Override
+    public CompletableFuture<Boolean> isUserDataTaken(final UserData userDataType, final String userData) {
+        return databaseExecutor.supply(() -> userService.isUserDataTaken(userDataType, userData));
+    }
+}
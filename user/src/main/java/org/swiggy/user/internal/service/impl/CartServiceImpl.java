@@ -1,8 +1,9 @@
 package org.swiggy.user.internal.service.impl;
 
-import org.swiggy.user.internal.dao.CartDAO;
-import org.swiggy.user.internal.dao.impl.CartDAOImpl;
+import org.swiggy.restaurant.inventory.InventoryManager;
+import org.swiggy.user.cart.CartStore;
 import org.swiggy.user.model.Cart;
+import org.swiggy.user.model.CartSummary;
 import org.swiggy.user.model.User;
 import org.swiggy.user.internal.service.CartService;
 
@@ -19,10 +20,12 @@ import java.util.List;
 public class CartServiceImpl implements CartService {
 
     private static CartService cartService;
-    private final CartDAO cartDAO;
+    private final CartStore cartStore;
+    private final InventoryManager inventoryManager;
 
     private CartServiceImpl() {
-        cartDAO = CartDAOImpl.getInstance();
+        cartStore = CartStore.getInstance();
+        inventoryManager = InventoryManager.getInstance();
     }
 
     /**
@@ -43,12 +46,28 @@ public class CartServiceImpl implements CartService {
     /**
      * {@inheritDoc}
      *
+     * <p>
+     * The cart is changed in the {@link CartStore}, which writes the change behind to the database. The quantity
+     * of the food is reserved for the new cart entry, and the entry is removed again when the stock not reserved
+     * by other carts is lower.
+     * </p>
+     *
      * @param cart Represents the cart of the user
      * @return True if the food is added to the user cart, false otherwise
      */
     @Override
     public boolean addFoodToCart(final Cart cart) {
-        return cartDAO.addFoodToCart(cart);
+        if (!cartStore.addFoodToCart(cart)) {
+            return false;
+        }
+
+        if (!inventoryManager.reserve(cart.getId(), cart.getUserId(), cart.getFoodId(), cart.getQuantity())) {
+            cartStore.removeFood(cart.getUserId(), cart.getId());
+
+            return false;
+        }
+
+        return true;
     }
 
     /**
@@ -59,18 +78,40 @@ public class CartServiceImpl implements CartService {
      */
     @Override
     public List<Cart> getCart(final long userId) {
-        return cartDAO.getCart(userId);
+        return cartStore.getCart(userId);
     }
 
     /**
      * {@inheritDoc}
      *
+     * <p>
+     * The summary comes from the running totals the {@link CartStore} keeps as the cart changes.
+     * </p>
+     *
+     * @param userId Represents the id 0f the {@link User}
+     * @return The summary of the user cart
+     */
+    @Override
+    public CartSummary getCartSummary(final long userId) {
+        return cartStore.getSummary(userId);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param userId Represents the id of the {@link User} removing the food
      * @param cartId Represents the id of the user cart
      * @return True if the food is removed,false otherwise
      */
     @Override
-    public boolean removeFood(final long cartId) {
-        return cartDAO.removeFood(cartId);
+    public boolean removeFood(final long userId, final long cartId) {
+        final boolean isRemoved = cartStore.removeFood(userId, cartId);
+
+        if (isRemoved) {
+            inventoryManager.release(cartId);
+        }
+
+        return isRemoved;
     }
 
     /**
@@ -81,6 +122,12 @@ public class CartServiceImpl implements CartService {
      */
     @Override
     public boolean clearCart(final long userId) {
-        return cartDAO.clearCart(userId);
+        final boolean isCleared = cartStore.clearCart(userId);
+
+        if (isCleared) {
+            inventoryManager.releaseUser(userId);
+        }
+
+        return isCleared;
     }
 }
\ No newline at end of file
@@ -1,29 +1,56 @@
 package org.swiggy.user.internal.service.impl;
 
+import org.swiggy.common.cache.CacheStatistics;
+import org.swiggy.common.cache.ExpiringCache;
+import org.swiggy.common.metrics.MetricsRegistry;
+import org.swiggy.restaurant.cache.MenuCardCache;
+import org.swiggy.restaurant.inventory.InventoryManager;
+import org.swiggy.user.cart.CartStore;
 import org.swiggy.user.internal.dao.OrderDAO;
 import org.swiggy.user.internal.dao.impl.OrderDAOImpl;
 import org.swiggy.user.model.Address;
 import org.swiggy.user.model.Order;
+import org.swiggy.user.model.OrderPage;
 import org.swiggy.user.model.User;
 import org.swiggy.user.internal.service.OrderService;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * <p>
  * Implements the service of the user order related operation.
  * </p>
  *
+ * <p>
+ * The address lists of the users are kept in a profile cache, and each added address is written through to the
+ * cached list of its user.
+ * </p>
+ *
  * @author Muthu kumar V
  * @version 1.0
  */
 public class OrderServiceImpl implements OrderService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAXIMUM_ADDRESS_LISTS = 10000;
+    private static final long ADDRESS_LIST_MILLIS = 300000;
     private static OrderService orderService;
     private final OrderDAO orderDAO;
+    private final MenuCardCache menuCardCache;
+    private final InventoryManager inventoryManager;
+    private final CartStore cartStore;
+    private final ExpiringCache<Long, List<Address>> addressCache;
 
     private OrderServiceImpl() {
-        orderDAO = OrderDAOImpl.getInstance();
+        orderDAO = MetricsRegistry.getInstance().timed(OrderDAO.class, OrderDAOImpl.getInstance());
+        menuCardCache = MenuCardCache.getInstance();
+        inventoryManager = InventoryManager.getInstance();
+        cartStore = CartStore.getInstance();
+        addressCache = new ExpiringCache<>(MAXIMUM_ADDRESS_LISTS, ADDRESS_LIST_MILLIS);
     }
 
     /**
@@ -44,12 +71,30 @@ public class OrderServiceImpl implements OrderService {
     /**
      * {@inheritDoc}
      *
+     * <p>
+     * The pending cart changes are written first, so the order finds the cart entries in the database.
+     * </p>
+     *
      * @param orderList Represents the list of order items
      * @return True if the order is placed, false otherwise
      */
     @Override
     public boolean placeOrder(final List<Order> orderList) {
-        return orderDAO.placeOrder(orderList);
+        cartStore.flush();
+        final boolean isPlaced = orderDAO.placeOrder(orderList);
+
+        if (isPlaced) {
+            cartStore.removeOrdered(orderList);
+            final Set<Long> foodIds = new HashSet<>();
+
+            for (final Order order : orderList) {
+                foodIds.add(order.getFoodId());
+                inventoryManager.release(order.getCartId());
+            }
+            menuCardCache.invalidateFoods(foodIds);
+        }
+
+        return isPlaced;
     }
 
     /**
@@ -60,17 +105,47 @@ public class OrderServiceImpl implements OrderService {
      */
     @Override
     public boolean addAddress(final Address address) {
-        return orderDAO.addAddress(address);
+        final boolean isAdded = orderDAO.addAddress(address);
+
+        if (isAdded) {
+            addressCache.write(address.getUserId(), addresses -> {
+                final List<Address> addressList = new ArrayList<>(addresses);
+
+                addressList.add(address);
+
+                return Collections.unmodifiableList(addressList);
+            });
+        }
+
+        return isAdded;
     }
 
     /**
      * {@inheritDoc}
      *
+     * <p>
+     * The list is shared with the other readers of the cache and can't be changed.
+     * </p>
+     *
      * @param userId Represents the id of the {@link User}
      * @return List of addresses of the user
      */
     public List<Address> getAddress(final long userId) {
-        return orderDAO.getAddress(userId);
+        return addressCache.get(userId, () -> {
+            final List<Address> addressList = orderDAO.getAddress(userId);
+
+            return null == addressList ? null : Collections.unmodifiableList(addressList);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The address statistics
+     */
+    @Override
+    public CacheStatistics getAddressStatistics() {
+        return addressCache.getStatistics();
     }
 
     /**
@@ -83,4 +158,32 @@ public class OrderServiceImpl implements OrderService {
     public List<Order> getOrders(final long userId) {
         return orderDAO.getOrders(userId);
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The limit is kept between one and {@value #MAX_PAGE_SIZE}. One order more than the limit is read to know
+     * whether another page follows.
+     * </p>
+     *
+     * @param userId Represents the id of the {@link User}
+     * @param afterOrderId Represents the id of the last order of the previous page, zero for the first page
+     * @param limit Represents the maximum number of orders in the page
+     * @return The page of orders with the cursor of the next page
+     */
+    @Override
+    public OrderPage getOrders(final long userId, final long afterOrderId, final int limit) {
+        final int pageSize = Math.max(1, Math.min(MAX_PAGE_SIZE, limit));
+        final List<Order> orderList = orderDAO.getOrders(userId, Math.max(0, afterOrderId), pageSize + 1);
+        final OrderPage orderPage = new OrderPage();
+
+        if (pageSize < orderList.size()) {
+            orderList.remove(pageSize);
+            orderPage.setNextAfter(orderList.get(pageSize - 1).getId());
+        }
+        orderPage.setOrders(orderList);
+
+        return orderPage;
+    }
 }
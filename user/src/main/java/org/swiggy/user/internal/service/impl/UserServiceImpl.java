@@ -1,6 +1,13 @@
 package org.swiggy.user.internal.service.impl;
 
+import org.swiggy.common.auth.AuthenticationStatistics;
+import org.swiggy.common.auth.CredentialCache;
+import org.swiggy.common.bloomfilter.UniquenessFilter;
+import org.swiggy.common.bloomfilter.UniquenessStatistics;
+import org.swiggy.common.cache.CacheStatistics;
+import org.swiggy.common.cache.ExpiringCache;
 import org.swiggy.common.hashgenerator.PasswordHashGenerator;
+import org.swiggy.common.metrics.MetricsRegistry;
 import org.swiggy.user.internal.dao.UserDAO;
 import org.swiggy.user.internal.dao.impl.UserDAOImpl;
 import org.swiggy.user.model.User;
@@ -12,16 +19,46 @@ import org.swiggy.user.model.UserData;
  * Implements the service of the user related operation.
  * </p>
  *
+ * <p>
+ * The logins are checked against the credential cache, which reads the user by the phone number or email id only
+ * when it isn't known yet, so repeated logins of a user and logins with unknown identifiers don't query the users.
+ * </p>
+ *
+ * <p>
+ * A signup with a phone number or email id that is already taken is refused before the insert. The uniqueness
+ * filter holds the phone numbers and email ids of the users, so the lookup of a taken value only runs for the
+ * values that may be taken.
+ * </p>
+ *
+ * <p>
+ * The profiles read by the id of the user are kept in the profile cache, and each accepted update is written
+ * through to the cached profile.
+ * </p>
+ *
  * @author Muthu kumar V
  * @version 1.0
  */
 public class UserServiceImpl implements UserService {
 
+    private static final int MAXIMUM_SESSIONS = 10000;
+    private static final long SESSION_MILLIS = 300000;
+    private static final int MAXIMUM_UNKNOWN = 10000;
+    private static final long UNKNOWN_MILLIS = 30000;
+    private static final long EXPECTED_SIGNUP_DATA = 2000000;
+    private static final double SIGNUP_FALSE_POSITIVE_PROBABILITY = 0.01;
+    private static final int MAXIMUM_PROFILES = 10000;
+    private static final long PROFILE_MILLIS = 300000;
     private static UserService userService;
     private final UserDAO userDAO;
+    private final CredentialCache<User> credentialCache;
+    private final UniquenessFilter signupFilter;
+    private final ExpiringCache<Long, User> profileCache;
 
     private UserServiceImpl() {
-        userDAO = UserDAOImpl.getInstance();
+        userDAO = MetricsRegistry.getInstance().timed(UserDAO.class, UserDAOImpl.getInstance());
+        credentialCache = new CredentialCache<>(MAXIMUM_SESSIONS, SESSION_MILLIS, MAXIMUM_UNKNOWN, UNKNOWN_MILLIS);
+        signupFilter = new UniquenessFilter(EXPECTED_SIGNUP_DATA, SIGNUP_FALSE_POSITIVE_PROBABILITY);
+        profileCache = new ExpiringCache<>(MAXIMUM_PROFILES, PROFILE_MILLIS);
     }
 
     /**
@@ -47,11 +84,23 @@ public class UserServiceImpl implements UserService {
      */
     @Override
     public boolean createUserProfile(final User user) {
+        if (isUserDataTaken(UserData.PHONE_NUMBER, user.getPhoneNumber())
+                || isUserDataTaken(UserData.EMAIL_ID, user.getEmailId())) {
+            return false;
+        }
         final String hashPassword = PasswordHashGenerator.getInstance().hashPassword(user.getPassword());
 
         user.setPassword(hashPassword);
+        final boolean isCreated = userDAO.createUserProfile(user);
+
+        if (isCreated) {
+            signupFilter.add(getIdentifier(UserData.PHONE_NUMBER, user.getPhoneNumber()));
+            signupFilter.add(getIdentifier(UserData.EMAIL_ID, user.getEmailId()));
+            credentialCache.invalidate(getIdentifier(UserData.PHONE_NUMBER, user.getPhoneNumber()));
+            credentialCache.invalidate(getIdentifier(UserData.EMAIL_ID, user.getEmailId()));
+        }
 
-       return userDAO.createUserProfile(user);
+        return isCreated;
     }
 
     /**
@@ -64,9 +113,8 @@ public class UserServiceImpl implements UserService {
      */
     @Override
     public User getUser(final UserData userDataType, final String userData, final String password) {
-        final String hashPassword = PasswordHashGenerator.getInstance().hashPassword(password);
-
-        return userDAO.getUser(userDataType, userData, hashPassword);
+        return credentialCache.authenticate(getIdentifier(userDataType, userData), password,
+                () -> userDAO.getCredential(userDataType, userData));
     }
 
     /**
@@ -77,7 +125,7 @@ public class UserServiceImpl implements UserService {
      */
     @Override
     public User getUserById(final long userId) {
-        return userDAO.getUserById(userId);
+        return profileCache.get(userId, () -> userDAO.getUserById(userId));
     }
 
     /**
@@ -90,6 +138,104 @@ public class UserServiceImpl implements UserService {
      */
     @Override
     public boolean updateUserData(final long userId, final UserData type, final String userData){
-        return userDAO.updateUserProfile(userId, type.name(), userData);
+        if ((UserData.PHONE_NUMBER == type || UserData.EMAIL_ID == type) && isUserDataTaken(type, userData)) {
+            return false;
+        }
+        final String updateData = UserData.PASSWORD == type
+                ? PasswordHashGenerator.getInstance().hashPassword(userData) : userData;
+        final boolean isUpdated = userDAO.updateUserProfile(userId, type.name(), updateData);
+
+        if (isUpdated) {
+            profileCache.write(userId, user -> getUpdatedUser(user, type, updateData));
+            credentialCache.invalidateAccount(userId);
+            credentialCache.invalidate(getIdentifier(type, userData));
+
+            if (UserData.PHONE_NUMBER == type || UserData.EMAIL_ID == type) {
+                signupFilter.add(getIdentifier(type, userData));
+            }
+        }
+
+        return isUpdated;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The profile statistics
+     */
+    @Override
+    public CacheStatistics getProfileStatistics() {
+        return profileCache.getStatistics();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param userDataType Represents the data type of the user, phone number or email id
+     * @param userData Represents the data of the user
+     * @return True if the data is taken, false otherwise
+     */
+    @Override
+    public boolean isUserDataTaken(final UserData userDataType, final String userData) {
+        if (null == userData) {
+            return false;
+        }
+
+        return signupFilter.isTaken(getIdentifier(userDataType, userData),
+                identifier -> userDAO.isUserDataTaken(userDataType, userData));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void warmSignupFilter() {
+        signupFilter.warm(consumer -> userDAO.readSignupData((userDataType, userData)
+                -> consumer.accept(getIdentifier(userDataType, userData))));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The signup statistics
+     */
+    @Override
+    public UniquenessStatistics getSignupStatistics() {
+        return signupFilter.getStatistics();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The login statistics
+     */
+    @Override
+    public AuthenticationStatistics getLoginStatistics() {
+        return credentialCache.getStatistics();
+    }
+
+    /**
+     * <p>
+     * Copies the cached user with the updated data, leaving the cached user as it is for its readers.
+     * </p>
+     */
+    private User getUpdatedUser(final User cachedUser, final UserData type, final String userData) {
+        final User user = new User(cachedUser.getName(), cachedUser.getPhoneNumber(), cachedUser.getEmailId(),
+                cachedUser.getPassword());
+
+        user.setId(cachedUser.getId());
+
+        switch (type) {
+            case NAME -> user.setName(userData);
+            case PHONE_NUMBER -> user.setPhoneNumber(userData);
+            case EMAIL_ID -> user.setEmailId(userData);
+            case PASSWORD -> user.setPassword(userData);
+        }
+
+        return user;
+    }
+
+    private String getIdentifier(final UserData userDataType, final String userData) {
+        return String.join(":", userDataType.name(), userData);
     }
 }
@@ -0,0 +1,63 @@
+package org.swiggy.user.model;
+
+import java.util.List;
+
+/**
+ * <p>
+ * Represents the totals of the user cart, with the subtotal of each restaurant of its foods.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class CartSummary {
+
+    private long userId;
+    private int itemCount;
+    private int totalQuantity;
+    private float totalAmount;
+    private List<RestaurantSubtotal> restaurantSubtotals;
+
+    public CartSummary() {
+    }
+
+    public long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(final long userId) {
+        this.userId = userId;
+    }
+
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    public void setItemCount(final int itemCount) {
+        this.itemCount = itemCount;
+    }
+
+    public int getTotalQuantity() {
+        return totalQuantity;
+    }
+
+    public void setTotalQuantity(final int totalQuantity) {
+        this.totalQuantity = totalQuantity;
+    }
+
+    public float getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(final float totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
+    public List<RestaurantSubtotal> getRestaurantSubtotals() {
+        return restaurantSubtotals;
+    }
+
+    public void setRestaurantSubtotals(final List<RestaurantSubtotal> restaurantSubtotals) {
+        this.restaurantSubtotals = restaurantSubtotals;
+    }
+}
@@ -0,0 +1,43 @@
+package org.swiggy.user.model;
+
+import java.util.List;
+
+/**
+ * <p>
+ * Represents one page of the orders placed by the user with the cursor of the next page.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class OrderPage {
+
+    private List<Order> orders;
+    private long nextAfter;
+
+    public OrderPage() {
+    }
+
+    public List<Order> getOrders() {
+        return orders;
+    }
+
+    public void setOrders(final List<Order> orders) {
+        this.orders = orders;
+    }
+
+    /**
+     * <p>
+     * Gets the id of the last order of the page, to be passed as the after parameter of the next page.
+     * </p>
+     *
+     * @return The cursor of the next page, zero if this is the last page
+     */
+    public long getNextAfter() {
+        return nextAfter;
+    }
+
+    public void setNextAfter(final long nextAfter) {
+        this.nextAfter = nextAfter;
+    }
+}
@@ -0,0 +1,61 @@
+package org.swiggy.user.model;
+
+/**
+ * <p>
+ * Represents the foods of one restaurant in the cart summary with their count and amount.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public class RestaurantSubtotal {
+
+    private long restaurantId;
+    private String restaurantName;
+    private int itemCount;
+    private int quantity;
+    private float amount;
+
+    public RestaurantSubtotal() {
+    }
+
+    public long getRestaurantId() {
+        return restaurantId;
+    }
+
+    public void setRestaurantId(final long restaurantId) {
+        this.restaurantId = restaurantId;
+    }
+
+    public String getRestaurantName() {
+        return restaurantName;
+    }
+
+    public void setRestaurantName(final String restaurantName) {
+        this.restaurantName = restaurantName;
+    }
+
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    public void setItemCount(final int itemCount) {
+        this.itemCount = itemCount;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(final int quantity) {
+        this.quantity = quantity;
+    }
+
+    public float getAmount() {
+        return amount;
+    }
+
+    public void setAmount(final float amount) {
+        this.amount = amount;
+    }
+}
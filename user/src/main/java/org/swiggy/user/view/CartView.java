@@ -92,8 +92,10 @@ public class CartView {
                 Items In Your Cart
                 ID | Food Name | Quantity | Rate | Restaurant Name""");
 
-        for(final Cart cartItem : cart) {
-            LOGGER.info(String.format("%d %s %d %.2f %s", cart.indexOf(cartItem) + 1, cartItem.getFoodName(),
+        for (int index = 0; index < cart.size(); index++) {
+            final Cart cartItem = cart.get(index);
+
+            LOGGER.info(String.format("%d %s %d %.2f %s", index + 1, cartItem.getFoodName(),
                     cartItem.getQuantity(), cartItem.getAmount(), cartItem.getRestaurantName()));
             totalAmount += cartItem.getAmount();
         }
@@ -162,7 +164,7 @@ public class CartView {
         if (selectedIndex >= 0 && selectedIndex < cart.size()) {
             final Cart cartItem = cart.get(selectedIndex);
 
-            if (cartController.removeFood(cartItem.getId())) {
+            if (cartController.removeFood(userId, cartItem.getId())) {
                     LOGGER.info("The Item Is Removed");
             }
         } else {
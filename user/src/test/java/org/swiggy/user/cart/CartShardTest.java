@@ -0,0 +1,75 @@
+package org.swiggy.user.cart;
+
+import org.junit.jupiter.api.Test;
+
+import org.swiggy.user.model.Cart;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * <p>
+ * Tests the eviction of the carts from a shard of the cart store.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+class CartShardTest {
+
+    @Test
+    void evictsCleanCartsThatAreEmptyOrIdle() {
+        final CartShard shard = new CartShard();
+        final UserCart emptyCart = shard.putIfAbsent(new UserCart(1, List.of()));
+        final UserCart idleCart = shard.putIfAbsent(new UserCart(2, List.of(createCart(1, 2))));
+        final UserCart activeCart = shard.putIfAbsent(new UserCart(3, List.of(createCart(2, 3))));
+        final long now = System.nanoTime();
+
+        idleCart.touch(now - 1000);
+        activeCart.touch(now + 1000);
+
+        assertEquals(List.of(emptyCart, idleCart), shard.evict(now));
+        assertNull(shard.get(1));
+        assertNull(shard.get(2));
+        assertSame(activeCart, shard.get(3));
+    }
+
+    @Test
+    void keepsCartsWithPendingOrInFlightChanges() {
+        final CartShard shard = new CartShard();
+        final UserCart pendingCart = shard.putIfAbsent(new UserCart(1, List.of()));
+        final UserCart inFlightCart = shard.putIfAbsent(new UserCart(2, List.of()));
+        final long now = System.nanoTime();
+
+        pendingCart.add(createCart(1, 1));
+        inFlightCart.add(createCart(2, 2));
+        inFlightCart.takeChanges(new ArrayList<>(), new ArrayList<>());
+        inFlightCart.remove(2);
+        pendingCart.touch(now - 1000);
+        inFlightCart.touch(now - 1000);
+
+        assertEquals(List.of(), shard.evict(now));
+
+        inFlightCart.completeChanges();
+        inFlightCart.takeChanges(new ArrayList<>(), new ArrayList<>());
+        inFlightCart.completeChanges();
+        assertEquals(List.of(inFlightCart), shard.evict(now));
+        assertSame(pendingCart, shard.get(1));
+    }
+
+    private Cart createCart(final long cartId, final long userId) {
+        final Cart cart = new Cart();
+
+        cart.setId(cartId);
+        cart.setUserId(userId);
+        cart.setRestaurantId(1);
+        cart.setQuantity(1);
+        cart.setAmount(50);
+
+        return cart;
+    }
+}
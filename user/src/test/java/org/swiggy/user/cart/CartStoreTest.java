@@ -0,0 +1,240 @@
+package org.swiggy.user.cart;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.swiggy.restaurant.inventory.InventoryManager;
+import org.swiggy.user.internal.exception.CartUpdateFailureException;
+import org.swiggy.user.model.Cart;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>
+ * Tests the write behind of the cart store against a cart table held in memory.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+class CartStoreTest {
+
+    private InMemoryCartDAO cartDAO;
+    private CartStore cartStore;
+
+    @BeforeEach
+    void setUp() {
+        cartDAO = new InMemoryCartDAO();
+        cartStore = new CartStore(cartDAO, InventoryManager.getInstance());
+    }
+
+    @AfterEach
+    void tearDown() {
+        cartDAO.setFailing(false);
+        cartStore.shutdown();
+    }
+
+    @Test
+    void writesAddedEntriesOnFlush() {
+        final Cart first = createCart(1, 1, 1);
+        final Cart second = createCart(1, 1, 2);
+
+        assertTrue(cartStore.addFoodToCart(first));
+        assertTrue(cartStore.addFoodToCart(second));
+        cartStore.flush();
+
+        assertEquals(Set.of(first.getId(), second.getId()), cartDAO.getCartIds(1));
+        assertEquals(2, cartStore.getCart(1).size());
+    }
+
+    @Test
+    void rejectsFoodOfAnotherRestaurant() {
+        assertTrue(cartStore.addFoodToCart(createCart(1, 1, 1)));
+        assertFalse(cartStore.addFoodToCart(createCart(1, 2, 41)));
+        assertEquals(1, cartStore.getCart(1).size());
+    }
+
+    @Test
+    void takesCartIdsFromReservedBlocks() {
+        final Set<Long> cartIds = new HashSet<>();
+
+        for (int index = 0; index < 70; index++) {
+            final Cart cart = createCart(1 + index % 4, 1, index);
+
+            assertTrue(cartStore.addFoodToCart(cart));
+            cartIds.add(cart.getId());
+        }
+
+        assertEquals(70, cartIds.size());
+        assertEquals(2, cartDAO.getReserveCount());
+    }
+
+    @Test
+    void keepsChangesOfFailedFlush() {
+        final Cart cart = createCart(1, 1, 1);
+
+        cartDAO.setFailing(true);
+        assertTrue(cartStore.addFoodToCart(cart));
+        assertThrows(CartUpdateFailureException.class, cartStore::flush);
+        assertFalse(cartDAO.contains(cart.getId()));
+        assertEquals(1, cartStore.getCart(1).size());
+
+        cartDAO.setFailing(false);
+        cartStore.flush();
+
+        assertTrue(cartDAO.contains(cart.getId()));
+    }
+
+    @Test
+    void restoresChangesWithTheRemovalsMadeMeanwhile() {
+        final Cart written = createCart(1, 1, 1);
+        final Cart unwritten = createCart(1, 1, 2);
+
+        assertTrue(cartStore.addFoodToCart(written));
+        cartStore.flush();
+        cartDAO.setFailing(true);
+        assertTrue(cartStore.removeFood(1, written.getId()));
+        assertTrue(cartStore.addFoodToCart(unwritten));
+        assertThrows(CartUpdateFailureException.class, cartStore::flush);
+        assertTrue(cartStore.removeFood(1, unwritten.getId()));
+
+        cartDAO.setFailing(false);
+        cartStore.flush();
+
+        assertTrue(cartDAO.getCartIds(1).isEmpty());
+        assertNull(cartStore.getCart(1));
+    }
+
+    @Test
+    void dropsEntryRejectedByTheDatabase() {
+        final Cart rejected = createCart(1, 1, 1);
+        final Cart accepted = createCart(2, 1, 2);
+
+        assertTrue(cartStore.addFoodToCart(rejected));
+        assertTrue(cartStore.addFoodToCart(accepted));
+        cartDAO.reject(rejected.getId());
+        cartStore.flush();
+
+        assertNull(cartStore.getCart(1));
+        assertFalse(cartStore.removeFood(1, rejected.getId()));
+        assertEquals(Set.of(accepted.getId()), cartDAO.getCartIds(2));
+        final int saveCount = cartDAO.getSaveCount();
+
+        cartStore.flush();
+        assertEquals(saveCount, cartDAO.getSaveCount());
+    }
+
+    @Test
+    void dropsEntryOfAnotherRestaurantThanTheStoredCart() {
+        assertNull(cartStore.getCart(1));
+        cartDAO.insert(createCart(1, 2, 41));
+        final Cart cart = createCart(1, 1, 1);
+
+        assertTrue(cartStore.addFoodToCart(cart));
+        cartStore.flush();
+
+        assertFalse(cartDAO.contains(cart.getId()));
+        assertNull(cartStore.getCart(1));
+    }
+
+    @Test
+    void keepsEntryRemovedByAnotherUser() {
+        final Cart cart = createCart(1, 1, 1);
+        final Cart stored = createCart(3, 1, 2);
+
+        assertTrue(cartStore.addFoodToCart(cart));
+        cartDAO.insert(stored);
+
+        assertFalse(cartStore.removeFood(2, cart.getId()));
+        assertFalse(cartStore.removeFood(2, stored.getId()));
+        assertEquals(1, cartStore.getCart(1).size());
+        assertEquals(1, cartStore.getCart(3).size());
+        assertTrue(cartStore.removeFood(1, cart.getId()));
+    }
+
+    @Test
+    void loadsStoredEntriesOnFirstUse() {
+        final Cart stored = createCart(3, 1, 1);
+
+        cartDAO.insert(stored);
+
+        assertEquals(1, cartStore.getCart(3).size());
+        assertTrue(cartStore.removeFood(3, stored.getId()));
+        cartStore.flush();
+        assertFalse(cartDAO.contains(stored.getId()));
+    }
+
+    @Test
+    void matchesTheDatabaseAfterConcurrentAddsAndRemoves() throws Exception {
+        final ExecutorService executorService = Executors.newFixedThreadPool(8);
+        final List<Future<?>> futures = new ArrayList<>();
+
+        for (int thread = 0; thread < 8; thread++) {
+            final Random random = new Random(thread);
+
+            futures.add(executorService.submit(() -> {
+                for (int index = 0; index < 2000; index++) {
+                    final long userId = 1 + random.nextInt(4);
+
+                    if (random.nextBoolean()) {
+                        cartStore.addFoodToCart(createCart(userId, 1, random.nextInt(40)));
+                    } else {
+                        final List<Cart> carts = cartStore.getCart(userId);
+
+                        if (null != carts) {
+                            cartStore.removeFood(userId, carts.get(random.nextInt(carts.size())).getId());
+                        }
+                    }
+                }
+
+                return null;
+            }));
+        }
+
+        for (final Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+        cartStore.flush();
+
+        for (long userId = 1; userId <= 4; userId++) {
+            final List<Cart> carts = cartStore.getCart(userId);
+            final Set<Long> cartIds = new HashSet<>();
+
+            if (null != carts) {
+                for (final Cart cart : carts) {
+                    cartIds.add(cart.getId());
+                }
+            }
+            assertEquals(cartDAO.getCartIds(userId), cartIds);
+        }
+    }
+
+    private Cart createCart(final long userId, final long restaurantId, final long foodId) {
+        final Cart cart = new Cart();
+
+        cart.setUserId(userId);
+        cart.setRestaurantId(restaurantId);
+        cart.setRestaurantName("Restaurant");
+        cart.setFoodId(foodId);
+        cart.setFoodName("Food");
+        cart.setQuantity(1);
+        cart.setAmount(50);
+
+        return cart;
+    }
+}
@@ -0,0 +1,171 @@
+package org.swiggy.user.cart;
+
+import org.swiggy.user.internal.dao.CartDAO;
+import org.swiggy.user.internal.exception.CartUpdateFailureException;
+import org.swiggy.user.model.Cart;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>
+ * Holds the cart table in memory for the tests of the cart store, with switches to fail the writes and to reject
+ * chosen cart entries.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+class InMemoryCartDAO implements CartDAO {
+
+    private final Map<Long, Cart> rows;
+    private final Set<Long> rejectedCartIds;
+    private long lastCartId;
+    private int reserveCount;
+    private int saveCount;
+    private boolean isFailing;
+
+    InMemoryCartDAO() {
+        rows = new LinkedHashMap<>();
+        rejectedCartIds = new HashSet<>();
+    }
+
+    @Override
+    public synchronized boolean addFoodToCart(final Cart cart) {
+        if (holdsOtherRestaurant(cart)) {
+            return false;
+        }
+        insert(cart);
+
+        return true;
+    }
+
+    @Override
+    public synchronized List<Cart> getCart(final long userId) {
+        final List<Cart> carts = new ArrayList<>();
+
+        for (final Cart row : rows.values()) {
+            if (userId == row.getUserId()) {
+                carts.add(copy(row));
+            }
+        }
+
+        return carts.isEmpty() ? null : carts;
+    }
+
+    /**
+     * <p>
+     * Writes the changes like the conditional insert of the cart table, leaving out the rejected entries and the
+     * entries of a user holding the foods of another restaurant.
+     * </p>
+     */
+    @Override
+    public synchronized List<Cart> saveCarts(final List<Cart> addedCarts, final List<Long> removedCartIds) {
+        if (isFailing) {
+            throw new CartUpdateFailureException("database is not reachable");
+        }
+        final List<Cart> rejectedCarts = new ArrayList<>();
+
+        saveCount++;
+
+        for (final Long cartId : removedCartIds) {
+            rows.remove(cartId);
+        }
+
+        for (final Cart cart : addedCarts) {
+            if (rejectedCartIds.contains(cart.getId()) || holdsOtherRestaurant(cart)) {
+                rejectedCarts.add(cart);
+            } else {
+                rows.put(cart.getId(), copy(cart));
+            }
+        }
+
+        return rejectedCarts;
+    }
+
+    @Override
+    public synchronized long[] reserveCartIds(final int count) {
+        final long[] cartIds = new long[count];
+
+        reserveCount++;
+
+        for (int index = 0; index < count; index++) {
+            cartIds[index] = ++lastCartId;
+        }
+
+        return cartIds;
+    }
+
+    @Override
+    public synchronized long getCartOwner(final long cartId) {
+        final Cart row = rows.get(cartId);
+
+        return null == row ? 0 : row.getUserId();
+    }
+
+    synchronized void setFailing(final boolean isFailing) {
+        this.isFailing = isFailing;
+    }
+
+    synchronized void reject(final long cartId) {
+        rejectedCartIds.add(cartId);
+    }
+
+    synchronized void insert(final Cart cart) {
+        cart.setId(++lastCartId);
+        rows.put(cart.getId(), copy(cart));
+    }
+
+    synchronized Set<Long> getCartIds(final long userId) {
+        final Set<Long> cartIds = new HashSet<>();
+
+        for (final Cart row : rows.values()) {
+            if (userId == row.getUserId()) {
+                cartIds.add(row.getId());
+            }
+        }
+
+        return cartIds;
+    }
+
+    synchronized boolean contains(final long cartId) {
+        return rows.containsKey(cartId);
+    }
+
+    synchronized int getReserveCount() {
+        return reserveCount;
+    }
+
+    synchronized int getSaveCount() {
+        return saveCount;
+    }
+
+    private boolean holdsOtherRestaurant(final Cart cart) {
+        for (final Cart row : rows.values()) {
+            if (cart.getUserId() == row.getUserId() && cart.getRestaurantId() != row.getRestaurantId()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private Cart copy(final Cart cart) {
+        final Cart row = new Cart();
+
+        row.setId(cart.getId());
+        row.setUserId(cart.getUserId());
+        row.setRestaurantId(cart.getRestaurantId());
+        row.setRestaurantName(cart.getRestaurantName());
+        row.setFoodId(cart.getFoodId());
+        row.setFoodName(cart.getFoodName());
+        row.setQuantity(cart.getQuantity());
+        row.setAmount(cart.getAmount());
+
+        return row;
+    }
+}
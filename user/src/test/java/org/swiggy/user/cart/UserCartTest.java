@@ -0,0 +1,115 @@
+package org.swiggy.user.cart;
+
+import org.junit.jupiter.api.Test;
+
+import org.swiggy.user.model.Cart;
+import org.swiggy.user.model.CartSummary;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>
+ * Tests the running totals and the pending changes of the user cart.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+class UserCartTest {
+
+    @Test
+    void keepsRunningTotals() {
+        final UserCart userCart = new UserCart(1, List.of(createCart(1, 2, 100)));
+
+        userCart.add(createCart(2, 1, 50));
+        userCart.remove(1);
+        final CartSummary summary = userCart.getSummary();
+
+        assertEquals(1, summary.getItemCount());
+        assertEquals(1, summary.getTotalQuantity());
+        assertEquals(50, summary.getTotalAmount());
+        assertEquals(1, summary.getRestaurantSubtotals().size());
+    }
+
+    @Test
+    void cancelsAddThenRemoveBeforeWrite() {
+        final UserCart userCart = new UserCart(1, List.of());
+
+        userCart.add(createCart(1, 1, 50));
+        userCart.remove(1);
+
+        assertEquals(0, userCart.getPendingCount());
+        assertTrue(userCart.isClean());
+    }
+
+    @Test
+    void keepsChangesInFlightUntilCompleted() {
+        final UserCart userCart = new UserCart(1, List.of(createCart(1, 1, 50)));
+        final List<Cart> addedCarts = new ArrayList<>();
+        final List<Long> removedCartIds = new ArrayList<>();
+
+        userCart.add(createCart(2, 1, 50));
+        userCart.remove(1);
+        userCart.takeChanges(addedCarts, removedCartIds);
+
+        assertEquals(1, addedCarts.size());
+        assertEquals(List.of(1L), removedCartIds);
+        assertEquals(0, userCart.getPendingCount());
+        assertFalse(userCart.isClean());
+
+        userCart.completeChanges();
+        assertTrue(userCart.isClean());
+    }
+
+    @Test
+    void restoresFailedChangesWithoutTheEntriesRemovedMeanwhile() {
+        final UserCart userCart = new UserCart(1, List.of(createCart(1, 1, 50)));
+
+        userCart.add(createCart(2, 1, 50));
+        userCart.add(createCart(3, 1, 50));
+        userCart.remove(1);
+        userCart.takeChanges(new ArrayList<>(), new ArrayList<>());
+        userCart.remove(2);
+        userCart.restoreChanges();
+        final List<Cart> addedCarts = new ArrayList<>();
+        final List<Long> removedCartIds = new ArrayList<>();
+
+        userCart.takeChanges(addedCarts, removedCartIds);
+
+        assertEquals(1, addedCarts.size());
+        assertEquals(3, addedCarts.get(0).getId());
+        assertEquals(List.of(1L), removedCartIds);
+    }
+
+    @Test
+    void dropsRejectedEntryWithItsQueuedRemoval() {
+        final UserCart userCart = new UserCart(1, List.of());
+
+        userCart.add(createCart(1, 1, 50));
+        userCart.takeChanges(new ArrayList<>(), new ArrayList<>());
+        userCart.remove(1);
+        userCart.completeChanges();
+        userCart.dropRejected(1);
+
+        assertEquals(0, userCart.getPendingCount());
+        assertTrue(userCart.isEmpty());
+    }
+
+    private Cart createCart(final long cartId, final int quantity, final float amount) {
+        final Cart cart = new Cart();
+
+        cart.setId(cartId);
+        cart.setUserId(1);
+        cart.setRestaurantId(1);
+        cart.setRestaurantName("Restaurant");
+        cart.setQuantity(quantity);
+        cart.setAmount(amount);
+
+        return cart;
+    }
+}